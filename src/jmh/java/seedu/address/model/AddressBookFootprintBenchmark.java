@@ -0,0 +1,125 @@
+package seedu.address.model;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares reading every person of a generated book from an {@link AddressBook} and from a
+ * {@link ColumnarAddressBook}. Run with {@code ./gradlew jmh} for timings, or run {@link #main(String[])}
+ * to print the heap each book retains per contact.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AddressBookFootprintBenchmark {
+
+    private static final String[] COUNTRIES = {"", "Singapore", "China", "Malaysia", "India", "Japan",
+        "United States", "France", "Brazil", "Côte d'Ivoire"};
+    private static final String[] OFFSETS = {"+08:00", "+05:30", "+09:00", "-05:00", "+01:00", "+00:00"};
+    private static final String[] LANGUAGES = {"english", "chinese", "malay", "tamil", "japanese", "french"};
+    private static final String[] TAGS = {"friends", "colleagues", "family", "client", "vip", "supplier"};
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private AddressBook addressBook;
+    private ColumnarAddressBook columnarAddressBook;
+
+    @Setup
+    public void setUp() {
+        addressBook = generate(size);
+        columnarAddressBook = new ColumnarAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public void readAll_addressBook(Blackhole blackhole) {
+        addressBook.getPersonList().forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void readAll_columnar(Blackhole blackhole) {
+        columnarAddressBook.getPersonList().forEach(blackhole::consume);
+    }
+
+    /**
+     * Prints the heap retained per contact by each book, and by a {@code ColumnarAddressBook} once every row has
+     * been read and the persons read have been dropped, which leaves it holding a cleared {@code WeakReference}
+     * per row. The number of contacts defaults to 100,000 and can be given as the first argument.
+     */
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+
+        long addressBookBytes = retainedBytes(() -> generate(size));
+        AddressBook source = generate(size);
+        long columnarBytes = retainedBytes(() -> new ColumnarAddressBook(source));
+        long readColumnarBytes = retainedBytes(() -> {
+            ColumnarAddressBook book = new ColumnarAddressBook(source);
+            book.getPersonList().forEach(Objects::requireNonNull);
+            return book;
+        });
+        System.out.printf("%,d contacts%nAddressBook:                         %,d bytes/contact%n"
+                + "ColumnarAddressBook:                 %,d bytes/contact%n"
+                + "ColumnarAddressBook, every row read: %,d bytes/contact%n",
+                size, addressBookBytes / size, columnarBytes / size, readColumnarBytes / size);
+    }
+
+    private static AddressBook generate(int size) {
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 0, 0);
+        return new PersonGenerator()
+                .withNames((i, random) -> "Contact " + Integer.toString(i, 36) + " "
+                        + (char) ('A' + random.nextInt(26)) + "son")
+                .withPhones((i, random) -> "+65" + (80_000_000 + random.nextInt(10_000_000)))
+                .withEmails((i, random) -> "contact" + i + "@example.com")
+                .withAddresses((i, random) -> "Blk " + random.nextInt(1000) + " Jurong West Street "
+                        + random.nextInt(100) + ", #" + random.nextInt(30) + "-" + random.nextInt(200))
+                .withCountries(COUNTRIES)
+                .withOrganisations((i, random) -> "Organisation " + random.nextInt(300))
+                .withChannels(Person.CommunicationChannel.values())
+                .withTags((i, random) -> Set.of(Tag.of(TAGS[random.nextInt(TAGS.length)])))
+                .withOffsets(OFFSETS)
+                .withLanguages(LANGUAGES)
+                .withAddedOns((i, random) -> start.plusSeconds(random.nextInt(100_000_000)))
+                .withArchived(10)
+                .generateAddressBook(size);
+    }
+
+    private static long retainedBytes(Supplier<ReadOnlyAddressBook> creation) {
+        long before = usedHeapAfterGc();
+        ReadOnlyAddressBook book = creation.get();
+        long after = usedHeapAfterGc();
+        if (book.getPersonList().isEmpty()) {
+            throw new AssertionError();
+        }
+        return after - before;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,129 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Country;
+import seedu.address.model.person.Event;
+import seedu.address.model.person.Offset;
+import seedu.address.model.person.Organisation;
+import seedu.address.model.person.PreferredLanguage;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares creating the repeated value objects of a generated address book with their constructors
+ * against creating them through the pooled {@code of} factories.
+ * Run with {@code ./gradlew jmh} for timings, or run {@link #main(String[])} to print the retained heap
+ * of each variant on a 100,000-contact book.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class InterningBenchmark {
+
+    private static final String[] COUNTRIES = {"", "Singapore", "singapore", "China", "Malaysia", "India", "Japan",
+        "United States", "France", "Brazil", "Côte d'Ivoire"};
+    private static final String[] OFFSETS = {"+08:00", "+05:30", "+09:00", "-05:00", "+01:00", "+00:00"};
+    private static final String[] LANGUAGES = {"english", "chinese", "malay", "tamil", "japanese", "french"};
+    private static final String[] TAGS = {"friends", "colleagues", "family", "client", "vip", "supplier"};
+    private static final int ORGANISATION_COUNT = 300;
+    private static final int EVENT_COUNT = 50;
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private List<String[]> rows;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // Copies of the strings, as a JSON parser would produce, so that equal values are not already shared.
+            rows.add(new String[] {
+                new String(COUNTRIES[random.nextInt(COUNTRIES.length)]),
+                new String("Organisation " + random.nextInt(ORGANISATION_COUNT)),
+                new String("Event " + random.nextInt(EVENT_COUNT)),
+                new String(OFFSETS[random.nextInt(OFFSETS.length)]),
+                new String(LANGUAGES[random.nextInt(LANGUAGES.length)]),
+                new String(TAGS[random.nextInt(TAGS.length)])
+            });
+        }
+    }
+
+    @Benchmark
+    public List<Object[]> createValues_constructors() {
+        return createValues(Country::new, Organisation::new, Event::new, Offset::new, PreferredLanguage::new,
+                Tag::new);
+    }
+
+    @Benchmark
+    public List<Object[]> createValues_pooled() {
+        return createValues(Country::of, Organisation::of, Event::of, Offset::of, PreferredLanguage::of, Tag::of);
+    }
+
+    private List<Object[]> createValues(Function<String, Country> country,
+            Function<String, Organisation> organisation, Function<String, Event> event,
+            Function<String, Offset> offset, Function<String, PreferredLanguage> language,
+            Function<String, Tag> tag) {
+        List<Object[]> values = new ArrayList<>(rows.size());
+        for (String[] row : rows) {
+            values.add(new Object[] {country.apply(row[0]), organisation.apply(row[1]), event.apply(row[2]),
+                offset.apply(row[3]), language.apply(row[4]), Set.of(tag.apply(row[5]))});
+        }
+        return values;
+    }
+
+    /**
+     * Prints the heap retained by the value objects of a 100,000-contact book with and without pooling.
+     */
+    public static void main(String[] args) {
+        InterningBenchmark benchmark = new InterningBenchmark();
+        benchmark.size = 100_000;
+        benchmark.setUp();
+
+        long constructed = retainedBytes(benchmark::createValues_constructors);
+        long pooled = retainedBytes(benchmark::createValues_pooled);
+        System.out.printf("constructors: %,d KB%npooled:       %,d KB%nsaving:       %,d KB (%.0f%%)%n",
+                constructed / 1024, pooled / 1024, (constructed - pooled) / 1024,
+                100.0 * (constructed - pooled) / constructed);
+    }
+
+    private static long retainedBytes(Supplier<List<Object[]>> creation) {
+        long before = usedHeapAfterGc();
+        List<Object[]> values = creation.get();
+        long after = usedHeapAfterGc();
+        if (values.isEmpty()) {
+            throw new AssertionError();
+        }
+        return after - before;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.person.FuzzyMatchPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.Query;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares filtering the persons on the calling thread with {@link MatchedListView#filter} with testing them in
+ * parallel chunks with {@link ParallelFilter}, for predicates that the search index does not answer: a fuzzy
+ * search, a name search that splits every name into words, a {@code query} that must scan every person, and a
+ * test of the archived flag that costs next to nothing. The difference between the two on one core is the
+ * overhead of the parallel path, from which the cost per person that parallel testing needs to pay off, and
+ * {@link ParallelFilter#PARALLEL_THRESHOLD}, are set. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ParallelFilterBenchmark {
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy",
+        "Yeoh", "Li", "Tan", "Oliveiro"};
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private ObservableList<Person> persons;
+    private NameContainsKeywordsPredicate nameSearch;
+    private FuzzyMatchPredicate fuzzySearch;
+    private Query queryScan;
+
+    @Setup
+    public void setUp() {
+        persons = new PersonGenerator()
+                .withNames((i, random) -> FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " Person " + i)
+                .withCountries("Singapore").withArchived(10).generateAddressBook(size).getPersonList();
+        nameSearch = new NameContainsKeywordsPredicate(List.of("irfan", "yeoh"));
+        fuzzySearch = new FuzzyMatchPredicate(List.of("irfen", "yeo"));
+        queryScan = Query.or(List.of(Query.name("irfan"), Query.not(Query.tag(new Tag("friends"))),
+                Query.archived()));
+    }
+
+    @Benchmark
+    public int fuzzySearch_sequential() {
+        return MatchedListView.filter(persons, fuzzySearch).size();
+    }
+
+    @Benchmark
+    public int fuzzySearch_parallel() {
+        return ParallelFilter.filterInParallel(persons, fuzzySearch).size();
+    }
+
+    @Benchmark
+    public int queryScan_sequential() {
+        return MatchedListView.filter(persons, queryScan).size();
+    }
+
+    @Benchmark
+    public int queryScan_parallel() {
+        return ParallelFilter.filterInParallel(persons, queryScan).size();
+    }
+
+    @Benchmark
+    public int nameSearch_sequential() {
+        return MatchedListView.filter(persons, nameSearch).size();
+    }
+
+    @Benchmark
+    public int nameSearch_parallel() {
+        return ParallelFilter.filterInParallel(persons, nameSearch).size();
+    }
+
+    @Benchmark
+    public int archived_sequential() {
+        return MatchedListView.filter(persons, Person::getArchivalStatus).size();
+    }
+
+    @Benchmark
+    public int archived_parallel() {
+        return ParallelFilter.filterInParallel(persons, Person::getArchivalStatus).size();
+    }
+}
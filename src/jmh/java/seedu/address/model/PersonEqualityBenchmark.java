@@ -0,0 +1,110 @@
+package seedu.address.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures the {@code Person} equality and hashing on the hot paths of a large list: editing persons with
+ * {@code setPerson}, comparing whole lists, and hashing persons.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PersonEqualityBenchmark {
+
+    private static final int EDITS = 1_000;
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private UniquePersonList list;
+    private List<Person> persons;
+    /** Equal copies of {@code persons} that do not share their ids, as a separately built person would. */
+    private List<Person> copies;
+    /** Copies of {@code persons} that differ from them in their last compared field only. */
+    private List<Person> nearCopies;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 0, 0);
+        persons = new PersonGenerator().withNames((i, random) -> "Contact " + i)
+                .withPhones((i, random) -> "+65" + (80_000_000 + random.nextInt(10_000_000)))
+                .withEmails((i, random) -> "contact" + i + "@example.com")
+                .withAddresses((i, random) -> "Blk " + random.nextInt(1000) + " Jurong West Street " + i)
+                .withCountries("Singapore").withOrganisations((i, random) -> "NUS")
+                .withTags((i, random) -> Set.of(Tag.of("friends"), Tag.of("group" + random.nextInt(20))))
+                .withAddedOns((i, random) -> start.plusSeconds(random.nextInt(100_000_000)))
+                .generate(size);
+        copies = new ArrayList<>(size);
+        nearCopies = new ArrayList<>(size);
+        for (Person person : persons) {
+            copies.add(copyOf(person, false));
+            nearCopies.add(copyOf(person, true));
+        }
+        list = new UniquePersonList();
+        list.setPersons(persons);
+    }
+
+    private static Person copyOf(Person person, boolean isArchived) {
+        return new Person(PersonId.generate(), person.getName(), person.getPhone(), person.getEmail(),
+                person.getAddress(), person.getCountry(), person.getOrganisation(), person.getEvent(),
+                person.getNote(), person.getPreferredChannel(), person.getTags(), person.getOffset(),
+                person.getPreferredLanguage(), person.getAddedOn(), isArchived);
+    }
+
+    /**
+     * Edits persons in place through targets that are equal copies of the stored persons, so every edit
+     * locates its target by equality rather than by id.
+     */
+    @Benchmark
+    public UniquePersonList setPerson_equalTarget() {
+        int step = size / EDITS;
+        for (int i = 0; i < size; i += step) {
+            list.setPerson(copies.get(i), persons.get(i));
+        }
+        return list;
+    }
+
+    @Benchmark
+    public boolean listEquals_equalPersons() {
+        return persons.equals(copies);
+    }
+
+    @Benchmark
+    public int listIndexOf_absentPerson() {
+        return persons.indexOf(nearCopies.get(size - 1));
+    }
+
+    @Benchmark
+    public int hashCode_allPersons() {
+        int hash = 0;
+        for (Person person : persons) {
+            hash += person.hashCode();
+        }
+        return hash;
+    }
+}
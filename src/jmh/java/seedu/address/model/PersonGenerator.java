@@ -0,0 +1,216 @@
+package seedu.address.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.person.AddedOn;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Country;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Event;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Offset;
+import seedu.address.model.person.Organisation;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Person.CommunicationChannel;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.PreferredLanguage;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates the persons that the benchmarks search, sort and store, so that each benchmark only states the
+ * fields it varies.
+ *
+ * By default person {@code i} is named {@code Person i}, has the email {@code personi@example.com}, no tags,
+ * an empty country, organisation, event and note, and is not archived. All other fields are the same object
+ * for every person. Values picked at random are drawn from one {@code Random} with a fixed seed, so a
+ * generator configured the same way always generates the same persons.
+ */
+public class PersonGenerator {
+
+    /**
+     * Gives the value of a field for the {@code i}-th person generated.
+     */
+    @FunctionalInterface
+    public interface Field<T> {
+        T next(int i, Random random);
+    }
+
+    private static final Phone DEFAULT_PHONE = new Phone("+6587438807");
+    private static final Address DEFAULT_ADDRESS = new Address("Blk 30 Geylang Street 29, #06-40");
+    private static final Note DEFAULT_NOTE = new Note("");
+    private static final AddedOn DEFAULT_ADDED_ON = new AddedOn(LocalDateTime.of(2020, 1, 1, 0, 0));
+
+    private final Random random = new Random(42);
+
+    private Field<String> names = (i, random) -> "Person " + i;
+    private Field<String> phones;
+    private Field<String> emails = (i, random) -> "person" + i + "@example.com";
+    private Field<String> addresses;
+    private Field<String> countries = (i, random) -> "";
+    private Field<String> organisations = (i, random) -> "";
+    private Field<String> notes;
+    private Field<CommunicationChannel> channels = (i, random) -> CommunicationChannel.EMAIL;
+    private Field<Set<Tag>> tags = (i, random) -> Set.of();
+    private Field<String> offsets = (i, random) -> "+08:00";
+    private Field<String> languages = (i, random) -> "english";
+    private Field<LocalDateTime> addedOns;
+    private Field<Boolean> archived = (i, random) -> false;
+
+    /**
+     * Names person {@code i} after {@code names}.
+     */
+    public PersonGenerator withNames(Field<String> names) {
+        this.names = names;
+        return this;
+    }
+
+    /**
+     * Gives each person the phone number from {@code phones} instead of the shared default.
+     */
+    public PersonGenerator withPhones(Field<String> phones) {
+        this.phones = phones;
+        return this;
+    }
+
+    /**
+     * Gives each person the email from {@code emails}.
+     */
+    public PersonGenerator withEmails(Field<String> emails) {
+        this.emails = emails;
+        return this;
+    }
+
+    /**
+     * Gives each person the address from {@code addresses} instead of the shared default.
+     */
+    public PersonGenerator withAddresses(Field<String> addresses) {
+        this.addresses = addresses;
+        return this;
+    }
+
+    /**
+     * Gives each person one of {@code countries}, picked at random.
+     */
+    public PersonGenerator withCountries(String... countries) {
+        this.countries = pick(countries);
+        return this;
+    }
+
+    /**
+     * Gives each person the organisation from {@code organisations}.
+     */
+    public PersonGenerator withOrganisations(Field<String> organisations) {
+        this.organisations = organisations;
+        return this;
+    }
+
+    /**
+     * Gives each person the note from {@code notes} instead of the shared empty note.
+     */
+    public PersonGenerator withNotes(Field<String> notes) {
+        this.notes = notes;
+        return this;
+    }
+
+    /**
+     * Gives each person one of {@code channels}, picked at random.
+     */
+    public PersonGenerator withChannels(CommunicationChannel... channels) {
+        this.channels = pick(channels);
+        return this;
+    }
+
+    /**
+     * Gives each person the tags from {@code tags}.
+     */
+    public PersonGenerator withTags(Field<Set<Tag>> tags) {
+        this.tags = tags;
+        return this;
+    }
+
+    /**
+     * Gives each person {@code tags} with a chance of one in {@code oneIn}, and no tags otherwise.
+     */
+    public PersonGenerator withTags(Set<Tag> tags, int oneIn) {
+        this.tags = (i, random) -> random.nextInt(oneIn) == 0 ? tags : Set.of();
+        return this;
+    }
+
+    /**
+     * Gives each person one of {@code offsets}, picked at random.
+     */
+    public PersonGenerator withOffsets(String... offsets) {
+        this.offsets = pick(offsets);
+        return this;
+    }
+
+    /**
+     * Gives each person one of {@code languages}, picked at random.
+     */
+    public PersonGenerator withLanguages(String... languages) {
+        this.languages = pick(languages);
+        return this;
+    }
+
+    /**
+     * Gives each person the time added from {@code addedOns} instead of the shared default.
+     */
+    public PersonGenerator withAddedOns(Field<LocalDateTime> addedOns) {
+        this.addedOns = addedOns;
+        return this;
+    }
+
+    /**
+     * Archives each person with a chance of one in {@code oneIn}.
+     */
+    public PersonGenerator withArchived(int oneIn) {
+        this.archived = (i, random) -> random.nextInt(oneIn) == 0;
+        return this;
+    }
+
+    /**
+     * Returns {@code size} persons, numbered from 0.
+     */
+    public List<Person> generate(int size) {
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(next(i));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book holding {@code size} persons, numbered from 0.
+     */
+    public AddressBook generateAddressBook(int size) {
+        AddressBook addressBook = new AddressBook();
+        generate(size).forEach(addressBook::addPerson);
+        return addressBook;
+    }
+
+    private Person next(int i) {
+        Name name = new Name(names.next(i, random));
+        Phone phone = phones == null ? DEFAULT_PHONE : new Phone(phones.next(i, random));
+        Email email = new Email(emails.next(i, random));
+        Address address = addresses == null ? DEFAULT_ADDRESS : new Address(addresses.next(i, random));
+        Country country = Country.of(countries.next(i, random));
+        Organisation organisation = Organisation.of(organisations.next(i, random));
+        Note note = notes == null ? DEFAULT_NOTE : new Note(notes.next(i, random));
+        CommunicationChannel channel = channels.next(i, random);
+        Set<Tag> personTags = tags.next(i, random);
+        Offset offset = Offset.of(offsets.next(i, random));
+        PreferredLanguage language = PreferredLanguage.of(languages.next(i, random));
+        AddedOn addedOn = addedOns == null ? DEFAULT_ADDED_ON : new AddedOn(addedOns.next(i, random));
+        return new Person(name, phone, email, address, country, organisation, Event.of(""), note, channel,
+                personTags, offset, language, addedOn, archived.next(i, random));
+    }
+
+    private static <T> Field<T> pick(T[] values) {
+        return (i, random) -> values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.Model.SortMode;
+import seedu.address.model.person.Country;
+import seedu.address.model.person.Person;
+
+/**
+ * Compares sorting by the {@link SortMode} comparators, which compare precomputed collation keys,
+ * against the string comparators they replaced.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SortModeBenchmark {
+
+    private static final String[] COUNTRIES = {"", "Singapore", "China", "Malaysia", "India", "Japan",
+        "United States", "France", "Brazil", "Côte d'Ivoire"};
+
+    /** The name comparator before collation keys were introduced. */
+    private static final Comparator<Person> LEGACY_NAME_ORDER = (p1, p2) ->
+            p1.getName().fullName.compareToIgnoreCase(p2.getName().fullName);
+
+    /** The country comparator before collation keys were introduced. */
+    private static final Comparator<Person> LEGACY_COUNTRY_ORDER = Comparator
+            .comparing(SortModeBenchmark::legacyCountryKey)
+            .thenComparing(LEGACY_NAME_ORDER);
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private List<Person> persons;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 0, 0);
+        persons = new PersonGenerator().withNames((i, random) -> randomName(random) + " " + i)
+                .withCountries(COUNTRIES)
+                .withAddedOns((i, random) -> start.plusMinutes(random.nextInt(1_000_000))).generate(size);
+    }
+
+    @Benchmark
+    public List<Person> sortByName_legacy() {
+        return sorted(LEGACY_NAME_ORDER);
+    }
+
+    @Benchmark
+    public List<Person> sortByName_collationKeys() {
+        return sorted(SortMode.NAME.getComparator());
+    }
+
+    @Benchmark
+    public List<Person> sortByCountry_legacy() {
+        return sorted(LEGACY_COUNTRY_ORDER);
+    }
+
+    @Benchmark
+    public List<Person> sortByCountry_collationKeys() {
+        return sorted(SortMode.COUNTRY.getComparator());
+    }
+
+    private List<Person> sorted(Comparator<Person> order) {
+        List<Person> copy = new ArrayList<>(persons);
+        copy.sort(order);
+        return copy;
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        int length = 4 + random.nextInt(8);
+        for (int i = 0; i < length; i++) {
+            char letter = (char) ('a' + random.nextInt(26));
+            name.append(i == 0 ? Character.toUpperCase(letter) : letter);
+        }
+        return name.toString();
+    }
+
+    private static String legacyCountryKey(Person p) {
+        Country c = p.getCountry();
+        if (c.equals(new Country("")) || c.toString().isBlank()) {
+            return "\uFFFF";
+        }
+        return c.toString().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model;
+
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ARCHIVED;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_UNARCHIVED;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.person.Country;
+import seedu.address.model.person.CountryContainsKeywordPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsTagsPredicate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares flipping between the views of {@code list}, {@code archivelist}, a {@code findtag} and a
+ * {@code findcountry} by filtering the whole list again for each, as a single {@code FilteredList} did, with
+ * {@link ModelManager}, which keeps the filtered lists of recent predicates.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ViewCacheBenchmark {
+
+    private static final String[] COUNTRIES = {"", "Singapore", "China", "Malaysia", "India", "Japan",
+        "United States", "France", "Brazil", "Côte d'Ivoire"};
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private List<Predicate<Person>> views;
+    private FilteredList<Person> refilteredList;
+    private ModelManager model;
+
+    @Setup
+    public void setUp() {
+        AddressBook addressBook = new PersonGenerator().withCountries(COUNTRIES)
+                .withTags(Set.of(new Tag("friends")), 5).withArchived(10).generateAddressBook(size);
+        model = new ModelManager(addressBook, new UserPrefs());
+        refilteredList = new FilteredList<>(addressBook.getPersonList());
+        views = List.of(PREDICATE_SHOW_ALL_UNARCHIVED, PREDICATE_SHOW_ALL_ARCHIVED,
+                new PersonContainsTagsPredicate(List.of(new Tag("friends"))),
+                new CountryContainsKeywordPredicate(Country.of("Japan")));
+        flip_cachedViews();
+    }
+
+    @Benchmark
+    public int flip_refilter() {
+        int shown = 0;
+        for (Predicate<Person> view : views) {
+            refilteredList.setPredicate(view);
+            shown += refilteredList.size();
+        }
+        return shown;
+    }
+
+    @Benchmark
+    public int flip_cachedViews() {
+        int shown = 0;
+        for (Predicate<Person> view : views) {
+            model.updateFilteredPersonList(view);
+            shown += model.getFilteredPersonList().size();
+        }
+        return shown;
+    }
+}
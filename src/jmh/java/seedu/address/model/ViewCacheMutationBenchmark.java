@@ -0,0 +1,66 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Country;
+import seedu.address.model.person.CountryContainsKeywordPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Measures what each view kept by a {@link FilteredViewCache} adds to a change of its source: a person
+ * inserted in the middle of the list and removed again, with {@code cachedViews} views of one country each.
+ * Each view tests the inserted person and shifts the positions of its matches after it, so the cost grows
+ * with the number of views and with the matches of each. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ViewCacheMutationBenchmark {
+
+    private static final String[] COUNTRIES = {"Singapore", "China", "Malaysia", "India", "Japan",
+        "United States", "France", "Brazil"};
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    @Param({"0", "1", "4", "8"})
+    private int cachedViews;
+
+    private ObservableList<Person> persons;
+    private Person inserted;
+
+    @Setup
+    public void setUp() {
+        persons = FXCollections.observableArrayList(new PersonGenerator().withCountries(COUNTRIES).generate(size));
+        inserted = persons.get(0);
+        FilteredViewCache<Person> cache = new FilteredViewCache<>(COUNTRIES.length);
+        for (int i = 0; i < cachedViews; i++) {
+            CountryContainsKeywordPredicate predicate = new CountryContainsKeywordPredicate(Country.of(COUNTRIES[i]));
+            cache.get(persons, predicate, () -> MatchedListView.filter(persons, predicate));
+        }
+    }
+
+    @Benchmark
+    public int insertAndRemove_middle() {
+        persons.add(size / 2, inserted);
+        persons.remove(size / 2);
+        return persons.size();
+    }
+}
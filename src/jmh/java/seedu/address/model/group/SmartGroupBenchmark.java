@@ -0,0 +1,91 @@
+package seedu.address.model.group;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.PersonGenerator;
+import seedu.address.model.person.Country;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.Query;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares counting the persons of a saved query by testing the query against every person with reading the
+ * size of a {@link SmartGroup}, and measures what keeping the group up to date costs for each edit.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SmartGroupBenchmark {
+
+    private static final String[] COUNTRIES = {"Japan", "Singapore", "Malaysia", "China", "India", "Indonesia",
+        "Thailand", "Vietnam", "Philippines", "South Korea"};
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private List<Person> persons;
+    private Query definition;
+    private SmartGroupList groups;
+    private SmartGroup group;
+    private Person edited;
+    private Person archived;
+
+    @Setup
+    public void setUp() {
+        persons = new PersonGenerator().withCountries(COUNTRIES).withTags(Set.of(new Tag("friends")), 2)
+                .withArchived(10).generate(size);
+        definition = Query.and(List.of(Query.country(Country.of("Japan")), Query.tag(new Tag("friends")),
+                Query.not(Query.archived())));
+        groups = new SmartGroupList();
+        for (int i = 0; i < 10; i++) {
+            groups.put("group" + i, definition, persons);
+        }
+        group = groups.get("group0").orElseThrow();
+
+        edited = persons.get(size / 2);
+        archived = new Person(edited.getName(), edited.getPhone(), edited.getEmail(), edited.getAddress(),
+                edited.getCountry(), edited.getOrganisation(), edited.getEvent(), edited.getNote(),
+                edited.getPreferredChannel(), edited.getTags(), edited.getOffset(), edited.getPreferredLanguage(),
+                edited.getAddedOn(), !edited.getArchivalStatus());
+    }
+
+    @Benchmark
+    public long count_filterAgain() {
+        return persons.stream().filter(definition).count();
+    }
+
+    @Benchmark
+    public long count_smartGroup() {
+        return group.size();
+    }
+
+    /**
+     * Archives or unarchives one person and back again, as the ten saved groups are told of it.
+     */
+    @Benchmark
+    public long edit_tenGroupsUpdated() {
+        groups.personRemoved(edited);
+        groups.personAdded(archived);
+        groups.personRemoved(archived);
+        groups.personAdded(edited);
+        return group.size();
+    }
+}
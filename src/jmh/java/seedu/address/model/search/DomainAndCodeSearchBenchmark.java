@@ -0,0 +1,104 @@
+package seedu.address.model.search;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.i18n.phonenumbers.NumberParseException;
+import com.google.i18n.phonenumbers.PhoneNumberUtil;
+import com.google.i18n.phonenumbers.PhoneNumberUtil.PhoneNumberFormat;
+
+import seedu.address.model.PersonGenerator;
+import seedu.address.model.person.EmailDomainPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.PhonePrefixPredicate;
+
+/**
+ * Compares ways of answering {@code finddomain} and {@code findcode}: testing every person, parsing each phone
+ * number during the search as {@code Phone#getCountryCode()} used to, testing every person against the E.164
+ * number each {@code Phone} keeps, and looking the domain or prefix up in the {@link SearchIndex}.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DomainAndCodeSearchBenchmark {
+
+    private static final String[] DOMAINS = {"nus.edu.sg", "u.nus.edu.sg", "comp.nus.edu.sg", "ntu.edu.sg",
+        "gmail.com", "yahoo.com", "outlook.com", "example.com", "mail.example.com", "gov.sg", "tech.gov.sg",
+        "u-tokyo.ac.jp", "ox.ac.uk", "cs.ox.ac.uk", "mit.edu", "csail.mit.edu"};
+    private static final String[] CALLING_CODES = {"+65", "+60", "+62", "+63", "+66", "+81", "+82", "+86", "+91",
+        "+1", "+44", "+49", "+33", "+61", "+358", "+971"};
+    private static final String DOMAIN = "nus.edu.sg";
+    private static final String CALLING_CODE = "+65";
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private List<Person> persons;
+    private EmailDomainPredicate domainPredicate;
+    private PhonePrefixPredicate codePredicate;
+    private SearchIndex index;
+
+    @Setup
+    public void setUp() {
+        persons = new PersonGenerator()
+                .withPhones((i, random) -> CALLING_CODES[random.nextInt(CALLING_CODES.length)] + " "
+                        + (81_000_000 + random.nextInt(18_000_000)))
+                .withEmails((i, random) -> "person" + i + "@" + DOMAINS[random.nextInt(DOMAINS.length)])
+                .generate(size);
+        index = new SearchIndex();
+        index.personsReset(persons);
+        domainPredicate = new EmailDomainPredicate(DOMAIN);
+        codePredicate = new PhonePrefixPredicate(CALLING_CODE);
+    }
+
+    @Benchmark
+    public long findDomain_scan() {
+        return persons.stream().filter(domainPredicate).count();
+    }
+
+    @Benchmark
+    public Set<Person> findDomain_domainIndex() {
+        return index.findByDomain(DOMAIN);
+    }
+
+    @Benchmark
+    public long findCode_parseDuringSearch() {
+        PhoneNumberUtil phoneUtil = PhoneNumberUtil.getInstance();
+        return persons.stream().filter(person -> {
+            try {
+                return phoneUtil.format(phoneUtil.parse(person.getPhone().value, ""), PhoneNumberFormat.E164)
+                        .startsWith(CALLING_CODE);
+            } catch (NumberParseException e) {
+                return false;
+            }
+        }).count();
+    }
+
+    @Benchmark
+    public long findCode_scan() {
+        return persons.stream().filter(codePredicate).count();
+    }
+
+    @Benchmark
+    public Set<Person> findCode_prefixIndex() {
+        return index.findByPhonePrefix(CALLING_CODE);
+    }
+}
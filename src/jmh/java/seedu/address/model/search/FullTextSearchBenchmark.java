@@ -0,0 +1,92 @@
+package seedu.address.model.search;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.PersonGenerator;
+import seedu.address.model.person.FullTextMatchPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Compares answering {@code search} by tokenizing the note, address and event of every person with answering
+ * it from the {@link SearchIndex} full-text index, both for the whole ranked result and for the best ten.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FullTextSearchBenchmark {
+
+    private static final String[] NOTE_WORDS = {"likes", "jazz", "vegetarian", "prefers", "calls", "morning",
+        "met", "at", "conference", "owes", "lunch", "allergic", "to", "nuts", "plays", "tennis", "weekends",
+        "client", "since", "referral", "budget", "review", "quarterly", "travel", "often", "remote"};
+    private static final String[] STREETS = {"Clementi", "Jurong", "Geylang", "Tampines", "Bedok", "Orchard",
+        "Yishun", "Bishan", "Serangoon", "Woodlands"};
+    private static final List<String> TERMS = List.of("vegetarian", "tennis", "clementi");
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private List<Person> persons;
+    private FullTextMatchPredicate predicate;
+    private SearchIndex index;
+
+    @Setup
+    public void setUp() {
+        persons = new PersonGenerator().withNotes((i, random) -> randomNote(random))
+                .withAddresses((i, random) -> "Blk " + random.nextInt(900) + " "
+                        + STREETS[random.nextInt(STREETS.length)] + " Street " + random.nextInt(90))
+                .generate(size);
+        index = new SearchIndex();
+        index.personsReset(persons);
+        predicate = new FullTextMatchPredicate(TERMS);
+    }
+
+    private static String randomNote(Random random) {
+        StringBuilder note = new StringBuilder();
+        int words = 3 + random.nextInt(15);
+        for (int j = 0; j < words; j++) {
+            note.append(NOTE_WORDS[random.nextInt(NOTE_WORDS.length)]).append(' ');
+        }
+        return note.toString().trim();
+    }
+
+    @Benchmark
+    public long search_tokenizingScan() {
+        return persons.stream().filter(predicate).count();
+    }
+
+    @Benchmark
+    public Set<Person> search_indexLookup() {
+        return index.find(predicate).orElseThrow();
+    }
+
+    @Benchmark
+    public List<Person> search_indexLookupRanked() {
+        return index.find(predicate).orElseThrow().stream().sorted(index.textRanking(TERMS))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Person> search_topTen() {
+        return index.searchText(TERMS, 10);
+    }
+}
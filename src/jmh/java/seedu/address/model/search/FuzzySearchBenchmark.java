@@ -0,0 +1,77 @@
+package seedu.address.model.search;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.PersonGenerator;
+import seedu.address.model.person.FuzzyMatchPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Compares answering {@code fuzzyfind} by computing the edit distance between the keywords and the words of
+ * every person with finding the candidate words through the {@link SearchIndex} trigram index.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FuzzySearchBenchmark {
+
+    private static final String[] SYLLABLES = {"mo", "ha", "med", "mu", "am", "li", "an", "ka", "ri", "na",
+        "ta", "sen", "wei", "jo", "el", "ra", "de", "vi", "son", "ko"};
+    private static final List<String> KEYWORDS = List.of("Mohammed", "Tanaka");
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private List<Person> persons;
+    private FuzzyMatchPredicate predicate;
+    private SearchIndex index;
+
+    @Setup
+    public void setUp() {
+        persons = new PersonGenerator().withNames((i, random) -> randomWord(random) + " " + randomWord(random))
+                .withEmails((i, random) -> randomWord(random).toLowerCase() + i + "@example.com")
+                .withOrganisations((i, random) -> randomWord(random) + " Pte Ltd").generate(size);
+        index = new SearchIndex();
+        index.personsReset(persons);
+        predicate = new FuzzyMatchPredicate(KEYWORDS);
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int syllables = 2 + random.nextInt(3);
+        for (int i = 0; i < syllables; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        word.setCharAt(0, Character.toUpperCase(word.charAt(0)));
+        return word.toString();
+    }
+
+    @Benchmark
+    public long fuzzyFind_editDistanceScan() {
+        return persons.stream().filter(predicate).count();
+    }
+
+    @Benchmark
+    public Map<Person, Integer> fuzzyFind_trigramCandidates() {
+        return index.findFuzzy(KEYWORDS);
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.search;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.PersonGenerator;
+import seedu.address.model.person.Person;
+
+/**
+ * Measures completing a partly typed name word from the {@link SearchIndex} name trie, as the command box does
+ * on every keystroke, and keeping the trie up to date as a person is edited. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NameCompletionBenchmark {
+
+    private static final int LIMIT = 8;
+
+    @Param({"10000", "200000"})
+    private int size;
+
+    private SearchIndex index;
+    private Person person;
+    private Person editedPerson;
+
+    @Setup
+    public void setUp() {
+        index = new SearchIndex();
+        new PersonGenerator().withNames((i, random) -> randomWord(random) + " " + randomWord(random))
+                .generate(size).forEach(index::personAdded);
+        List<Person> bensons = new PersonGenerator()
+                .withNames((i, random) -> i == 0 ? "Benson Meier" : "Benson Mendez").generate(2);
+        person = bensons.get(0);
+        editedPerson = bensons.get(1);
+        index.personAdded(person);
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        word.append((char) ('A' + random.nextInt(26)));
+        int length = 2 + random.nextInt(7);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(26)));
+        }
+        return word.toString();
+    }
+
+    @Benchmark
+    public List<String> complete_oneLetter() {
+        return index.completeNameWord("m", LIMIT);
+    }
+
+    @Benchmark
+    public List<String> complete_threeLetters() {
+        return index.completeNameWord("mei", LIMIT);
+    }
+
+    @Benchmark
+    public List<String> complete_noMatch() {
+        return index.completeNameWord("qxz", LIMIT);
+    }
+
+    @Benchmark
+    public void edit_renameAndRevert() {
+        index.personReplaced(person, editedPerson);
+        index.personReplaced(editedPerson, person);
+    }
+}
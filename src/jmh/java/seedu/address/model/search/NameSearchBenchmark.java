@@ -0,0 +1,67 @@
+package seedu.address.model.search;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.PersonGenerator;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Compares answering {@code find} by testing a {@link NameContainsKeywordsPredicate} against every person with
+ * taking the union of the {@link SearchIndex}'s posting lists, as {@link SearchIndex#find} does for the model.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NameSearchBenchmark {
+
+    private static final String[] FIRST_NAMES = {"Alice", "Benson", "Carl", "Daniel", "Elle", "Fiona", "George",
+        "Hoon", "Ida", "Jenny"};
+    private static final List<String> KEYWORDS = List.of("benson", "Surname17", "nobody");
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private List<Person> persons;
+    private NameContainsKeywordsPredicate predicate;
+    private SearchIndex index;
+
+    @Setup
+    public void setUp() {
+        persons = new PersonGenerator()
+                .withNames((i, random) -> FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " Surname"
+                        + random.nextInt(size / 10) + " " + Integer.toString(i, 36))
+                .generate(size);
+        index = new SearchIndex();
+        index.personsReset(persons);
+        predicate = new NameContainsKeywordsPredicate(KEYWORDS);
+    }
+
+    @Benchmark
+    public long find_predicateScan() {
+        return persons.stream().filter(predicate).count();
+    }
+
+    @Benchmark
+    public Set<Person> find_postingListUnion() {
+        return index.findByName(KEYWORDS);
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.model.search;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.PersonGenerator;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.PhoneDigitsPredicate;
+
+/**
+ * Compares three ways of answering {@code findphone}: stripping the separators from every phone number with a
+ * regex during the search, testing the digits that every {@code Phone} stripped when it was created, and
+ * intersecting the bitmaps of the {@link SearchIndex} digit index. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PhoneDigitSearchBenchmark {
+
+    private static final String[] CALLING_CODES = {"+65", "+60", "+62", "+81", "+86", "+91", "+1", "+44"};
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private List<Person> persons;
+    /** Digits from the middle of one of the numbers, as read off a missed call. */
+    private String digits;
+    private PhoneDigitsPredicate predicate;
+    private SearchIndex index;
+
+    @Setup
+    public void setUp() {
+        persons = new PersonGenerator().withPhones((i, random) -> randomPhone(random)).generate(size);
+        index = new SearchIndex();
+        index.personsReset(persons);
+        digits = persons.get(size / 2).getPhone().getDigits().substring(3, 9);
+        predicate = new PhoneDigitsPredicate(digits);
+    }
+
+    private static String randomPhone(Random random) {
+        String number = String.valueOf(80_000_000 + random.nextInt(20_000_000));
+        return CALLING_CODES[random.nextInt(CALLING_CODES.length)] + " " + number.substring(0, 4)
+                + "-" + number.substring(4);
+    }
+
+    @Benchmark
+    public long findPhone_stripDuringSearch() {
+        return persons.stream()
+                .filter(person -> person.getPhone().value.replaceAll("[^0-9]", "").contains(digits))
+                .count();
+    }
+
+    @Benchmark
+    public long findPhone_precomputedDigits() {
+        return persons.stream().filter(predicate).count();
+    }
+
+    @Benchmark
+    public Set<Person> findPhone_digitIndex() {
+        return index.findByPhoneDigits(digits);
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.model.search;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.PersonGenerator;
+import seedu.address.commons.util.PhoneticUtil;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PhoneticMatchPredicate;
+
+/**
+ * Compares three ways of answering {@code find sounds}: encoding the name of every person during the search,
+ * testing the codes that every {@code Name} computed when it was created, and looking the codes up in the
+ * {@link SearchIndex} phonetic index. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PhoneticSearchBenchmark {
+
+    private static final String[] SYLLABLES = {"mo", "ha", "med", "mu", "am", "li", "an", "ka", "ri", "na",
+        "ta", "sen", "wei", "jo", "el", "ra", "de", "vi", "son", "ko"};
+    private static final List<String> KEYWORDS = List.of("Muhamad", "Tanakka");
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private List<Person> persons;
+    private PhoneticMatchPredicate predicate;
+    private SearchIndex index;
+
+    @Setup
+    public void setUp() {
+        persons = new PersonGenerator().withNames((i, random) -> randomWord(random) + " " + randomWord(random))
+                .withOrganisations((i, random) -> randomWord(random) + " Pte Ltd").generate(size);
+        index = new SearchIndex();
+        index.personsReset(persons);
+        predicate = new PhoneticMatchPredicate(KEYWORDS);
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int syllables = 2 + random.nextInt(3);
+        for (int i = 0; i < syllables; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        word.setCharAt(0, Character.toUpperCase(word.charAt(0)));
+        return word.toString();
+    }
+
+    @Benchmark
+    public long findSounds_encodeDuringSearch() {
+        List<String> codes = predicate.getCodes();
+        return persons.stream()
+                .filter(person -> PhoneticUtil.encodeWords(person.getName().fullName).stream()
+                        .anyMatch(codes::contains))
+                .count();
+    }
+
+    @Benchmark
+    public long findSounds_precomputedCodes() {
+        return persons.stream().filter(predicate).count();
+    }
+
+    @Benchmark
+    public Set<Person> findSounds_phoneticIndex() {
+        return index.findBySound(KEYWORDS);
+    }
+}
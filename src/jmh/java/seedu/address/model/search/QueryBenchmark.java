@@ -0,0 +1,72 @@
+package seedu.address.model.search;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.PersonGenerator;
+import seedu.address.model.person.Country;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PreferredLanguage;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares answering a {@code query} that combines a country, a tag, a language and the archived flag by testing
+ * every clause on every person with answering it through the plan of {@link SearchIndex#plan(Query)}, which
+ * starts from the persons with the rare tag. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class QueryBenchmark {
+
+    private static final String[] COUNTRIES = {"Japan", "Singapore", "Malaysia", "China", "India", "Indonesia",
+        "Thailand", "Vietnam", "Philippines", "South Korea"};
+    private static final String[] LANGUAGES = {"japanese", "english", "malay", "chinese", "hindi", "tamil",
+        "thai", "vietnamese", "korean", "indonesian"};
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private List<Person> persons;
+    private Query query;
+    private SearchIndex index;
+
+    @Setup
+    public void setUp() {
+        Set<Tag> vip = Set.of(new Tag("vip"), new Tag("friends"));
+        Set<Tag> friends = Set.of(new Tag("friends"));
+        persons = new PersonGenerator().withCountries(COUNTRIES)
+                .withTags((i, random) -> random.nextInt(100) == 0 ? vip : friends).withLanguages(LANGUAGES)
+                .withArchived(10).generate(size);
+        index = new SearchIndex();
+        index.personsReset(persons);
+        query = Query.and(List.of(Query.country(Country.of("Japan")), Query.tag(new Tag("vip")),
+                Query.language(PreferredLanguage.of("japanese")), Query.not(Query.archived())));
+    }
+
+    @Benchmark
+    public long query_scan() {
+        return persons.stream().filter(query).count();
+    }
+
+    @Benchmark
+    public Set<Person> query_planned() {
+        return index.find(query).orElseThrow();
+    }
+}
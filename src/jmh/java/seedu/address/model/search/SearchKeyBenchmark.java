@@ -0,0 +1,84 @@
+package seedu.address.model.search;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.PersonGenerator;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Compares answering {@code find} for names with accents by computing the search key of every name during the
+ * search, as normalizing in {@code StringUtil.containsWordIgnoreCase} would, with testing the search key that
+ * each {@link Name} computed when it was created, and with taking the union of the {@link SearchIndex} posting
+ * lists. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SearchKeyBenchmark {
+
+    private static final String[] FIRST_NAMES = {"José", "Zoë", "François", "Nguyễn", "Søren", "Đặng", "Renée",
+        "Jürgen", "Chloé", "Ana"};
+    private static final List<String> KEYWORDS = List.of("jose", "Muller17", "nobody");
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private List<Person> persons;
+    private NameContainsKeywordsPredicate predicate;
+    private List<String> searchKeywords;
+    private SearchIndex index;
+
+    @Setup
+    public void setUp() {
+        persons = new PersonGenerator()
+                .withNames((i, random) -> FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " Müller"
+                        + random.nextInt(size / 10) + " " + Integer.toString(i, 36))
+                .generate(size);
+        index = new SearchIndex();
+        index.personsReset(persons);
+        predicate = new NameContainsKeywordsPredicate(KEYWORDS);
+        searchKeywords = KEYWORDS.stream().map(StringUtil::toSearchKey).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public long find_normalizeDuringSearch() {
+        return persons.stream()
+                .filter(person -> {
+                    String searchKey = StringUtil.toSearchKey(person.getName().fullName);
+                    return searchKeywords.stream().anyMatch(keyword ->
+                            StringUtil.containsWordIgnoreCase(searchKey, keyword));
+                })
+                .count();
+    }
+
+    @Benchmark
+    public long find_cachedSearchKeyScan() {
+        return persons.stream().filter(predicate).count();
+    }
+
+    @Benchmark
+    public Set<Person> find_postingListUnion() {
+        return index.findByName(KEYWORDS);
+    }
+}
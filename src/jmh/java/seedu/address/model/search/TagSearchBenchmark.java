@@ -0,0 +1,84 @@
+package seedu.address.model.search;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.PersonGenerator;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsTagsPredicate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares answering {@code findtag} with several tags by testing a {@link PersonContainsTagsPredicate} against
+ * every person with intersecting the {@link SearchIndex}'s tag bitmaps, as {@link SearchIndex#find} does for the
+ * model. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TagSearchBenchmark {
+
+    private static final int TAG_COUNT = 30;
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private List<Tag> tags;
+    private List<Person> persons;
+    private List<Tag> queryTags;
+    private PersonContainsTagsPredicate predicate;
+    private SearchIndex index;
+
+    @Setup
+    public void setUp() {
+        tags = new ArrayList<>(TAG_COUNT);
+        for (int i = 0; i < TAG_COUNT; i++) {
+            tags.add(Tag.of("tag" + i));
+        }
+        persons = new PersonGenerator().withNames((i, random) -> "Person " + Integer.toString(i, 36))
+                .withTags((i, random) -> randomTags(random)).generate(size);
+        index = new SearchIndex();
+        index.personsReset(persons);
+        queryTags = List.of(tags.get(0), tags.get(1), tags.get(2));
+        predicate = new PersonContainsTagsPredicate(queryTags);
+    }
+
+    private Set<Tag> randomTags(Random random) {
+        Set<Tag> personTags = new HashSet<>();
+        int tagCount = 3 + random.nextInt(4);
+        while (personTags.size() < tagCount) {
+            // skew towards the first few tags, as real tags are
+            personTags.add(tags.get(Math.min(random.nextInt(TAG_COUNT), random.nextInt(TAG_COUNT))));
+        }
+        return personTags;
+    }
+
+    @Benchmark
+    public long findTag_predicateScan() {
+        return persons.stream().filter(predicate).count();
+    }
+
+    @Benchmark
+    public Set<Person> findTag_bitmapIntersection() {
+        return index.findByTags(queryTags);
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.search;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.PersonGenerator;
+import seedu.address.model.person.Country;
+import seedu.address.model.person.CountryContainsKeywordPredicate;
+import seedu.address.model.person.OrganisationContainsKeywordPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Compares answering {@code findcountry} and {@code findorganisation} by testing their predicates against every
+ * person and by looking the value up in the hash indexes of the {@link SearchIndex}, through
+ * {@link SearchIndex#find}.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ValueSearchBenchmark {
+
+    private static final String[] COUNTRIES = {"Singapore", "Malaysia", "Indonesia", "Japan", "China", "India",
+        "Germany", "France", "Brazil", "Canada"};
+    private static final int ORGANISATION_COUNT = 200;
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private List<Person> persons;
+    private CountryContainsKeywordPredicate countryPredicate;
+    private OrganisationContainsKeywordPredicate organisationPredicate;
+    private SearchIndex index;
+
+    @Setup
+    public void setUp() {
+        persons = new PersonGenerator().withNames((i, random) -> "Person " + Integer.toString(i, 36))
+                .withCountries(COUNTRIES)
+                .withOrganisations((i, random) -> "Organisation " + random.nextInt(ORGANISATION_COUNT))
+                .generate(size);
+        index = new SearchIndex();
+        index.personsReset(persons);
+        countryPredicate = new CountryContainsKeywordPredicate(Country.of("Japan"));
+        organisationPredicate = new OrganisationContainsKeywordPredicate("Organisation 17");
+    }
+
+    @Benchmark
+    public long findCountry_predicateScan() {
+        return persons.stream().filter(countryPredicate).count();
+    }
+
+    @Benchmark
+    public Set<Person> findCountry_hashLookup() {
+        return index.find(countryPredicate).orElseThrow();
+    }
+
+    @Benchmark
+    public long findOrganisation_predicateScan() {
+        return persons.stream().filter(organisationPredicate).count();
+    }
+
+    @Benchmark
+    public Set<Person> findOrganisation_hashLookup() {
+        return index.find(organisationPredicate).orElseThrow();
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.model.statistics;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.PersonGenerator;
+import seedu.address.model.person.Person;
+
+/**
+ * Measures what timing a search and adding it to a {@link SearchLog} adds to a search that tests every person.
+ * The slow threshold is high enough that nothing is written to the slow query log. Run with
+ * {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SearchLogBenchmark {
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private List<Person> persons;
+    private Predicate<Person> predicate;
+    private SearchLog searchLog;
+
+    @Setup
+    public void setUp() {
+        persons = new PersonGenerator().withArchived(10).generate(size);
+        predicate = person -> person.getArchivalStatus();
+        searchLog = new SearchLog();
+        searchLog.setSlowThreshold(Duration.ofHours(1));
+    }
+
+    @Benchmark
+    public long search_unrecorded() {
+        return persons.stream().filter(predicate).count();
+    }
+
+    @Benchmark
+    public long search_recorded() {
+        long start = System.nanoTime();
+        long results = persons.stream().filter(predicate).count();
+        searchLog.record(new SearchRecord("Lambda", SearchRecord.Plan.SCAN, persons.size(), (int) results,
+                System.nanoTime() - start));
+        return results;
+    }
+
+    @Benchmark
+    public SearchLog record_only() {
+        searchLog.record(new SearchRecord("Lambda", SearchRecord.Plan.CACHED, 0, size / 10, 1_000));
+        return searchLog;
+    }
+}
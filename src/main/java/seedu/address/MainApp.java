@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -61,6 +62,7 @@ public class MainApp extends Application {
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
+        initSlowQueryThreshold(config);
 
         logic = new LogicManager(model, storage);
 
@@ -97,6 +99,20 @@ public class MainApp extends Application {
         LogsCenter.init(config);
     }
 
+    /**
+     * Sets how long a search must take for the model to write it to the slow query log, as specified in
+     * {@code config}. The default threshold is kept if the specified one is negative.
+     */
+    private void initSlowQueryThreshold(Config config) {
+        long thresholdMillis = config.getSlowQueryThresholdMillis();
+        if (thresholdMillis < 0) {
+            logger.warning("Slow query threshold " + thresholdMillis + " ms is negative."
+                    + " Using the default of " + Config.DEFAULT_SLOW_QUERY_THRESHOLD_MILLIS + " ms.");
+            thresholdMillis = Config.DEFAULT_SLOW_QUERY_THRESHOLD_MILLIS;
+        }
+        model.setSlowQueryThreshold(Duration.ofMillis(thresholdMillis));
+    }
+
     /**
      * Returns a {@code Config} using the file at {@code configFilePath}. <br>
      * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
@@ -21,8 +21,10 @@ public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "addressbook.log";
+    private static final String SLOW_QUERY_LOG_FILE = "slowqueries.log";
     private static final Logger logger; // logger for this class
     private static Logger baseLogger; // to be used as the parent of all other loggers created by this class.
+    private static Logger slowQueryLogger; // created when first needed, so that its file is only made if used
     private static Level currentLogLevel = Level.INFO;
 
     // This static block ensures essential loggers are created early
@@ -66,6 +68,30 @@ public class LogsCenter {
         return getLogger(clazz.getSimpleName());
     }
 
+    /**
+     * Returns the logger of slow searches. It writes only to its own {@code slowqueries.log} file, rotated like the
+     * main log file, so that the slow searches can be read apart from everything else that is logged.
+     * Its level is inherited from the {@code baseLogger} like that of any other logger.
+     */
+    public static synchronized Logger getSlowQueryLogger() {
+        if (slowQueryLogger != null) {
+            return slowQueryLogger;
+        }
+        slowQueryLogger = Logger.getLogger(baseLogger.getName() + ".SlowQueries");
+        removeHandlers(slowQueryLogger);
+        slowQueryLogger.setUseParentHandlers(false);
+        try {
+            FileHandler fileHandler = new FileHandler(SLOW_QUERY_LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT,
+                    true);
+            fileHandler.setFormatter(new SimpleFormatter());
+            fileHandler.setLevel(Level.ALL);
+            slowQueryLogger.addHandler(fileHandler);
+        } catch (IOException e) {
+            logger.warning("Error adding file handler for slow query logger.");
+        }
+        return slowQueryLogger;
+    }
+
     /**
      * Removes all handlers from the {@code logger}.
      */
@@ -0,0 +1,71 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A pool that shares one instance among equal immutable value objects.
+ *
+ * Values are looked up by the string they are created from, so only the first creation from a given
+ * string runs the (usually validating) factory. Values created from different strings that turn out
+ * to be equal, e.g. "singapore" and "Singapore", are also collapsed onto one instance.
+ *
+ * The pool holds its values for the lifetime of the application. It stops admitting new values once
+ * it has seen {@code capacity} distinct source strings, so free-text values cannot grow it without bound;
+ * values created past that point are simply not shared.
+ */
+public class Interner<T> {
+
+    /** Comfortably above the few hundred distinct values a field such as country or tag takes in practice. */
+    public static final int DEFAULT_CAPACITY = 10_000;
+
+    private final int capacity;
+    private final Map<String, T> valuesBySource = new ConcurrentHashMap<>();
+    private final Map<T, T> canonicalValues = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty pool that remembers at most {@link #DEFAULT_CAPACITY} source strings.
+     */
+    public Interner() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty pool that remembers at most {@code capacity} source strings.
+     */
+    public Interner(int capacity) {
+        checkArgument(capacity > 0, "Capacity must be positive");
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the pooled value created from {@code source}, creating it with {@code factory} if there is none.
+     * Any exception thrown by {@code factory} is propagated, and nothing is pooled for {@code source}.
+     */
+    public T intern(String source, Function<String, T> factory) {
+        requireAllNonNull(source, factory);
+        T pooled = valuesBySource.get(source);
+        if (pooled != null) {
+            return pooled;
+        }
+
+        T created = factory.apply(source);
+        if (valuesBySource.size() >= capacity) {
+            return created;
+        }
+        T canonical = canonicalValues.computeIfAbsent(created, unused -> created);
+        valuesBySource.putIfAbsent(source, canonical);
+        return canonical;
+    }
+
+    /**
+     * Returns the number of distinct values in the pool.
+     */
+    public int size() {
+        return canonicalValues.size();
+    }
+}
@@ -0,0 +1,223 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Helper functions for encoding words by how they sound, so that different spellings of a name match, such as
+ * the romanizations "Tchaikovsky" and "Chaikovsky", or "Nguyen" and "Nguyễn".
+ *
+ * The encoding follows the rules of the original Metaphone, applied to the letters A to Z that are left once
+ * diacritics are stripped: vowels are dropped except at the start of a word, where they all encode as
+ * {@code A}, silent letters are dropped, and letters that sound alike encode the same, e.g. {@code PH} and
+ * {@code F}, or {@code CH}, {@code SH} and {@code TIO}. As in Double Metaphone, a {@code Y} after the start of
+ * a word is taken as a vowel.
+ */
+public class PhoneticUtil {
+
+    /** Separates the words of a name that are encoded separately. */
+    private static final String WORD_SEPARATOR = "[\\s\\-/]+";
+
+    /**
+     * Returns the distinct, non-empty codes of the words of {@code text}, split at whitespace, dashes and
+     * slashes, in the order of the words. Words without a letter from A to Z have no code.
+     * @param text cannot be null
+     */
+    public static List<String> encodeWords(String text) {
+        requireNonNull(text);
+        Set<String> codes = new LinkedHashSet<>();
+        for (String word : text.split(WORD_SEPARATOR)) {
+            String code = encode(word);
+            if (!code.isEmpty()) {
+                codes.add(code);
+            }
+        }
+        return List.copyOf(codes);
+    }
+
+    /**
+     * Returns the phonetic code of {@code word}, or an empty string if it has no letter from A to Z once its
+     * diacritics are stripped.
+     *   <br>examples:<pre>
+     *       encode("Tchaikovsky") == "XKFSK"
+     *       encode("Chaikovsky") == "XKFSK"
+     *       encode("Nguyễn") == "NKN"
+     *       </pre>
+     * @param word cannot be null
+     */
+    public static String encode(String word) {
+        requireNonNull(word);
+        String letters = toLetters(word);
+        if (letters.startsWith("AE") || letters.startsWith("GN") || letters.startsWith("KN")
+                || letters.startsWith("PN") || letters.startsWith("WR")) {
+            letters = letters.substring(1);
+        } else if (letters.startsWith("WH")) {
+            letters = "W" + letters.substring(2);
+        } else if (letters.startsWith("X")) {
+            letters = "S" + letters.substring(1);
+        }
+
+        StringBuilder code = new StringBuilder();
+        for (int i = 0; i < letters.length(); i++) {
+            char letter = letters.charAt(i);
+            char previous = letterAt(letters, i - 1);
+            char next = letterAt(letters, i + 1);
+            char afterNext = letterAt(letters, i + 2);
+            if (letter == previous && letter != 'C') {
+                continue;
+            }
+            switch (letter) {
+            case 'A':
+            case 'E':
+            case 'I':
+            case 'O':
+            case 'U':
+                if (i == 0) {
+                    code.append('A');
+                }
+                break;
+            case 'B':
+                // silent in a final MB, as in "Plumb"
+                if (!(previous == 'M' && i == letters.length() - 1)) {
+                    code.append('B');
+                }
+                break;
+            case 'C':
+                if (next == 'H' && previous == 'S') {
+                    code.append('K');
+                } else if (next == 'H' || (next == 'I' && afterNext == 'A')) {
+                    code.append('X');
+                } else if (isFrontVowel(next)) {
+                    // silent in SCE, SCI and SCY
+                    if (previous != 'S') {
+                        code.append('S');
+                    }
+                } else {
+                    code.append('K');
+                }
+                break;
+            case 'D':
+                code.append(next == 'G' && isFrontVowel(afterNext) ? 'J' : 'T');
+                break;
+            case 'G':
+                if ((next == 'H' && !isVowel(afterNext))
+                        || (next == 'N' && (i + 2 == letters.length() || letters.startsWith("ED", i + 2)))
+                        || (previous == 'D' && isFrontVowel(next))) {
+                    break;
+                }
+                code.append(isFrontVowel(next) ? 'J' : 'K');
+                break;
+            case 'H':
+                if (isVowel(next) && "CGPST".indexOf(previous) < 0) {
+                    code.append('H');
+                }
+                break;
+            case 'K':
+                if (previous != 'C') {
+                    code.append('K');
+                }
+                break;
+            case 'P':
+                code.append(next == 'H' ? 'F' : 'P');
+                break;
+            case 'Q':
+                code.append('K');
+                break;
+            case 'S':
+                code.append(next == 'H' || (next == 'I' && (afterNext == 'O' || afterNext == 'A')) ? 'X' : 'S');
+                break;
+            case 'T':
+                if (next == 'I' && (afterNext == 'O' || afterNext == 'A')) {
+                    code.append('X');
+                } else if (next == 'H') {
+                    code.append('0');
+                } else if (!(next == 'C' && afterNext == 'H')) {
+                    code.append('T');
+                }
+                break;
+            case 'V':
+                code.append('F');
+                break;
+            case 'W':
+                if (isVowel(next)) {
+                    code.append('W');
+                }
+                break;
+            case 'Y':
+                // a vowel after the start of a word, so that "Meyer" sounds like "Meier" and "Nguyen" like "Ngun"
+                if (i == 0 && isVowel(next)) {
+                    code.append('Y');
+                }
+                break;
+            case 'X':
+                code.append("KS");
+                break;
+            case 'Z':
+                code.append('S');
+                break;
+            default:
+                code.append(letter);
+            }
+        }
+        return code.toString();
+    }
+
+    /**
+     * Returns the letters of {@code word} from A to Z in upper case, with diacritics stripped and the letters
+     * that do not decompose into a base letter and marks, such as "Đ" and "ß", spelt out in ASCII.
+     */
+    private static String toLetters(String word) {
+        String decomposed = Normalizer.normalize(word, Normalizer.Form.NFKD);
+        StringBuilder letters = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            switch (c) {
+            case 'Đ':
+            case 'đ':
+                letters.append('D');
+                break;
+            case 'Ø':
+            case 'ø':
+                letters.append('O');
+                break;
+            case 'Ł':
+            case 'ł':
+                letters.append('L');
+                break;
+            case 'ß':
+                letters.append("SS");
+                break;
+            case 'Æ':
+            case 'æ':
+                letters.append("AE");
+                break;
+            case 'Œ':
+            case 'œ':
+                letters.append("OE");
+                break;
+            default:
+                char upper = Character.toUpperCase(c);
+                if (upper >= 'A' && upper <= 'Z') {
+                    letters.append(upper);
+                }
+            }
+        }
+        return letters.toString();
+    }
+
+    private static char letterAt(String letters, int index) {
+        return index >= 0 && index < letters.length() ? letters.charAt(index) : '\0';
+    }
+
+    private static boolean isVowel(char letter) {
+        return letter == 'A' || letter == 'E' || letter == 'I' || letter == 'O' || letter == 'U';
+    }
+
+    private static boolean isFrontVowel(char letter) {
+        return letter == 'E' || letter == 'I' || letter == 'Y';
+    }
+}
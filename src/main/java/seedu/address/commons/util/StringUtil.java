@@ -5,13 +5,30 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.text.Collator;
+import java.text.Normalizer;
 import java.util.Arrays;
+import java.util.Locale;
+import java.util.regex.Pattern;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    /**
+     * Collator for sorting display text. Secondary strength ignores case but not accents.
+     * {@code RuleBasedCollator} synchronizes its own methods, so the instance can be shared.
+     */
+    private static final Collator SORT_COLLATOR = Collator.getInstance(Locale.ENGLISH);
+
+    /** Combining marks, such as accents, that NFKD decomposition splits from the letters they mark. */
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    static {
+        SORT_COLLATOR.setStrength(Collator.SECONDARY);
+    }
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -38,6 +55,88 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns a case-folded copy of {@code s} such that two strings fold to the same value
+     * exactly when they are equal under {@link String#equalsIgnoreCase(String)}.
+     * Useful as a hash key for values that compare case-insensitively.
+     * @param s cannot be null
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+
+        StringBuilder folded = new StringBuilder(s.length());
+        s.codePoints().forEach(cp -> folded.appendCodePoint(Character.toLowerCase(Character.toUpperCase(cp))));
+        return folded.toString();
+    }
+
+    /**
+     * Returns the key that {@code s} is searched by: {@code s} decomposed by NFKD, without its combining marks,
+     * and case-folded as by {@link #foldCase(String)}. "José", "JOSE" and "Jose" all have the key "jose", and
+     * compatibility forms such as full-width letters and ligatures have the key of their plain letters.
+     * Meant to be computed once per value, when the value is created, and once per keyword of a search.
+     * Returns {@code s} itself if it is its own key, so that the keys of plain text take no extra memory.
+     * @param s cannot be null
+     */
+    public static String toSearchKey(String s) {
+        requireNonNull(s);
+
+        String decomposed = Normalizer.normalize(s, Normalizer.Form.NFKD);
+        String key = foldCase(COMBINING_MARKS.matcher(decomposed).replaceAll(""));
+        return key.equals(s) ? s : key;
+    }
+
+    /**
+     * Returns a key that sorts {@code s} in locale-aware alphabetical order, ignoring case,
+     * when keys are compared with {@link Arrays#compareUnsigned(byte[], byte[])}.
+     * Comparing two keys is a plain byte comparison, so the key is meant to be computed once
+     * per value and reused across every comparison in a sort.
+     * @param s cannot be null
+     */
+    public static byte[] toSortKey(String s) {
+        requireNonNull(s);
+        return SORT_COLLATOR.getCollationKey(s).toByteArray();
+    }
+
+    /**
+     * Returns the Levenshtein edit distance between {@code first} and {@code second}, that is the fewest
+     * single-character insertions, deletions and substitutions that turn one into the other,
+     * or {@code maxDistance + 1} if it is more than {@code maxDistance}.
+     * Bounding the distance lets the computation stop as soon as no match within the bound is possible.
+     * @param first cannot be null
+     * @param second cannot be null
+     * @param maxDistance cannot be negative
+     */
+    public static int editDistance(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            int rowMinimum = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[second.length()], maxDistance + 1);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -33,6 +34,13 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns {@code commandText} with the name word being typed at its end completed, one for each matching word
+     * in the address book, or an empty list if no name is being typed there.
+     * Names are completed in the keywords of {@code find} and in the {@code name:} field of {@code edit}.
+     */
+    List<String> getNameCompletions(String commandText);
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -1,17 +1,28 @@
 package seedu.address.logic;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.QueryCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -27,6 +38,11 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT = "Could not save data to file %s due to"
             + "insufficient permissions to write to the file or the folder.";
 
+    /** The most name completions offered at a time. */
+    public static final int MAX_NAME_COMPLETIONS = 8;
+
+    private static final Pattern FIELD_PREFIX = Pattern.compile("[a-z]+:");
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
@@ -41,6 +57,23 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        restoreSmartGroups();
+    }
+
+    /**
+     * Saves in the model the smart groups defined in its user prefs, so that their members are found once, at
+     * startup. A definition that is no longer a valid query, e.g. after the prefs file was edited by hand, is
+     * skipped with a warning.
+     */
+    private void restoreSmartGroups() {
+        Map<String, String> definitions = new LinkedHashMap<>(model.getUserPrefs().getSmartGroups());
+        for (Map.Entry<String, String> definition : definitions.entrySet()) {
+            try {
+                model.setSmartGroup(definition.getKey(), QueryCommandParser.parseQuery(definition.getValue()));
+            } catch (ParseException | IllegalArgumentException e) {
+                logger.warning("Skipping smart group " + definition.getKey() + ": " + e.getMessage());
+            }
+        }
     }
 
     @Override
@@ -72,6 +105,45 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public List<String> getNameCompletions(String commandText) {
+        return nameWordBeingTyped(commandText)
+                .map(word -> model.getNameCompletions(word, MAX_NAME_COMPLETIONS).stream()
+                        .map(completion -> commandText.substring(0, commandText.length() - word.length())
+                                + completion)
+                        .collect(Collectors.toList()))
+                .orElse(List.of());
+    }
+
+    /**
+     * Returns the partly typed name word at the end of {@code commandText}, if the command takes a name there.
+     */
+    private static Optional<String> nameWordBeingTyped(String commandText) {
+        String[] words = commandText.stripLeading().split("\\s+", -1);
+        String lastWord = words[words.length - 1];
+        if (words.length < 2 || lastWord.isEmpty()) {
+            return Optional.empty();
+        }
+
+        if (words[0].equals(FindCommand.COMMAND_WORD)) {
+            return Optional.of(lastWord);
+        }
+        if (!words[0].equals(EditCommand.COMMAND_WORD)) {
+            return Optional.empty();
+        }
+        for (int i = words.length - 1; i > 0; i--) {
+            if (words[i].startsWith(PREFIX_NAME.getPrefix())) {
+                String nameWord = i == words.length - 1 ? lastWord.substring(PREFIX_NAME.getPrefix().length())
+                        : lastWord;
+                return nameWord.isEmpty() ? Optional.empty() : Optional.of(nameWord);
+            }
+            if (FIELD_PREFIX.matcher(words[i]).lookingAt()) {
+                return Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
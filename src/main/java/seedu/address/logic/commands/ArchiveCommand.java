@@ -53,6 +53,7 @@ public class ArchiveCommand extends Command {
             throw new CommandException(String.format(MESSAGE_ALREADY_ARCHIVED, personToArchive.getName()));
         } else {
             Person archivedPerson = new Person(
+                    personToArchive.getId(),
                     personToArchive.getName(),
                     personToArchive.getPhone(),
                     personToArchive.getEmail(),
@@ -61,6 +62,7 @@ public class ArchiveCommand extends Command {
                     personToArchive.getOrganisation(),
                     personToArchive.getEvent(),
                     personToArchive.getNote(),
+                    personToArchive.getPreferredChannel(),
                     personToArchive.getTags(),
                     personToArchive.getOffset(),
                     personToArchive.getPreferredLanguage(),
@@ -2,22 +2,64 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.person.Person;
 
 /**
- * Clears the address book.
+ * Clears the address book, or only its archived contacts.
  */
 public class ClearCommand extends Command {
 
     public static final String COMMAND_WORD = "clear";
+    public static final String ARCHIVED_KEYWORD = "archived";
     public static final String MESSAGE_SUCCESS = "Address book has been cleared!";
+    public static final String MESSAGE_ARCHIVED_SUCCESS = "Deleted %1$d archived contacts";
+
+    private final boolean isArchivedOnly;
+
+    public ClearCommand() {
+        this(false);
+    }
 
+    /**
+     * Creates a ClearCommand that deletes only the archived contacts if {@code isArchivedOnly}, and every
+     * contact otherwise.
+     */
+    public ClearCommand(boolean isArchivedOnly) {
+        this.isArchivedOnly = isArchivedOnly;
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.setAddressBook(new AddressBook());
-        return new CommandResult(MESSAGE_SUCCESS);
+        if (!isArchivedOnly) {
+            model.setAddressBook(new AddressBook());
+            return new CommandResult(MESSAGE_SUCCESS);
+        }
+
+        List<Person> archived = model.getAddressBook().getPersonList().stream()
+                .filter(Person::getArchivalStatus).collect(Collectors.toList());
+        // one batch, so that the lists shown update once rather than once per deleted contact
+        model.applyBatch(batch -> archived.forEach(batch::deletePerson));
+        return new CommandResult(String.format(MESSAGE_ARCHIVED_SUCCESS, archived.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof ClearCommand
+                        && isArchivedOnly == ((ClearCommand) other).isArchivedOnly);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("isArchivedOnly", isArchivedOnly)
+                .toString();
     }
 }
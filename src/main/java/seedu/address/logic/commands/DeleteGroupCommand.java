@@ -0,0 +1,64 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.group.SmartGroup;
+
+/**
+ * Deletes a smart group. The contacts in it are not changed.
+ */
+public class DeleteGroupCommand extends Command {
+
+    public static final String COMMAND_WORD = "deletegroup";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Deletes the specified smart group. "
+            + "The persons in it are kept.\n"
+            + "Parameters: GROUP_NAME\n"
+            + "Example: " + COMMAND_WORD + " japan-friends";
+
+    public static final String MESSAGE_SUCCESS = "Deleted group %1$s";
+
+    private final String name;
+
+    /**
+     * Creates a DeleteGroupCommand that deletes the group named {@code name}.
+     */
+    public DeleteGroupCommand(String name) {
+        requireNonNull(name);
+        this.name = name;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        SmartGroup group = model.getSmartGroup(name).orElseThrow(() ->
+                new CommandException(String.format(GroupCommand.MESSAGE_NO_SUCH_GROUP, name)));
+        model.deleteSmartGroup(group);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DeleteGroupCommand)) {
+            return false;
+        }
+
+        DeleteGroupCommand otherDeleteGroupCommand = (DeleteGroupCommand) other;
+        return name.equals(otherDeleteGroupCommand.name);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .toString();
+    }
+}
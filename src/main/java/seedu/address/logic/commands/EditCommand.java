@@ -114,9 +114,9 @@ public class EditCommand extends Command {
         boolean isArchived = personToEdit.getArchivalStatus();
         AddedOn updatedAddedOn = personToEdit.getAddedOn();
 
-        return new Person(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedCountry, updatedOrganisation,
-            updatedEvent, updatedNote, updatedChannel, updatedTags, updatedOffset, updatedLang, updatedAddedOn,
-            isArchived);
+        return new Person(personToEdit.getId(), updatedName, updatedPhone, updatedEmail, updatedAddress,
+            updatedCountry, updatedOrganisation, updatedEvent, updatedNote, updatedChannel, updatedTags, updatedOffset,
+            updatedLang, updatedAddedOn, isArchived);
     }
 
     @Override
@@ -0,0 +1,75 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.PhonePrefixPredicate;
+
+/**
+ * Finds and lists all persons in address book whose phone number, in international form, starts with the
+ * country calling code or prefix specified in the argument.
+ */
+public class FindCodeCommand extends Command {
+
+    /** The command word used to execute this command in the CLI. */
+    public static final String COMMAND_WORD = "findcode";
+
+    /**
+     * Usage message for the {@code findcode} command.
+     * Shows correct format and example for user reference.
+     */
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose phone number starts with "
+            + "the specified country calling code or prefix and displays them as a list with index numbers.\n"
+            + "Parameters: [+]CODE \n"
+            + "Example: " + COMMAND_WORD + " +65";
+
+    private final PhonePrefixPredicate predicate;
+
+    /**
+     * Creates a {@code FindCodeCommand} with the specified {@code PhonePrefixPredicate}.
+     *
+     * @param predicate the condition used to filter persons by phone prefix.
+     */
+    public FindCodeCommand(PhonePrefixPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    /**
+     * Executes the {@code FindCodeCommand} and filters the list of persons in the model
+     * to only those whose phone number matches the given predicate.
+     *
+     * @param model the model containing the person list and other app data.
+     * @return a {@code CommandResult} containing the result message and updated list.
+     */
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(predicate);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindCodeCommand)) {
+            return false;
+        }
+
+        FindCodeCommand otherFindCodeCommand = (FindCodeCommand) other;
+        return predicate.equals(otherFindCodeCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
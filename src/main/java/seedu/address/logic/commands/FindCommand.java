@@ -2,31 +2,47 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.function.Predicate;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PhoneticMatchPredicate;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the
- * argument keywords.
+ * argument keywords, or sounds like any of them.
  * Keyword matching is case insensitive.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final String SOUNDS_LIKE_WORD = "sounds";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Start with " + SOUNDS_LIKE_WORD + " to find the names that sound like a keyword instead, "
+            + "however they are spelt or accented.\n"
+            + "Parameters: [" + SOUNDS_LIKE_WORD + "] KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " " + SOUNDS_LIKE_WORD + " chaikovsky";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final Predicate<Person> predicate;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
         this.predicate = predicate;
     }
 
+    /**
+     * Creates a FindCommand that finds the persons whose names sound like the keywords of {@code predicate}.
+     */
+    public FindCommand(PhoneticMatchPredicate predicate) {
+        this.predicate = predicate;
+    }
+
     /**
      * Executes the find command and returns the result message.
      * Updates the filtered person list in the model to show only persons
@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.EmailDomainPredicate;
+
+/**
+ * Finds and lists all persons in address book with an email in the domain specified in the argument or in one
+ * of its subdomains. Domain matching is case-insensitive.
+ */
+public class FindDomainCommand extends Command {
+
+    /** The command word used to execute this command in the CLI. */
+    public static final String COMMAND_WORD = "finddomain";
+
+    /**
+     * Usage message for the {@code finddomain} command.
+     * Shows correct format and example for user reference.
+     */
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons with an email in "
+            + "the specified domain or one of its subdomains (case-insensitive) "
+            + "and displays them as a list with index numbers.\n"
+            + "Parameters: DOMAIN \n"
+            + "Example: " + COMMAND_WORD + " nus.edu.sg";
+
+    private final EmailDomainPredicate predicate;
+
+    /**
+     * Creates a {@code FindDomainCommand} with the specified {@code EmailDomainPredicate}.
+     *
+     * @param predicate the condition used to filter persons by email domain.
+     */
+    public FindDomainCommand(EmailDomainPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    /**
+     * Executes the {@code FindDomainCommand} and filters the list of persons in the model
+     * to only those whose email domain matches the given predicate.
+     *
+     * @param model the model containing the person list and other app data.
+     * @return a {@code CommandResult} containing the result message and updated list.
+     */
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(predicate);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindDomainCommand)) {
+            return false;
+        }
+
+        FindDomainCommand otherFindDomainCommand = (FindDomainCommand) other;
+        return predicate.equals(otherFindDomainCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.PhoneDigitsPredicate;
+
+/**
+ * Finds and lists all persons in address book whose phone number contains the digits specified in the argument,
+ * anywhere in the number and ignoring separators, e.g. to find who an unknown number belongs to.
+ */
+public class FindPhoneCommand extends Command {
+
+    /** The command word used to execute this command in the CLI. */
+    public static final String COMMAND_WORD = "findphone";
+
+    /**
+     * Usage message for the {@code findphone} command.
+     * Shows correct format and example for user reference.
+     */
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose phone number contains "
+            + "the specified digits, at least " + PhoneDigitsPredicate.MIN_DIGITS + " of them, anywhere in the number "
+            + "and displays them as a list with index numbers.\n"
+            + "Parameters: DIGITS \n"
+            + "Example: " + COMMAND_WORD + " 8765";
+
+    private final PhoneDigitsPredicate predicate;
+
+    /**
+     * Creates a {@code FindPhoneCommand} with the specified {@code PhoneDigitsPredicate}.
+     *
+     * @param predicate the condition used to filter persons by digits of a phone number.
+     */
+    public FindPhoneCommand(PhoneDigitsPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    /**
+     * Executes the {@code FindPhoneCommand} and filters the list of persons in the model
+     * to only those whose phone number matches the given predicate.
+     *
+     * @param model the model containing the person list and other app data.
+     * @return a {@code CommandResult} containing the result message and updated list.
+     */
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(predicate);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindPhoneCommand)) {
+            return false;
+        }
+
+        FindPhoneCommand otherFindPhoneCommand = (FindPhoneCommand) other;
+        return predicate.equals(otherFindPhoneCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.FuzzyMatchPredicate;
+
+/**
+ * Finds and lists all persons whose name, organisation or email contains a word within a few typos of any of
+ * the argument keywords, closest matches first.
+ * Keyword matching is case insensitive.
+ */
+public class FuzzyFindCommand extends Command {
+
+    public static final String COMMAND_WORD = "fuzzyfind";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names, organisations or "
+            + "emails contain a word close to any of the specified keywords (case-insensitive), allowing a few "
+            + "typos, and displays them as a list with index numbers, closest matches first.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " mohammed";
+
+    private final FuzzyMatchPredicate predicate;
+
+    public FuzzyFindCommand(FuzzyMatchPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(predicate, model.getFuzzyRanking(predicate.getKeywords()));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FuzzyFindCommand)) {
+            return false;
+        }
+
+        FuzzyFindCommand otherFuzzyFindCommand = (FuzzyFindCommand) other;
+        return predicate.equals(otherFuzzyFindCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
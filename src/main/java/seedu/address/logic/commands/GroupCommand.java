@@ -0,0 +1,88 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.group.SmartGroup;
+
+/**
+ * Shows the members of a smart group, or lists the smart groups with how many members each has.
+ */
+public class GroupCommand extends Command {
+
+    public static final String COMMAND_WORD = "group";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the persons in the specified smart group, "
+            + "or lists all smart groups if no group is specified.\n"
+            + "Parameters: [GROUP_NAME]\n"
+            + "Example: " + COMMAND_WORD + " japan-friends";
+
+    public static final String MESSAGE_NO_SUCH_GROUP = "There is no group named %1$s";
+    public static final String MESSAGE_NO_GROUPS =
+            "No groups saved yet. Save one with " + SaveGroupCommand.COMMAND_WORD;
+    public static final String MESSAGE_GROUPS_LISTED = "%1$d groups:\n%2$s";
+    public static final String MESSAGE_GROUP_ENTRY = "%1$s (%2$d persons): %3$s";
+
+    private final Optional<String> name;
+
+    /**
+     * Creates a GroupCommand that shows the group named {@code name}, or lists all groups if it is empty.
+     */
+    public GroupCommand(Optional<String> name) {
+        requireNonNull(name);
+        this.name = name;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (name.isEmpty()) {
+            return listGroups(model.getSmartGroups());
+        }
+
+        SmartGroup group = model.getSmartGroup(name.get()).orElseThrow(() ->
+                new CommandException(String.format(MESSAGE_NO_SUCH_GROUP, name.get())));
+        model.updateFilteredPersonList(group);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    private static CommandResult listGroups(List<SmartGroup> groups) {
+        if (groups.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_GROUPS);
+        }
+        String entries = groups.stream()
+                .map(group -> String.format(MESSAGE_GROUP_ENTRY, group.getName(), group.size(), group.getDefinition()))
+                .collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_GROUPS_LISTED, groups.size(), entries));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof GroupCommand)) {
+            return false;
+        }
+
+        GroupCommand otherGroupCommand = (GroupCommand) other;
+        return name.equals(otherGroupCommand.name);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .toString();
+    }
+}
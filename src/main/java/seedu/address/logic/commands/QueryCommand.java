@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.search.Query;
+
+/**
+ * Finds and lists all persons in address book matched by a query that combines clauses on several fields,
+ * or explains how the query would be answered.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+
+    public static final String EXPLAIN_WORD = "explain";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons matching all of the "
+            + "specified clauses and displays them as a list with index numbers.\n"
+            + "Clauses: name:WORD tag:TAG country:COUNTRY org:ORGANISATION lang:LANGUAGE archived. "
+            + "Put - before a clause to exclude its matches, OR between clauses to match either side, "
+            + "parentheses around clauses to group them and quotes around values with spaces. "
+            + "Start with " + EXPLAIN_WORD + " to show how the query would be answered instead.\n"
+            + "Parameters: [" + EXPLAIN_WORD + "] CLAUSE [MORE_CLAUSES]...\n"
+            + "Example: " + COMMAND_WORD + " country:Japan tag:friends lang:japanese -archived";
+
+    public static final String MESSAGE_PLAN = "Plan for %1$s (~ estimated persons):\n%2$s";
+
+    private final Query query;
+    private final boolean isExplain;
+
+    /**
+     * Creates a QueryCommand that lists the persons matched by {@code query}, or only explains how it would
+     * find them if {@code isExplain} is true.
+     */
+    public QueryCommand(Query query, boolean isExplain) {
+        requireNonNull(query);
+        this.query = query;
+        this.isExplain = isExplain;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (isExplain) {
+            return new CommandResult(String.format(MESSAGE_PLAN, query, model.planQuery(query).explain()));
+        }
+        model.updateFilteredPersonList(query);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryCommand)) {
+            return false;
+        }
+
+        QueryCommand otherQueryCommand = (QueryCommand) other;
+        return query.equals(otherQueryCommand.query) && isExplain == otherQueryCommand.isExplain;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .add("isExplain", isExplain)
+                .toString();
+    }
+}
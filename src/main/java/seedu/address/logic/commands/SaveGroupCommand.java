@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.group.SmartGroup;
+import seedu.address.model.search.Query;
+
+/**
+ * Saves a query as a smart group, whose members are kept up to date as contacts change.
+ */
+public class SaveGroupCommand extends Command {
+
+    public static final String COMMAND_WORD = "savegroup";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Saves the specified query as a smart group, "
+            + "which can then be shown with " + GroupCommand.COMMAND_WORD + " GROUP_NAME. "
+            + "A group with the same name is replaced. The query is written as for " + QueryCommand.COMMAND_WORD
+            + ".\n"
+            + "Parameters: GROUP_NAME CLAUSE [MORE_CLAUSES]...\n"
+            + "Example: " + COMMAND_WORD + " japan-friends country:Japan tag:friends -archived";
+
+    public static final String MESSAGE_SUCCESS = "Saved group %1$s with %2$d persons: %3$s";
+
+    private final String name;
+    private final Query definition;
+
+    /**
+     * Creates a SaveGroupCommand that saves {@code definition} as the group named {@code name}.
+     */
+    public SaveGroupCommand(String name, Query definition) {
+        requireAllNonNull(name, definition);
+        this.name = name;
+        this.definition = definition;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        SmartGroup group = model.setSmartGroup(name, definition);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name, group.size(), definition));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SaveGroupCommand)) {
+            return false;
+        }
+
+        SaveGroupCommand otherSaveGroupCommand = (SaveGroupCommand) other;
+        return name.equals(otherSaveGroupCommand.name) && definition.equals(otherSaveGroupCommand.definition);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .add("definition", definition)
+                .toString();
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.FullTextMatchPredicate;
+import seedu.address.model.person.MatchedPersonsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Finds and lists the persons whose note, address or event best match the argument terms, best matches
+ * first, up to a limit of {@link #DEFAULT_LIMIT} unless another is given.
+ * Term matching is case insensitive.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    /** How many of the best matches are shown, so that a common word does not list most of the contacts. */
+    public static final int DEFAULT_LIMIT = 50;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose notes, addresses or "
+            + "events contain any of the specified words (case-insensitive) and displays the best "
+            + DEFAULT_LIMIT + " of them as a list with index numbers, best matches first.\n"
+            + "Parameters: WORD [MORE_WORDS]...\n"
+            + "Example: " + COMMAND_WORD + " vegetarian clementi";
+
+    private final FullTextMatchPredicate predicate;
+    private final int limit;
+
+    public SearchCommand(FullTextMatchPredicate predicate) {
+        this(predicate, DEFAULT_LIMIT);
+    }
+
+    /**
+     * Creates a SearchCommand that shows up to {@code limit} of the persons matching {@code predicate}.
+     */
+    public SearchCommand(FullTextMatchPredicate predicate, int limit) {
+        checkArgument(limit > 0, "Limit should be positive");
+        this.predicate = predicate;
+        this.limit = limit;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        // only the best matches are kept while scoring, so the matches are never all sorted
+        List<Person> bestMatches = model.searchText(predicate.getTerms(), limit);
+        model.updateFilteredPersonList(new MatchedPersonsPredicate(bestMatches),
+                model.getTextRanking(predicate.getTerms()));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchCommand)) {
+            return false;
+        }
+
+        SearchCommand otherSearchCommand = (SearchCommand) other;
+        return predicate.equals(otherSearchCommand.predicate) && limit == otherSearchCommand.limit;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .add("limit", limit)
+                .toString();
+    }
+}
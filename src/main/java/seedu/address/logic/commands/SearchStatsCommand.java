@@ -0,0 +1,57 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.statistics.ReadOnlySearchLog;
+import seedu.address.model.statistics.SearchLog;
+import seedu.address.model.statistics.SearchRecord;
+
+/**
+ * Shows how long the searches of the contact list have taken since the app started, for each kind of search,
+ * and the most recent slow searches.
+ */
+public class SearchStatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "searchstats";
+
+    public static final String MESSAGE_SUCCESS = "Searches: %1$d (%2$d slow, taking at least %3$d ms)\n"
+            + "By kind:\n%4$s\n"
+            + "Recent slow searches:\n%5$s";
+    public static final String MESSAGE_SUMMARY =
+            "%1$s: %2$d searches, mean %3$.1f ms, max %4$.1f ms, mean %5$.0f candidates, mean %6$.1f results";
+
+    public static final String MESSAGE_NO_VALUES = "-";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        ReadOnlySearchLog searchLog = model.getSearchLog();
+        return new CommandResult(String.format(Locale.ROOT, MESSAGE_SUCCESS,
+                searchLog.getSearchCount(), searchLog.getSlowSearchCount(), searchLog.getSlowThreshold().toMillis(),
+                formatSummaries(searchLog.getSummaries()),
+                formatRecords(searchLog.getRecentSlowSearches())));
+    }
+
+    private static String formatSummaries(List<SearchLog.Summary> summaries) {
+        if (summaries.isEmpty()) {
+            return MESSAGE_NO_VALUES;
+        }
+        return summaries.stream()
+                .map(summary -> String.format(Locale.ROOT, MESSAGE_SUMMARY, summary.getPredicateType(),
+                        summary.getCount(), summary.getMeanMillis(), summary.getMaxMillis(),
+                        summary.getMeanCandidates(), summary.getMeanResults()))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String formatRecords(List<SearchRecord> records) {
+        if (records.isEmpty()) {
+            return MESSAGE_NO_VALUES;
+        }
+        return records.stream().map(SearchRecord::toString).collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.statistics.ReadOnlyPersonStatistics;
+
+/**
+ * Shows how many persons there are per country, tag, organisation, preferred language and archival status.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_SUCCESS = "Contacts: %1$d (%2$d archived)\n"
+            + "By country: %3$s\n"
+            + "By tag: %4$s\n"
+            + "By organisation: %5$s\n"
+            + "By language: %6$s";
+
+    public static final String MESSAGE_NO_VALUES = "-";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        ReadOnlyPersonStatistics statistics = model.getPersonStatistics();
+        return new CommandResult(String.format(MESSAGE_SUCCESS,
+                statistics.getPersonCount(), statistics.getArchivedCount(),
+                formatCounts(statistics.getCountryCounts()),
+                formatCounts(statistics.getTagCounts()),
+                formatCounts(statistics.getOrganisationCounts()),
+                formatCounts(statistics.getLanguageCounts())));
+    }
+
+    /**
+     * Lists the values in {@code counts} as "value (count)", most frequent first, and alphabetically among equals.
+     */
+    static <K> String formatCounts(Map<K, Integer> counts) {
+        if (counts.isEmpty()) {
+            return MESSAGE_NO_VALUES;
+        }
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<K, Integer>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(entry -> entry.getKey().toString()))
+                .map(entry -> entry.getKey() + " (" + entry.getValue() + ")")
+                .collect(Collectors.joining(", "));
+    }
+}
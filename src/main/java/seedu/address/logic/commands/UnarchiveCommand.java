@@ -54,6 +54,7 @@ public class UnarchiveCommand extends Command {
             throw new CommandException(String.format(MESSAGE_ALREADY_UNARCHIVED, personToUnarchive.getName()));
         } else {
             Person archivedPerson = new Person(
+                    personToUnarchive.getId(),
                     personToUnarchive.getName(),
                     personToUnarchive.getPhone(),
                     personToUnarchive.getEmail(),
@@ -62,6 +63,7 @@ public class UnarchiveCommand extends Command {
                     personToUnarchive.getOrganisation(),
                     personToUnarchive.getEvent(),
                     personToUnarchive.getNote(),
+                    personToUnarchive.getPreferredChannel(),
                     personToUnarchive.getTags(),
                     personToUnarchive.getOffset(),
                     personToUnarchive.getPreferredLanguage(),
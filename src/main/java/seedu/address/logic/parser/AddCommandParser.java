@@ -90,7 +90,7 @@ public class AddCommandParser implements Parser<AddCommand> {
         if (argMultimap.getValue(PREFIX_LANGUAGE).isPresent()) {
             String languageInput = argMultimap.getValue(PREFIX_LANGUAGE).get();
             try {
-                preferredLanguage = new PreferredLanguage(languageInput);
+                preferredLanguage = PreferredLanguage.of(languageInput);
             } catch (IllegalArgumentException e) {
                 throw new ParseException("Invalid language: " + e.getMessage());
             }
@@ -14,17 +14,28 @@ import seedu.address.logic.commands.ArchiveListCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DeleteGroupCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindCodeCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindCountryCommand;
+import seedu.address.logic.commands.FindDomainCommand;
 import seedu.address.logic.commands.FindOrganisationCommand;
+import seedu.address.logic.commands.FindPhoneCommand;
 import seedu.address.logic.commands.FindTagCommand;
+import seedu.address.logic.commands.FuzzyFindCommand;
+import seedu.address.logic.commands.GroupCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.commands.SaveGroupCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.SearchStatsCommand;
 import seedu.address.logic.commands.SortCountryCommand;
 import seedu.address.logic.commands.SortDateCommand;
 import seedu.address.logic.commands.SortNameCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UnarchiveCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -65,20 +76,31 @@ public class AddressBookParser {
         case AddCommand.COMMAND_WORD -> new AddCommandParser().parse(arguments);
         case EditCommand.COMMAND_WORD -> new EditCommandParser().parse(arguments);
         case DeleteCommand.COMMAND_WORD -> new DeleteCommandParser().parse(arguments);
-        case ClearCommand.COMMAND_WORD -> new ClearCommand();
+        case ClearCommand.COMMAND_WORD -> new ClearCommandParser().parse(arguments);
         case FindCommand.COMMAND_WORD -> new FindCommandParser().parse(arguments);
+        case FuzzyFindCommand.COMMAND_WORD -> new FuzzyFindCommandParser().parse(arguments);
+        case SearchCommand.COMMAND_WORD -> new SearchCommandParser().parse(arguments);
+        case QueryCommand.COMMAND_WORD -> new QueryCommandParser().parse(arguments);
+        case SaveGroupCommand.COMMAND_WORD -> new SaveGroupCommandParser().parse(arguments);
+        case GroupCommand.COMMAND_WORD -> new GroupCommandParser().parse(arguments);
+        case DeleteGroupCommand.COMMAND_WORD -> new DeleteGroupCommandParser().parse(arguments);
         case ListCommand.COMMAND_WORD -> new ListCommand();
         case ExitCommand.COMMAND_WORD -> new ExitCommand();
         case HelpCommand.COMMAND_WORD -> new HelpCommand();
         case FindTagCommand.COMMAND_WORD -> new FindTagCommandParser().parse(arguments);
         case FindCountryCommand.COMMAND_WORD -> new FindCountryCommandParser().parse(arguments);
         case FindOrganisationCommand.COMMAND_WORD -> new FindOrganisationCommandParser().parse(arguments);
+        case FindDomainCommand.COMMAND_WORD -> new FindDomainCommandParser().parse(arguments);
+        case FindCodeCommand.COMMAND_WORD -> new FindCodeCommandParser().parse(arguments);
+        case FindPhoneCommand.COMMAND_WORD -> new FindPhoneCommandParser().parse(arguments);
         case ArchiveListCommand.COMMAND_WORD -> new ArchiveListCommand();
         case ArchiveCommand.COMMAND_WORD -> new ArchiveCommandParser().parse(arguments);
         case UnarchiveCommand.COMMAND_WORD -> new UnarchiveCommandParser().parse(arguments);
         case SortCountryCommand.COMMAND_WORD -> new SortCountryCommand();
         case SortNameCommand.COMMAND_WORD -> new SortNameCommand();
         case SortDateCommand.COMMAND_WORD -> new SortDateCommand();
+        case StatsCommand.COMMAND_WORD -> new StatsCommand();
+        case SearchStatsCommand.COMMAND_WORD -> new SearchStatsCommand();
 
         default -> {
             logger.finer("This user input caused a ParseException: " + userInput);
@@ -0,0 +1,22 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.ClearCommand;
+
+/**
+ * Parses input arguments and creates a new {@link ClearCommand} object.
+ *
+ * Usage (example):
+ *   clear archived
+ * Deletes only the archived contacts. Any other argument is ignored, and every contact is deleted.
+ *
+ */
+public class ClearCommandParser implements Parser<ClearCommand> {
+
+    @Override
+    public ClearCommand parse(String args) {
+        requireNonNull(args);
+        return new ClearCommand(args.trim().equals(ClearCommand.ARCHIVED_KEYWORD));
+    }
+}
@@ -0,0 +1,26 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.DeleteGroupCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@link DeleteGroupCommand} object.
+ *
+ * Usage (example):
+ *   deletegroup japan-friends
+ *
+ */
+public class DeleteGroupCommandParser implements Parser<DeleteGroupCommand> {
+
+    @Override
+    public DeleteGroupCommand parse(String args) throws ParseException {
+        String name = args.trim();
+        if (name.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteGroupCommand.MESSAGE_USAGE));
+        }
+        return new DeleteGroupCommand(ParserUtil.parseGroupName(name));
+    }
+}
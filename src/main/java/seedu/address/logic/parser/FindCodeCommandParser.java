@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.FindCodeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.PhonePrefixPredicate;
+
+/**
+ * Parses input arguments and creates a new {@link FindCodeCommand} object.
+ *
+ * Usage (example):
+ *   findcode +65
+ * Finds contacts whose phone number starts with the country calling code. The '+' may be left out.
+ *
+ */
+public class FindCodeCommandParser implements Parser<FindCodeCommand> {
+
+    @Override
+    public FindCodeCommand parse(String args) throws ParseException {
+        String codeInput = args.trim();
+        if (!PhonePrefixPredicate.isValidPrefix(codeInput)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCodeCommand.MESSAGE_USAGE));
+        }
+        return new FindCodeCommand(new PhonePrefixPredicate(codeInput));
+    }
+}
@@ -3,10 +3,12 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Arrays;
+import java.util.List;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PhoneticMatchPredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -27,6 +29,11 @@ public class FindCommandParser implements Parser<FindCommand> {
 
         String[] nameKeywords = trimmedArgs.split("\\s+");
 
+        // a lone "sounds" is a name to find, not the start of a search by sound
+        if (nameKeywords.length > 1 && nameKeywords[0].equalsIgnoreCase(FindCommand.SOUNDS_LIKE_WORD)) {
+            List<String> soundKeywords = Arrays.asList(nameKeywords).subList(1, nameKeywords.length);
+            return new FindCommand(new PhoneticMatchPredicate(soundKeywords));
+        }
         return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
     }
 
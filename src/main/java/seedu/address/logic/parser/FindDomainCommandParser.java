@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.FindDomainCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.EmailDomainPredicate;
+
+/**
+ * Parses input arguments and creates a new {@link FindDomainCommand} object.
+ *
+ * Usage (example):
+ *   finddomain nus.edu.sg
+ * Finds contacts with an email in the domain or its subdomains. A leading '@' is ignored.
+ *
+ */
+public class FindDomainCommandParser implements Parser<FindDomainCommand> {
+
+    @Override
+    public FindDomainCommand parse(String args) throws ParseException {
+        String domainInput = args.trim();
+        if (domainInput.startsWith("@")) {
+            domainInput = domainInput.substring(1);
+        }
+        if (!Email.isValidDomain(domainInput)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindDomainCommand.MESSAGE_USAGE));
+        }
+        return new FindDomainCommand(new EmailDomainPredicate(domainInput));
+    }
+}
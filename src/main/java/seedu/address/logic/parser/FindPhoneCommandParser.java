@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.FindPhoneCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.PhoneDigitsPredicate;
+
+/**
+ * Parses input arguments and creates a new {@link FindPhoneCommand} object.
+ *
+ * Usage (example):
+ *   findphone 9876 54
+ * Finds contacts whose phone number contains the digits. Separators allowed in phone numbers are ignored.
+ *
+ */
+public class FindPhoneCommandParser implements Parser<FindPhoneCommand> {
+
+    @Override
+    public FindPhoneCommand parse(String args) throws ParseException {
+        String phoneInput = args.trim();
+        String digits = phoneInput.replaceAll("\\D", "");
+        if (!phoneInput.matches(Phone.VALIDATION_REGEX) || !PhoneDigitsPredicate.isValidDigits(digits)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPhoneCommand.MESSAGE_USAGE));
+        }
+        return new FindPhoneCommand(new PhoneDigitsPredicate(digits));
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+
+import seedu.address.logic.commands.FuzzyFindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.FuzzyMatchPredicate;
+
+/**
+ * Parses input arguments and creates a new FuzzyFindCommand object
+ */
+public class FuzzyFindCommandParser implements Parser<FuzzyFindCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FuzzyFindCommand
+     * and returns a FuzzyFindCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FuzzyFindCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FuzzyFindCommand.MESSAGE_USAGE));
+        }
+
+        String[] keywords = trimmedArgs.split("\\s+");
+
+        return new FuzzyFindCommand(new FuzzyMatchPredicate(Arrays.asList(keywords)));
+    }
+
+}
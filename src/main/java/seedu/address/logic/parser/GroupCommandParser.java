@@ -0,0 +1,26 @@
+package seedu.address.logic.parser;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.GroupCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@link GroupCommand} object.
+ *
+ * Usage (example):
+ *   group japan-friends
+ * Shows the group, or lists all groups if no name is given.
+ *
+ */
+public class GroupCommandParser implements Parser<GroupCommand> {
+
+    @Override
+    public GroupCommand parse(String args) throws ParseException {
+        String name = args.trim();
+        if (name.isEmpty()) {
+            return new GroupCommand(Optional.empty());
+        }
+        return new GroupCommand(Optional.of(ParserUtil.parseGroupName(name)));
+    }
+}
@@ -10,6 +10,7 @@ import java.util.Set;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.group.SmartGroup;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Country;
 import seedu.address.model.person.Email;
@@ -117,7 +118,7 @@ public class ParserUtil {
             throw new ParseException("Organisation cannot be null");
         }
 
-        return new Organisation(org.trim());
+        return Organisation.of(org.trim());
     }
 
     /**
@@ -132,7 +133,7 @@ public class ParserUtil {
         }
         // Allow empty or whitespace-only input
         String trimmedEvent = event.trim();
-        return new Event(trimmedEvent);
+        return Event.of(trimmedEvent);
     }
 
     /**
@@ -159,10 +160,11 @@ public class ParserUtil {
     public static Country parseCountry(String country) throws ParseException {
         requireNonNull(country);
         String trimmedCountry = country.trim();
-        if (!Country.isValidCountry(trimmedCountry)) {
+        try {
+            return Country.of(trimmedCountry);
+        } catch (IllegalArgumentException e) {
             throw new ParseException(Country.MESSAGE_CONSTRAINTS);
         }
-        return new Country(trimmedCountry);
     }
 
     /**
@@ -174,10 +176,11 @@ public class ParserUtil {
     public static Tag parseTag(String tag) throws ParseException {
         requireNonNull(tag);
         String trimmedTag = tag.trim();
-        if (!Tag.isValidTagName(trimmedTag)) {
+        try {
+            return Tag.of(trimmedTag);
+        } catch (IllegalArgumentException e) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
     }
 
     /**
@@ -192,6 +195,21 @@ public class ParserUtil {
         return tagSet;
     }
 
+    /**
+     * Parses a {@code String name} into the name of a smart group.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code name} is invalid.
+     */
+    public static String parseGroupName(String name) throws ParseException {
+        requireNonNull(name);
+        String trimmedName = name.trim();
+        if (!SmartGroup.isValidName(trimmedName)) {
+            throw new ParseException(SmartGroup.MESSAGE_CONSTRAINTS);
+        }
+        return trimmedName;
+    }
+
     /**
      * Offset parser. Validates +HH:MM / -HH:MM.
      * @param input raw user input (non-null)
@@ -206,7 +224,7 @@ public class ParserUtil {
                     "Offset must be in the format +HH:MM or -HH:MM."));
         }
         try {
-            return new Offset(trimmedInput);
+            return Offset.of(trimmedInput);
         } catch (IllegalArgumentException e) {
             throw new ParseException(e.getMessage());
         }
@@ -219,7 +237,7 @@ public class ParserUtil {
      * @throws ParseException if the given {@code language} is invalid.
      */
     public static PreferredLanguage parsePreferredLanguage(String language) {
-        return new PreferredLanguage(language.trim());
+        return PreferredLanguage.of(language.trim());
     }
 
 }
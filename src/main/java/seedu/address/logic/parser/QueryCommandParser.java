@@ -0,0 +1,224 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Organisation;
+import seedu.address.model.person.PreferredLanguage;
+import seedu.address.model.search.Query;
+
+/**
+ * Parses input arguments and creates a new QueryCommand object.
+ *
+ * A query is a list of alternatives separated by {@code OR}, each a list of terms that must all match.
+ * A term is a clause such as {@code tag:friends}, a term preceded by {@code -} to negate it, or a query in
+ * parentheses. Values containing spaces or parentheses are written in double quotes, e.g.
+ * {@code country:"United States"}, with {@code \"} for a double quote and {@code \\} for a backslash inside them.
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+
+    private static final String OR = "OR";
+    private static final String NOT = "-";
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     * @throws ParseException if the user input is not a valid query
+     */
+    public QueryCommand parse(String args) throws ParseException {
+        Tokens tokens = new Tokens(tokenize(args));
+        boolean isExplain = tokens.skip(QueryCommand.EXPLAIN_WORD);
+        return new QueryCommand(parseAll(tokens), isExplain);
+    }
+
+    /**
+     * Parses the given {@code String} as a query, without the words that only the {@code query} command takes,
+     * such as {@code explain}. Used to read back queries saved in their {@code toString} form.
+     * @throws ParseException if the given string is not a valid query
+     */
+    public static Query parseQuery(String args) throws ParseException {
+        return parseAll(new Tokens(tokenize(args)));
+    }
+
+    private static Query parseAll(Tokens tokens) throws ParseException {
+        Query query = parseAlternatives(tokens);
+        if (tokens.hasNext()) {
+            throw invalidFormat();
+        }
+        return query;
+    }
+
+    private static Query parseAlternatives(Tokens tokens) throws ParseException {
+        List<Query> alternatives = new ArrayList<>();
+        alternatives.add(parseTerms(tokens));
+        while (tokens.skip(OR)) {
+            alternatives.add(parseTerms(tokens));
+        }
+        return Query.or(alternatives);
+    }
+
+    private static Query parseTerms(Tokens tokens) throws ParseException {
+        List<Query> terms = new ArrayList<>();
+        while (tokens.hasNext() && !tokens.peek().equals(OR) && !tokens.peek().equals(CLOSE)) {
+            terms.add(parseTerm(tokens));
+        }
+        if (terms.isEmpty()) {
+            throw invalidFormat();
+        }
+        return Query.and(terms);
+    }
+
+    private static Query parseTerm(Tokens tokens) throws ParseException {
+        if (tokens.skip(NOT)) {
+            if (!tokens.hasNext()) {
+                throw invalidFormat();
+            }
+            return Query.not(parseTerm(tokens));
+        }
+        if (tokens.skip(OPEN)) {
+            Query query = parseAlternatives(tokens);
+            if (!tokens.skip(CLOSE)) {
+                throw invalidFormat();
+            }
+            return query;
+        }
+        return parseClause(tokens.next());
+    }
+
+    private static Query parseClause(String token) throws ParseException {
+        if (token.equalsIgnoreCase(Query.Field.ARCHIVED.getKeyword())) {
+            return Query.archived();
+        }
+        int colon = token.indexOf(':');
+        if (colon <= 0 || colon == token.length() - 1) {
+            throw invalidFormat();
+        }
+        String field = token.substring(0, colon).toLowerCase(Locale.ROOT);
+        String value = token.substring(colon + 1).trim();
+        switch (field) {
+        case "name":
+            if (value.split("\\s+").length != 1) {
+                throw new ParseException("A name clause should be a single word");
+            }
+            return Query.name(value);
+        case "tag":
+            return Query.tag(ParserUtil.parseTag(value));
+        case "country":
+            return Query.country(ParserUtil.parseCountry(value));
+        case "org":
+        case "organisation":
+            try {
+                return Query.organisation(ParserUtil.parseOrganisation(value).toString());
+            } catch (IllegalArgumentException e) {
+                throw new ParseException(Organisation.MESSAGE_CONSTRAINTS);
+            }
+        case "lang":
+        case "language":
+            try {
+                return Query.language(ParserUtil.parsePreferredLanguage(value));
+            } catch (IllegalArgumentException e) {
+                throw new ParseException(PreferredLanguage.MESSAGE_CONSTRAINTS);
+            }
+        default:
+            throw new ParseException("Unknown query field: " + field);
+        }
+    }
+
+    /**
+     * Splits {@code args} into parentheses, negations and words, keeping the text between double quotes in one
+     * word without its quotes, see {@link #readQuoted(String, int, StringBuilder)}.
+     */
+    private static List<String> tokenize(String args) throws ParseException {
+        List<String> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < args.length()) {
+            char c = args.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')' || c == '-') {
+                tokens.add(String.valueOf(c));
+                i++;
+            } else {
+                StringBuilder word = new StringBuilder();
+                while (i < args.length() && !Character.isWhitespace(args.charAt(i))
+                        && args.charAt(i) != '(' && args.charAt(i) != ')') {
+                    if (args.charAt(i) == '"') {
+                        i = readQuoted(args, i + 1, word);
+                    } else {
+                        word.append(args.charAt(i++));
+                    }
+                }
+                tokens.add(word.toString());
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Appends the text in double quotes that starts at {@code start} in {@code args} to {@code word}, reading a
+     * backslash followed by a double quote or a backslash as the character after it, and returns the position
+     * after the closing quote.
+     */
+    private static int readQuoted(String args, int start, StringBuilder word) throws ParseException {
+        int i = start;
+        while (i < args.length() && args.charAt(i) != '"') {
+            char c = args.charAt(i);
+            if (c == '\\' && i + 1 < args.length() && (args.charAt(i + 1) == '"' || args.charAt(i + 1) == '\\')) {
+                c = args.charAt(i + 1);
+                i++;
+            }
+            word.append(c);
+            i++;
+        }
+        if (i == args.length()) {
+            throw new ParseException("Unclosed quote in query");
+        }
+        return i + 1;
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * The tokens of a query and how far they have been parsed.
+     */
+    private static class Tokens {
+        private final List<String> tokens;
+        private int position;
+
+        Tokens(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        boolean hasNext() {
+            return position < tokens.size();
+        }
+
+        String peek() {
+            return tokens.get(position);
+        }
+
+        String next() {
+            return tokens.get(position++);
+        }
+
+        /**
+         * Moves past the next token and returns true if it is {@code token}.
+         */
+        boolean skip(String token) {
+            if (hasNext() && peek().equals(token)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.SaveGroupCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.group.SmartGroup;
+
+/**
+ * Parses input arguments and creates a new {@link SaveGroupCommand} object.
+ *
+ * Usage (example):
+ *   savegroup japan-friends country:Japan tag:friends -archived
+ * The first word is the group's name and the rest is a query, written as for the query command.
+ *
+ */
+public class SaveGroupCommandParser implements Parser<SaveGroupCommand> {
+
+    @Override
+    public SaveGroupCommand parse(String args) throws ParseException {
+        String[] nameAndQuery = args.trim().split("\\s+", 2);
+        if (nameAndQuery.length < 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SaveGroupCommand.MESSAGE_USAGE));
+        }
+        return new SaveGroupCommand(ParserUtil.parseGroupName(nameAndQuery[0]),
+                QueryCommandParser.parseQuery(nameAndQuery[1]));
+    }
+}
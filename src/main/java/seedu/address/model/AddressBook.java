@@ -7,7 +7,11 @@ import java.util.List;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonObserver;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.statistics.PersonStatistics;
+import seedu.address.model.statistics.ReadOnlyPersonStatistics;
 
 /**
  * Wraps all data at the address-book level
@@ -16,6 +20,7 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final PersonStatistics statistics;
 
     /*
      * The 'unusual' code block below is a non-static initialization block,
@@ -29,6 +34,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        statistics = new PersonStatistics();
+        persons.addObserver(statistics);
     }
 
     public AddressBook() {
@@ -72,6 +79,27 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the position of {@code person} in {@link #getPersonList()}, or -1 if it is not in the address book.
+     * The person is located through the list's index, without scanning the list.
+     *
+     * @throws IllegalStateException if a batch is in progress, as the list does not reflect it yet.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        return persons.indexOf(person);
+    }
+
+    /**
+     * Returns the position of the person with {@code id} in {@link #getPersonList()}, or -1 if there is none.
+     *
+     * @throws IllegalStateException if a batch is in progress, as the list does not reflect it yet.
+     */
+    public int indexOf(PersonId id) {
+        requireNonNull(id);
+        return persons.indexOf(id);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
@@ -101,25 +129,44 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    //// batch operations
+
+    /**
+     * Starts a batch of mutations that is only published to the persons list on {@link #commitBatch()}.
+     */
+    public void beginBatch() {
+        persons.beginBatch();
+    }
+
     /**
-     * Sorts the persons list by country.
+     * Publishes every mutation made since {@link #beginBatch()} as a single change to the persons list.
      */
-    public void sortByCountry() {
-        persons.sortByCountry();
+    public void commitBatch() {
+        persons.commitBatch();
     }
 
     /**
-     * Sorts the persons list by name.
+     * Discards every mutation made since {@link #beginBatch()}.
+     */
+    public void abortBatch() {
+        persons.abortBatch();
+    }
+
+    //// observers
+
+    /**
+     * Registers {@code observer} to be told of every change to the persons of this address book.
      */
-    public void sortByName() {
-        persons.sortByName();
+    public void addPersonObserver(PersonObserver observer) {
+        persons.addObserver(observer);
     }
 
     /**
-     * Sorts the persons list by date added.
+     * Returns the aggregate statistics of the persons in this address book, which are kept up to date
+     * as the persons change.
      */
-    public void sortByDate() {
-        persons.sortByDate();
+    public ReadOnlyPersonStatistics getStatistics() {
+        return statistics;
     }
 
     //// util methods
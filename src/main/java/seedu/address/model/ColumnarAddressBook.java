@@ -0,0 +1,301 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.AddedOn;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Country;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Event;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Offset;
+import seedu.address.model.person.Organisation;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Person.CommunicationChannel;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.PreferredLanguage;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An immutable snapshot of an address book that stores its persons column by column, for very large books.
+ *
+ * Free-text fields are kept as UTF-8 bytes in one array per field, and fields that take few distinct values
+ * (country, organisation, tags, ...) are dictionary-encoded, so a contact costs a few hundred bytes instead of
+ * the graph of objects behind a {@code Person}. A person is materialized from the columns when it is read from
+ * {@link #getPersonList()}, and the book holds it weakly, so reading the same row again returns the same object
+ * for as long as anything else still refers to it. The weak reference is not free: each row read costs a
+ * {@code WeakReference} of 32 bytes on top of its 4-byte slot, kept after the person is collected, and adds to
+ * the references the garbage collector processes. The returned {@code Person} objects are equal to, and have the
+ * same {@code PersonId} as, the persons the book was created from.
+ *
+ * This store is benchmark-only: nothing in the application loads, saves or reads through it. The application
+ * keeps an {@link AddressBook}, and this store is only measured against it by
+ * {@code AddressBookFootprintBenchmark}.
+ */
+public class ColumnarAddressBook implements ReadOnlyAddressBook {
+
+    private static final CommunicationChannel[] CHANNELS = CommunicationChannel.values();
+
+    private int personCount;
+
+    private final long[] idHigh;
+    private final long[] idLow;
+    private final TextColumn names = new TextColumn();
+    private final TextColumn phones = new TextColumn();
+    private final TextColumn emails = new TextColumn();
+    private final TextColumn addresses = new TextColumn();
+    private final TextColumn notes = new TextColumn();
+    private final DictionaryColumn<Country> countries = new DictionaryColumn<>();
+    private final DictionaryColumn<Organisation> organisations = new DictionaryColumn<>();
+    private final DictionaryColumn<Event> events = new DictionaryColumn<>();
+    private final DictionaryColumn<Offset> offsets = new DictionaryColumn<>();
+    private final DictionaryColumn<PreferredLanguage> languages = new DictionaryColumn<>();
+    /** Ordinal of the preferred channel plus one, or 0 if there is none. */
+    private final byte[] channels;
+    private final long[] addedOnSeconds;
+    private final int[] addedOnNanos;
+    private final BitSet archived = new BitSet();
+
+    /** The tags of the person in row {@code i} are at {@code tagCodes[tagStarts[i]]} up to {@code tagStarts[i + 1]}. */
+    private final Dictionary<Tag> tagDictionary = new Dictionary<>();
+    private final int[] tagStarts;
+    private int[] tagCodes;
+    private int tagCount;
+
+    /** The persons last materialized from each row, held weakly so that they can be collected once unused. */
+    private final WeakReference<Person>[] materialized;
+
+    private final ObservableList<Person> personList = new PersonView();
+
+    /**
+     * Creates an empty {@code ColumnarAddressBook}.
+     */
+    public ColumnarAddressBook() {
+        this(List.of());
+    }
+
+    /**
+     * Creates a {@code ColumnarAddressBook} holding the persons in {@code toBeCopied}.
+     */
+    public ColumnarAddressBook(ReadOnlyAddressBook toBeCopied) {
+        this(requireNonNull(toBeCopied).getPersonList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private ColumnarAddressBook(List<Person> persons) {
+        int capacity = persons.size();
+        materialized = new WeakReference[capacity];
+        idHigh = new long[capacity];
+        idLow = new long[capacity];
+        channels = new byte[capacity];
+        addedOnSeconds = new long[capacity];
+        addedOnNanos = new int[capacity];
+        tagStarts = new int[capacity + 1];
+        tagCodes = new int[capacity];
+        persons.forEach(this::append);
+    }
+
+    private void append(Person person) {
+        requireNonNull(person);
+        int row = personCount++;
+
+        UUID id = UUID.fromString(person.getId().value);
+        idHigh[row] = id.getMostSignificantBits();
+        idLow[row] = id.getLeastSignificantBits();
+        names.add(person.getName().fullName);
+        phones.add(person.getPhone().value);
+        emails.add(person.getEmail().value);
+        addresses.add(person.getAddress().value);
+        notes.add(person.getNote().value);
+        countries.add(person.getCountry());
+        organisations.add(person.getOrganisation());
+        events.add(person.getEvent());
+        offsets.add(person.getOffset());
+        languages.add(person.getPreferredLanguage());
+        CommunicationChannel channel = person.getPreferredChannel();
+        channels[row] = (byte) (channel == null ? 0 : channel.ordinal() + 1);
+        LocalDateTime addedOn = person.getAddedOn().localDateTime;
+        addedOnSeconds[row] = addedOn.toEpochSecond(ZoneOffset.UTC);
+        addedOnNanos[row] = addedOn.getNano();
+        archived.set(row, person.getArchivalStatus());
+
+        for (Tag tag : person.getTags()) {
+            if (tagCount == tagCodes.length) {
+                tagCodes = Arrays.copyOf(tagCodes, Math.max(8, tagCount * 2));
+            }
+            tagCodes[tagCount++] = tagDictionary.encode(tag);
+        }
+        tagStarts[row + 1] = tagCount;
+    }
+
+    /**
+     * Returns the {@code Person} stored at {@code row}, building it again only if the last one built has been
+     * garbage collected.
+     */
+    private Person personAt(int row) {
+        Person person = materialized[row] == null ? null : materialized[row].get();
+        if (person == null) {
+            person = materialize(row);
+            materialized[row] = new WeakReference<>(person);
+        }
+        return person;
+    }
+
+    /**
+     * Builds the {@code Person} stored at {@code row}. The columns were filled from valid persons, so the
+     * fields are created without being validated again, and the dictionary-encoded fields are shared.
+     */
+    private Person materialize(int row) {
+        Set<Tag> tags = new HashSet<>();
+        for (int i = tagStarts[row]; i < tagStarts[row + 1]; i++) {
+            tags.add(tagDictionary.decode(tagCodes[i]));
+        }
+        LocalDateTime addedOn = LocalDateTime.ofEpochSecond(addedOnSeconds[row], addedOnNanos[row], ZoneOffset.UTC);
+        CommunicationChannel channel = channels[row] == 0 ? null : CHANNELS[channels[row] - 1];
+
+        return new Person(PersonId.ofValid(new UUID(idHigh[row], idLow[row]).toString()),
+                Name.ofValid(names.get(row)), Phone.ofValid(phones.get(row)), Email.ofValid(emails.get(row)),
+                Address.ofValid(addresses.get(row)), countries.get(row), organisations.get(row), events.get(row),
+                Note.ofValid(notes.get(row)), channel, tags, offsets.get(row), languages.get(row),
+                new AddedOn(addedOn), archived.get(row));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return personList;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", personList)
+                .toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ColumnarAddressBook)) {
+            return false;
+        }
+
+        ColumnarAddressBook otherColumnarAddressBook = (ColumnarAddressBook) other;
+        return personList.equals(otherColumnarAddressBook.personList);
+    }
+
+    @Override
+    public int hashCode() {
+        return personList.hashCode();
+    }
+
+    /**
+     * An unmodifiable list of the persons in the book, materialized when they are read.
+     * The book is immutable, so the list never fires change events.
+     */
+    private class PersonView extends ObservableListBase<Person> {
+
+        @Override
+        public Person get(int index) {
+            if (index < 0 || index >= personCount) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return personAt(index);
+        }
+
+        @Override
+        public int size() {
+            return personCount;
+        }
+    }
+
+    /**
+     * A column of strings stored back to back as UTF-8 bytes.
+     */
+    private static class TextColumn {
+        private byte[] bytes = new byte[0];
+        private int[] ends = new int[0];
+        private int length;
+        private int count;
+
+        void add(String value) {
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            if (length + encoded.length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(length + encoded.length, bytes.length * 2));
+            }
+            System.arraycopy(encoded, 0, bytes, length, encoded.length);
+            length += encoded.length;
+
+            if (count == ends.length) {
+                ends = Arrays.copyOf(ends, Math.max(8, count * 2));
+            }
+            ends[count++] = length;
+        }
+
+        String get(int row) {
+            int start = row == 0 ? 0 : ends[row - 1];
+            return new String(bytes, start, ends[row] - start, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Assigns each distinct value a small integer code.
+     */
+    private static class Dictionary<T> {
+        private final List<T> values = new ArrayList<>();
+        private final Map<T, Integer> codes = new HashMap<>();
+
+        int encode(T value) {
+            return codes.computeIfAbsent(value, unused -> {
+                values.add(value);
+                return values.size() - 1;
+            });
+        }
+
+        T decode(int code) {
+            return values.get(code);
+        }
+    }
+
+    /**
+     * A column of dictionary codes. Null values are stored as -1.
+     */
+    private static class DictionaryColumn<T> {
+        private final Dictionary<T> dictionary = new Dictionary<>();
+        private int[] rows = new int[0];
+        private int count;
+
+        void add(T value) {
+            if (count == rows.length) {
+                rows = Arrays.copyOf(rows, Math.max(8, count * 2));
+            }
+            rows[count++] = value == null ? -1 : dictionary.encode(value);
+        }
+
+        T get(int row) {
+            return rows[row] == -1 ? null : dictionary.decode(rows[row]);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import javafx.collections.ObservableList;
+
+/**
+ * A bounded cache of filtered views of source lists, keyed by the source list and by a predicate that is
+ * compared with {@code equals}. When full, the least recently used view is dropped.
+ *
+ * A cached view stays attached to its source and is updated with each change to it, so it is never stale:
+ * asking for the same predicate again returns the view as it is, without testing any element, even if the
+ * source has changed since. A view dropped from the cache is disposed, so it stops following its source.
+ *
+ * Following the source is what the cache costs: each change to a source is also handled by every cached view
+ * of it, which tests the elements the change adds or updates and shifts the positions of its matches after the
+ * change. A change of one element therefore costs O(k + m) on top of the change itself, for {@code k} cached
+ * views holding {@code m} matches in all, so the cache should be kept small. With views of 12,500 of 100,000
+ * elements each, {@code ViewCacheMutationBenchmark} measured an insertion and a removal at 7.3 µs with no
+ * cached view, 9.6 µs with 1, 14.7 µs with 4 and 21.0 µs with 8.
+ */
+class FilteredViewCache<E> {
+
+    private final int capacity;
+    /** The cached views, most recently used first. Few enough to look up by comparing every key. */
+    private final LinkedList<Entry<E>> entries = new LinkedList<>();
+
+    /**
+     * Creates a cache that holds up to {@code capacity} views.
+     */
+    FilteredViewCache(int capacity) {
+        checkArgument(capacity > 0, "Capacity should be positive");
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the view of {@code source} filtered by {@code key}. If it is not cached, it is created by
+     * {@code createView}, which must return a view of {@code source} that accepts the same elements as {@code key}.
+     */
+    MatchedListView<E> get(ObservableList<? extends E> source, Predicate<? super E> key,
+            Supplier<MatchedListView<E>> createView) {
+        Iterator<Entry<E>> iterator = entries.iterator();
+        while (iterator.hasNext()) {
+            Entry<E> entry = iterator.next();
+            if (entry.view.getSource() == source && entry.key.equals(key)) {
+                iterator.remove();
+                entries.addFirst(entry);
+                return entry.view;
+            }
+        }
+
+        Entry<E> entry = new Entry<>(key, createView.get());
+        entries.addFirst(entry);
+        if (entries.size() > capacity) {
+            entries.removeLast().view.dispose();
+        }
+        return entry.view;
+    }
+
+    /**
+     * Drops every cached view except {@code kept}, which may be null, and disposes the views dropped.
+     */
+    void retainOnly(MatchedListView<E> kept) {
+        entries.removeIf(entry -> {
+            if (entry.view == kept) {
+                return false;
+            }
+            entry.view.dispose();
+            return true;
+        });
+    }
+
+    /**
+     * Returns the number of cached views.
+     */
+    int size() {
+        return entries.size();
+    }
+
+    private static class Entry<E> {
+        private final Predicate<? super E> key;
+        private final MatchedListView<E> view;
+
+        Entry(Predicate<? super E> key, MatchedListView<E> view) {
+            this.key = key;
+            this.view = view;
+        }
+    }
+}
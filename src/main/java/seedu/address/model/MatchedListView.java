@@ -0,0 +1,202 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * A read-only view of the elements of a source list that a predicate accepts, in the source's order, like a
+ * {@code FilteredList}. Unlike a {@code FilteredList}, it can be built from the positions of the matches when
+ * they are already known, e.g. looked up in an index, so that building it visits only the matches.
+ *
+ * Once built, the view follows each change to its source, testing only the elements that the change adds or
+ * updates. A change also shifts the positions of the matches after it, so it costs a test per element added
+ * and O(matches) on top, whatever the size of the source. The view listens to its source until
+ * {@link #dispose()} is called, after which it no longer changes.
+ */
+class MatchedListView<E> extends ObservableListBase<E> {
+
+    private final ObservableList<? extends E> source;
+    private final Predicate<? super E> predicate;
+    private final ListChangeListener<E> listener = this::sourceChanged;
+    /** The positions in the source of the matches, in increasing order, in the first {@code size} entries. */
+    private int[] positions;
+    private int size;
+
+    /**
+     * Creates a view of {@code source} holding the elements at {@code positions}, which must be exactly the
+     * positions of the elements that {@code predicate} accepts, in any order. The view takes over
+     * {@code positions}, and tests only the elements that later changes to {@code source} add or update.
+     */
+    MatchedListView(ObservableList<? extends E> source, Predicate<? super E> predicate, int[] positions) {
+        requireAllNonNull(source, predicate, positions);
+        this.source = source;
+        this.predicate = predicate;
+        Arrays.sort(positions);
+        this.positions = positions;
+        this.size = positions.length;
+        source.addListener(listener);
+    }
+
+    /**
+     * Returns a view of {@code source} filtered by {@code predicate}, which is tested against every element of
+     * {@code source} on the calling thread.
+     */
+    static <E> MatchedListView<E> filter(ObservableList<? extends E> source, Predicate<? super E> predicate) {
+        int[] positions = new int[source.size()];
+        int count = 0;
+        for (int i = 0; i < positions.length; i++) {
+            if (predicate.test(source.get(i))) {
+                positions[count++] = i;
+            }
+        }
+        return new MatchedListView<>(source, predicate, Arrays.copyOf(positions, count));
+    }
+
+    ObservableList<? extends E> getSource() {
+        return source;
+    }
+
+    /**
+     * Stops following the source, so that the view can be garbage collected once it is no longer referenced.
+     * The view must not be used afterwards.
+     */
+    void dispose() {
+        source.removeListener(listener);
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return source.get(positions[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permute(change);
+            } else if (change.wasUpdated()) {
+                update(change);
+            } else {
+                addRemove(change);
+            }
+        }
+        endChange();
+    }
+
+    private void permute(ListChangeListener.Change<? extends E> change) {
+        int from = firstAtOrAfter(change.getFrom());
+        int to = firstAtOrAfter(change.getTo());
+        // each match's new position in the high half and its old index in the low half, to sort by the former
+        long[] moves = new long[to - from];
+        for (int i = from; i < to; i++) {
+            moves[i - from] = ((long) change.getPermutation(positions[i]) << 32) | (i - from);
+        }
+        Arrays.sort(moves);
+        int[] permutation = new int[to - from];
+        for (int i = from; i < to; i++) {
+            long move = moves[i - from];
+            permutation[(int) move] = i;
+            positions[i] = (int) (move >>> 32);
+        }
+        if (to > from) {
+            nextPermutation(from, to, permutation);
+        }
+    }
+
+    private void update(ListChangeListener.Change<? extends E> change) {
+        for (int position = change.getFrom(); position < change.getTo(); position++) {
+            int index = Arrays.binarySearch(positions, 0, size, position);
+            boolean isMatch = predicate.test(source.get(position));
+            if (index >= 0 && isMatch) {
+                nextUpdate(index);
+            } else if (index >= 0) {
+                replace(index, index + 1, new int[0], 0, 0);
+                nextRemove(index, source.get(position));
+            } else if (isMatch) {
+                int insertAt = -index - 1;
+                replace(insertAt, insertAt, new int[] {position}, 1, 0);
+                nextAdd(insertAt, insertAt + 1);
+            }
+        }
+    }
+
+    private void addRemove(ListChangeListener.Change<? extends E> change) {
+        int from = change.getFrom();
+        int removedSize = change.getRemovedSize();
+        int addedSize = change.getAddedSize();
+        int first = firstAtOrAfter(from);
+        int end = firstAtOrAfter(from + removedSize);
+        if (end > first) {
+            List<E> removed = new ArrayList<>(end - first);
+            for (int i = first; i < end; i++) {
+                removed.add(change.getRemoved().get(positions[i] - from));
+            }
+            nextRemove(first, removed);
+        }
+
+        int[] added = new int[addedSize];
+        int count = 0;
+        for (int position = from; position < from + addedSize; position++) {
+            if (predicate.test(source.get(position))) {
+                added[count++] = position;
+            }
+        }
+        replace(first, end, added, count, addedSize - removedSize);
+        if (count > 0) {
+            nextAdd(first, first + count);
+        }
+    }
+
+    /**
+     * Replaces the matches from {@code start} to {@code end} with the first {@code count} positions of
+     * {@code replacement}, and moves the positions of the matches after them by {@code shift}.
+     */
+    private void replace(int start, int end, int[] replacement, int count, int shift) {
+        int tail = size - end;
+        int newSize = start + count + tail;
+        int[] target = positions;
+        if (newSize > positions.length) {
+            target = new int[Math.max(newSize, positions.length + (positions.length >> 1) + 1)];
+            System.arraycopy(positions, 0, target, 0, start);
+        }
+        System.arraycopy(positions, end, target, start + count, tail);
+        for (int i = start + count; i < newSize; i++) {
+            target[i] += shift;
+        }
+        System.arraycopy(replacement, 0, target, start, count);
+        positions = target;
+        size = newSize;
+    }
+
+    /**
+     * Returns the index of the first match at or after {@code position} in the source.
+     */
+    private int firstAtOrAfter(int position) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (positions[middle] < position) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
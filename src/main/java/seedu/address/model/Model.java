@@ -1,11 +1,23 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.group.SmartGroup;
+import seedu.address.model.person.Country;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.Query;
+import seedu.address.model.search.QueryPlan;
+import seedu.address.model.statistics.ReadOnlyPersonStatistics;
+import seedu.address.model.statistics.ReadOnlySearchLog;
 
 /**
  * The API of the Model component.
@@ -16,9 +28,30 @@ public interface Model {
     Predicate<Person> PREDICATE_SHOW_ALL_ARCHIVED = unused -> unused.getArchivalStatus();
     Predicate<Person> PREDICATE_SHOW_ALL_PERSONS = unused -> true;
 
-    /** Enum that tracks the current sort mode */
+    /**
+     * Enum that tracks the current sort mode, and the order each mode shows contacts in.
+     * Names and countries are compared through the collation keys they precompute, so a sort
+     * does no string processing or allocation per comparison.
+     */
     public enum SortMode {
-        NAME, COUNTRY, DATE
+        /** Alphabetical by name, ignoring case. */
+        NAME(Comparator.comparing(Person::getName, Name.SORT_ORDER)),
+        /** Alphabetical by country, then by name. Contacts without a country come last. */
+        COUNTRY(Comparator.comparing(Person::getCountry, Comparator.nullsLast(Country.SORT_ORDER))
+                .thenComparing(NAME.comparator)),
+        /** By the date each contact was added, earliest first. */
+        DATE((p1, p2) -> p1.getAddedOn().compareTo(p2.getAddedOn()));
+
+        private final Comparator<Person> comparator;
+
+        SortMode(Comparator<Person> comparator) {
+            this.comparator = comparator;
+        }
+
+        public Comparator<Person> getComparator() {
+            return comparator;
+        }
+
     }
 
     /**
@@ -59,6 +92,82 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the aggregate statistics of the address book.
+     * The statistics are maintained as the address book changes, so this returns immediately.
+     */
+    ReadOnlyPersonStatistics getPersonStatistics();
+
+    /**
+     * Returns the timings of the searches of the filtered person list made so far, summarised for each kind of
+     * predicate, and the most recent slow searches.
+     */
+    ReadOnlySearchLog getSearchLog();
+
+    /**
+     * Sets how long a search of the filtered person list must take to be written to the slow query log.
+     */
+    void setSlowQueryThreshold(Duration threshold);
+
+    /**
+     * Returns up to {@code limit} words of the names in the address book that start with {@code prefix},
+     * ignoring case, in alphabetical order.
+     */
+    List<String> getNameCompletions(String prefix, int limit);
+
+    /**
+     * Returns the order of persons from the best to the worst match for {@code terms} in their notes, addresses
+     * and events, ranked with BM25. The terms should come from
+     * {@link seedu.address.model.person.FullTextMatchPredicate#termsOf(String)}.
+     */
+    Comparator<Person> getTextRanking(List<String> terms);
+
+    /**
+     * Returns up to {@code limit} persons that best match {@code terms} in their notes, addresses and events,
+     * best first, as ranked by {@link #getTextRanking(List)}. Only the best {@code limit} are kept while the
+     * persons containing a term are scored, so the cost does not grow with the sorting of every match.
+     */
+    List<Person> searchText(List<String> terms, int limit);
+
+    /**
+     * Returns the order of persons from the closest to the furthest match for {@code keywords}, by the fewest
+     * typos between a keyword and a word of their name, organisation or email, as tested by
+     * {@link seedu.address.model.person.FuzzyMatchPredicate}. Persons that do not match come last.
+     */
+    Comparator<Person> getFuzzyRanking(List<String> keywords);
+
+    /**
+     * Returns how {@code query} would be answered by {@link #updateFilteredPersonList(Predicate)}: which index,
+     * if any, narrows it down, and the estimated number of persons at each step.
+     */
+    QueryPlan planQuery(Query query);
+
+    /**
+     * Saves a smart group named {@code name} of the persons matched by {@code definition}, replacing any group
+     * with the same name, and saves its definition in the user prefs. The group's members are kept up to date
+     * as persons change, so the group can be shown with {@link #updateFilteredPersonList(Predicate)} without
+     * filtering the address book again.
+     *
+     * @throws IllegalArgumentException if {@code name} is not a valid group name.
+     */
+    SmartGroup setSmartGroup(String name, Query definition);
+
+    /**
+     * Returns the smart group named {@code name}, or an empty {@code Optional} if there is none.
+     */
+    Optional<SmartGroup> getSmartGroup(String name);
+
+    /**
+     * Returns the smart groups, in the order they were first saved.
+     */
+    List<SmartGroup> getSmartGroups();
+
+    /**
+     * Deletes the given smart group, and its definition from the user prefs.
+     * The group must exist.
+     */
+    void deleteSmartGroup(SmartGroup group);
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in
      * the address book.
@@ -85,6 +194,15 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Runs {@code batch} against this model as a single transaction.
+     * Sorting, filtering and change notification of the filtered person list are deferred until
+     * {@code batch} returns, and its changes are then published together. If {@code batch} throws,
+     * none of its changes to the address book or the filter are kept.
+     * A batch started from within another batch simply joins the outer one.
+     */
+    void applyBatch(Consumer<Model> batch);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -97,28 +215,32 @@ public interface Model {
     void updateFilteredPersonList(Predicate<Person> predicate);
 
     /**
-     * After every modification to the contacts list, this command reapplies the
-     * current sorting mode.
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, and shows the
+     * matching persons ranked by {@code ranking}. Persons that rank equally are shown in the current sort order.
+     * The ranking lasts until the filter or the sort mode is next changed.
+     *
+     * @throws NullPointerException if {@code predicate} or {@code ranking} is null.
      */
-    void reapplySortMode();
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> ranking);
 
     /**
-     * Sorts the address book by country.
+     * Shows the filtered person list sorted by country.
      */
     void sortPersonsByCountry();
 
     /**
-     * Sorts the address book by name.
+     * Shows the filtered person list sorted by name.
      */
     void sortPersonsByName();
 
     /**
-     * Sorts the address book by date added.
+     * Shows the filtered person list sorted by date added.
      */
     void sortPersonsByDate();
 
     /**
-     * Sets the current sorting mode.
+     * Sets the current sorting mode, which the filtered person list is shown in.
+     * The address book itself stays in insertion order. Any ranking of the current search is dropped.
      * @param mode
      */
     void setSortMode(SortMode mode);
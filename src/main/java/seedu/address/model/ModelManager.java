@@ -4,26 +4,89 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.group.SmartGroup;
+import seedu.address.model.group.SmartGroupList;
+import seedu.address.model.person.FullTextMatchPredicate;
+import seedu.address.model.person.FuzzyMatchPredicate;
+import seedu.address.model.person.MatchedPersonsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PhoneticMatchPredicate;
+import seedu.address.model.search.Query;
+import seedu.address.model.search.QueryPlan;
+import seedu.address.model.search.SearchIndex;
+import seedu.address.model.statistics.ReadOnlyPersonStatistics;
+import seedu.address.model.statistics.ReadOnlySearchLog;
+import seedu.address.model.statistics.SearchLog;
+import seedu.address.model.statistics.SearchRecord;
 
 /**
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    /**
+     * How many filtered views are kept, so that flipping back to a recent search does not filter again. Each
+     * one adds to the cost of every change to the address book (see {@link FilteredViewCache}), so few are.
+     */
+    private static final int MAX_CACHED_VIEWS = 4;
+    /** What a detached sort mode sorts. */
+    private static final ObservableList<Person> DETACHED = FXCollections.emptyObservableList();
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final Map<SortMode, SortedList<Person>> sortedPersons = new EnumMap<>(SortMode.class);
+    /**
+     * What each sort mode's sorted list sorts: the persons, or an empty list while the mode is detached, so that
+     * its sorted list does not follow the changes of a batch that it is not shown for.
+     */
+    private final Map<SortMode, SwitchableListView<Person>> sortSources = new EnumMap<>(SortMode.class);
+    private final FilteredViewCache<Person> filteredViews = new FilteredViewCache<>(MAX_CACHED_VIEWS);
+    /** The persons in the current sort mode's order that the current search matches. */
+    private MatchedListView<Person> filteredPersons;
+    /** Shows {@code filteredPersons} as it is, or ranked while a ranked search is shown. */
+    private final SwitchableListView<Person> shownPersons;
+    private final SearchIndex searchIndex = new SearchIndex();
+    private final SmartGroupList smartGroups = new SmartGroupList();
+    /**
+     * The filtered view of each smart group in each sort mode it has been shown in. Unlike the cached views of
+     * searches, these are kept until the group is deleted, so that showing a group never filters.
+     */
+    private final Map<SmartGroup, Map<SortMode, MatchedListView<Person>>> smartGroupViews = new HashMap<>();
+    private final SearchLog searchLog = new SearchLog();
+    /** How the list last returned by {@link #filteredViewOf(Predicate)} was found, for the search log. */
+    private SearchRecord.Plan lastViewPlan;
+    /** How many persons the list last returned by {@link #filteredViewOf(Predicate)} was filtered from. */
+    private int lastViewCandidates;
     private Predicate<Person> currentPersonListPredicate;
+    /** The predicate that {@code filteredPersons} currently filters by, before it is resolved by the index. */
+    private Predicate<Person> appliedPersonListPredicate;
+    /** The order that the current search ranks the filtered persons in, or null if it does not rank them. */
+    private Comparator<Person> currentRanking;
+    private Comparator<Person> appliedRanking;
     private SortMode sortMode = SortMode.NAME;
+    private SortMode appliedSortMode = sortMode;
+    private boolean isInBatch;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -35,8 +98,17 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_UNARCHIVED);
+        this.addressBook.addPersonObserver(searchIndex);
+        this.addressBook.addPersonObserver(smartGroups);
+        for (SortMode mode : SortMode.values()) {
+            SwitchableListView<Person> sortSource = new SwitchableListView<>(this.addressBook.getPersonList());
+            sortSources.put(mode, sortSource);
+            sortedPersons.put(mode, new SortedList<>(sortSource, mode.getComparator()));
+        }
+        appliedPersonListPredicate = PREDICATE_SHOW_ALL_UNARCHIVED;
+        currentPersonListPredicate = PREDICATE_SHOW_ALL_UNARCHIVED;
+        filteredPersons = filteredViewOf(PREDICATE_SHOW_ALL_UNARCHIVED);
+        shownPersons = new SwitchableListView<>(filteredPersons);
     }
 
     public ModelManager() {
@@ -82,21 +154,9 @@ public class ModelManager implements Model {
     // =========== AddressBook
     // ================================================================================
 
-    @Override
-    public void reapplySortMode() {
-        if (sortMode == SortMode.COUNTRY) {
-            addressBook.sortByCountry();
-        } else if (sortMode == SortMode.DATE) {
-            addressBook.sortByDate();
-        } else {
-            addressBook.sortByName();
-        }
-    }
-
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
-        reapplySortMode();
     }
 
     @Override
@@ -104,6 +164,97 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public ReadOnlyPersonStatistics getPersonStatistics() {
+        return addressBook.getStatistics();
+    }
+
+    @Override
+    public ReadOnlySearchLog getSearchLog() {
+        return searchLog;
+    }
+
+    @Override
+    public void setSlowQueryThreshold(Duration threshold) {
+        requireNonNull(threshold);
+        searchLog.setSlowThreshold(threshold);
+    }
+
+    @Override
+    public List<String> getNameCompletions(String prefix, int limit) {
+        requireNonNull(prefix);
+        return searchIndex.completeNameWord(prefix, limit);
+    }
+
+    @Override
+    public Comparator<Person> getTextRanking(List<String> terms) {
+        requireNonNull(terms);
+        return searchIndex.textRanking(terms);
+    }
+
+    @Override
+    public List<Person> searchText(List<String> terms, int limit) {
+        requireNonNull(terms);
+        return searchIndex.searchText(terms, limit);
+    }
+
+    @Override
+    public Comparator<Person> getFuzzyRanking(List<String> keywords) {
+        requireNonNull(keywords);
+        return searchIndex.fuzzyRanking(keywords);
+    }
+
+    @Override
+    public QueryPlan planQuery(Query query) {
+        requireNonNull(query);
+        return searchIndex.plan(query);
+    }
+
+    @Override
+    public SmartGroup setSmartGroup(String name, Query definition) {
+        requireAllNonNull(name, definition);
+        Optional<SmartGroup> replaced = smartGroups.get(name);
+        SmartGroup group = smartGroups.put(name, definition, addressBook.getPersonList());
+        userPrefs.putSmartGroup(name, definition.toString());
+        if (replaced.isPresent() && currentPersonListPredicate == replaced.get()) {
+            setSearch(group, null);
+        } else if (!isInBatch) {
+            // built now so that showing the group later only switches to this view
+            filteredViewOf(group);
+        }
+        replaced.ifPresent(this::disposeViewsOf);
+        return group;
+    }
+
+    @Override
+    public Optional<SmartGroup> getSmartGroup(String name) {
+        requireNonNull(name);
+        return smartGroups.get(name);
+    }
+
+    @Override
+    public List<SmartGroup> getSmartGroups() {
+        return smartGroups.asList();
+    }
+
+    @Override
+    public void deleteSmartGroup(SmartGroup group) {
+        requireNonNull(group);
+        smartGroups.remove(group.getName());
+        userPrefs.removeSmartGroup(group.getName());
+        if (currentPersonListPredicate == group) {
+            setSearch(PREDICATE_SHOW_ALL_UNARCHIVED, null);
+        }
+        disposeViewsOf(group);
+    }
+
+    private void disposeViewsOf(SmartGroup group) {
+        Map<SortMode, MatchedListView<Person>> views = smartGroupViews.remove(group);
+        if (views != null) {
+            views.values().forEach(MatchedListView::dispose);
+        }
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -113,21 +264,79 @@ public class ModelManager implements Model {
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
-        reapplySortMode();
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_UNARCHIVED);
-        reapplySortMode();
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
         addressBook.setPerson(target, editedPerson);
-        reapplySortMode();
+    }
+
+    @Override
+    public void applyBatch(Consumer<Model> batch) {
+        requireNonNull(batch);
+        if (isInBatch) {
+            batch.accept(this);
+            return;
+        }
+
+        Predicate<Person> predicateBeforeBatch = currentPersonListPredicate;
+        Comparator<Person> rankingBeforeBatch = currentRanking;
+        SortMode sortModeBeforeBatch = sortMode;
+        isInBatch = true;
+        addressBook.beginBatch();
+        boolean isCommitted = false;
+        try {
+            batch.accept(this);
+            detachAllBut(sortMode);
+            addressBook.commitBatch();
+            isCommitted = true;
+        } finally {
+            isInBatch = false;
+            if (!isCommitted) {
+                addressBook.abortBatch();
+                currentPersonListPredicate = predicateBeforeBatch;
+                currentRanking = rankingBeforeBatch;
+                sortMode = sortModeBeforeBatch;
+            }
+        }
+        // Only refilter if the batch changed the search; list changes were already filtered on commit
+        if (currentPersonListPredicate != appliedPersonListPredicate || currentRanking != appliedRanking
+                || sortMode != appliedSortMode) {
+            setSearch(getCurrentPersonListPredicate(), currentRanking);
+        }
+    }
+
+    /**
+     * Stops every list that is neither shown nor about to be shown in {@code mode} from following the address
+     * book, ahead of committing a batch, which replaces the whole list in one change. Each list following that
+     * change would otherwise sort or test every person again. The sorted lists of the other modes are detached
+     * until they are next shown, when they sort the persons once, and the filtered views that are not shown are
+     * dropped, to be built again from the index or by a scan when next shown.
+     */
+    private void detachAllBut(SortMode mode) {
+        MatchedListView<Person> kept = filteredPersons;
+        filteredViews.retainOnly(kept);
+        for (Map<SortMode, MatchedListView<Person>> views : smartGroupViews.values()) {
+            views.values().removeIf(view -> {
+                if (view == kept) {
+                    return false;
+                }
+                view.dispose();
+                return true;
+            });
+        }
+        sortSources.forEach((sortSourceMode, sortSource) -> {
+            if (sortSourceMode != mode && sortSourceMode != appliedSortMode) {
+                sortSource.setSource(DETACHED);
+            }
+        });
     }
 
     // =========== Filtered Person List Accessors
@@ -140,14 +349,149 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return shownPersons;
     }
 
+    /**
+     * {@inheritDoc}
+     * Predicates that the search index can answer are served from the index rather than tested
+     * against every person. The filtered lists of the last few predicates, compared with {@code equals}, are
+     * kept up to date, so showing one of them again does not test any person.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        setSearch(predicate, null);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> ranking) {
+        requireAllNonNull(predicate, ranking);
+        setSearch(predicate, ranking);
+    }
+
+    /**
+     * Filters by {@code predicate}, resolved by the search index where possible, and ranks the matches by
+     * {@code ranking} if it is not null.
+     */
+    private void setSearch(Predicate<Person> predicate, Comparator<Person> ranking) {
         currentPersonListPredicate = predicate;
+        currentRanking = ranking;
+        if (isInBatch) {
+            return;
+        }
+        appliedPersonListPredicate = predicate;
+        appliedRanking = ranking;
+        appliedSortMode = sortMode;
+        long start = System.nanoTime();
+        filteredPersons = filteredViewOf(predicate);
+        // A SortedList's sort is stable, so persons that rank equally stay in the sort mode's order
+        ObservableList<Person> shown = ranking == null ? filteredPersons : new SortedList<>(filteredPersons, ranking);
+        searchLog.record(new SearchRecord(predicateTypeOf(predicate), lastViewPlan, lastViewCandidates,
+                filteredPersons.size(), System.nanoTime() - start));
+        shownPersons.setSource(shown);
+    }
+
+    /**
+     * Returns the kind of {@code predicate} as named in the search log: its class, or what it shows if it is one
+     * of the predicates of {@link Model} that show whole lists.
+     */
+    private static String predicateTypeOf(Predicate<Person> predicate) {
+        if (predicate == PREDICATE_SHOW_ALL_UNARCHIVED) {
+            return "AllUnarchived";
+        } else if (predicate == PREDICATE_SHOW_ALL_ARCHIVED) {
+            return "AllArchived";
+        } else if (predicate == PREDICATE_SHOW_ALL_PERSONS) {
+            return "AllPersons";
+        } else if (predicate instanceof Query) {
+            // not the class of its root, such as And, which says little on its own
+            return Query.class.getSimpleName();
+        }
+        return predicate.getClass().isSynthetic() ? "Lambda" : predicate.getClass().getSimpleName();
+    }
+
+    /**
+     * Returns the persons in the current sort mode's order that {@code predicate} matches, from the cache of
+     * filtered views if possible.
+     */
+    private MatchedListView<Person> filteredViewOf(Predicate<Person> predicate) {
+        // attaches the mode again if a batch detached it, so that its sorted list sorts the persons once
+        sortSources.get(sortMode).setSource(addressBook.getPersonList());
+        SortedList<Person> source = sortedPersons.get(sortMode);
+        lastViewPlan = SearchRecord.Plan.CACHED;
+        lastViewCandidates = 0;
+        if (predicate instanceof SmartGroup) {
+            // a group keeps its members, so its view is built from them without testing any other person
+            SmartGroup group = (SmartGroup) predicate;
+            return smartGroupViews.computeIfAbsent(group, unused -> new EnumMap<>(SortMode.class))
+                    .computeIfAbsent(sortMode, unused -> {
+                        lastViewPlan = SearchRecord.Plan.GROUP;
+                        lastViewCandidates = group.getMembers().size();
+                        return viewOf(source, group, group.getMembers());
+                    });
+        }
+        if (predicate instanceof MatchedPersonsPredicate) {
+            // the persons an earlier search found, such as the best matches of a text search, are placed by id
+            Set<PersonId> ids = ((MatchedPersonsPredicate) predicate).getIds();
+            return filteredViews.get(source, predicate, () -> {
+                lastViewPlan = SearchRecord.Plan.INDEX;
+                lastViewCandidates = ids.size();
+                // a person deleted since the search is no longer in the address book
+                return viewAt(source, predicate, ids.stream().mapToInt(addressBook::indexOf)
+                        .filter(index -> index >= 0));
+            });
+        }
+        // A predicate that the index answers is shown from the persons the index finds, without testing any
+        // other person. Of the rest, only the predicates that cost far more per person than the parallel path
+        // adds (see ParallelFilter) are tested in parallel.
+        return filteredViews.get(source, predicate, () -> searchIndex.lookUp(predicate)
+                .map(lookup -> {
+                    lastViewPlan = SearchRecord.Plan.INDEX;
+                    lastViewCandidates = lookup.getCandidates();
+                    return viewOf(source, predicate, lookup.getMatches());
+                })
+                .orElseGet(() -> {
+                    lastViewPlan = SearchRecord.Plan.SCAN;
+                    lastViewCandidates = source.size();
+                    return isCostlyToTest(predicate)
+                            ? ParallelFilter.filter(source, predicate)
+                            : MatchedListView.filter(source, predicate);
+                }));
+    }
+
+    /**
+     * Returns the view of {@code source} holding {@code matches}, which must be exactly the persons that
+     * {@code predicate} accepts. Each match is placed through its position in the address book, which
+     * {@code source} sorts, so only the matches are visited.
+     */
+    private MatchedListView<Person> viewOf(SortedList<Person> source, Predicate<Person> predicate,
+            Collection<Person> matches) {
+        return viewAt(source, predicate, matches.stream().mapToInt(match -> {
+            int index = addressBook.indexOf(match);
+            assert index >= 0 : "The index and the address book must hold the same persons";
+            return index;
+        }));
+    }
+
+    /**
+     * Returns the view of {@code source} holding the persons at {@code indices} in the address book, which must
+     * be exactly the persons that {@code predicate} accepts.
+     */
+    private MatchedListView<Person> viewAt(SortedList<Person> source, Predicate<Person> predicate,
+            IntStream indices) {
+        return new MatchedListView<>(source, predicate, indices.map(source::getViewIndex).toArray());
+    }
+
+    /**
+     * Returns true if {@code predicate} is of a kind that reads and compares the text of each person, such as a
+     * {@code query} or a name, fuzzy or full-text search, which costs hundreds of ns per person. Other
+     * predicates, such as the whole-list ones that read the archived flag or the ones comparing a single value,
+     * cost a few ns per person, less than testing in parallel adds.
+     */
+    private static boolean isCostlyToTest(Predicate<Person> predicate) {
+        return predicate instanceof Query || predicate instanceof NameContainsKeywordsPredicate
+                || predicate instanceof PhoneticMatchPredicate || predicate instanceof FuzzyMatchPredicate
+                || predicate instanceof FullTextMatchPredicate;
     }
 
     @Override
@@ -169,40 +513,29 @@ public class ModelManager implements Model {
 
     @Override
     public void sortPersonsByCountry() {
-        sortPersons(SortMode.COUNTRY);
+        setSortMode(SortMode.COUNTRY);
     }
 
     @Override
     public void sortPersonsByName() {
-        sortPersons(SortMode.NAME);
+        setSortMode(SortMode.NAME);
     }
 
     @Override
     public void sortPersonsByDate() {
-        sortPersons(SortMode.DATE);
+        setSortMode(SortMode.DATE);
     }
 
     /**
-     * Generic sorting helper that sorts the AddressBook according to the given SortMode,
-     * updates the mode, and refreshes the filtered list.
+     * {@inheritDoc}
+     * Every mode's sorted view is kept up to date on each change, so this only switches
+     * the view that is shown and never reorders the address book.
      */
-    private void sortPersons(SortMode mode) {
-        switch (mode) {
-        case COUNTRY -> addressBook.sortByCountry();
-        case NAME -> addressBook.sortByName();
-        case DATE -> addressBook.sortByDate();
-        default -> throw new IllegalArgumentException("Unknown sort mode: " + mode);
-        }
-
-        setSortMode(mode);
-        Predicate<Person> currentPredicate = filteredPersons.getPredicate() != null
-                ? (Predicate<Person>) filteredPersons.getPredicate() : PREDICATE_SHOW_ALL_UNARCHIVED;
-        updateFilteredPersonList(currentPredicate);
-    }
-
     @Override
     public void setSortMode(SortMode mode) {
+        requireNonNull(mode);
         this.sortMode = mode;
+        setSearch(getCurrentPersonListPredicate(), null);
     }
 
     @Override
@@ -0,0 +1,106 @@
+package seedu.address.model;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+import javafx.collections.ObservableList;
+
+/**
+ * Creates filtered views of lists, testing the elements of a large list in parallel chunks on the common
+ * fork-join pool rather than one by one on the calling thread.
+ *
+ * The view is a {@link MatchedListView} built from the positions of the matches found by the parallel tests,
+ * so it is shown in one update and stays attached to its source like any other. Only the first pass over the
+ * source is made in parallel; later changes to the source are tested on the thread that makes them.
+ * The predicate must therefore be safe to test from several threads at once, as the immutable predicates in
+ * {@code seedu.address.model.person} are.
+ *
+ * Copying the list out and collecting the positions of the matches costs about 10 to 30 ns per element on top
+ * of a sequential filter, and that part does not shrink with more cores. Testing in parallel on {@code p}
+ * cores therefore only pays off for predicates that cost more than about {@code p / (p - 1)} times that per
+ * element: up to 60 ns on two cores and 40 ns on four. {@code ParallelFilterBenchmark} measured, on one core
+ * and per person of lists of 10,000 and 100,000 persons:
+ * <ul>
+ *     <li>reading the archived flag: 7 to 11 ns sequentially, about 6 ns more in parallel at 10,000;</li>
+ *     <li>a {@code query} that scans every person: 420 to 460 ns, 7 to 37 ns more in parallel;</li>
+ *     <li>a name search: 800 to 840 ns, 24 to 26 ns more in parallel;</li>
+ *     <li>a fuzzy search: 820 to 860 ns, 10 to 31 ns more in parallel.</li>
+ * </ul>
+ * So only predicates that read the text of each person, like the last three, are worth testing in parallel;
+ * callers should filter cheap ones such as the archived flag directly. The crossover on more cores, and so
+ * {@link #PARALLEL_THRESHOLD}, could not be measured on the one-core machine the figures come from.
+ */
+final class ParallelFilter {
+
+    /** Lists shorter than this are filtered on the calling thread, as forking would cost more than it saves. */
+    static final int PARALLEL_THRESHOLD = 10_000;
+    /** The number of elements that a fork-join task tests without splitting further. */
+    private static final int CHUNK_SIZE = 2048;
+
+    private ParallelFilter() {}
+
+    /**
+     * Returns a view of {@code source} filtered by {@code predicate}, tested in parallel if {@code source} is
+     * at least {@link #PARALLEL_THRESHOLD} long and there is more than one thread to test it with.
+     */
+    static <E> MatchedListView<E> filter(ObservableList<E> source, Predicate<? super E> predicate) {
+        if (source.size() < PARALLEL_THRESHOLD || ForkJoinPool.getCommonPoolParallelism() < 2) {
+            return MatchedListView.filter(source, predicate);
+        }
+        return filterInParallel(source, predicate);
+    }
+
+    /**
+     * Returns a view of {@code source} filtered by {@code predicate}, tested in parallel whatever the size of
+     * {@code source}.
+     */
+    static <E> MatchedListView<E> filterInParallel(ObservableList<E> source, Predicate<? super E> predicate) {
+        Object[] elements = source.toArray();
+        boolean[] matches = new boolean[elements.length];
+        ForkJoinPool.commonPool().invoke(new TestTask<>(elements, matches, predicate, 0, elements.length));
+
+        int[] positions = new int[elements.length];
+        int count = 0;
+        for (int i = 0; i < matches.length; i++) {
+            if (matches[i]) {
+                positions[count++] = i;
+            }
+        }
+        return new MatchedListView<>(source, predicate, Arrays.copyOf(positions, count));
+    }
+
+    /**
+     * Tests a range of elements, splitting it in halves until each is at most {@link #CHUNK_SIZE} long.
+     */
+    private static class TestTask<E> extends RecursiveAction {
+        private final Object[] elements;
+        private final boolean[] matches;
+        private final Predicate<? super E> predicate;
+        private final int start;
+        private final int end;
+
+        TestTask(Object[] elements, boolean[] matches, Predicate<? super E> predicate, int start, int end) {
+            this.elements = elements;
+            this.matches = matches;
+            this.predicate = predicate;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void compute() {
+            if (end - start <= CHUNK_SIZE) {
+                for (int i = start; i < end; i++) {
+                    matches[i] = predicate.test((E) elements[i]);
+                }
+                return;
+            }
+            int middle = (start + end) >>> 1;
+            invokeAll(new TestTask<>(elements, matches, predicate, start, middle),
+                    new TestTask<>(elements, matches, predicate, middle, end));
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Map;
 
 import seedu.address.commons.core.GuiSettings;
 
@@ -13,4 +14,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the definitions of the saved smart groups, from each group's name to its query in the syntax of the
+     * {@code query} command, in the order the groups were first saved.
+     */
+    Map<String, String> getSmartGroups();
+
 }
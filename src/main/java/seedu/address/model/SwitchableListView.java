@@ -0,0 +1,83 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * A read-only view that shows one of several source lists, and can be switched to another source in O(1).
+ * Changes to the current source are forwarded as they happen; switching sources fires a single change
+ * replacing the old contents with the new.
+ */
+class SwitchableListView<E> extends ObservableListBase<E> {
+
+    private final ListChangeListener<E> forwarder = this::forward;
+    private ObservableList<E> source;
+
+    /**
+     * Creates a view that initially shows {@code source}.
+     */
+    SwitchableListView(ObservableList<E> source) {
+        requireNonNull(source);
+        this.source = source;
+        source.addListener(forwarder);
+    }
+
+    /**
+     * Shows {@code newSource} from now on.
+     */
+    void setSource(ObservableList<E> newSource) {
+        requireNonNull(newSource);
+        if (newSource == source) {
+            return;
+        }
+        List<E> removed = new ArrayList<>(source);
+        source.removeListener(forwarder);
+        source = newSource;
+        source.addListener(forwarder);
+
+        beginChange();
+        nextReplace(0, source.size(), removed);
+        endChange();
+    }
+
+    private void forward(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(change.getFrom(), change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(change.getFrom(), change.getTo());
+                }
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+}
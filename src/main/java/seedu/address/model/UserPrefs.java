@@ -4,6 +4,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
@@ -15,6 +18,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private Map<String, String> smartGroups = new LinkedHashMap<>();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +40,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setSmartGroups(newUserPrefs.getSmartGroups());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +61,36 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    @Override
+    public Map<String, String> getSmartGroups() {
+        return Collections.unmodifiableMap(smartGroups);
+    }
+
+    /**
+     * Replaces the definitions of the saved smart groups with {@code smartGroups}.
+     */
+    public void setSmartGroups(Map<String, String> smartGroups) {
+        requireNonNull(smartGroups);
+        this.smartGroups = new LinkedHashMap<>(smartGroups);
+    }
+
+    /**
+     * Saves the smart group named {@code name} as {@code definition}, replacing any group with the same name.
+     */
+    public void putSmartGroup(String name, String definition) {
+        requireNonNull(name);
+        requireNonNull(definition);
+        smartGroups.put(name, definition);
+    }
+
+    /**
+     * Removes the smart group named {@code name}, if there is one.
+     */
+    public void removeSmartGroup(String name) {
+        requireNonNull(name);
+        smartGroups.remove(name);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +104,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && smartGroups.equals(otherUserPrefs.smartGroups);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, smartGroups);
     }
 
     @Override
@@ -82,6 +118,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nSmart groups : " + smartGroups);
         return sb.toString();
     }
 
@@ -0,0 +1,105 @@
+package seedu.address.model.group;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.Query;
+
+/**
+ * A named, saved query whose members are kept as the address book changes, so that the persons in the group,
+ * and how many there are, are known without testing the query against every person.
+ *
+ * As a predicate, a group accepts its current members. Each group is its own key: a group saved again under
+ * the same name is a new group, so that views filtered by the old definition are never mistaken for the new.
+ */
+public class SmartGroup implements Predicate<Person> {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Group names should be a single word of letters, digits, '-' and '_', at most 30 characters long";
+    public static final String VALIDATION_REGEX = "[\\p{L}\\p{N}_-]{1,30}";
+
+    private final String name;
+    private final Query definition;
+    private final Set<Person> members = new HashSet<>();
+
+    /**
+     * Creates an empty group named {@code name} of the persons matched by {@code definition}.
+     */
+    SmartGroup(String name, Query definition) {
+        requireNonNull(name);
+        requireNonNull(definition);
+        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        this.name = name;
+        this.definition = definition;
+    }
+
+    /**
+     * Returns true if a given string is a valid group name.
+     */
+    public static boolean isValidName(String test) {
+        return test.matches(VALIDATION_REGEX);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Query getDefinition() {
+        return definition;
+    }
+
+    /**
+     * Returns the persons in the group, as an unmodifiable view that follows the group's changes.
+     */
+    public Set<Person> getMembers() {
+        return Collections.unmodifiableSet(members);
+    }
+
+    /**
+     * Returns the number of persons in the group.
+     */
+    public int size() {
+        return members.size();
+    }
+
+    /**
+     * Returns true if {@code person} is in the group.
+     */
+    @Override
+    public boolean test(Person person) {
+        return members.contains(person);
+    }
+
+    /**
+     * Adds {@code person} to the group if the definition matches it.
+     */
+    void offer(Person person) {
+        if (definition.test(person)) {
+            members.add(person);
+        }
+    }
+
+    void remove(Person person) {
+        members.remove(person);
+    }
+
+    void clear() {
+        members.clear();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .add("definition", definition)
+                .add("size", size())
+                .toString();
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.model.group;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonObserver;
+import seedu.address.model.search.Query;
+
+/**
+ * The smart groups of an address book, in the order they were first saved. Register it with
+ * {@link seedu.address.model.AddressBook#addPersonObserver(PersonObserver)} to keep their members up to date:
+ * each added or edited person is tested against each group's definition once, and a removed person is dropped
+ * from every group, so no group is ever filtered again from scratch.
+ *
+ * As the list is told of each change before the change reaches the persons list, the members of a group are
+ * always in step with the list that the group filters.
+ */
+public class SmartGroupList implements PersonObserver {
+
+    private final Map<String, SmartGroup> groups = new LinkedHashMap<>();
+
+    /**
+     * Saves a group named {@code name} of the persons matched by {@code definition}, finding its members among
+     * {@code persons}, which must be the persons currently in the address book. A group with the same name
+     * is replaced.
+     *
+     * @throws IllegalArgumentException if {@code name} is not a valid group name.
+     */
+    public SmartGroup put(String name, Query definition, Collection<Person> persons) {
+        requireNonNull(persons);
+        SmartGroup group = new SmartGroup(name, definition);
+        persons.forEach(group::offer);
+        groups.put(name, group);
+        return group;
+    }
+
+    /**
+     * Removes the group named {@code name} and returns it, or returns an empty {@code Optional} if there is none.
+     */
+    public Optional<SmartGroup> remove(String name) {
+        requireNonNull(name);
+        return Optional.ofNullable(groups.remove(name));
+    }
+
+    /**
+     * Returns the group named {@code name}, or an empty {@code Optional} if there is none.
+     */
+    public Optional<SmartGroup> get(String name) {
+        requireNonNull(name);
+        return Optional.ofNullable(groups.get(name));
+    }
+
+    /**
+     * Returns the groups in the order they were first saved.
+     */
+    public List<SmartGroup> asList() {
+        return new ArrayList<>(groups.values());
+    }
+
+    @Override
+    public void personAdded(Person person) {
+        requireNonNull(person);
+        groups.values().forEach(group -> group.offer(person));
+    }
+
+    @Override
+    public void personRemoved(Person person) {
+        requireNonNull(person);
+        groups.values().forEach(group -> group.remove(person));
+    }
+
+    @Override
+    public void personsReset(List<Person> persons) {
+        requireNonNull(persons);
+        for (SmartGroup group : groups.values()) {
+            group.clear();
+            persons.forEach(group::offer);
+        }
+    }
+}
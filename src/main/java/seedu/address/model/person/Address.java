@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -22,15 +24,32 @@ public class Address {
 
     public final String value;
 
+    /** The key that the address is searched by, see {@link StringUtil#toSearchKey(String)}. */
+    private final String searchKey;
+
     /**
      * Constructs an {@code Address}.
      *
      * @param address A valid address.
      */
     public Address(String address) {
+        this(address, true);
+    }
+
+    private Address(String address, boolean shouldValidate) {
         requireNonNull(address);
-        checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
+        checkArgument(!shouldValidate || isValidAddress(address), MESSAGE_CONSTRAINTS);
         value = address;
+        searchKey = StringUtil.toSearchKey(address);
+    }
+
+    /**
+     * Returns an {@code Address} of {@code address} without validating it, for values that are already known to be
+     * valid, such as ones copied out of an existing {@code Address}.
+     */
+    public static Address ofValid(String address) {
+        assert isValidAddress(address);
+        return new Address(address, false);
     }
 
     /**
@@ -40,6 +59,13 @@ public class Address {
         return test.matches(VALIDATION_REGEX) && test.length() <= MAX_LENGTH;
     }
 
+    /**
+     * Returns the key that this address is searched by: without accents and case-folded.
+     */
+    public String getSearchKey() {
+        return searchKey;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -3,10 +3,15 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Set;
 
+import seedu.address.commons.util.Interner;
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's country in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidCountry(String)}
@@ -37,8 +42,24 @@ public class Country {
         VALID_COUNTRY_NAMES.add("Côte d'Ivoire");
     }
 
+    /**
+     * Orders countries alphabetically by their precomputed sort keys.
+     * The empty country, meaning no country is given, comes last.
+     */
+    public static final Comparator<Country> SORT_ORDER = (c1, c2) -> {
+        if (c1.sortKey == null || c2.sortKey == null) {
+            return Boolean.compare(c1.sortKey == null, c2.sortKey == null);
+        }
+        return Arrays.compareUnsigned(c1.sortKey, c2.sortKey);
+    };
+
+    private static final Interner<Country> POOL = new Interner<>();
+
     public final String value;
 
+    /** Key that sorts countries alphabetically, or null if no country is given. */
+    private final byte[] sortKey;
+
     /**
      * Constructs a {@code Country}.
      *
@@ -49,6 +70,17 @@ public class Country {
         checkArgument(isValidCountry(country), MESSAGE_CONSTRAINTS);
 
         this.value = normalizeCountryName(country);
+        this.sortKey = value.isEmpty() ? null : StringUtil.toSortKey(value);
+    }
+
+    /**
+     * Returns a {@code Country} equal to {@code new Country(country)}. Instances are pooled, so equal values
+     * created through this method share one instance and repeated values skip validation.
+     *
+     * @throws IllegalArgumentException if {@code country} is not a valid country.
+     */
+    public static Country of(String country) {
+        return POOL.intern(country, Country::new);
     }
 
     /**
@@ -14,6 +14,10 @@ public class CountryContainsKeywordPredicate implements Predicate<Person> {
         this.country = country;
     }
 
+    public Country getCountry() {
+        return country;
+    }
+
     @Override
     public boolean test(Person person) {
         return this.country.equals(person.getCountry());
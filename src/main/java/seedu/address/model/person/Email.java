@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -36,15 +38,32 @@ public class Email {
 
     public final String value;
 
+    /** The key that the email is searched by, see {@link StringUtil#toSearchKey(String)}. */
+    private final String searchKey;
+
     /**
      * Constructs an {@code Email}.
      *
      * @param email A valid email address.
      */
     public Email(String email) {
+        this(email, true);
+    }
+
+    private Email(String email, boolean shouldValidate) {
         requireNonNull(email);
-        checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        checkArgument(!shouldValidate || isValidEmail(email), MESSAGE_CONSTRAINTS);
         value = email;
+        searchKey = StringUtil.toSearchKey(email);
+    }
+
+    /**
+     * Returns an {@code Email} of {@code email} without validating it, for values that are already known to be
+     * valid, such as ones copied out of an existing {@code Email}.
+     */
+    public static Email ofValid(String email) {
+        assert isValidEmail(email);
+        return new Email(email, false);
     }
 
     /**
@@ -54,6 +73,27 @@ public class Email {
         return test.matches(VALIDATION_REGEX) && test.length() <= MAX_LENGTH;
     }
 
+    /**
+     * Returns if a given string is a valid domain name, the part of an email after the {@code @}.
+     */
+    public static boolean isValidDomain(String test) {
+        return test.matches(DOMAIN_REGEX) && test.length() < MAX_LENGTH;
+    }
+
+    /**
+     * Returns the key that this email is searched by: without accents and case-folded.
+     */
+    public String getSearchKey() {
+        return searchKey;
+    }
+
+    /**
+     * Returns the domain of this email, the part after the {@code @}, without accents and in lower case.
+     */
+    public String getDomain() {
+        return searchKey.substring(searchKey.lastIndexOf('@') + 1);
+    }
+
     @Override
     public String toString() {
         return value;
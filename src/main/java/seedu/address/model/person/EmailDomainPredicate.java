@@ -0,0 +1,58 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that the domain of a {@code Person}'s {@code Email} is the domain given or one of its subdomains,
+ * ignoring case and accents, so that {@code nus.edu.sg} matches both {@code alice@nus.edu.sg} and
+ * {@code bob@u.nus.edu.sg}, but not {@code carl@anus.edu.sg}.
+ */
+public class EmailDomainPredicate implements Predicate<Person> {
+    private final String domain;
+
+    /**
+     * Constructs a predicate that matches the emails in {@code domain} and its subdomains.
+     */
+    public EmailDomainPredicate(String domain) {
+        requireNonNull(domain);
+        this.domain = StringUtil.toSearchKey(domain);
+    }
+
+    /**
+     * Returns the domain matched, without accents and in lower case.
+     */
+    public String getDomain() {
+        return domain;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        String emailDomain = person.getEmail().getDomain();
+        return emailDomain.equals(domain) || emailDomain.endsWith("." + domain);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EmailDomainPredicate)) {
+            return false;
+        }
+
+        EmailDomainPredicate otherEmailDomainPredicate = (EmailDomainPredicate) other;
+        return domain.equals(otherEmailDomainPredicate.domain);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("domain", domain).toString();
+    }
+}
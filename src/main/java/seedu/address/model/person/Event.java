@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's event note in the address book.
  * Guarantees: immutable.
@@ -13,8 +16,13 @@ public class Event {
 
     public static final int MAX_LENGTH = 100;
 
+    private static final Interner<Event> POOL = new Interner<>();
+
     public final String value;
 
+    /** The key that the event is searched by, see {@link StringUtil#toSearchKey(String)}. */
+    private final String searchKey;
+
     /**
      * Constructs an {@code Event}.
      *
@@ -24,6 +32,17 @@ public class Event {
         requireNonNull(event);
         checkArgument(isValidEvent(event), MESSAGE_CONSTRAINTS);
         value = event;
+        searchKey = StringUtil.toSearchKey(event);
+    }
+
+    /**
+     * Returns an {@code Event} equal to {@code new Event(event)}. Instances are pooled, so equal values
+     * created through this method share one instance and repeated values skip validation.
+     *
+     * @throws IllegalArgumentException if {@code event} is not a valid event.
+     */
+    public static Event of(String event) {
+        return POOL.intern(event, Event::new);
     }
 
     /**
@@ -33,6 +52,13 @@ public class Event {
         return test.length() <= MAX_LENGTH;
     }
 
+    /**
+     * Returns the key that this event is searched by: without accents and case-folded.
+     */
+    public String getSearchKey() {
+        return searchKey;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -0,0 +1,94 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person}'s note, address or event contains any of the given terms.
+ * Text is split into terms at every character that is not a letter or a digit, and terms are compared
+ * by their search keys, ignoring case and accents.
+ */
+public class FullTextMatchPredicate implements Predicate<Person> {
+
+    private static final Pattern TERM_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final List<String> terms;
+
+    /**
+     * Constructs a predicate that matches any of {@code terms}, which should come from {@link #termsOf(String)}.
+     */
+    public FullTextMatchPredicate(List<String> terms) {
+        this.terms = terms;
+    }
+
+    public List<String> getTerms() {
+        return terms;
+    }
+
+    /**
+     * Returns the terms of the search key of {@code text}, in order and with repeats.
+     */
+    public static List<String> termsOf(String text) {
+        return termsOfSearchKey(StringUtil.toSearchKey(text));
+    }
+
+    private static List<String> termsOfSearchKey(String searchKey) {
+        List<String> terms = new ArrayList<>();
+        for (String term : TERM_SEPARATOR.split(searchKey)) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Returns the terms of the note, address and event of {@code person}, in order and with repeats.
+     */
+    public static List<String> termsOf(Person person) {
+        List<String> terms = new ArrayList<>();
+        if (person.getNote() != null) {
+            terms.addAll(termsOfSearchKey(person.getNote().getSearchKey()));
+        }
+        if (person.getAddress() != null) {
+            terms.addAll(termsOfSearchKey(person.getAddress().getSearchKey()));
+        }
+        if (person.getEvent() != null) {
+            terms.addAll(termsOfSearchKey(person.getEvent().getSearchKey()));
+        }
+        return terms;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        Set<String> personTerms = new HashSet<>(termsOf(person));
+        return terms.stream().anyMatch(personTerms::contains);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FullTextMatchPredicate)) {
+            return false;
+        }
+
+        FullTextMatchPredicate otherFullTextMatchPredicate = (FullTextMatchPredicate) other;
+        return terms.equals(otherFullTextMatchPredicate.terms);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("terms", terms).toString();
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.model.person;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person}'s name, organisation or email contains a word that is within a few typos of any
+ * of the keywords, ignoring case and accents.
+ * The typos allowed grow with the length of the keyword, see {@link #maxDistance(String)}.
+ */
+public class FuzzyMatchPredicate implements Predicate<Person> {
+
+    /** The distance returned by {@link #distanceTo(Person)} for a person that does not match. */
+    public static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private static final int MAX_TYPOS = 3;
+
+    private final List<String> keywords;
+    private final List<String> searchKeywords;
+
+    /**
+     * Constructs a predicate that matches any of {@code keywords}.
+     */
+    public FuzzyMatchPredicate(List<String> keywords) {
+        this.keywords = keywords;
+        this.searchKeywords = keywords.stream().map(StringUtil::toSearchKey).collect(Collectors.toList());
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns the number of typos, counted as edits, that a word may have and still match {@code keyword}.
+     * Keywords of up to three letters must match exactly, and one typo is allowed for every three letters
+     * after the first, up to three typos.
+     */
+    public static int maxDistance(String keyword) {
+        return Math.min(MAX_TYPOS, Math.max(0, (keyword.length() - 1) / 3));
+    }
+
+    /**
+     * Returns the words, taken from search keys, that the keywords are matched against: the words of the
+     * person's name and organisation, and the parts of the local part of the person's email split at dots,
+     * dashes, underscores and pluses.
+     */
+    public static Set<String> wordsOf(Person person) {
+        Set<String> words = new LinkedHashSet<>();
+        addWords(words, person.getName().getSearchKey(), "\\s+");
+        if (person.getOrganisation() != null) {
+            addWords(words, person.getOrganisation().getSearchKey(), "\\s+");
+        }
+        String email = person.getEmail().getSearchKey();
+        int at = email.indexOf('@');
+        addWords(words, at < 0 ? email : email.substring(0, at), "[._+-]+");
+        return words;
+    }
+
+    private static void addWords(Set<String> words, String text, String separator) {
+        for (String word : text.split(separator)) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+    }
+
+    /**
+     * Returns the fewest typos between a keyword and a word of {@code person}, among the pairs within the typos
+     * allowed for the keyword, or {@link #NO_MATCH} if there are none.
+     */
+    public int distanceTo(Person person) {
+        Set<String> words = wordsOf(person);
+        int best = NO_MATCH;
+        for (String keyword : searchKeywords) {
+            int maxDistance = maxDistance(keyword);
+            for (String word : words) {
+                int distance = StringUtil.editDistance(keyword, word, maxDistance);
+                if (distance <= maxDistance) {
+                    best = Math.min(best, distance);
+                }
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return distanceTo(person) != NO_MATCH;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FuzzyMatchPredicate)) {
+            return false;
+        }
+
+        FuzzyMatchPredicate otherFuzzyMatchPredicate = (FuzzyMatchPredicate) other;
+        return keywords.equals(otherFuzzyMatchPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} is one of the persons found by an earlier search, such as the best matches of a
+ * {@code search}. The persons are kept by id, so a person still matches after being edited.
+ */
+public class MatchedPersonsPredicate implements Predicate<Person> {
+
+    private final Set<PersonId> ids;
+
+    /**
+     * Creates a predicate that accepts {@code persons}, and the persons they are later edited into.
+     */
+    public MatchedPersonsPredicate(Collection<Person> persons) {
+        requireNonNull(persons);
+        this.ids = persons.stream().map(Person::getId).collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Returns the ids of the persons accepted.
+     */
+    public Set<PersonId> getIds() {
+        return ids;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return ids.contains(person.getId());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MatchedPersonsPredicate)) {
+            return false;
+        }
+
+        MatchedPersonsPredicate otherMatchedPersonsPredicate = (MatchedPersonsPredicate) other;
+        return ids.equals(otherMatchedPersonsPredicate.ids);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("persons", ids.size()).toString();
+    }
+}
@@ -3,6 +3,13 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.commons.util.PhoneticUtil;
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -10,6 +17,9 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
  */
 public class Name {
 
+    /** Orders names alphabetically, ignoring case, by their precomputed sort keys. */
+    public static final Comparator<Name> SORT_ORDER = (n1, n2) -> Arrays.compareUnsigned(n1.sortKey, n2.sortKey);
+
     public static final String MESSAGE_CONSTRAINTS =
             "Names should only contain alphanumeric characters, spaces, dashes, slashes, apostrophes, fullstops"
                     + "must not be blank, "
@@ -25,15 +35,44 @@ public class Name {
 
     public final String fullName;
 
+    /** The key that the name is searched by, see {@link StringUtil#toSearchKey(String)}. */
+    private final String searchKey;
+
+    /** Cached hash of the case-folded name, consistent with the case-insensitive {@link #equals(Object)}. */
+    private final int hash;
+
+    /** Key that sorts names alphabetically, computed once so that sorting does no per-comparison work. */
+    private final byte[] sortKey;
+
+    /** Phonetic codes of the words of the name, computed once so that searches by sound do no encoding. */
+    private final List<String> phoneticCodes;
+
     /**
      * Constructs a {@code Name}.
      *
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, true);
+    }
+
+    private Name(String name, boolean shouldValidate) {
         requireNonNull(name);
-        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        checkArgument(!shouldValidate || isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        searchKey = StringUtil.toSearchKey(name);
+        hash = StringUtil.foldCase(name).hashCode();
+        sortKey = StringUtil.toSortKey(name);
+        phoneticCodes = PhoneticUtil.encodeWords(name);
+    }
+
+    /**
+     * Returns a {@code Name} of {@code name} without validating it, for values that are already known to be
+     * valid, such as ones copied out of an existing {@code Name}.
+     */
+    public static Name ofValid(String name) {
+        assert isValidName(name);
+        return new Name(name, false);
     }
 
     /**
@@ -43,6 +82,19 @@ public class Name {
         return test.matches(VALIDATION_REGEX) && test.length() <= MAX_LENGTH;
     }
 
+    /**
+     * Returns the key that this name is searched by: without accents and case-folded.
+     */
+    public String getSearchKey() {
+        return searchKey;
+    }
+
+    /**
+     * Returns the distinct phonetic codes of the words of this name, see {@link PhoneticUtil#encodeWords(String)}.
+     */
+    public List<String> getPhoneticCodes() {
+        return phoneticCodes;
+    }
 
     @Override
     public String toString() {
@@ -66,7 +118,7 @@ public class Name {
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        return hash;
     }
 
 }
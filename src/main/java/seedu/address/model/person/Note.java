@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's cutural note in the address book.
  * Guarantees: immutable
@@ -15,13 +17,30 @@ public class Note {
 
     public final String value;
 
+    /** The key that the note is searched by, see {@link StringUtil#toSearchKey(String)}. */
+    private final String searchKey;
+
     /**
      * @param note note of the person
      */
     public Note(String note) {
+        this(note, true);
+    }
+
+    private Note(String note, boolean shouldValidate) {
         requireNonNull(note);
-        checkArgument(isValidNote(note), MESSAGE_CONSTRAINTS);
+        checkArgument(!shouldValidate || isValidNote(note), MESSAGE_CONSTRAINTS);
         value = note;
+        searchKey = StringUtil.toSearchKey(note);
+    }
+
+    /**
+     * Returns a {@code Note} of {@code note} without validating it, for values that are already known to be
+     * valid, such as ones copied out of an existing {@code Note}.
+     */
+    public static Note ofValid(String note) {
+        assert isValidNote(note);
+        return new Note(note, false);
     }
 
     /**
@@ -31,6 +50,13 @@ public class Note {
         return test.length() <= MAX_LENGTH;
     }
 
+    /**
+     * Returns the key that this note is searched by: without accents and case-folded.
+     */
+    public String getSearchKey() {
+        return searchKey;
+    }
+
     @Override
     public String toString() {
         return value;
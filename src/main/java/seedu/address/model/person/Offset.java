@@ -5,6 +5,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.time.ZoneOffset;
 import java.util.logging.Logger;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a GMT offset for a person.
  * Guarantees: valid format +HH:MM or -HH:MM, immutable.
@@ -17,6 +19,8 @@ public class Offset implements Comparable<Offset> {
                     + "MM is one of 00, 30, or 45 only and valid existing offsets";
     public static final String VALIDATION_REGEX = "^[+-](\\d{2}):(\\d{2})$";
     private static final Logger logger = Logger.getLogger(Offset.class.getName());
+    private static final Interner<Offset> POOL = new Interner<>();
+
     public final String value;
     private final int totalMinutes; // offset in minutes
 
@@ -39,6 +43,16 @@ public class Offset implements Comparable<Offset> {
         logger.info("Offset created: " + this + ", totalMinutes=" + totalMinutes);
     }
 
+    /**
+     * Returns an {@code Offset} equal to {@code new Offset(input)}. Instances are pooled, so equal values
+     * created through this method share one instance and repeated values skip validation.
+     *
+     * @throws IllegalArgumentException if {@code input} is not a valid offset.
+     */
+    public static Offset of(String input) {
+        return POOL.intern(input, Offset::new);
+    }
+
     /**
      * Returns true if the given string is a valid GMT/UTC offset in the format +HH:MM or -HH:MM,
      * within the allowed timezone range.
@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's organisation (e.g., company, school, club).
  * Guarantees: immutable.
@@ -13,8 +16,13 @@ public class Organisation {
 
     public static final int MAX_LENGTH = 60;
 
+    private static final Interner<Organisation> POOL = new Interner<>();
+
     public final String value;
 
+    /** The key that the organisation is searched by, see {@link StringUtil#toSearchKey(String)}. */
+    private final String searchKey;
+
     /**
      * Constructs an {@code Organisation}.
      * An empty string is allowed to represent no organisation.
@@ -23,6 +31,18 @@ public class Organisation {
         requireNonNull(organisation);
         checkArgument(isValidOrganisation(organisation), MESSAGE_CONSTRAINTS);
         value = organisation;
+        searchKey = StringUtil.toSearchKey(organisation);
+    }
+
+    /**
+     * Returns an {@code Organisation} equal to {@code new Organisation(organisation)}.
+     * Instances are pooled, so equal values created through this method share one instance
+     * and repeated values skip validation.
+     *
+     * @throws IllegalArgumentException if {@code organisation} is not a valid organisation.
+     */
+    public static Organisation of(String organisation) {
+        return POOL.intern(organisation, Organisation::new);
     }
 
     /**
@@ -32,6 +52,13 @@ public class Organisation {
         return test.length() <= MAX_LENGTH;
     }
 
+    /**
+     * Returns the key that this organisation is searched by: without accents and case-folded.
+     */
+    public String getSearchKey() {
+        return searchKey;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -19,6 +19,10 @@ public class OrganisationContainsKeywordPredicate implements Predicate<Person> {
         this.keyword = keyword;
     }
 
+    public String getKeyword() {
+        return keyword;
+    }
+
     @Override
     public boolean test(Person person) {
         return person.getOrganisation() != null
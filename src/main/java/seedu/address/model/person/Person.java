@@ -17,6 +17,9 @@ import seedu.address.model.tag.Tag;
  */
 public class Person {
 
+    // Internal identifier, stable across edits
+    private final PersonId id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -36,36 +39,19 @@ public class Person {
 
     private final boolean isArchived;
 
+    /** Hash of the fields compared by {@link #equals(Object)}, computed once as a person never changes. */
+    private final int hash;
+
     /**
      * Every field must be present and not null.
+     * The person is given a newly generated {@code PersonId}.
      */
     public Person(Name name, Phone phone, Email email, Address address, Country country, Organisation organisation,
                   Event event, Note note, CommunicationChannel preferredChannel, Set<Tag> tags, Offset offset,
                   PreferredLanguage preferredLanguage,
                   AddedOn addedOn, boolean isArchived) {
-        requireAllNonNull(name, phone, email, address, note, tags, offset, addedOn);
-        this.name = name;
-        this.phone = phone;
-        this.email = email;
-        this.address = address;
-        this.country = country;
-        this.organisation = organisation;
-        this.event = event;
-        this.note = note;
-        this.preferredChannel = preferredChannel;
-        this.tags.addAll(tags);
-        this.offset = offset;
-        this.preferredLanguage = preferredLanguage;
-        this.isArchived = isArchived;
-        this.addedOn = addedOn;
-
-        removeOldCountryTags();
-
-        String countryCode = phone.getCountryCode();
-        if (!countryCode.equals("Unknown") && !countryCode.equals("Invalid")) {
-            Tag countryTag = new Tag("+" + countryCode);
-            this.tags.add(countryTag);
-        }
+        this(PersonId.generate(), name, phone, email, address, country, organisation, event, note, preferredChannel,
+                tags, offset, preferredLanguage, addedOn, isArchived);
     }
 
     /**
@@ -74,7 +60,19 @@ public class Person {
     public Person(Name name, Phone phone, Email email, Address address, Country country, Organisation organisation,
                   Event event, Note note, Set<Tag> tags, Offset offset, PreferredLanguage preferredLanguage,
                   AddedOn addedOn, boolean isArchived) {
-        requireAllNonNull(name, phone, email, address, note, tags, offset, addedOn);
+        this(name, phone, email, address, country, organisation, event, note, null, tags, offset,
+                preferredLanguage, addedOn, isArchived);
+    }
+
+    /**
+     * Creates a person that keeps the given {@code id}, e.g. an edited copy of an existing person.
+     */
+    public Person(PersonId id, Name name, Phone phone, Email email, Address address, Country country,
+                  Organisation organisation, Event event, Note note, CommunicationChannel preferredChannel,
+                  Set<Tag> tags, Offset offset, PreferredLanguage preferredLanguage,
+                  AddedOn addedOn, boolean isArchived) {
+        requireAllNonNull(id, name, phone, email, address, note, tags, offset, addedOn);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -83,7 +81,7 @@ public class Person {
         this.organisation = organisation;
         this.event = event;
         this.note = note;
-        this.preferredChannel = null;
+        this.preferredChannel = preferredChannel;
         this.tags.addAll(tags);
         this.offset = offset;
         this.preferredLanguage = preferredLanguage;
@@ -94,9 +92,12 @@ public class Person {
 
         String countryCode = phone.getCountryCode();
         if (!countryCode.equals("Unknown") && !countryCode.equals("Invalid")) {
-            Tag countryTag = new Tag("+" + countryCode);
+            Tag countryTag = Tag.of("+" + countryCode);
             this.tags.add(countryTag);
         }
+
+        hash = Objects.hash(name, phone, email, address, country, organisation, event, note, this.tags, offset,
+                isArchived);
     }
 
     /**
@@ -120,6 +121,10 @@ public class Person {
         return preferredChannel;
     }
 
+    public PersonId getId() {
+        return id;
+    }
+
     public Name getName() {
         return name;
     }
@@ -207,6 +212,8 @@ public class Person {
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
+     * The internal {@code PersonId} is not a data field and is not compared.
+     * Persons with different cached hashes are rejected without comparing their fields.
      */
     @Override
     public boolean equals(Object other) {
@@ -220,24 +227,26 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return name.equals(otherPerson.name)
+        return hash == otherPerson.hash
+                && isArchived == otherPerson.isArchived
+                && name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
                 && address.equals(otherPerson.address)
-                && country.equals(otherPerson.country)
-                && organisation.equals(otherPerson.organisation)
-                && event.equals(otherPerson.event)
+                && Objects.equals(country, otherPerson.country)
+                && Objects.equals(organisation, otherPerson.organisation)
+                && Objects.equals(event, otherPerson.event)
                 && note.equals(otherPerson.note)
                 && tags.equals(otherPerson.tags)
-                && offset.equals(otherPerson.offset)
-                && isArchived == otherPerson.isArchived;
+                && offset.equals(otherPerson.offset);
     }
 
+    /**
+     * Returns the hash of the fields compared by {@link #equals(Object)}, so that equal persons have equal hashes.
+     */
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, offset, country, organisation, event, preferredChannel,
-                preferredLanguage, addedOn, note, tags, isArchived);
+        return hash;
     }
 
     @Override
@@ -16,6 +16,10 @@ public class PersonContainsTagsPredicate implements Predicate<Person> {
         this.tags = tags;
     }
 
+    public List<Tag> getTags() {
+        return tags;
+    }
+
     @Override
     public boolean test(Person person) {
         // Returns true if the person's tag set contains all the required tags
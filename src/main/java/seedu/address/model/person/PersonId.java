@@ -0,0 +1,87 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Represents the stable internal identifier of a Person in the address book.
+ * Unlike the displayed index, the id does not change when the person is edited, archived or re-sorted.
+ * Guarantees: immutable; is valid as declared in {@link #isValidPersonId(String)}
+ */
+public class PersonId {
+
+    public static final String MESSAGE_CONSTRAINTS = "Person ids should be UUIDs, "
+            + "e.g. 123e4567-e89b-42d3-a456-556642440000";
+
+    public static final String VALIDATION_REGEX =
+            "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}";
+
+    public final String value;
+
+    /**
+     * Constructs a {@code PersonId}.
+     *
+     * @param id A valid person id.
+     */
+    public PersonId(String id) {
+        this(id, true);
+    }
+
+    private PersonId(String id, boolean shouldValidate) {
+        requireNonNull(id);
+        checkArgument(!shouldValidate || isValidPersonId(id), MESSAGE_CONSTRAINTS);
+        value = id.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns a new, randomly generated {@code PersonId}.
+     */
+    public static PersonId generate() {
+        return new PersonId(UUID.randomUUID().toString());
+    }
+
+    /**
+     * Returns a {@code PersonId} of {@code id} without validating it, for values that are already known to be
+     * valid, such as ones copied out of an existing {@code PersonId}.
+     */
+    public static PersonId ofValid(String id) {
+        assert isValidPersonId(id);
+        return new PersonId(id, false);
+    }
+
+    /**
+     * Returns true if a given string is a valid person id.
+     */
+    public static boolean isValidPersonId(String test) {
+        return test.matches(VALIDATION_REGEX);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonId)) {
+            return false;
+        }
+
+        PersonId otherPersonId = (PersonId) other;
+        return value.equals(otherPersonId.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+}
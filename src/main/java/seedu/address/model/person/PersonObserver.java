@@ -0,0 +1,34 @@
+package seedu.address.model.person;
+
+import java.util.List;
+
+/**
+ * Receives every change made to the persons of a {@link UniquePersonList}, just before the change is applied.
+ * Changes made within a batch are reported immediately; if the batch is aborted, the observer is
+ * reset to the pre-batch contents through {@link #personsReset(List)}.
+ */
+public interface PersonObserver {
+
+    /**
+     * Called when {@code person} is added.
+     */
+    void personAdded(Person person);
+
+    /**
+     * Called when {@code person} is removed.
+     */
+    void personRemoved(Person person);
+
+    /**
+     * Called when {@code target} is replaced by {@code editedPerson}.
+     */
+    default void personReplaced(Person target, Person editedPerson) {
+        personRemoved(target);
+        personAdded(editedPerson);
+    }
+
+    /**
+     * Called when the whole contents are replaced with {@code persons}, and when the observer is first registered.
+     */
+    void personsReset(List<Person> persons);
+}
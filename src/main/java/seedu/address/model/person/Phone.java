@@ -5,6 +5,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import com.google.i18n.phonenumbers.NumberParseException;
 import com.google.i18n.phonenumbers.PhoneNumberUtil;
+import com.google.i18n.phonenumbers.PhoneNumberUtil.PhoneNumberFormat;
 import com.google.i18n.phonenumbers.Phonenumber;
 
 /**
@@ -20,6 +21,10 @@ public class Phone {
     public static final String VALIDATION_REGEX = "^\\+?[0-9\\-()\\s]*$";
     public final String value;
     public final String countryCode;
+    /** The digits of the number, without its separators, e.g. {@code 6598765432} for {@code +65 9876-5432}. */
+    private final String digits;
+    /** The number in E.164 form, e.g. {@code +6598765432}, or null if it has no valid country calling code. */
+    private final String e164;
 
     /**
      * Constructs a {@code Phone}.
@@ -27,10 +32,27 @@ public class Phone {
      * @param phone A valid phone number.
      */
     public Phone(String phone) {
+        this(phone, true);
+    }
+
+    private Phone(String phone, boolean shouldValidate) {
         requireNonNull(phone);
-        checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        checkArgument(!shouldValidate || isValidPhone(phone), MESSAGE_CONSTRAINTS);
         this.value = phone;
-        this.countryCode = deriveCountryCode(phone);
+        this.digits = phone.replaceAll("\\D", "");
+        Phonenumber.PhoneNumber parsedNumber = parse(phone);
+        this.countryCode = parsedNumber == null ? "Invalid" : String.valueOf(parsedNumber.getCountryCode());
+        this.e164 = parsedNumber == null
+                ? null : PhoneNumberUtil.getInstance().format(parsedNumber, PhoneNumberFormat.E164);
+    }
+
+    /**
+     * Returns a {@code Phone} of {@code phone} without validating it, for values that are already known to be
+     * valid, such as ones copied out of an existing {@code Phone}.
+     */
+    public static Phone ofValid(String phone) {
+        assert isValidPhone(phone);
+        return new Phone(phone, false);
     }
 
     /**
@@ -63,25 +85,38 @@ public class Phone {
     }
 
     /**
-     * Uses Google's libphonenumber to parse the phone number and extract the ISO
-     * country code.
+     * Uses Google's libphonenumber to parse the phone number, which must start with its country calling code,
+     * or returns null if it cannot be parsed.
      */
-    private String deriveCountryCode(String phone) {
-        PhoneNumberUtil phoneUtil = PhoneNumberUtil.getInstance();
+    private static Phonenumber.PhoneNumber parse(String phone) {
         try {
-            Phonenumber.PhoneNumber parsedNumber = phoneUtil.parse(phone, "");
-
-            int countryCallingCode = parsedNumber.getCountryCode();
-
-            return String.valueOf(countryCallingCode);
-
+            return PhoneNumberUtil.getInstance().parse(phone, "");
         } catch (NumberParseException e) {
-            return "Invalid";
+            return null;
         }
     }
 
+    /**
+     * Returns the country calling code of the number, e.g. {@code 65}, or {@code Invalid} if it has none.
+     * The code is derived once, when the phone is created.
+     */
     public String getCountryCode() {
-        return deriveCountryCode(value);
+        return countryCode;
+    }
+
+    /**
+     * Returns the digits of the number as entered, without its {@code +}, spaces, dashes and brackets.
+     */
+    public String getDigits() {
+        return digits;
+    }
+
+    /**
+     * Returns the number in E.164 form, a {@code +} followed by the calling code and the digits of the number,
+     * or null if the number has no valid country calling code.
+     */
+    public String getE164() {
+        return e164;
     }
 
     @Override
@@ -0,0 +1,67 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that the digits of a {@code Person}'s {@code Phone} contain the digits given, wherever they appear and
+ * whatever separators the phone number was entered with, so that {@code 87654} matches {@code +65 9876-5432}.
+ */
+public class PhoneDigitsPredicate implements Predicate<Person> {
+    /** The fewest digits to search for, so that a search does not match most of the address book. */
+    public static final int MIN_DIGITS = 4;
+    public static final String MESSAGE_CONSTRAINTS = "Search for at least " + MIN_DIGITS + " digits of a phone number";
+
+    private final String digits;
+
+    /**
+     * Constructs a predicate that matches the phones containing {@code digits}.
+     *
+     * @param digits at least {@link #MIN_DIGITS} digits, without separators.
+     */
+    public PhoneDigitsPredicate(String digits) {
+        requireNonNull(digits);
+        checkArgument(isValidDigits(digits), MESSAGE_CONSTRAINTS);
+        this.digits = digits;
+    }
+
+    /**
+     * Returns true if {@code test} is at least {@link #MIN_DIGITS} digits, without separators.
+     */
+    public static boolean isValidDigits(String test) {
+        return test.length() >= MIN_DIGITS && test.chars().allMatch(c -> c >= '0' && c <= '9');
+    }
+
+    public String getDigits() {
+        return digits;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getPhone().getDigits().contains(digits);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PhoneDigitsPredicate)) {
+            return false;
+        }
+
+        PhoneDigitsPredicate otherPhoneDigitsPredicate = (PhoneDigitsPredicate) other;
+        return digits.equals(otherPhoneDigitsPredicate.digits);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("digits", digits).toString();
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person}'s {@code Phone}, in E.164 form, starts with the prefix given, such as a country
+ * calling code like {@code +65} or a longer prefix like {@code +1415}. Phones without a country calling code
+ * never match.
+ */
+public class PhonePrefixPredicate implements Predicate<Person> {
+    public static final String MESSAGE_CONSTRAINTS =
+            "A phone prefix should be a country calling code or the start of an international number, "
+            + "made up of 1 to 15 digits, optionally preceded by '+', e.g. +65 or +1415";
+    public static final String VALIDATION_REGEX = "\\+?[0-9]{1,15}";
+
+    private final String prefix;
+
+    /**
+     * Constructs a predicate that matches the phones whose E.164 form starts with {@code prefix}.
+     * The leading {@code +} of the prefix may be left out.
+     */
+    public PhonePrefixPredicate(String prefix) {
+        requireNonNull(prefix);
+        checkArgument(isValidPrefix(prefix), MESSAGE_CONSTRAINTS);
+        this.prefix = prefix.startsWith("+") ? prefix : "+" + prefix;
+    }
+
+    /**
+     * Returns true if {@code test} is a valid phone prefix.
+     */
+    public static boolean isValidPrefix(String test) {
+        return test.matches(VALIDATION_REGEX);
+    }
+
+    /**
+     * Returns the prefix matched, starting with {@code +}.
+     */
+    public String getPrefix() {
+        return prefix;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        String e164 = person.getPhone().getE164();
+        return e164 != null && e164.startsWith(prefix);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PhonePrefixPredicate)) {
+            return false;
+        }
+
+        PhonePrefixPredicate otherPhonePrefixPredicate = (PhonePrefixPredicate) other;
+        return prefix.equals(otherPhonePrefixPredicate.prefix);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("prefix", prefix).toString();
+    }
+}
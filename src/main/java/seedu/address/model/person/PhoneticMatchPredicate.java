@@ -0,0 +1,70 @@
+package seedu.address.model.person;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.PhoneticUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a word of a {@code Person}'s {@code Name} sounds like any of the keywords given, comparing their
+ * phonetic codes. The codes of names are computed when a {@code Name} is created, so testing a person only
+ * compares codes.
+ */
+public class PhoneticMatchPredicate implements Predicate<Person> {
+    private final List<String> keywords;
+    private final List<String> codes;
+
+    /**
+     * Constructs a predicate that matches the names that sound like any of {@code keywords}.
+     */
+    public PhoneticMatchPredicate(List<String> keywords) {
+        this.keywords = keywords;
+        Set<String> keywordCodes = new LinkedHashSet<>();
+        keywords.forEach(keyword -> keywordCodes.addAll(PhoneticUtil.encodeWords(keyword)));
+        this.codes = List.copyOf(keywordCodes);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns the distinct phonetic codes of the keywords, which a name matches if it has any of them.
+     */
+    public List<String> getCodes() {
+        return codes;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (String code : person.getName().getPhoneticCodes()) {
+            if (codes.contains(code)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PhoneticMatchPredicate)) {
+            return false;
+        }
+
+        PhoneticMatchPredicate otherPhoneticMatchPredicate = (PhoneticMatchPredicate) other;
+        return keywords.equals(otherPhoneticMatchPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -5,6 +5,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Locale;
 
+import seedu.address.commons.util.Interner;
 import seedu.address.model.util.StringUtils;
 import seedu.address.model.util.SupportedLanguages;
 
@@ -19,6 +20,8 @@ public class PreferredLanguage {
 
     public static final String VALIDATION_REGEX = "[\\p{L} !]+";
 
+    private static final Interner<PreferredLanguage> POOL = new Interner<>();
+
     public final String language;
 
     /**
@@ -38,6 +41,17 @@ public class PreferredLanguage {
         this.language = normalizedLanguage;
     }
 
+    /**
+     * Returns a {@code PreferredLanguage} equal to {@code new PreferredLanguage(language)}.
+     * Instances are pooled, so equal values created through this method share one instance
+     * and repeated values skip validation.
+     *
+     * @throws IllegalArgumentException if {@code language} is not a valid, supported language.
+     */
+    public static PreferredLanguage of(String language) {
+        return POOL.intern(language, PreferredLanguage::new);
+    }
+
     /**
      * Returns true if a given string is a valid language.
      */
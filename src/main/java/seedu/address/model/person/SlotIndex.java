@@ -0,0 +1,109 @@
+package seedu.address.model.person;
+
+import java.util.BitSet;
+
+/**
+ * Positions of the persons in a list that only grows at its end, such as the one kept by
+ * {@link UniquePersonList}.
+ *
+ * Each person holds a ticket, handed out in list order. Removing a person tombstones their ticket instead of
+ * renumbering every later one, and the position of a ticket is the number of live tickets before it, counted
+ * with a Fenwick tree. Appending, removing and locating a person therefore each take O(log n). Once the
+ * tombstones outnumber the live tickets the owner renumbers its persons with {@link #reset(int)}, which keeps
+ * the tree within twice the size of the list at an amortised O(1) cost per removal.
+ */
+class SlotIndex {
+
+    private static final int MIN_CAPACITY = 16;
+
+    /** Live tickets, one bit per ticket handed out. */
+    private BitSet live = new BitSet();
+    /** Fenwick tree over {@code live}, 1-based. */
+    private int[] tree = new int[MIN_CAPACITY + 1];
+    private int nextTicket;
+    private int size;
+
+    /**
+     * Forgets every ticket and hands out tickets {@code 0} to {@code size - 1}, in list order, to a list of
+     * {@code size} persons.
+     */
+    void reset(int size) {
+        this.size = size;
+        nextTicket = size;
+        live = new BitSet(size);
+        live.set(0, size);
+        rebuild(Math.max(MIN_CAPACITY, 2 * size));
+    }
+
+    /**
+     * Returns the ticket of a person appended to the end of the list.
+     */
+    int append() {
+        if (nextTicket == tree.length - 1) {
+            rebuild(2 * nextTicket);
+        }
+        int ticket = nextTicket++;
+        live.set(ticket);
+        add(ticket, 1);
+        size++;
+        return ticket;
+    }
+
+    /**
+     * Tombstones {@code ticket}, shifting every later ticket down one position.
+     */
+    void remove(int ticket) {
+        assert live.get(ticket);
+        live.clear(ticket);
+        add(ticket, -1);
+        size--;
+    }
+
+    /**
+     * Returns the position in the list of the person holding {@code ticket}.
+     */
+    int positionOf(int ticket) {
+        assert live.get(ticket);
+        int position = 0;
+        for (int i = ticket; i > 0; i -= i & -i) {
+            position += tree[i];
+        }
+        return position;
+    }
+
+    /**
+     * Returns true if tombstones outnumber the live tickets, so that the owner should renumber its persons.
+     */
+    boolean isSparse() {
+        return nextTicket - size > Math.max(size, MIN_CAPACITY);
+    }
+
+    /**
+     * Returns the number of live tickets.
+     */
+    int size() {
+        return size;
+    }
+
+    private void add(int ticket, int delta) {
+        for (int i = ticket + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Rebuilds the tree over {@code live} with room for {@code capacity} tickets, in linear time.
+     */
+    private void rebuild(int capacity) {
+        tree = new int[capacity + 1];
+        for (int i = 1; i <= capacity; i++) {
+            if (live.get(i - 1)) {
+                tree[i]++;
+            }
+            int parent = i + (i & -i);
+            if (parent <= capacity) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
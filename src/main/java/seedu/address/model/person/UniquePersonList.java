@@ -3,9 +3,13 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
@@ -24,6 +28,23 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * The list is kept in insertion order, and an edited person keeps the position of the person it
+ * replaces. Sorted orderings are maintained as views over this list by the model, so sorting never
+ * reorders (or re-saves) the list itself.
+ *
+ * Identity checks are served by a name-keyed hash index, and persons are located for updates and
+ * removals through a hash index from their {@code PersonId} to a ticket whose position in the list is
+ * kept by a {@link SlotIndex}, so that removing a person does not renumber every person after them. Both
+ * indexes are kept in sync with the list on every mutation.
+ *
+ * Every mutation is reported to the registered {@link PersonObserver}s just before it is applied to the list,
+ * so that listeners of the list which consult an observer (e.g. a search index) already see the change.
+ *
+ * Many mutations can be grouped into a batch with {@link #beginBatch()} and {@link #commitBatch()}.
+ * Within a batch the mutations are applied to a private working copy, so lookups and duplicate checks
+ * see every change made so far, while the observable list keeps its pre-batch contents. On commit the
+ * observable list is replaced with the working copy in a single change event.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -31,32 +52,75 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
 public class UniquePersonList implements Iterable<Person> {
 
     private static Logger logger = Logger.getLogger("UniquePersonList");
-    private static final String BLANK_COUNTRY_CONSTANT = "\uFFFF";
 
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList = FXCollections
             .unmodifiableObservableList(internalList);
 
+    /** Index of every person in the list, keyed by the (case-insensitive) name identity. */
+    private final Map<Name, Person> personsByName = new HashMap<>();
+
+    /** Ticket of every person in the list, keyed by their internal id. */
+    private final Map<PersonId, Integer> ticketsById = new HashMap<>();
+
+    /** Positions in the list of the tickets in {@code ticketsById}. */
+    private final SlotIndex slots = new SlotIndex();
+
+    /** Working copy of the list while a batch is in progress, or null outside of a batch. */
+    private List<Person> batchList;
+
+    private final List<PersonObserver> observers = new ArrayList<>();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName());
     }
 
     /**
-     * Adds a person to the list.
+     * Returns the position in the list of the person equal to {@code person}, or -1 if there is none.
+     *
+     * @throws IllegalStateException if a batch is in progress, as the observable list does not reflect it yet.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        if (batchList != null) {
+            throw new IllegalStateException("A batch is in progress.");
+        }
+        return slotOf(person);
+    }
+
+    /**
+     * Returns the position in the list of the person with {@code id}, or -1 if there is none.
+     *
+     * @throws IllegalStateException if a batch is in progress, as the observable list does not reflect it yet.
+     */
+    public int indexOf(PersonId id) {
+        requireNonNull(id);
+        if (batchList != null) {
+            throw new IllegalStateException("A batch is in progress.");
+        }
+        Integer ticket = ticketsById.get(id);
+        return ticket == null ? -1 : slots.positionOf(ticket);
+    }
+
+    /**
+     * Adds a person to the end of the list.
      * The person must not already exist in the list.
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || ticketsById.containsKey(toAdd.getId())) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
-        sortByName();
-        assert personsAreUnique(internalList) : "List must remain unique after add";
+        observers.forEach(observer -> observer.personAdded(toAdd));
+        List<Person> persons = persons();
+        persons.add(toAdd);
+        personsByName.put(toAdd.getName(), toAdd);
+        ticketsById.put(toAdd.getId(), slots.append());
+        assert isIndexInSync() : "Indexes must stay in sync after add";
     }
 
     /**
@@ -68,8 +132,8 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        int slot = slotOf(target);
+        if (slot == -1) {
             logger.warning(() -> "Target person not found for setPerson: " + target);
             throw new PersonNotFoundException();
         }
@@ -79,10 +143,19 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
-        logger.fine(() -> "Replaced person at index " + index + " with: " + editedPerson);
-        sortByName();
-        assert personsAreUnique(internalList) : "List must remain unique after setPerson";
+        Integer sameIdTicket = ticketsById.get(editedPerson.getId());
+        if (sameIdTicket != null && slots.positionOf(sameIdTicket) != slot) {
+            logger.warning(() -> "Edited person reuses the id of another person: " + editedPerson);
+            throw new DuplicatePersonException();
+        }
+
+        observers.forEach(observer -> observer.personReplaced(persons().get(slot), editedPerson));
+        Person replaced = persons().set(slot, editedPerson);
+        logger.fine(() -> "Replaced person at index " + slot + " with: " + editedPerson);
+        personsByName.remove(replaced.getName());
+        personsByName.put(editedPerson.getName(), editedPerson);
+        ticketsById.put(editedPerson.getId(), ticketsById.remove(replaced.getId()));
+        assert isIndexInSync() : "Indexes must stay in sync after setPerson";
     }
 
     /**
@@ -91,15 +164,28 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int slot = slotOf(toRemove);
+        if (slot == -1) {
             throw new PersonNotFoundException();
         }
+        List<Person> persons = persons();
+        observers.forEach(observer -> observer.personRemoved(persons.get(slot)));
+        Person removed = persons.remove(slot);
+        personsByName.remove(removed.getName());
+        slots.remove(ticketsById.remove(removed.getId()));
+        if (slots.isSparse()) {
+            renumber(persons);
+        }
+        assert isIndexInSync() : "Indexes must stay in sync after remove";
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
-        sortByName();
+        notifyReset(replacement.persons());
+        replaceContents(replacement.persons());
+        personsByName.clear();
+        personsByName.putAll(replacement.personsByName);
+        renumber(replacement.persons());
     }
 
     /**
@@ -108,62 +194,143 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<Name, Person> replacementNameIndex = indexBy(persons, Person::getName);
+        Map<PersonId, Integer> replacementTickets = ticketsOf(persons);
+        if (replacementNameIndex.size() != persons.size() || replacementTickets.size() != persons.size()) {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
-        sortByName();
+        notifyReset(persons);
+        replaceContents(persons);
+        personsByName.clear();
+        personsByName.putAll(replacementNameIndex);
+        ticketsById.clear();
+        ticketsById.putAll(replacementTickets);
+        slots.reset(persons.size());
+    }
+
+    /**
+     * Starts a batch of mutations. Until the batch is committed or aborted, the observable list
+     * is left untouched and no change events are fired.
+     *
+     * @throws IllegalStateException if a batch is already in progress.
+     */
+    public void beginBatch() {
+        if (batchList != null) {
+            throw new IllegalStateException("A batch is already in progress.");
+        }
+        batchList = new ArrayList<>(internalList);
+    }
+
+    /**
+     * Publishes every mutation made since {@link #beginBatch()} to the observable list as a single change.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    public void commitBatch() {
+        if (batchList == null) {
+            throw new IllegalStateException("No batch is in progress.");
+        }
+        List<Person> committed = batchList;
+        batchList = null;
+        if (!hasSameElements(committed, internalList)) {
+            internalList.setAll(committed);
+        }
+        logger.fine(() -> "Committed batch with " + committed.size() + " persons.");
+    }
+
+    /**
+     * Discards every mutation made since {@link #beginBatch()}, restoring the list to its pre-batch state.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    public void abortBatch() {
+        if (batchList == null) {
+            throw new IllegalStateException("No batch is in progress.");
+        }
+        batchList = null;
+        personsByName.clear();
+        personsByName.putAll(indexBy(internalList, Person::getName));
+        renumber(internalList);
+        notifyReset(internalList);
+        logger.fine("Aborted batch.");
+    }
+
+    /**
+     * Registers {@code observer} to be told of every subsequent change, and resets it to the current contents.
+     */
+    public void addObserver(PersonObserver observer) {
+        requireNonNull(observer);
+        observers.add(observer);
+        observer.personsReset(Collections.unmodifiableList(persons()));
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * While a batch is in progress, the list does not reflect the changes made in the batch.
      */
     public ObservableList<Person> asUnmodifiableObservableList() {
         return internalUnmodifiableList;
     }
 
     /**
-     * Sorts the internal list alphabetically by each person's name.
+     * Returns the list that mutations are applied to: the working copy during a batch, and the
+     * observable list otherwise.
      */
-    public void sortByName() {
-        internalList.sort((p1, p2) -> p1.getName().fullName.compareToIgnoreCase(p2.getName().fullName));
-        logger.fine("Sorted by name.");
+    private List<Person> persons() {
+        return batchList != null ? batchList : internalList;
+    }
+
+    private void notifyReset(List<Person> contents) {
+        List<Person> unmodifiableContents = Collections.unmodifiableList(contents);
+        observers.forEach(observer -> observer.personsReset(unmodifiableContents));
+    }
+
+    private void replaceContents(List<Person> persons) {
+        if (batchList != null) {
+            batchList = new ArrayList<>(persons);
+        } else {
+            internalList.setAll(persons);
+        }
     }
 
     /**
-     * Sorts the internal list by the date each person was added.
+     * Returns the position of the stored person that is equal to {@code target}, or -1 if there is none.
+     * The person is looked up by id, falling back to its name for a {@code target} that was
+     * built separately from the stored person (and therefore carries a different id).
      */
-    public void sortByDate() {
-        internalList.sort((p1, p2) -> p1.getAddedOn().compareTo(p2.getAddedOn()));
-        logger.fine("Sorted by added date.");
+    private int slotOf(Person target) {
+        List<Person> persons = persons();
+        Integer ticket = ticketsById.get(target.getId());
+        if (ticket != null && persons.get(slots.positionOf(ticket)).equals(target)) {
+            return slots.positionOf(ticket);
+        }
+        Person byName = personsByName.get(target.getName());
+        if (byName != null && byName.equals(target)) {
+            return slots.positionOf(ticketsById.get(byName.getId()));
+        }
+        return -1;
     }
 
     /**
-     * Sorts the internal list alphabetically by each person's country. Within
-     * countries, persons are sorted by name.
-     * Contacts without a country stored are pushed to the end of the list.
+     * Hands out fresh tickets, in order, to the persons of {@code persons}, which are the contents of the list.
      */
-    public void sortByCountry() {
-        internalList.sort((p1, p2) -> {
-            String c1 = countryKey(p1);
-            String c2 = countryKey(p2);
-            int compareByCountry = c1.compareTo(c2);
-            if (compareByCountry != 0) {
-                return compareByCountry;
-            } else {
-                return p1.getName().fullName.compareToIgnoreCase(p2.getName().fullName);
-            }
-        });
-        logger.fine("Sorted by country (then name).");
+    private void renumber(List<Person> persons) {
+        ticketsById.clear();
+        ticketsById.putAll(ticketsOf(persons));
+        slots.reset(persons.size());
     }
 
-    private String countryKey(Person p) {
-        Country c = p.getCountry();
-        if (c.equals(new Country("")) || c.toString().isBlank()) {
-            return BLANK_COUNTRY_CONSTANT;
+    private static boolean hasSameElements(List<Person> first, List<Person> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+        for (int i = 0; i < first.size(); i++) {
+            if (first.get(i) != second.get(i)) {
+                return false;
+            }
         }
-        return c.toString().toLowerCase(Locale.ROOT);
+        return true;
     }
 
     @Override
@@ -197,16 +364,36 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Builds an index over {@code persons} with the given key.
+     * Persons sharing a key collapse into one entry, so the index is smaller than
+     * {@code persons} exactly when {@code persons} contains duplicate keys.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
+    private static <K> Map<K, Person> indexBy(List<Person> persons, Function<Person, K> keyOf) {
+        Map<K, Person> index = new HashMap<>();
+        for (Person person : persons) {
+            index.put(keyOf.apply(person), person);
         }
-        return true;
+        return index;
+    }
+
+    /**
+     * Builds the id-to-ticket index of {@code persons}, handing ticket {@code i} to the {@code i}-th person.
+     * As with {@link #indexBy}, the index is smaller than {@code persons} exactly when ids are duplicated.
+     */
+    private static Map<PersonId, Integer> ticketsOf(List<Person> persons) {
+        Map<PersonId, Integer> tickets = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            tickets.put(persons.get(i).getId(), i);
+        }
+        return tickets;
+    }
+
+    /**
+     * Returns true if every person in the list has exactly one entry in each index.
+     * As every indexed person is added to the list, equal sizes imply they hold the same persons.
+     */
+    private boolean isIndexInSync() {
+        int size = persons().size();
+        return personsByName.size() == size && ticketsById.size() == size && slots.size() == size;
     }
 }
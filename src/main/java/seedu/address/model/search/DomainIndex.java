@@ -0,0 +1,65 @@
+package seedu.address.model.search;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An inverted index from email domains to the persons with an email in that domain or one of its subdomains.
+ * A person is indexed under every suffix of its domain that starts at a label, so {@code u.nus.edu} is indexed
+ * under {@code u.nus.edu}, {@code nus.edu} and {@code edu}, and a domain and its subdomains are found in one
+ * lookup.
+ */
+class DomainIndex {
+
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+
+    void add(Person person) {
+        String domain = person.getEmail().getDomain();
+        for (int start = 0; start >= 0; start = nextLabel(domain, start)) {
+            postings.computeIfAbsent(domain.substring(start), unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    void remove(Person person) {
+        String domain = person.getEmail().getDomain();
+        for (int start = 0; start >= 0; start = nextLabel(domain, start)) {
+            String suffix = domain.substring(start);
+            Set<Person> persons = postings.get(suffix);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                postings.remove(suffix);
+            }
+        }
+    }
+
+    void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the persons with an email in {@code domain} or one of its subdomains.
+     */
+    Set<Person> personsIn(String domain) {
+        return Collections.unmodifiableSet(postings.getOrDefault(domain, Set.of()));
+    }
+
+    /**
+     * Returns true if {@code person} has an email in {@code domain} or one of its subdomains.
+     */
+    boolean contains(String domain, Person person) {
+        Set<Person> persons = postings.get(domain);
+        return persons != null && persons.contains(person);
+    }
+
+    /**
+     * Returns the start of the label after the one at {@code start}, or -1 if it is the last label.
+     */
+    private static int nextLabel(String domain, int start) {
+        int dot = domain.indexOf('.', start);
+        return dot < 0 ? -1 : dot + 1;
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.model.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import seedu.address.model.person.FullTextMatchPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * An inverted index of the terms of the notes, addresses and events of persons, from each term to how often
+ * it occurs for each person, that ranks persons against a query with Okapi BM25.
+ * The statistics that BM25 needs are kept up to date as persons are added and removed.
+ */
+class FullTextIndex {
+
+    /** How quickly repeats of a term stop adding to the score. */
+    private static final double K1 = 1.2;
+    /** How much a long text is penalised for containing a term by chance. */
+    private static final double B = 0.75;
+
+    private final Map<String, Map<Person, Integer>> postings = new HashMap<>();
+    private final Map<Person, Integer> lengths = new HashMap<>();
+    private long totalLength;
+
+    void add(Person person) {
+        List<String> terms = FullTextMatchPredicate.termsOf(person);
+        for (String term : terms) {
+            postings.computeIfAbsent(term, unused -> new HashMap<>()).merge(person, 1, Integer::sum);
+        }
+        lengths.put(person, terms.size());
+        totalLength += terms.size();
+    }
+
+    void remove(Person person) {
+        Integer length = lengths.remove(person);
+        if (length == null) {
+            return;
+        }
+        for (String term : FullTextMatchPredicate.termsOf(person)) {
+            Map<Person, Integer> frequencies = postings.get(term);
+            if (frequencies != null && frequencies.remove(person) != null && frequencies.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= length;
+    }
+
+    void clear() {
+        postings.clear();
+        lengths.clear();
+        totalLength = 0;
+    }
+
+    /**
+     * Returns the persons whose text contains {@code term}, which must already be a search key.
+     */
+    Set<Person> personsWith(String term) {
+        return Collections.unmodifiableSet(postings.getOrDefault(term, Map.of()).keySet());
+    }
+
+    /**
+     * Returns true if the text of {@code person} contains {@code term}, which must already be a search key.
+     */
+    boolean contains(String term, Person person) {
+        Map<Person, Integer> frequencies = postings.get(term);
+        return frequencies != null && frequencies.containsKey(person);
+    }
+
+    /**
+     * Returns the BM25 scores against {@code terms} of the persons that contain any of them.
+     */
+    Map<Person, Double> scores(Collection<String> terms) {
+        Map<Person, Double> scores = new HashMap<>();
+        for (String term : terms) {
+            Map<Person, Integer> frequencies = postings.getOrDefault(term, Map.of());
+            frequencies.forEach((person, frequency) -> scores.merge(person,
+                    termScore(frequencies.size(), frequency, lengths.get(person)), Double::sum));
+        }
+        return scores;
+    }
+
+    /**
+     * Returns the {@code limit} persons with the highest BM25 scores against {@code terms}, best first.
+     * Only the persons containing a term are scored, and only the best {@code limit} are kept while scoring.
+     */
+    List<Person> top(Collection<String> terms, int limit) {
+        Map<Person, Double> scores = scores(terms);
+        Comparator<Map.Entry<Person, Double>> byScore = Map.Entry.comparingByValue();
+        PriorityQueue<Map.Entry<Person, Double>> best = new PriorityQueue<>(byScore);
+        for (Map.Entry<Person, Double> entry : scores.entrySet()) {
+            if (best.size() < limit) {
+                best.add(entry);
+            } else if (limit > 0 && entry.getValue() > best.peek().getValue()) {
+                best.poll();
+                best.add(entry);
+            }
+        }
+        List<Person> ranked = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            ranked.add(best.poll().getKey());
+        }
+        Collections.reverse(ranked);
+        return ranked;
+    }
+
+    private double termScore(int documentFrequency, int frequency, int length) {
+        int documents = lengths.size();
+        double averageLength = (double) totalLength / documents;
+        double idf = Math.log(1 + (documents - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        return idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.model.search;
+
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The answer of {@link SearchIndex} to a predicate: the persons it accepts, and how many persons the index
+ * narrowed the predicate down to before any of them was tested.
+ */
+public final class IndexLookup {
+
+    private final Set<Person> matches;
+    private final int candidates;
+
+    IndexLookup(Set<Person> matches, int candidates) {
+        assert candidates >= matches.size() : "Every match must be a candidate";
+        this.matches = matches;
+        this.candidates = candidates;
+    }
+
+    /**
+     * Returns the answer of a lookup whose persons all match, without any test.
+     */
+    static IndexLookup exact(Set<Person> matches) {
+        return new IndexLookup(matches, matches.size());
+    }
+
+    public Set<Person> getMatches() {
+        return matches;
+    }
+
+    /**
+     * Returns the number of persons found in the index, of which the persons that failed the rest of the
+     * predicate are not among the matches. It equals the number of matches if no person had to be tested.
+     */
+    public int getCandidates() {
+        return candidates;
+    }
+}
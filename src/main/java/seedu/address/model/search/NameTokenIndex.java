@@ -0,0 +1,57 @@
+package seedu.address.model.search;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * An inverted index from each word of the search key of a name to the persons whose name contains that word.
+ * Words are split on whitespace, as in {@link StringUtil#containsWordIgnoreCase(String, String)}.
+ */
+class NameTokenIndex {
+
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+
+    void add(Person person) {
+        for (String token : tokensOf(person)) {
+            postings.computeIfAbsent(token, unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    void remove(Person person) {
+        for (String token : tokensOf(person)) {
+            Set<Person> persons = postings.get(token);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the persons whose name contains {@code token}, which must already be a search key.
+     */
+    Set<Person> personsWith(String token) {
+        return Collections.unmodifiableSet(postings.getOrDefault(token, Set.of()));
+    }
+
+    /**
+     * Returns true if the name of {@code person} contains {@code token}, which must already be a search key.
+     */
+    boolean contains(String token, Person person) {
+        Set<Person> persons = postings.get(token);
+        return persons != null && persons.contains(person);
+    }
+
+    private static String[] tokensOf(Person person) {
+        return person.getName().getSearchKey().split("\\s+");
+    }
+}
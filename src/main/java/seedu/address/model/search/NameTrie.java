@@ -0,0 +1,178 @@
+package seedu.address.model.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * A compressed prefix trie (radix tree) of the search keys of the words of names, used to complete a partly typed
+ * word. Completing a prefix only visits the nodes below it, so it takes the same time however many names are
+ * indexed.
+ */
+class NameTrie {
+
+    private final Node root = new Node("");
+
+    void add(Person person) {
+        for (String word : wordsOf(person)) {
+            add(StringUtil.toSearchKey(word), word);
+        }
+    }
+
+    void remove(Person person) {
+        for (String word : wordsOf(person)) {
+            remove(StringUtil.toSearchKey(word));
+        }
+    }
+
+    void clear() {
+        root.children.clear();
+        root.count = 0;
+    }
+
+    /**
+     * Returns up to {@code limit} words of the indexed names that start with {@code prefix}, ignoring case and
+     * accents, in the alphabetical order of their search keys. Each word is returned as it was last added.
+     */
+    List<String> complete(String prefix, int limit) {
+        String key = StringUtil.toSearchKey(prefix);
+        Node node = root;
+        int matched = 0;
+        while (matched < key.length()) {
+            Node child = node.children.get(key.charAt(matched));
+            if (child == null) {
+                return List.of();
+            }
+            int common = commonPrefixLength(child.label, key, matched);
+            matched += common;
+            if (matched < key.length() && common < child.label.length()) {
+                return List.of();
+            }
+            node = child;
+        }
+
+        List<String> words = new ArrayList<>(limit);
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(node);
+        while (!toVisit.isEmpty() && words.size() < limit) {
+            Node next = toVisit.pop();
+            if (next.count > 0) {
+                words.add(next.word);
+            }
+            for (Node child : next.children.descendingMap().values()) {
+                toVisit.push(child);
+            }
+        }
+        return words;
+    }
+
+    private void add(String key, String word) {
+        Node node = root;
+        int matched = 0;
+        while (matched < key.length()) {
+            Node child = node.children.get(key.charAt(matched));
+            if (child == null) {
+                child = new Node(key.substring(matched));
+                node.children.put(key.charAt(matched), child);
+                node = child;
+                break;
+            }
+            int common = commonPrefixLength(child.label, key, matched);
+            if (common < child.label.length()) {
+                child = split(node, child, common);
+            }
+            node = child;
+            matched += common;
+        }
+        node.count++;
+        node.word = word;
+    }
+
+    private void remove(String key) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int matched = 0;
+        while (matched < key.length()) {
+            Node child = node.children.get(key.charAt(matched));
+            if (child == null || !key.startsWith(child.label, matched)) {
+                return;
+            }
+            node = child;
+            path.add(node);
+            matched += child.label.length();
+        }
+        if (node == root || node.count == 0) {
+            return;
+        }
+
+        node.count--;
+        if (node.count > 0) {
+            return;
+        }
+        node.word = null;
+        Node parent = path.get(path.size() - 2);
+        if (node.children.isEmpty()) {
+            parent.children.remove(node.label.charAt(0));
+            if (parent != root && parent.count == 0 && parent.children.size() == 1) {
+                mergeWithOnlyChild(parent);
+            }
+        } else if (node.children.size() == 1) {
+            mergeWithOnlyChild(node);
+        }
+    }
+
+    /**
+     * Splits the label of {@code child} after {@code length} characters and returns the new node that holds
+     * the first part.
+     */
+    private static Node split(Node parent, Node child, int length) {
+        Node head = new Node(child.label.substring(0, length));
+        child.label = child.label.substring(length);
+        head.children.put(child.label.charAt(0), child);
+        parent.children.put(head.label.charAt(0), head);
+        return head;
+    }
+
+    /**
+     * Absorbs the only child of {@code node}, which no word ends at, into {@code node}.
+     */
+    private static void mergeWithOnlyChild(Node node) {
+        Node child = node.children.firstEntry().getValue();
+        node.label = node.label + child.label;
+        node.count = child.count;
+        node.word = child.word;
+        node.children.clear();
+        node.children.putAll(child.children);
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int length = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < length && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static String[] wordsOf(Person person) {
+        return person.getName().fullName.split("\\s+");
+    }
+
+    private static class Node {
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        private String label;
+        /** The number of indexed words that end at this node. */
+        private int count;
+        private String word;
+
+        Node(String label) {
+            this.label = label;
+        }
+    }
+}
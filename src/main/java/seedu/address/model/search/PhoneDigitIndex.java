@@ -0,0 +1,108 @@
+package seedu.address.model.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An index from each run of {@link #GRAM_LENGTH} consecutive digits of a phone number to the posting list of the
+ * slots of the persons whose phone digits contain it, used to find the phones containing a string of digits
+ * without scanning every phone.
+ *
+ * A phone containing a string of digits contains every run of {@link #GRAM_LENGTH} digits in the string, so
+ * intersecting the posting lists of the string's runs leaves every match. It may also leave phones with the same
+ * runs in another order, which the caller rules out by checking the phones found.
+ *
+ * Each phone has only a handful of runs, so each slot appears in a few posting lists and the index takes about
+ * four bytes per run of every phone, where a bitmap per run would take a bit per slot for each of the
+ * {@code 10^GRAM_LENGTH} runs.
+ */
+class PhoneDigitIndex {
+
+    /** The number of digits in each indexed run, the fewest digits that a search can be answered from. */
+    static final int GRAM_LENGTH = 4;
+    private static final int GRAM_COUNT = (int) Math.pow(10, GRAM_LENGTH);
+
+    /** The slots having each run, at the index of the run's value, e.g. {@code 0042} at 42; null if none has it. */
+    private final PostingList[] postings = new PostingList[GRAM_COUNT];
+
+    void add(Person person, int slot) {
+        String digits = person.getPhone().getDigits();
+        for (int start = 0; start + GRAM_LENGTH <= digits.length(); start++) {
+            int gram = gramAt(digits, start);
+            if (postings[gram] == null) {
+                postings[gram] = new PostingList();
+            }
+            postings[gram].add(slot);
+        }
+    }
+
+    void remove(Person person, int slot) {
+        String digits = person.getPhone().getDigits();
+        for (int start = 0; start + GRAM_LENGTH <= digits.length(); start++) {
+            int gram = gramAt(digits, start);
+            if (postings[gram] != null) {
+                postings[gram].remove(slot);
+                if (postings[gram].isEmpty()) {
+                    postings[gram] = null;
+                }
+            }
+        }
+    }
+
+    void clear() {
+        Arrays.fill(postings, null);
+    }
+
+    /**
+     * Returns the number of slots the posting lists have room for, which with the array of posting lists is what
+     * the index keeps on the heap.
+     */
+    long capacity() {
+        long capacity = 0;
+        for (PostingList posting : postings) {
+            capacity += posting == null ? 0 : posting.capacity();
+        }
+        return capacity;
+    }
+
+    /**
+     * Returns the slots, among {@code candidates}, of the persons whose phone digits contain every run of
+     * {@link #GRAM_LENGTH} digits in {@code digits}. If {@code digits} is shorter than that, it has no runs and
+     * every candidate is returned.
+     *
+     * Only the slots in the shortest posting list are visited, each looked up in the other lists.
+     */
+    BitSet withAllRunsOf(String digits, BitSet candidates) {
+        if (digits.length() < GRAM_LENGTH) {
+            return (BitSet) candidates.clone();
+        }
+        PostingList[] runs = new PostingList[digits.length() - GRAM_LENGTH + 1];
+        for (int start = 0; start < runs.length; start++) {
+            runs[start] = postings[gramAt(digits, start)];
+            if (runs[start] == null) {
+                return new BitSet();
+            }
+        }
+        Arrays.sort(runs, Comparator.comparingInt(PostingList::size));
+        List<PostingList> others = Arrays.asList(runs).subList(1, runs.length);
+        BitSet result = new BitSet();
+        runs[0].forEach(slot -> {
+            if (candidates.get(slot) && others.stream().allMatch(posting -> posting.contains(slot))) {
+                result.set(slot);
+            }
+        });
+        return result;
+    }
+
+    private static int gramAt(String digits, int start) {
+        int gram = 0;
+        for (int i = start; i < start + GRAM_LENGTH; i++) {
+            gram = gram * 10 + (digits.charAt(i) - '0');
+        }
+        return gram;
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.model.search;
+
+import java.util.HashSet;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A sorted index from phone numbers in E.164 form to the persons with that number, so that the persons whose
+ * number starts with a prefix, such as a country calling code, are found in one range of the index.
+ * Phones without a country calling code are not indexed.
+ */
+class PhonePrefixIndex {
+
+    private final NavigableMap<String, Set<Person>> personsByNumber = new TreeMap<>();
+
+    void add(Person person) {
+        String number = person.getPhone().getE164();
+        if (number != null) {
+            personsByNumber.computeIfAbsent(number, unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    void remove(Person person) {
+        String number = person.getPhone().getE164();
+        if (number == null) {
+            return;
+        }
+        Set<Person> persons = personsByNumber.get(number);
+        if (persons != null && persons.remove(person) && persons.isEmpty()) {
+            personsByNumber.remove(number);
+        }
+    }
+
+    void clear() {
+        personsByNumber.clear();
+    }
+
+    /**
+     * Returns the persons whose number in E.164 form starts with {@code prefix}.
+     */
+    Set<Person> personsWithPrefix(String prefix) {
+        Set<Person> matches = new HashSet<>();
+        // every number that starts with the prefix sorts between the prefix itself and the prefix followed by
+        // a character greater than any digit
+        for (Set<Person> persons : personsByNumber.subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+                .values()) {
+            matches.addAll(persons);
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.model.search;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An inverted index from each phonetic code of the words of a name to the persons whose name has that code.
+ * The codes are those computed by each {@code Name} when it is created, so indexing encodes nothing.
+ */
+class PhoneticIndex {
+
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+
+    void add(Person person) {
+        for (String code : person.getName().getPhoneticCodes()) {
+            postings.computeIfAbsent(code, unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    void remove(Person person) {
+        for (String code : person.getName().getPhoneticCodes()) {
+            Set<Person> persons = postings.get(code);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                postings.remove(code);
+            }
+        }
+    }
+
+    void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the persons whose name has a word with the phonetic code {@code code}.
+     */
+    Set<Person> personsWith(String code) {
+        return Collections.unmodifiableSet(postings.getOrDefault(code, Set.of()));
+    }
+
+    /**
+     * Returns true if the name of {@code person} has a word with the phonetic code {@code code}.
+     */
+    boolean contains(String code, Person person) {
+        Set<Person> persons = postings.get(code);
+        return persons != null && persons.contains(person);
+    }
+}
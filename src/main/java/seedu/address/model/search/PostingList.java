@@ -0,0 +1,81 @@
+package seedu.address.model.search;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A set of non-negative ids kept as a sorted array sized to the set, for index keys that only a few of many
+ * ids have, where a bitmap over every id would mostly hold zeroes.
+ *
+ * Ids are usually added in increasing order and then appended in O(1); adding or removing an id in the middle
+ * shifts the ids after it. The array grows by half when full and shrinks once it is less than a quarter used.
+ */
+class PostingList {
+
+    private static final int MIN_CAPACITY = 2;
+
+    private int[] ids = new int[MIN_CAPACITY];
+    private int size;
+
+    /**
+     * Adds {@code id}, returning false if it is already in the list.
+     */
+    boolean add(int id) {
+        int position = size == 0 || ids[size - 1] < id ? -size - 1 : Arrays.binarySearch(ids, 0, size, id);
+        if (position >= 0) {
+            return false;
+        }
+        int insertAt = -position - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+        }
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes {@code id}, returning false if it is not in the list.
+     */
+    boolean remove(int id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position < 0) {
+            return false;
+        }
+        System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+        size--;
+        if (ids.length > MIN_CAPACITY && size < ids.length / 4) {
+            ids = Arrays.copyOf(ids, Math.max(MIN_CAPACITY, 2 * size));
+        }
+        return true;
+    }
+
+    boolean contains(int id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of ids the list has room for, which is what it keeps on the heap.
+     */
+    int capacity() {
+        return ids.length;
+    }
+
+    /**
+     * Passes every id in the list to {@code action}, in increasing order.
+     */
+    void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(ids[i]);
+        }
+    }
+}
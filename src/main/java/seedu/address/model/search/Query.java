@@ -0,0 +1,321 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Country;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PreferredLanguage;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A query over persons: a tree of clauses on single fields, combined with and, or and not.
+ * {@link SearchIndex} plans a query to start from the most selective index it has for the query's clauses,
+ * see {@link SearchIndex#plan(Query)}.
+ *
+ * The {@code toString} of a query is the query in the syntax of the {@code query} command.
+ */
+public abstract class Query implements Predicate<Person> {
+
+    /**
+     * The fields that a clause can test, each with the name it has in the {@code query} command.
+     */
+    public enum Field {
+        NAME("name"),
+        TAG("tag"),
+        COUNTRY("country"),
+        ORGANISATION("org"),
+        LANGUAGE("lang"),
+        ARCHIVED("archived");
+
+        private final String keyword;
+
+        Field(String keyword) {
+            this.keyword = keyword;
+        }
+
+        public String getKeyword() {
+            return keyword;
+        }
+    }
+
+    /**
+     * Returns a query for the persons whose name contains {@code word} as a whole word, ignoring case and accents.
+     */
+    public static Query name(String word) {
+        requireNonNull(word);
+        checkArgument(!word.isEmpty() && word.split("\\s+").length == 1, "Name should be a single word");
+        String token = StringUtil.toSearchKey(word);
+        return new Clause(Field.NAME, token, word,
+                person -> StringUtil.containsWordIgnoreCase(person.getName().getSearchKey(), token));
+    }
+
+    /**
+     * Returns a query for the persons with {@code tag}.
+     */
+    public static Query tag(Tag tag) {
+        requireNonNull(tag);
+        return new Clause(Field.TAG, tag, tag.tagName, person -> person.getTags().contains(tag));
+    }
+
+    /**
+     * Returns a query for the persons from {@code country}.
+     */
+    public static Query country(Country country) {
+        requireNonNull(country);
+        return new Clause(Field.COUNTRY, country, country.value, person -> country.equals(person.getCountry()));
+    }
+
+    /**
+     * Returns a query for the persons whose organisation is exactly {@code organisation}, matching case.
+     */
+    public static Query organisation(String organisation) {
+        requireNonNull(organisation);
+        return new Clause(Field.ORGANISATION, organisation, organisation, person ->
+                person.getOrganisation() != null && person.getOrganisation().toString().equals(organisation));
+    }
+
+    /**
+     * Returns a query for the persons who prefer {@code language}.
+     */
+    public static Query language(PreferredLanguage language) {
+        requireNonNull(language);
+        return new Clause(Field.LANGUAGE, language, language.language,
+                person -> language.equals(person.getPreferredLanguage()));
+    }
+
+    /**
+     * Returns a query for the archived persons.
+     */
+    public static Query archived() {
+        return new Clause(Field.ARCHIVED, Boolean.TRUE, "", Person::getArchivalStatus);
+    }
+
+    /**
+     * Returns a query for the persons matched by all of {@code operands}.
+     */
+    public static Query and(List<Query> operands) {
+        return operands.size() == 1 ? operands.get(0) : new And(operands);
+    }
+
+    /**
+     * Returns a query for the persons matched by any of {@code operands}.
+     */
+    public static Query or(List<Query> operands) {
+        return operands.size() == 1 ? operands.get(0) : new Or(operands);
+    }
+
+    /**
+     * Returns a query for the persons not matched by {@code operand}.
+     */
+    public static Query not(Query operand) {
+        return new Not(operand);
+    }
+
+    /**
+     * A query on a single field of a person.
+     */
+    public static final class Clause extends Query {
+        private final Field field;
+        private final Object key;
+        private final String value;
+        private final Predicate<Person> test;
+
+        private Clause(Field field, Object key, String value, Predicate<Person> test) {
+            this.field = field;
+            this.key = key;
+            this.value = value;
+            this.test = test;
+        }
+
+        public Field getField() {
+            return field;
+        }
+
+        /**
+         * Returns the value that the field is looked up by in an index: the search key of a name word, a {@code Tag},
+         * a {@code Country}, an organisation's text, a {@code PreferredLanguage}, or {@code true} for archived.
+         */
+        public Object getKey() {
+            return key;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return test.test(person);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Clause)) {
+                return false;
+            }
+
+            Clause otherClause = (Clause) other;
+            return field == otherClause.field && key.equals(otherClause.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(field, key);
+        }
+
+        @Override
+        public String toString() {
+            if (field == Field.ARCHIVED) {
+                return field.getKeyword();
+            }
+            return field.getKeyword() + ":" + quoteIfNeeded(value);
+        }
+
+        /**
+         * Returns {@code value} as the {@code query} command reads it back: in double quotes, with any double quote
+         * or backslash in it escaped by a backslash, if it has whitespace, a parenthesis or a double quote in it or
+         * starts with {@code -}, and as it is otherwise.
+         */
+        private static String quoteIfNeeded(String value) {
+            boolean needsQuotes = value.isEmpty() || value.startsWith("-");
+            for (int i = 0; i < value.length() && !needsQuotes; i++) {
+                char c = value.charAt(i);
+                needsQuotes = Character.isWhitespace(c) || c == '(' || c == ')' || c == '"';
+            }
+            if (!needsQuotes) {
+                return value;
+            }
+            return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+        }
+    }
+
+    /**
+     * A query for the persons matched by all of its operands.
+     */
+    public static final class And extends Query {
+        private final List<Query> operands;
+
+        private And(List<Query> operands) {
+            checkArgument(!operands.isEmpty(), "And needs at least one operand");
+            this.operands = List.copyOf(operands);
+        }
+
+        public List<Query> getOperands() {
+            return operands;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            for (Query operand : operands) {
+                if (!operand.test(person)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof And && operands.equals(((And) other).operands));
+        }
+
+        @Override
+        public int hashCode() {
+            return operands.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream()
+                    .map(operand -> operand instanceof Or ? "(" + operand + ")" : operand.toString())
+                    .collect(Collectors.joining(" "));
+        }
+    }
+
+    /**
+     * A query for the persons matched by any of its operands.
+     */
+    public static final class Or extends Query {
+        private final List<Query> operands;
+
+        private Or(List<Query> operands) {
+            checkArgument(!operands.isEmpty(), "Or needs at least one operand");
+            this.operands = List.copyOf(operands);
+        }
+
+        public List<Query> getOperands() {
+            return operands;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            for (Query operand : operands) {
+                if (operand.test(person)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Or && operands.equals(((Or) other).operands));
+        }
+
+        @Override
+        public int hashCode() {
+            return operands.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream().map(Query::toString).collect(Collectors.joining(" OR "));
+        }
+    }
+
+    /**
+     * A query for the persons not matched by its operand.
+     */
+    public static final class Not extends Query {
+        private final Query operand;
+
+        private Not(Query operand) {
+            this.operand = requireNonNull(operand);
+        }
+
+        public Query getOperand() {
+            return operand;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return !operand.test(person);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Not && operand.equals(((Not) other).operand));
+        }
+
+        @Override
+        public int hashCode() {
+            return ~operand.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return operand instanceof Clause ? "-" + operand : "-(" + operand + ")";
+        }
+    }
+}
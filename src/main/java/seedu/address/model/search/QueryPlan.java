@@ -0,0 +1,135 @@
+package seedu.address.model.search;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import seedu.address.model.person.Person;
+
+/**
+ * How {@link SearchIndex} answers a {@link Query}: the persons that an index narrows the query down to, if any,
+ * and the clauses still to be tested on each of them.
+ * A plan is a tree: an index lookup, a union of plans, a filter of a plan by the remaining clauses, or a scan
+ * of every person. Each step carries an estimate of the persons it yields.
+ */
+public final class QueryPlan {
+
+    private final String step;
+    private final int estimate;
+    private final List<QueryPlan> inputs;
+    /** The persons this plan narrows the query down to, or null if it scans every person. */
+    private final Supplier<Set<Person>> candidates;
+    /** The part of the query still to be tested on the candidates, or null if the candidates all match. */
+    private final Predicate<Person> residual;
+
+    private QueryPlan(String step, int estimate, List<QueryPlan> inputs, Supplier<Set<Person>> candidates,
+            Predicate<Person> residual) {
+        this.step = step;
+        this.estimate = estimate;
+        this.inputs = inputs;
+        this.candidates = candidates;
+        this.residual = residual;
+    }
+
+    /**
+     * Returns a plan that looks up the persons matching {@code clause} in an index.
+     */
+    static QueryPlan lookup(Query.Clause clause, int estimate, Supplier<Set<Person>> persons) {
+        return new QueryPlan("index " + clause, estimate, List.of(), persons, null);
+    }
+
+    /**
+     * Returns a plan that tests {@code query} on every one of {@code personCount} persons.
+     */
+    static QueryPlan scan(Query query, int personCount) {
+        return new QueryPlan("scan all, test " + query, personCount, List.of(), null, query);
+    }
+
+    /**
+     * Returns a plan that tests {@code others} on the persons that {@code input} yields. {@code otherPlans}
+     * are the plans of {@code others}, whose estimates are shown for the ones that could have used an index.
+     * The estimate is that of {@code input}, as nothing is known of how the others correlate with it.
+     */
+    static QueryPlan filter(QueryPlan input, List<Query> others, List<QueryPlan> otherPlans) {
+        if (others.isEmpty()) {
+            return input;
+        }
+        List<String> tests = new ArrayList<>();
+        for (int i = 0; i < others.size(); i++) {
+            QueryPlan otherPlan = otherPlans.get(i);
+            tests.add(others.get(i) + (otherPlan.usesIndex() ? " (index ~" + otherPlan.estimate + ")" : ""));
+        }
+        Predicate<Person> othersMatch = Query.and(others);
+        Predicate<Person> residual = input.residual == null ? othersMatch : input.residual.and(othersMatch);
+        return new QueryPlan("filter " + String.join(", ", tests), input.estimate, List.of(input),
+                input.candidates, residual);
+    }
+
+    /**
+     * Returns a plan that unites the persons that each of {@code inputs} yields, which all use an index.
+     * As a person may be yielded by an input whose clauses it fails, {@code query} is tested on the union
+     * unless every input is exact.
+     */
+    static QueryPlan union(Query.Or query, List<QueryPlan> inputs, int personCount) {
+        long sum = inputs.stream().mapToLong(input -> input.estimate).sum();
+        boolean isExact = inputs.stream().allMatch(input -> input.residual == null);
+        Supplier<Set<Person>> union = () -> {
+            Set<Person> persons = new HashSet<>();
+            inputs.forEach(input -> persons.addAll(input.candidates.get()));
+            return persons;
+        };
+        return new QueryPlan("union", (int) Math.min(sum, personCount), List.copyOf(inputs), union,
+                isExact ? null : query);
+    }
+
+    /**
+     * Returns true if this plan narrows the query down through an index rather than scanning every person.
+     */
+    public boolean usesIndex() {
+        return candidates != null;
+    }
+
+    /**
+     * Returns the estimated number of persons this plan yields, an upper bound on the number of matches.
+     */
+    public int getEstimate() {
+        return estimate;
+    }
+
+    /**
+     * Returns the persons that the index narrows the query down to, to be tested with {@link #getResidual()}.
+     * Must only be called if {@link #usesIndex()}.
+     */
+    Set<Person> getCandidates() {
+        return candidates.get();
+    }
+
+    /**
+     * Returns the part of the query still to be tested on the candidates, or null if all of them match.
+     */
+    Predicate<Person> getResidual() {
+        return residual;
+    }
+
+    /**
+     * Returns the plan as indented lines, each step above the steps it takes its persons from.
+     */
+    public String explain() {
+        List<String> lines = new ArrayList<>();
+        explain("", lines);
+        return String.join("\n", lines);
+    }
+
+    private void explain(String indent, List<String> lines) {
+        lines.add(indent + step + " (~" + estimate + ")");
+        inputs.forEach(input -> input.explain(indent + "  ", lines));
+    }
+
+    @Override
+    public String toString() {
+        return explain();
+    }
+}
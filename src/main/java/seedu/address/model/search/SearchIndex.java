@@ -0,0 +1,516 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Country;
+import seedu.address.model.person.CountryContainsKeywordPredicate;
+import seedu.address.model.person.EmailDomainPredicate;
+import seedu.address.model.person.FullTextMatchPredicate;
+import seedu.address.model.person.FuzzyMatchPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.OrganisationContainsKeywordPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsTagsPredicate;
+import seedu.address.model.person.PersonObserver;
+import seedu.address.model.person.PhoneDigitsPredicate;
+import seedu.address.model.person.PhonePrefixPredicate;
+import seedu.address.model.person.PhoneticMatchPredicate;
+import seedu.address.model.person.PreferredLanguage;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Indexes the persons of an address book so that searches are answered from the index instead of by testing
+ * every person. Register it with {@link seedu.address.model.AddressBook#addPersonObserver(PersonObserver)} to
+ * keep it up to date.
+ *
+ * Each indexed person occupies a slot, a small integer that is reused once the person is removed, so that
+ * bitmap indexes stay dense. An edited person keeps the slot of the person it replaces.
+ *
+ * As the index is told of each change before the change reaches the persons list, the persons found by
+ * {@link #find(Predicate)} while a change to the list is handled already reflect that change.
+ */
+public class SearchIndex implements PersonObserver {
+
+    private final Map<Person, Integer> slots = new HashMap<>();
+    private final List<Person> personsBySlot = new ArrayList<>();
+    private final BitSet occupiedSlots = new BitSet();
+    /** Incremented on every change, so that results computed from the index can tell when they are stale. */
+    private long version;
+
+    private final NameTokenIndex nameTokens = new NameTokenIndex();
+    private final NameTrie nameTrie = new NameTrie();
+    private final PhoneticIndex phonetics = new PhoneticIndex();
+    private final TrigramIndex trigrams = new TrigramIndex();
+    private final FullTextIndex fullText = new FullTextIndex();
+    private final TagBitmapIndex tagBitmaps = new TagBitmapIndex();
+    private final DomainIndex domains = new DomainIndex();
+    private final PhonePrefixIndex phonePrefixes = new PhonePrefixIndex();
+    private final PhoneDigitIndex phoneDigits = new PhoneDigitIndex();
+    private final ValueIndex<Country> countries = new ValueIndex<>(Person::getCountry);
+    // keyed by the organisation's text, which OrganisationContainsKeywordPredicate compares against
+    private final ValueIndex<String> organisations = new ValueIndex<>(person ->
+            person.getOrganisation() == null ? null : person.getOrganisation().toString());
+    private final ValueIndex<PreferredLanguage> languages = new ValueIndex<>(Person::getPreferredLanguage);
+
+    @Override
+    public void personAdded(Person person) {
+        requireNonNull(person);
+        int slot = occupiedSlots.nextClearBit(0);
+        index(person, slot);
+        version++;
+    }
+
+    @Override
+    public void personRemoved(Person person) {
+        requireNonNull(person);
+        Integer slot = slots.get(person);
+        if (slot != null) {
+            unindex(person, slot);
+            version++;
+        }
+    }
+
+    @Override
+    public void personReplaced(Person target, Person editedPerson) {
+        requireNonNull(target);
+        requireNonNull(editedPerson);
+        Integer slot = slots.get(target);
+        if (slot == null) {
+            personAdded(editedPerson);
+            return;
+        }
+        unindex(target, slot);
+        index(editedPerson, slot);
+        version++;
+    }
+
+    @Override
+    public void personsReset(List<Person> persons) {
+        requireNonNull(persons);
+        slots.clear();
+        personsBySlot.clear();
+        occupiedSlots.clear();
+        nameTokens.clear();
+        nameTrie.clear();
+        phonetics.clear();
+        trigrams.clear();
+        fullText.clear();
+        tagBitmaps.clear();
+        domains.clear();
+        phonePrefixes.clear();
+        phoneDigits.clear();
+        countries.clear();
+        organisations.clear();
+        languages.clear();
+        persons.forEach(person -> index(person, occupiedSlots.nextClearBit(0)));
+        version++;
+    }
+
+    private void index(Person person, int slot) {
+        slots.put(person, slot);
+        if (slot == personsBySlot.size()) {
+            personsBySlot.add(person);
+        } else {
+            personsBySlot.set(slot, person);
+        }
+        occupiedSlots.set(slot);
+        nameTokens.add(person);
+        nameTrie.add(person);
+        phonetics.add(person);
+        trigrams.add(person);
+        fullText.add(person);
+        tagBitmaps.add(person, slot);
+        domains.add(person);
+        phonePrefixes.add(person);
+        phoneDigits.add(person, slot);
+        countries.add(person);
+        organisations.add(person);
+        languages.add(person);
+    }
+
+    private void unindex(Person person, int slot) {
+        slots.remove(person);
+        personsBySlot.set(slot, null);
+        occupiedSlots.clear(slot);
+        nameTokens.remove(person);
+        nameTrie.remove(person);
+        phonetics.remove(person);
+        trigrams.remove(person);
+        fullText.remove(person);
+        tagBitmaps.remove(person, slot);
+        domains.remove(person);
+        phonePrefixes.remove(person);
+        phoneDigits.remove(person, slot);
+        countries.remove(person);
+        organisations.remove(person);
+        languages.remove(person);
+    }
+
+    /**
+     * Returns the persons that {@code predicate} accepts, looked up in the index without testing the other
+     * persons, or an empty {@code Optional} if the index cannot answer {@code predicate}.
+     */
+    public Optional<Set<Person>> find(Predicate<Person> predicate) {
+        return lookUp(predicate).map(IndexLookup::getMatches);
+    }
+
+    /**
+     * Returns the persons that {@code predicate} accepts with the number of persons found in the index before
+     * any was tested, or an empty {@code Optional} if the index cannot answer {@code predicate}.
+     */
+    public Optional<IndexLookup> lookUp(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        if (predicate instanceof Query) {
+            QueryPlan plan = plan((Query) predicate);
+            if (!plan.usesIndex()) {
+                return Optional.empty();
+            }
+            Set<Person> candidates = plan.getCandidates();
+            Set<Person> matches = new HashSet<>(candidates);
+            if (plan.getResidual() != null) {
+                matches.removeIf(plan.getResidual().negate());
+            }
+            return Optional.of(new IndexLookup(matches, candidates.size()));
+        }
+        return findExactly(predicate).map(IndexLookup::exact);
+    }
+
+    /**
+     * Returns the persons that {@code predicate} accepts if the index holds exactly them, so that none has to be
+     * tested, or an empty {@code Optional} if it does not.
+     */
+    private Optional<Set<Person>> findExactly(Predicate<Person> predicate) {
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            return toNameTokens(((NameContainsKeywordsPredicate) predicate).getKeywords())
+                    .map(tokens -> unionOf(tokens, nameTokens::personsWith));
+        }
+        if (predicate instanceof PhoneticMatchPredicate) {
+            return Optional.of(unionOf(((PhoneticMatchPredicate) predicate).getCodes(), phonetics::personsWith));
+        }
+        if (predicate instanceof PersonContainsTagsPredicate) {
+            return Optional.of(findByTags(((PersonContainsTagsPredicate) predicate).getTags()));
+        }
+        if (predicate instanceof FullTextMatchPredicate) {
+            return Optional.of(unionOf(((FullTextMatchPredicate) predicate).getTerms(), fullText::personsWith));
+        }
+        if (predicate instanceof FuzzyMatchPredicate) {
+            return Optional.of(findFuzzy(((FuzzyMatchPredicate) predicate).getKeywords()).keySet());
+        }
+        if (predicate instanceof EmailDomainPredicate) {
+            return Optional.of(domains.personsIn(((EmailDomainPredicate) predicate).getDomain()));
+        }
+        if (predicate instanceof PhonePrefixPredicate) {
+            return Optional.of(phonePrefixes.personsWithPrefix(((PhonePrefixPredicate) predicate).getPrefix()));
+        }
+        if (predicate instanceof CountryContainsKeywordPredicate) {
+            return Optional.of(countries.personsWith(((CountryContainsKeywordPredicate) predicate).getCountry()));
+        }
+        if (predicate instanceof OrganisationContainsKeywordPredicate) {
+            return Optional.of(organisations.personsWith(
+                    ((OrganisationContainsKeywordPredicate) predicate).getKeyword()));
+        }
+        if (predicate instanceof PhoneDigitsPredicate) {
+            return Optional.of(findByPhoneDigits(((PhoneDigitsPredicate) predicate).getDigits()));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns how {@code query} is answered: from the index of the clause expected to match the fewest persons
+     * among the clauses that every match must satisfy, with the other clauses tested only on the persons found,
+     * or by testing every person if no index applies. Negated clauses and clauses on whether a person is
+     * archived are never answered from an index.
+     */
+    public QueryPlan plan(Query query) {
+        requireNonNull(query);
+        if (query instanceof Query.Clause) {
+            return planClause((Query.Clause) query);
+        }
+        if (query instanceof Query.And) {
+            List<Query> operands = ((Query.And) query).getOperands();
+            List<QueryPlan> plans = new ArrayList<>();
+            int best = -1;
+            for (int i = 0; i < operands.size(); i++) {
+                QueryPlan plan = plan(operands.get(i));
+                plans.add(plan);
+                if (plan.usesIndex() && (best < 0 || plan.getEstimate() < plans.get(best).getEstimate())) {
+                    best = i;
+                }
+            }
+            if (best < 0) {
+                return QueryPlan.scan(query, slots.size());
+            }
+            List<Query> others = new ArrayList<>(operands);
+            List<QueryPlan> otherPlans = new ArrayList<>(plans);
+            others.remove(best);
+            QueryPlan input = otherPlans.remove(best);
+            return QueryPlan.filter(input, others, otherPlans);
+        }
+        if (query instanceof Query.Or) {
+            List<QueryPlan> plans = new ArrayList<>();
+            for (Query operand : ((Query.Or) query).getOperands()) {
+                QueryPlan plan = plan(operand);
+                if (!plan.usesIndex()) {
+                    return QueryPlan.scan(query, slots.size());
+                }
+                plans.add(plan);
+            }
+            return QueryPlan.union((Query.Or) query, plans, slots.size());
+        }
+        return QueryPlan.scan(query, slots.size());
+    }
+
+    private QueryPlan planClause(Query.Clause clause) {
+        Object key = clause.getKey();
+        switch (clause.getField()) {
+        case NAME:
+            Set<Person> named = nameTokens.personsWith((String) key);
+            return QueryPlan.lookup(clause, named.size(), () -> named);
+        case TAG:
+            Tag tag = (Tag) key;
+            return QueryPlan.lookup(clause, tagBitmaps.countWith(tag), () -> findByTags(List.of(tag)));
+        case COUNTRY:
+            Set<Person> fromCountry = countries.personsWith((Country) key);
+            return QueryPlan.lookup(clause, fromCountry.size(), () -> fromCountry);
+        case ORGANISATION:
+            Set<Person> inOrganisation = organisations.personsWith((String) key);
+            return QueryPlan.lookup(clause, inOrganisation.size(), () -> inOrganisation);
+        case LANGUAGE:
+            Set<Person> speakers = languages.personsWith((PreferredLanguage) key);
+            return QueryPlan.lookup(clause, speakers.size(), () -> speakers);
+        default:
+            return QueryPlan.scan(clause, slots.size());
+        }
+    }
+
+    /**
+     * Returns the persons whose name contains any of {@code keywords} as a whole word, ignoring case and accents.
+     *
+     * @throws IllegalArgumentException if a keyword is empty or is not a single word.
+     */
+    public Set<Person> findByName(Collection<String> keywords) {
+        requireNonNull(keywords);
+        List<String> tokens = toNameTokens(keywords).orElseThrow(() ->
+                new IllegalArgumentException("Keywords should be single, non-empty words"));
+        Set<Person> matches = new HashSet<>();
+        for (String token : tokens) {
+            matches.addAll(nameTokens.personsWith(token));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the persons whose name has a word that sounds like any of {@code keywords}, that is, with the same
+     * phonetic code.
+     */
+    public Set<Person> findBySound(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> matches = new HashSet<>();
+        for (String code : new PhoneticMatchPredicate(List.copyOf(keywords)).getCodes()) {
+            matches.addAll(phonetics.personsWith(code));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the persons matched by a {@link FuzzyMatchPredicate} with {@code keywords}, each with the fewest
+     * typos between a keyword and one of its words. Candidate words are found through their shared trigrams,
+     * so only a few words are compared with each keyword.
+     */
+    public Map<Person, Integer> findFuzzy(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Map<Person, Integer> distances = new HashMap<>();
+        for (String keyword : keywords) {
+            String searchKey = StringUtil.toSearchKey(keyword);
+            trigrams.addMatches(searchKey, FuzzyMatchPredicate.maxDistance(searchKey), distances);
+        }
+        return distances;
+    }
+
+    /**
+     * Returns the order of persons from the closest to the furthest match for {@code keywords}, by the fewest
+     * typos between a keyword and one of their words, as found by {@link #findFuzzy(Collection)}. Persons that
+     * do not match come last. The distances follow later changes to the index.
+     */
+    public Comparator<Person> fuzzyRanking(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return new FuzzyRanking(keywords);
+    }
+
+    /**
+     * Returns the order of persons from the best to the worst match for {@code terms}, as scored by BM25 over
+     * their notes, addresses and events. The scores follow later changes to the index.
+     */
+    public Comparator<Person> textRanking(Collection<String> terms) {
+        requireNonNull(terms);
+        return new TextRanking(terms);
+    }
+
+    /**
+     * Returns up to {@code limit} persons that best match {@code terms}, best first, as scored by BM25 over
+     * their notes, addresses and events. Only the persons containing a term are scored.
+     */
+    public List<Person> searchText(Collection<String> terms, int limit) {
+        requireNonNull(terms);
+        checkArgument(limit >= 0, "Limit cannot be negative");
+        return fullText.top(new LinkedHashSet<>(terms), limit);
+    }
+
+    /**
+     * Returns up to {@code limit} words of names that start with {@code prefix}, ignoring case and accents,
+     * in alphabetical order.
+     */
+    public List<String> completeNameWord(String prefix, int limit) {
+        requireNonNull(prefix);
+        return nameTrie.complete(prefix, limit);
+    }
+
+    /**
+     * Returns the persons that have every one of {@code tags}, found by intersecting the tags' bitmaps.
+     */
+    public Set<Person> findByTags(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return personsIn(tagBitmaps.withAllOf(tags, occupiedSlots));
+    }
+
+    /**
+     * Returns the persons from {@code country}.
+     */
+    public Set<Person> findByCountry(Country country) {
+        requireNonNull(country);
+        return new HashSet<>(countries.personsWith(country));
+    }
+
+    /**
+     * Returns the persons whose organisation is exactly {@code organisation}, matching case.
+     */
+    public Set<Person> findByOrganisation(String organisation) {
+        requireNonNull(organisation);
+        return new HashSet<>(organisations.personsWith(organisation));
+    }
+
+    /**
+     * Returns the persons with an email in {@code domain} or one of its subdomains, ignoring case and accents.
+     */
+    public Set<Person> findByDomain(String domain) {
+        requireNonNull(domain);
+        return new HashSet<>(domains.personsIn(StringUtil.toSearchKey(domain)));
+    }
+
+    /**
+     * Returns the persons whose phone number in E.164 form starts with {@code prefix}, e.g. {@code +65} for the
+     * numbers with the country calling code 65. The leading {@code +} of the prefix may be left out.
+     */
+    public Set<Person> findByPhonePrefix(String prefix) {
+        requireNonNull(prefix);
+        return phonePrefixes.personsWithPrefix(new PhonePrefixPredicate(prefix).getPrefix());
+    }
+
+    /**
+     * Returns the persons whose phone digits contain {@code digits}, which must be at least
+     * {@link PhoneDigitsPredicate#MIN_DIGITS} digits without separators. The candidates are found through the
+     * runs of digits they share with {@code digits}, and only those are checked.
+     *
+     * @throws IllegalArgumentException if {@code digits} is too short or is not all digits.
+     */
+    public Set<Person> findByPhoneDigits(String digits) {
+        PhoneDigitsPredicate predicate = new PhoneDigitsPredicate(digits);
+        Set<Person> matches = personsIn(phoneDigits.withAllRunsOf(digits, occupiedSlots));
+        matches.removeIf(predicate.negate());
+        return matches;
+    }
+
+    private Set<Person> personsIn(BitSet slotsToCollect) {
+        Set<Person> persons = new HashSet<>();
+        slotsToCollect.stream().forEach(slot -> persons.add(personsBySlot.get(slot)));
+        return persons;
+    }
+
+    private static Set<Person> unionOf(Collection<String> keys, Function<String, Set<Person>> personsWith) {
+        Set<Person> persons = new HashSet<>();
+        for (String key : keys) {
+            persons.addAll(personsWith.apply(key));
+        }
+        return persons;
+    }
+
+    /**
+     * Turns {@code keywords} into name tokens, their search keys, or returns an empty {@code Optional} if a keyword
+     * is not a single, non-empty word, which {@link StringUtil#containsWordIgnoreCase(String, String)} would reject.
+     */
+    private static Optional<List<String>> toNameTokens(Collection<String> keywords) {
+        List<String> tokens = new ArrayList<>(keywords.size());
+        for (String keyword : keywords) {
+            String trimmed = keyword.trim();
+            if (trimmed.isEmpty() || trimmed.split("\\s+").length != 1) {
+                return Optional.empty();
+            }
+            tokens.add(StringUtil.toSearchKey(trimmed));
+        }
+        return Optional.of(tokens);
+    }
+
+    /**
+     * Orders persons by their fewest typos from a keyword, closest first. The distances of all matching persons
+     * are found once and found again only after the index changes, so that sorting does not compare a person's
+     * words with the keywords per comparison.
+     */
+    private class FuzzyRanking implements Comparator<Person> {
+        private final List<String> keywords;
+        private Map<Person, Integer> distances;
+        private long distancesVersion;
+
+        FuzzyRanking(Collection<String> keywords) {
+            this.keywords = List.copyOf(keywords);
+        }
+
+        @Override
+        public int compare(Person first, Person second) {
+            if (distances == null || distancesVersion != version) {
+                distances = findFuzzy(keywords);
+                distancesVersion = version;
+            }
+            return Integer.compare(distances.getOrDefault(first, FuzzyMatchPredicate.NO_MATCH),
+                    distances.getOrDefault(second, FuzzyMatchPredicate.NO_MATCH));
+        }
+    }
+
+    /**
+     * Orders persons by their BM25 scores, best first. The scores of all matching persons are computed once
+     * and computed again only after the index changes, so that sorting does not score a person per comparison.
+     */
+    private class TextRanking implements Comparator<Person> {
+        private final Set<String> terms;
+        private Map<Person, Double> scores;
+        private long scoresVersion;
+
+        TextRanking(Collection<String> terms) {
+            this.terms = new LinkedHashSet<>(terms);
+        }
+
+        @Override
+        public int compare(Person first, Person second) {
+            if (scores == null || scoresVersion != version) {
+                scores = fullText.scores(terms);
+                scoresVersion = version;
+            }
+            return Double.compare(scores.getOrDefault(second, 0.0), scores.getOrDefault(first, 0.0));
+        }
+    }
+}
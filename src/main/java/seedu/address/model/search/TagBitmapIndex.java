@@ -0,0 +1,62 @@
+package seedu.address.model.search;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index from each tag to the bitmap of the slots of the persons with that tag.
+ */
+class TagBitmapIndex {
+
+    private final Map<Tag, BitSet> bitmaps = new HashMap<>();
+
+    void add(Person person, int slot) {
+        for (Tag tag : person.getTags()) {
+            bitmaps.computeIfAbsent(tag, unused -> new BitSet()).set(slot);
+        }
+    }
+
+    void remove(Person person, int slot) {
+        for (Tag tag : person.getTags()) {
+            BitSet bitmap = bitmaps.get(tag);
+            if (bitmap != null) {
+                bitmap.clear(slot);
+                if (bitmap.isEmpty()) {
+                    bitmaps.remove(tag);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        bitmaps.clear();
+    }
+
+    /**
+     * Returns the slots, among {@code candidates}, of the persons that have every one of {@code tags}.
+     */
+    BitSet withAllOf(Collection<Tag> tags, BitSet candidates) {
+        BitSet result = (BitSet) candidates.clone();
+        for (Tag tag : tags) {
+            BitSet bitmap = bitmaps.get(tag);
+            if (bitmap == null) {
+                return new BitSet();
+            }
+            result.and(bitmap);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of persons with {@code tag}.
+     */
+    int countWith(Tag tag) {
+        BitSet bitmap = bitmaps.get(tag);
+        return bitmap == null ? 0 : bitmap.cardinality();
+    }
+}
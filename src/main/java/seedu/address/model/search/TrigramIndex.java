@@ -0,0 +1,142 @@
+package seedu.address.model.search;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.FuzzyMatchPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * An index of the words that {@link FuzzyMatchPredicate} matches against, from each character trigram to the
+ * words containing it, used to find the words within a few typos of a keyword without comparing the keyword
+ * with every word.
+ *
+ * A word is padded with a boundary marker at each end, so a word of {@code n} characters has {@code n}
+ * trigrams. As one edit changes at most three trigrams, a word within {@code d} edits of a keyword shares at
+ * least {@code n - 3d} of the keyword's trigrams; only the words that do are compared with the keyword.
+ *
+ * Each trigram keeps a sorted posting list of the ids of the words containing it, so a search only visits the
+ * ids in the posting lists of the keyword's trigrams, counting them in a map sized to those candidates.
+ */
+class TrigramIndex {
+
+    private static final char BOUNDARY = '\u0000';
+
+    /** Each indexed word has an id, which is reused once no person has the word, so the ids stay small. */
+    private final Map<String, Integer> wordIds = new HashMap<>();
+    private final List<String> words = new ArrayList<>();
+    private final List<Set<Person>> personsByWordId = new ArrayList<>();
+    private final BitSet usedWordIds = new BitSet();
+    private final Map<String, PostingList> wordIdsByTrigram = new HashMap<>();
+
+    void add(Person person) {
+        for (String word : FuzzyMatchPredicate.wordsOf(person)) {
+            Integer id = wordIds.get(word);
+            personsByWordId.get(id == null ? addWord(word) : id).add(person);
+        }
+    }
+
+    void remove(Person person) {
+        for (String word : FuzzyMatchPredicate.wordsOf(person)) {
+            Integer id = wordIds.get(word);
+            if (id != null && personsByWordId.get(id).remove(person) && personsByWordId.get(id).isEmpty()) {
+                removeWord(word, id);
+            }
+        }
+    }
+
+    void clear() {
+        wordIds.clear();
+        words.clear();
+        personsByWordId.clear();
+        usedWordIds.clear();
+        wordIdsByTrigram.clear();
+    }
+
+    /**
+     * Adds the given persons, keyed by the fewest typos between their words and {@code keyword}, which must
+     * already be a search key, to {@code distances}, keeping the smaller distance for persons already in it.
+     * Only words within {@code maxDistance} typos are considered.
+     */
+    void addMatches(String keyword, int maxDistance, Map<Person, Integer> distances) {
+        if (maxDistance == 0) {
+            Integer id = wordIds.get(keyword);
+            if (id != null) {
+                addPersons(personsByWordId.get(id), 0, distances);
+            }
+            return;
+        }
+
+        Set<String> trigrams = trigramsOf(keyword);
+        Map<Integer, Integer> sharedTrigrams = new HashMap<>();
+        for (String trigram : trigrams) {
+            PostingList ids = wordIdsByTrigram.get(trigram);
+            if (ids != null) {
+                ids.forEach(id -> sharedTrigrams.merge(id, 1, Integer::sum));
+            }
+        }
+
+        int minShared = Math.max(1, trigrams.size() - 3 * maxDistance);
+        sharedTrigrams.forEach((id, shared) -> {
+            if (shared < minShared) {
+                return;
+            }
+            int distance = StringUtil.editDistance(keyword, words.get(id), maxDistance);
+            if (distance <= maxDistance) {
+                addPersons(personsByWordId.get(id), distance, distances);
+            }
+        });
+    }
+
+    private static void addPersons(Set<Person> persons, int distance, Map<Person, Integer> distances) {
+        for (Person person : persons) {
+            distances.merge(person, distance, Math::min);
+        }
+    }
+
+    private int addWord(String word) {
+        int id = usedWordIds.nextClearBit(0);
+        usedWordIds.set(id);
+        wordIds.put(word, id);
+        if (id == words.size()) {
+            words.add(word);
+            personsByWordId.add(new HashSet<>());
+        } else {
+            words.set(id, word);
+            personsByWordId.set(id, new HashSet<>());
+        }
+        for (String trigram : trigramsOf(word)) {
+            wordIdsByTrigram.computeIfAbsent(trigram, unused -> new PostingList()).add(id);
+        }
+        return id;
+    }
+
+    private void removeWord(String word, int id) {
+        usedWordIds.clear(id);
+        wordIds.remove(word);
+        for (String trigram : trigramsOf(word)) {
+            PostingList ids = wordIdsByTrigram.get(trigram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    wordIdsByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> trigramsOf(String word) {
+        String padded = BOUNDARY + word + BOUNDARY;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model.search;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A hash index from one value of each person, such as its country, to the persons with that value.
+ * Persons without the value are not indexed.
+ *
+ * @param <K> the type of the indexed value.
+ */
+class ValueIndex<K> {
+
+    private final Function<Person, K> keyOf;
+    private final Map<K, Set<Person>> personsByKey = new HashMap<>();
+
+    /**
+     * Creates an index of the value returned by {@code keyOf}, which may return null for persons without it.
+     */
+    ValueIndex(Function<Person, K> keyOf) {
+        this.keyOf = keyOf;
+    }
+
+    void add(Person person) {
+        K key = keyOf.apply(person);
+        if (key != null) {
+            personsByKey.computeIfAbsent(key, unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    void remove(Person person) {
+        K key = keyOf.apply(person);
+        if (key == null) {
+            return;
+        }
+        Set<Person> persons = personsByKey.get(key);
+        if (persons != null && persons.remove(person) && persons.isEmpty()) {
+            personsByKey.remove(key);
+        }
+    }
+
+    void clear() {
+        personsByKey.clear();
+    }
+
+    /**
+     * Returns the persons whose value is {@code key}.
+     */
+    Set<Person> personsWith(K key) {
+        return Collections.unmodifiableSet(personsByKey.getOrDefault(key, Set.of()));
+    }
+
+    /**
+     * Returns true if the value of {@code person} is {@code key}.
+     */
+    boolean contains(K key, Person person) {
+        Set<Person> persons = personsByKey.get(key);
+        return persons != null && persons.contains(person);
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.model.statistics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts occurrences of values. Values whose count drops to zero are dropped.
+ */
+class Histogram<K> {
+
+    private final Map<K, Integer> counts = new HashMap<>();
+    private final Map<K, Integer> unmodifiableCounts = Collections.unmodifiableMap(counts);
+
+    void add(K value) {
+        counts.merge(value, 1, Integer::sum);
+    }
+
+    void remove(K value) {
+        counts.computeIfPresent(value, (unused, count) -> count == 1 ? null : count - 1);
+    }
+
+    void clear() {
+        counts.clear();
+    }
+
+    Map<K, Integer> asMap() {
+        return unmodifiableCounts;
+    }
+}
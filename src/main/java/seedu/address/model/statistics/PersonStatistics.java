@@ -0,0 +1,129 @@
+package seedu.address.model.statistics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Country;
+import seedu.address.model.person.Organisation;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonObserver;
+import seedu.address.model.person.PreferredLanguage;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Aggregate statistics of a list of persons, kept up to date as the list changes.
+ * Each added, removed or replaced person is accounted for in time proportional to its number of tags,
+ * independent of the number of persons.
+ */
+public class PersonStatistics implements ReadOnlyPersonStatistics, PersonObserver {
+
+    private int personCount;
+    private int archivedCount;
+    private final Histogram<Country> countryCounts = new Histogram<>();
+    private final Histogram<Tag> tagCounts = new Histogram<>();
+    private final Histogram<Organisation> organisationCounts = new Histogram<>();
+    private final Histogram<PreferredLanguage> languageCounts = new Histogram<>();
+
+    @Override
+    public void personAdded(Person person) {
+        requireNonNull(person);
+        personCount++;
+        if (person.getArchivalStatus()) {
+            archivedCount++;
+        }
+        if (hasCountry(person)) {
+            countryCounts.add(person.getCountry());
+        }
+        person.getTags().forEach(tagCounts::add);
+        if (hasOrganisation(person)) {
+            organisationCounts.add(person.getOrganisation());
+        }
+        if (person.getPreferredLanguage() != null) {
+            languageCounts.add(person.getPreferredLanguage());
+        }
+    }
+
+    @Override
+    public void personRemoved(Person person) {
+        requireNonNull(person);
+        personCount--;
+        if (person.getArchivalStatus()) {
+            archivedCount--;
+        }
+        if (hasCountry(person)) {
+            countryCounts.remove(person.getCountry());
+        }
+        person.getTags().forEach(tagCounts::remove);
+        if (hasOrganisation(person)) {
+            organisationCounts.remove(person.getOrganisation());
+        }
+        if (person.getPreferredLanguage() != null) {
+            languageCounts.remove(person.getPreferredLanguage());
+        }
+    }
+
+    @Override
+    public void personsReset(List<Person> persons) {
+        requireNonNull(persons);
+        personCount = 0;
+        archivedCount = 0;
+        countryCounts.clear();
+        tagCounts.clear();
+        organisationCounts.clear();
+        languageCounts.clear();
+        persons.forEach(this::personAdded);
+    }
+
+    private static boolean hasCountry(Person person) {
+        return person.getCountry() != null && !person.getCountry().value.isEmpty();
+    }
+
+    private static boolean hasOrganisation(Person person) {
+        return person.getOrganisation() != null && !person.getOrganisation().value.isEmpty();
+    }
+
+    @Override
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    @Override
+    public int getArchivedCount() {
+        return archivedCount;
+    }
+
+    @Override
+    public Map<Country, Integer> getCountryCounts() {
+        return countryCounts.asMap();
+    }
+
+    @Override
+    public Map<Tag, Integer> getTagCounts() {
+        return tagCounts.asMap();
+    }
+
+    @Override
+    public Map<Organisation, Integer> getOrganisationCounts() {
+        return organisationCounts.asMap();
+    }
+
+    @Override
+    public Map<PreferredLanguage, Integer> getLanguageCounts() {
+        return languageCounts.asMap();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("personCount", personCount)
+                .add("archivedCount", archivedCount)
+                .add("countryCounts", countryCounts.asMap())
+                .add("tagCounts", tagCounts.asMap())
+                .add("organisationCounts", organisationCounts.asMap())
+                .add("languageCounts", languageCounts.asMap())
+                .toString();
+    }
+}
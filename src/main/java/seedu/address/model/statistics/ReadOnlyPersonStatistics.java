@@ -0,0 +1,34 @@
+package seedu.address.model.statistics;
+
+import java.util.Map;
+
+import seedu.address.model.person.Country;
+import seedu.address.model.person.Organisation;
+import seedu.address.model.person.PreferredLanguage;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Unmodifiable view of the aggregate statistics of an address book.
+ * The maps are live views that only contain values held by at least one person.
+ */
+public interface ReadOnlyPersonStatistics {
+
+    /** Returns the number of persons, archived or not. */
+    int getPersonCount();
+
+    /** Returns the number of archived persons. */
+    int getArchivedCount();
+
+    /** Returns the number of persons in each country. Persons without a country are not counted. */
+    Map<Country, Integer> getCountryCounts();
+
+    /** Returns the number of persons with each tag. */
+    Map<Tag, Integer> getTagCounts();
+
+    /** Returns the number of persons in each organisation. Persons without an organisation are not counted. */
+    Map<Organisation, Integer> getOrganisationCounts();
+
+    /** Returns the number of persons preferring each language. Persons without a preference are not counted. */
+    Map<PreferredLanguage, Integer> getLanguageCounts();
+
+}
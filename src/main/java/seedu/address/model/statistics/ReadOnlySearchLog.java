@@ -0,0 +1,26 @@
+package seedu.address.model.statistics;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Unmodifiable view of the timings of the searches of the person list.
+ */
+public interface ReadOnlySearchLog {
+
+    /** Returns how long a search must take to be counted as slow. */
+    Duration getSlowThreshold();
+
+    /** Returns the number of searches made. */
+    int getSearchCount();
+
+    /** Returns the number of searches that took at least the slow threshold. */
+    int getSlowSearchCount();
+
+    /** Returns a summary of the searches for each kind of predicate, by the name of the kind. */
+    List<SearchLog.Summary> getSummaries();
+
+    /** Returns the most recent slow searches, most recent first. */
+    List<SearchRecord> getRecentSlowSearches();
+
+}
@@ -0,0 +1,154 @@
+package seedu.address.model.statistics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * The timings of the searches of the person list, summarised for each kind of predicate. A search that takes at
+ * least the slow threshold is also written to the slow query log of {@link LogsCenter#getSlowQueryLogger()},
+ * and the last few of them are kept to be shown.
+ *
+ * Recording a search costs a map lookup and a few additions, whatever the size of the person list.
+ */
+public class SearchLog implements ReadOnlySearchLog {
+
+    /** The number of slow searches kept to be shown. All of them are in the slow query log. */
+    public static final int MAX_RECENT_SLOW_SEARCHES = 10;
+
+    /** Gives the slow query logger when the first slow search is logged, so that its file is only made if used. */
+    private final Supplier<Logger> slowQueryLogger;
+    private final Map<String, Summary> summaries = new TreeMap<>();
+    private final Deque<SearchRecord> recentSlowSearches = new LinkedList<>();
+    private Duration slowThreshold = Duration.ofMillis(Config.DEFAULT_SLOW_QUERY_THRESHOLD_MILLIS);
+    private int searchCount;
+    private int slowSearchCount;
+
+    /**
+     * Creates an empty log that writes slow searches to the slow query log of {@link LogsCenter}.
+     */
+    public SearchLog() {
+        this(LogsCenter::getSlowQueryLogger);
+    }
+
+    /**
+     * Creates an empty log that writes slow searches to the logger given by {@code slowQueryLogger}.
+     */
+    SearchLog(Supplier<Logger> slowQueryLogger) {
+        requireNonNull(slowQueryLogger);
+        this.slowQueryLogger = slowQueryLogger;
+    }
+
+    /**
+     * Adds {@code record} to the summary of its kind of predicate, and logs it as slow if it took at least the
+     * slow threshold.
+     */
+    public void record(SearchRecord record) {
+        requireNonNull(record);
+        searchCount++;
+        summaries.computeIfAbsent(record.getPredicateType(), Summary::new).add(record);
+        if (record.getNanos() < slowThreshold.toNanos()) {
+            return;
+        }
+        slowSearchCount++;
+        recentSlowSearches.addFirst(record);
+        if (recentSlowSearches.size() > MAX_RECENT_SLOW_SEARCHES) {
+            recentSlowSearches.removeLast();
+        }
+        slowQueryLogger.get().info(record.toString());
+    }
+
+    /**
+     * Sets how long a search must take to be counted as slow.
+     */
+    public void setSlowThreshold(Duration slowThreshold) {
+        requireNonNull(slowThreshold);
+        checkArgument(!slowThreshold.isNegative(), "Slow threshold should not be negative");
+        this.slowThreshold = slowThreshold;
+    }
+
+    @Override
+    public Duration getSlowThreshold() {
+        return slowThreshold;
+    }
+
+    @Override
+    public int getSearchCount() {
+        return searchCount;
+    }
+
+    @Override
+    public int getSlowSearchCount() {
+        return slowSearchCount;
+    }
+
+    @Override
+    public List<Summary> getSummaries() {
+        return List.copyOf(summaries.values());
+    }
+
+    @Override
+    public List<SearchRecord> getRecentSlowSearches() {
+        return new ArrayList<>(recentSlowSearches);
+    }
+
+    /**
+     * The totals of the searches for one kind of predicate.
+     */
+    public static class Summary {
+        private final String predicateType;
+        private int count;
+        private long totalNanos;
+        private long maxNanos;
+        private long totalCandidates;
+        private long totalResults;
+
+        Summary(String predicateType) {
+            this.predicateType = predicateType;
+        }
+
+        private void add(SearchRecord record) {
+            count++;
+            totalNanos += record.getNanos();
+            maxNanos = Math.max(maxNanos, record.getNanos());
+            totalCandidates += record.getCandidates();
+            totalResults += record.getResults();
+        }
+
+        public String getPredicateType() {
+            return predicateType;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public double getMeanMillis() {
+            return totalNanos / 1e6 / count;
+        }
+
+        public double getMaxMillis() {
+            return maxNanos / 1e6;
+        }
+
+        public double getMeanCandidates() {
+            return (double) totalCandidates / count;
+        }
+
+        public double getMeanResults() {
+            return (double) totalResults / count;
+        }
+    }
+}
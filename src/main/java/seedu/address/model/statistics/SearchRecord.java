@@ -0,0 +1,79 @@
+package seedu.address.model.statistics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Locale;
+
+/**
+ * How one search of the person list went: the kind of predicate searched for, how its filtered list was found,
+ * how many persons the list was filtered from, how many matched, and how long it took.
+ */
+public class SearchRecord {
+
+    /**
+     * How the filtered list of a search was found.
+     */
+    public enum Plan {
+        /** A list kept from an earlier search was shown again, without testing any person. */
+        CACHED,
+        /** The list was built from the members of a smart group. */
+        GROUP,
+        /** The list was built from the persons found in the search index, some of them tested further. */
+        INDEX,
+        /** Every person of the sorted list was tested against the predicate. */
+        SCAN
+    }
+
+    private final String predicateType;
+    private final Plan plan;
+    private final int candidates;
+    private final int results;
+    private final long nanos;
+
+    /**
+     * Creates a record of a search for {@code predicateType}, found by {@code plan}, that filtered
+     * {@code candidates} persons down to {@code results} in {@code nanos} nanoseconds.
+     */
+    public SearchRecord(String predicateType, Plan plan, int candidates, int results, long nanos) {
+        requireNonNull(predicateType);
+        requireNonNull(plan);
+        checkArgument(candidates >= 0 && results >= 0 && nanos >= 0, "Counts and time should not be negative");
+        this.predicateType = predicateType;
+        this.plan = plan;
+        this.candidates = candidates;
+        this.results = results;
+        this.nanos = nanos;
+    }
+
+    public String getPredicateType() {
+        return predicateType;
+    }
+
+    public Plan getPlan() {
+        return plan;
+    }
+
+    /**
+     * Returns the number of persons the list was built from: the persons found in the index for
+     * {@link Plan#INDEX}, the members for {@link Plan#GROUP}, every person of the sorted list for
+     * {@link Plan#SCAN}, and 0 for a {@link Plan#CACHED} list, for which no person was looked at.
+     */
+    public int getCandidates() {
+        return candidates;
+    }
+
+    public int getResults() {
+        return results;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%s by %s: %d candidates, %d results, %.1f ms",
+                predicateType, plan, candidates, results, nanos / 1e6);
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -16,6 +18,8 @@ public class Tag {
 
 
 
+    private static final Interner<Tag> POOL = new Interner<>();
+
     public final String tagName;
 
     /**
@@ -29,6 +33,16 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns a {@code Tag} equal to {@code new Tag(tagName)}. Instances are pooled, so equal values
+     * created through this method share one instance and repeated values skip validation.
+     *
+     * @throws IllegalArgumentException if {@code tagName} is not a valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return POOL.intern(tagName, Tag::new);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
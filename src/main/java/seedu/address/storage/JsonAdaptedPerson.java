@@ -26,6 +26,7 @@ import seedu.address.model.person.Note;
 import seedu.address.model.person.Offset;
 import seedu.address.model.person.Organisation;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.PreferredLanguage;
 import seedu.address.model.tag.Tag;
@@ -37,6 +38,7 @@ class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    private final String id;
     private final String name;
     private final String phone;
     private final String email;
@@ -53,11 +55,23 @@ class JsonAdaptedPerson {
     private final String preferredChannel;
 
 
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and no stored id.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String address, String country, String note,
+                             String organisation, String event, String offset, List<JsonAdaptedTag> tags,
+                             String preferredLanguage, String preferredChannel, String addedOn,
+                             boolean archivalStatus) {
+        this(null, name, phone, email, address, country, note, organisation, event, offset, tags,
+                preferredLanguage, preferredChannel, addedOn, archivalStatus);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
+    public JsonAdaptedPerson(@JsonProperty("id") String id, @JsonProperty("name") String name,
+                             @JsonProperty("phone") String phone,
                              @JsonProperty("email") String email, @JsonProperty("address") String address,
                              @JsonProperty("country") String country, @JsonProperty("note") String note,
                              @JsonProperty("organisation") String organisation,
@@ -68,6 +82,7 @@ class JsonAdaptedPerson {
                              @JsonProperty("preferredChannel") String preferredChannel,
                              @JsonProperty("addedOn") String addedOn,
                              @JsonProperty("archivalStatus") boolean archivalStatus) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -90,6 +105,7 @@ class JsonAdaptedPerson {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.getId().value;
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -124,6 +140,16 @@ class JsonAdaptedPerson {
             personTags.add(tag.toModelType());
         }
 
+        final PersonId modelId;
+        if (id == null || id.isBlank()) {
+            modelId = PersonId.generate(); // files written before ids were introduced
+        } else {
+            if (!PersonId.isValidPersonId(id)) {
+                throw new IllegalValueException(PersonId.MESSAGE_CONSTRAINTS);
+            }
+            modelId = new PersonId(id);
+        }
+
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -157,19 +183,19 @@ class JsonAdaptedPerson {
 
         final Address modelAddress = new Address(address);
 
-        final Organisation modelOrganisation = (organisation == null) ? new Organisation("")
-            : new Organisation(organisation);
+        final Organisation modelOrganisation = (organisation == null) ? Organisation.of("")
+            : Organisation.of(organisation);
 
-        final Event modelEvent = (event == null) ? new Event("") : new Event(event);
+        final Event modelEvent = (event == null) ? Event.of("") : Event.of(event);
 
         final Note modelNote = (note == null) ? new Note("") : new Note(note);
 
         final Offset modelOffset;
         if (offset == null || offset.isEmpty()) {
-            modelOffset = new Offset("+00:00"); // default UTC
+            modelOffset = Offset.of("+00:00"); // default UTC
         } else {
             try {
-                modelOffset = new Offset(offset);
+                modelOffset = Offset.of(offset);
             } catch (IllegalArgumentException e) {
                 throw new IllegalValueException("Invalid GMT offset: " + offset
                         + ". Must be in the format +HH:MM or -HH:MM, where HH is 00-14 and MM is 00-59.");
@@ -188,10 +214,12 @@ class JsonAdaptedPerson {
             }
         }
 
-        if (!isNull(country) && !Country.isValidCountry(country)) {
+        final Country modelCountry;
+        try {
+            modelCountry = isNull(country) ? null : Country.of(country);
+        } catch (IllegalArgumentException e) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        final Country modelCountry = isNull(country) ? null : new Country(country);
 
         final PreferredLanguage modelPreferredLanguage;
         if (preferredLanguage == null || preferredLanguage.isBlank()) {
@@ -200,7 +228,7 @@ class JsonAdaptedPerson {
             if (!PreferredLanguage.isValidLanguage(preferredLanguage)) {
                 throw new IllegalValueException(PreferredLanguage.MESSAGE_CONSTRAINTS);
             }
-            modelPreferredLanguage = new PreferredLanguage(preferredLanguage);
+            modelPreferredLanguage = PreferredLanguage.of(preferredLanguage);
         }
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
@@ -216,7 +244,7 @@ class JsonAdaptedPerson {
             }
         }
 
-        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelCountry, modelOrganisation,
+        return new Person(modelId, modelName, modelPhone, modelEmail, modelAddress, modelCountry, modelOrganisation,
             modelEvent, modelNote, modelChannel, modelTags, modelOffset, modelPreferredLanguage, modelAddedOn,
                 archivalStatus);
     }
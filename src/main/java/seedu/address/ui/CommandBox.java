@@ -1,7 +1,13 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
@@ -17,18 +23,53 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final NameCompleter nameCompleter;
+    private final ContextMenu completionPopup = new ContextMenu();
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code NameCompleter}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, NameCompleter nameCompleter) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.nameCompleter = nameCompleter;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> showCompletions(newText));
+        commandTextField.focusedProperty().addListener((unused1, unused2, isFocused) -> {
+            if (!isFocused) {
+                completionPopup.hide();
+            }
+        });
+    }
+
+    /**
+     * Shows the name completions for {@code commandText} below the command box, or hides them if there are none.
+     */
+    private void showCompletions(String commandText) {
+        List<String> completions = commandText.isEmpty() ? List.of() : nameCompleter.complete(commandText);
+        if (completions.isEmpty()) {
+            completionPopup.hide();
+            return;
+        }
+
+        List<MenuItem> items = new ArrayList<>(completions.size());
+        for (String completion : completions) {
+            MenuItem item = new MenuItem(completion.substring(completion.lastIndexOf(' ') + 1));
+            item.setOnAction(unused -> {
+                commandTextField.setText(completion);
+                commandTextField.positionCaret(completion.length());
+                completionPopup.hide();
+            });
+            items.add(item);
+        }
+        completionPopup.getItems().setAll(items);
+        if (!completionPopup.isShowing() && commandTextField.getScene() != null) {
+            completionPopup.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
     }
 
     /**
@@ -41,6 +82,7 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
+        completionPopup.hide();
         try {
             commandExecutor.execute(commandText);
             commandTextField.setText("");
@@ -82,4 +124,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that completes the name being typed in a command.
+     */
+    @FunctionalInterface
+    public interface NameCompleter {
+        /**
+         * Returns the completed command texts.
+         *
+         * @see seedu.address.logic.Logic#getNameCompletions(String)
+         */
+        List<String> complete(String commandText);
+    }
+
 }
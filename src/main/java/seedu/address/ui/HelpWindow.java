@@ -214,16 +214,30 @@ public class HelpWindow extends UiPart<Stage> {
                         + "[event:EVENT] [channel:CHANNEL] [language:LANGUAGE] [tag:TAG]...\n"
                         + "e.g. edit 2 name:James Lee email:jameslee@example.com"),
                 new CommandEntry("Delete", "delete INDEX\n e.g. delete 3"),
-                new CommandEntry("Find", "find KEYWORD [MORE_KEYWORDS]\n e.g. find James Jake"),
+                new CommandEntry("Find", "find [sounds] KEYWORD [MORE_KEYWORDS]\n"
+                        + " e.g. find James Jake, find sounds Chaikovsky"),
+                new CommandEntry("Fuzzy find", "fuzzyfind KEYWORD [MORE_KEYWORDS]\n e.g. fuzzyfind Mohammed"),
+                new CommandEntry("Search", "search WORD [MORE_WORDS]\n e.g. search vegetarian clementi"),
+                new CommandEntry("Query", "query [explain] CLAUSE [MORE_CLAUSES]\n"
+                        + " e.g. query country:Japan tag:friends -archived"),
+                new CommandEntry("Save group", "savegroup GROUP_NAME CLAUSE [MORE_CLAUSES]...\n"
+                        + " e.g. savegroup japan-friends country:Japan tag:friends"),
+                new CommandEntry("Group", "group [GROUP_NAME]\n e.g. group japan-friends"),
+                new CommandEntry("Delete group", "deletegroup GROUP_NAME\n e.g. deletegroup japan-friends"),
                 new CommandEntry("Find tag", "findtag TAG\n e.g. findtag friends"),
                 new CommandEntry("Find country", "findcountry COUNTRY\n e.g. findcountry Singapore"),
                 new CommandEntry("Find organisation", "findorganisation ORGANISAION\n e.g. findorganisation NUS"),
+                new CommandEntry("Find email domain", "finddomain DOMAIN\n e.g. finddomain nus.edu.sg"),
+                new CommandEntry("Find calling code", "findcode [+]CODE\n e.g. findcode +65"),
+                new CommandEntry("Find phone", "findphone DIGITS\n e.g. findphone 8765"),
                 new CommandEntry("Archive", "archive INDEX"),
                 new CommandEntry("Unarchive", "unarchive INDEX"),
                 new CommandEntry("Archive list", "archivelist"),
                 new CommandEntry("Sort by country", "sortcountry"),
                 new CommandEntry("Sort by name", "sortname"),
                 new CommandEntry("Sort by date added", "sortdate"),
+                new CommandEntry("Statistics", "stats"),
+                new CommandEntry("Search timings", "searchstats"),
                 new CommandEntry("Clear", "clear"),
                 new CommandEntry("Exit", "exit"));
 
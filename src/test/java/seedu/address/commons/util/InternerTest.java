@@ -0,0 +1,76 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    private final List<String> created = new ArrayList<>();
+
+    /** Creates a lower-cased copy of {@code source}, rejecting blank strings, and records each call. */
+    private String createLowerCase(String source) {
+        created.add(source);
+        AppUtil.checkArgument(!source.isBlank());
+        return new String(source.toLowerCase(Locale.ROOT));
+    }
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Interner<String>(0));
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        Interner<String> interner = new Interner<>();
+        assertThrows(NullPointerException.class, () -> interner.intern(null, this::createLowerCase));
+        assertThrows(NullPointerException.class, () -> interner.intern("a", null));
+    }
+
+    @Test
+    public void intern_sameSource_createdOnceAndShared() {
+        Interner<String> interner = new Interner<>();
+        String first = interner.intern("Singapore", this::createLowerCase);
+        String second = interner.intern("Singapore", this::createLowerCase);
+        assertSame(first, second);
+        assertEquals(List.of("Singapore"), created);
+    }
+
+    @Test
+    public void intern_differentSourcesOfEqualValue_shared() {
+        Interner<String> interner = new Interner<>();
+        String first = interner.intern("Singapore", this::createLowerCase);
+        String second = interner.intern("SINGAPORE", this::createLowerCase);
+        assertSame(first, second);
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_factoryThrows_nothingPooled() {
+        Interner<String> interner = new Interner<>();
+        assertThrows(IllegalArgumentException.class, () -> interner.intern(" ", this::createLowerCase));
+        assertThrows(IllegalArgumentException.class, () -> interner.intern(" ", this::createLowerCase));
+        assertEquals(0, interner.size());
+        assertEquals(2, created.size());
+    }
+
+    @Test
+    public void intern_capacityReached_newValuesNotShared() {
+        Interner<String> interner = new Interner<>(1);
+        String pooled = interner.intern("a", this::createLowerCase);
+        assertSame(pooled, interner.intern("a", this::createLowerCase));
+
+        String first = interner.intern("b", this::createLowerCase);
+        String second = interner.intern("b", this::createLowerCase);
+        assertEquals(first, second);
+        assertNotSame(first, second);
+        assertEquals(1, interner.size());
+    }
+}
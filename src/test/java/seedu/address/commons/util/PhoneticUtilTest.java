@@ -0,0 +1,77 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PhoneticUtilTest {
+
+    @Test
+    public void encode_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PhoneticUtil.encode(null));
+    }
+
+    @Test
+    public void encode_romanizationVariants_sameCode() {
+        assertEquals("XKFSK", PhoneticUtil.encode("Tchaikovsky"));
+        assertEquals("XKFSK", PhoneticUtil.encode("Chaikovsky"));
+        assertEquals("XKFSK", PhoneticUtil.encode("Chaykovsky"));
+        assertEquals("MHMT", PhoneticUtil.encode("Mohammed"));
+        assertEquals("MHMT", PhoneticUtil.encode("Muhammad"));
+        assertEquals("MR", PhoneticUtil.encode("Meier"));
+        assertEquals("MR", PhoneticUtil.encode("Meyer"));
+        assertEquals("KRL", PhoneticUtil.encode("Carl"));
+        assertEquals("KRL", PhoneticUtil.encode("Karl"));
+        assertEquals("K0RN", PhoneticUtil.encode("Catherine"));
+        assertEquals("K0RN", PhoneticUtil.encode("Kathryn"));
+    }
+
+    @Test
+    public void encode_diacritics_stripped() {
+        assertEquals("NKN", PhoneticUtil.encode("Nguyen"));
+        assertEquals("NKN", PhoneticUtil.encode("Nguyễn"));
+        assertEquals("MLR", PhoneticUtil.encode("Müller"));
+        assertEquals("TN", PhoneticUtil.encode("Đinh"));
+        assertEquals("KRS", PhoneticUtil.encode("Krauß"));
+        assertEquals("KRS", PhoneticUtil.encode("Krauss"));
+        assertEquals("ALFRS", PhoneticUtil.encode("Ålvarez"));
+    }
+
+    @Test
+    public void encode_initialVowels_allEncodeAsA() {
+        assertEquals(PhoneticUtil.encode("Ivan"), PhoneticUtil.encode("Evan"));
+        assertEquals("ANTR", PhoneticUtil.encode("Andre"));
+    }
+
+    @Test
+    public void encode_silentAndSoundAlikeLetters() {
+        // silent initial letters
+        assertEquals("NT", PhoneticUtil.encode("Knight"));
+        assertEquals("RT", PhoneticUtil.encode("Wright"));
+        // PH sounds like F, TH is encoded as 0
+        assertEquals(PhoneticUtil.encode("Filip"), PhoneticUtil.encode("Philip"));
+        assertEquals("0MS", PhoneticUtil.encode("Thomas"));
+        // C is soft before E, I and Y
+        assertEquals("SSL", PhoneticUtil.encode("Cecil"));
+        // different names keep different codes
+        assertNotEquals(PhoneticUtil.encode("Alex"), PhoneticUtil.encode("Alice"));
+    }
+
+    @Test
+    public void encode_noLatinLetters_emptyCode() {
+        assertEquals("", PhoneticUtil.encode(""));
+        assertEquals("", PhoneticUtil.encode("123"));
+        assertEquals("", PhoneticUtil.encode("李"));
+    }
+
+    @Test
+    public void encodeWords_splitsAtSpacesDashesAndSlashes() {
+        assertEquals(List.of("JN", "LK", "PKRT"), PhoneticUtil.encodeWords("Jean-Luc Picard"));
+        assertEquals(List.of("AL", "S", "A", "BN"), PhoneticUtil.encodeWords("Ali s/o Bin"));
+        assertEquals(List.of("NKN"), PhoneticUtil.encodeWords("Nguyen Nguyễn 123"));
+    }
+}
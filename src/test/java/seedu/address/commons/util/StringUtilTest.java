@@ -1,10 +1,14 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +127,106 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_agreesWithEqualsIgnoreCase() {
+        assertEquals(StringUtil.foldCase("Alice Pauline"), StringUtil.foldCase("aLICE pAULINE"));
+        assertEquals(StringUtil.foldCase("ÉLODIE"), StringUtil.foldCase("élodie"));
+        assertEquals("", StringUtil.foldCase(""));
+
+        // accents are significant, as they are for equalsIgnoreCase
+        assertNotEquals(StringUtil.foldCase("José"), StringUtil.foldCase("Jose"));
+    }
+
+    //---------------- Tests for toSearchKey --------------------------------------
+
+    @Test
+    public void toSearchKey_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toSearchKey(null));
+    }
+
+    @Test
+    public void toSearchKey_ignoresCaseAndAccents() {
+        assertEquals("jose", StringUtil.toSearchKey("José"));
+        assertEquals("jose", StringUtil.toSearchKey("JOSE"));
+        assertEquals("nguyen van an", StringUtil.toSearchKey("Nguyễn Văn An"));
+        assertEquals("francoise muller", StringUtil.toSearchKey("FRANÇOISE Müller"));
+        assertEquals("", StringUtil.toSearchKey(""));
+    }
+
+    @Test
+    public void toSearchKey_compatibilityForms_plainLetters() {
+        // full-width letters and ligatures
+        assertEquals("tokyo", StringUtil.toSearchKey("Ｔｏｋｙｏ"));
+        assertEquals("office", StringUtil.toSearchKey("oﬃce"));
+    }
+
+    @Test
+    public void toSearchKey_otherScripts_keptAsTheyAre() {
+        assertEquals("李小龙", StringUtil.toSearchKey("李小龙"));
+        // accents are stripped from any script, and a final sigma folds to a sigma
+        assertEquals("δημητρησ", StringUtil.toSearchKey("Δημήτρης"));
+    }
+
+    @Test
+    public void toSearchKey_alreadyAKey_returnsSameInstance() {
+        String key = "alice pauline";
+        assertSame(key, StringUtil.toSearchKey(key));
+    }
+
+    //---------------- Tests for toSortKey --------------------------------------
+
+    @Test
+    public void toSortKey_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toSortKey(null));
+    }
+
+    @Test
+    public void toSortKey_ordersAlphabeticallyIgnoringCase() {
+        assertEquals(0, compareSortKeys("alice", "ALICE"));
+        assertTrue(compareSortKeys("alice", "Bob") < 0);
+        assertTrue(compareSortKeys("Zed", "bob") > 0);
+
+        // accented letters sort next to their base letter rather than after 'z'
+        assertTrue(compareSortKeys("Élodie", "Zoe") < 0);
+        assertTrue(compareSortKeys("Élodie", "Eve") < 0);
+    }
+
+    private static int compareSortKeys(String first, String second) {
+        return Arrays.compareUnsigned(StringUtil.toSortKey(first), StringUtil.toSortKey(second));
+    }
+
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_withinBound_returnsDistance() {
+        assertEquals(0, StringUtil.editDistance("meier", "meier", 2));
+        assertEquals(1, StringUtil.editDistance("meier", "meyer", 2));
+        assertEquals(1, StringUtil.editDistance("alex", "alexa", 2));
+        assertEquals(1, StringUtil.editDistance("alex", "ale", 2));
+        assertEquals(2, StringUtil.editDistance("mohammed", "muhammad", 2));
+        assertEquals(3, StringUtil.editDistance("", "abc", 3));
+    }
+
+    @Test
+    public void editDistance_beyondBound_returnsBoundPlusOne() {
+        assertEquals(2, StringUtil.editDistance("kitten", "sitting", 1));
+        assertEquals(1, StringUtil.editDistance("alex", "alexander", 0));
+        assertEquals(3, StringUtil.editDistance("abcd", "wxyz", 2));
+    }
+
+    @Test
+    public void editDistance_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "a", 1));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.editDistance("a", "b", -1));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -10,10 +10,14 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.OFFSET_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,9 +31,12 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.group.SmartGroup;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.testutil.AddressBookBuilder;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
@@ -85,6 +92,46 @@ public class LogicManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void getNameCompletions_nameBeingTyped_completesLastWord() {
+        model.addPerson(BENSON);
+        model.addPerson(ELLE);
+
+        assertEquals(List.of("find alice Meier", "find alice Meyer"), logic.getNameCompletions("find alice me"));
+        assertEquals(List.of("edit 1 name:Benson"), logic.getNameCompletions("edit 1 name:b"));
+        assertEquals(List.of("edit 1 name:Elle Meier", "edit 1 name:Elle Meyer"),
+                logic.getNameCompletions("edit 1 name:Elle ME"));
+    }
+
+    @Test
+    public void getNameCompletions_noNameBeingTyped_returnsEmptyList() {
+        model.addPerson(BENSON);
+
+        assertEquals(List.of(), logic.getNameCompletions("find"));
+        assertEquals(List.of(), logic.getNameCompletions("find me "));
+        assertEquals(List.of(), logic.getNameCompletions("find zz"));
+        assertEquals(List.of(), logic.getNameCompletions("edit 1 name:"));
+        assertEquals(List.of(), logic.getNameCompletions("edit 1 name:Benson phone:9"));
+        assertEquals(List.of(), logic.getNameCompletions("edit me"));
+        assertEquals(List.of(), logic.getNameCompletions("delete me"));
+    }
+
+    @Test
+    public void constructor_smartGroupsInPrefs_restoresValidGroups() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.putSmartGroup("friends", "tag:friends -archived");
+        userPrefs.putSmartGroup("broken", "tag:");
+        Model modelWithGroups = new ModelManager(new AddressBookBuilder().withPerson(BENSON).withPerson(ELLE).build(),
+                userPrefs);
+        new LogicManager(modelWithGroups, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        assertEquals(List.of("friends"),
+                modelWithGroups.getSmartGroups().stream().map(SmartGroup::getName).collect(Collectors.toList()));
+        assertEquals(1, modelWithGroups.getSmartGroup("friends").get().size());
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
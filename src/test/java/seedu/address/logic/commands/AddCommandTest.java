@@ -9,8 +9,13 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -25,7 +30,12 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.group.SmartGroup;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.Query;
+import seedu.address.model.search.QueryPlan;
+import seedu.address.model.statistics.ReadOnlyPersonStatistics;
+import seedu.address.model.statistics.ReadOnlySearchLog;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -149,6 +159,66 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ReadOnlyPersonStatistics getPersonStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlySearchLog getSearchLog() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setSlowQueryThreshold(Duration threshold) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> getNameCompletions(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Comparator<Person> getTextRanking(List<String> terms) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> searchText(List<String> terms, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Comparator<Person> getFuzzyRanking(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryPlan planQuery(Query query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SmartGroup setSmartGroup(String name, Query definition) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<SmartGroup> getSmartGroup(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<SmartGroup> getSmartGroups() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteSmartGroup(SmartGroup group) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -174,6 +244,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> ranking) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void sortPersonsByCountry() {
             throw new AssertionError("This method should not be called.");
@@ -195,7 +270,7 @@ public class AddCommandTest {
         }
 
         @Override
-        public void reapplySortMode() {
+        public void applyBatch(Consumer<Model> batch) {
             throw new AssertionError("This method should not be called.");
         }
 
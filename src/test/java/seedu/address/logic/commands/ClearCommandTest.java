@@ -1,6 +1,10 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import org.junit.jupiter.api.Test;
@@ -9,6 +13,8 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 public class ClearCommandTest {
 
@@ -29,4 +35,28 @@ public class ClearCommandTest {
         assertCommandSuccess(new ClearCommand(), model, ClearCommand.MESSAGE_SUCCESS, expectedModel);
     }
 
+    @Test
+    public void execute_archivedOnly_deletesArchivedContacts() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Person archivedAlice = new PersonBuilder(ALICE).archived().build();
+        Person archivedBenson = new PersonBuilder(BENSON).archived().build();
+        model.setPerson(ALICE, archivedAlice);
+        model.setPerson(BENSON, archivedBenson);
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(ALICE);
+        expectedModel.deletePerson(BENSON);
+
+        assertCommandSuccess(new ClearCommand(true), model,
+                String.format(ClearCommand.MESSAGE_ARCHIVED_SUCCESS, 2), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        ClearCommand clearArchived = new ClearCommand(true);
+
+        assertTrue(clearArchived.equals(new ClearCommand(true)));
+        assertTrue(new ClearCommand().equals(new ClearCommand(false)));
+        assertFalse(clearArchived.equals(new ClearCommand()));
+        assertFalse(clearArchived.equals(null));
+    }
 }
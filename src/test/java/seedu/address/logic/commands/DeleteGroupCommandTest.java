@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.search.Query;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code DeleteGroupCommand}.
+ */
+public class DeleteGroupCommandTest {
+    private static final Query FRIENDS = Query.tag(new Tag("friends"));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        DeleteGroupCommand deleteFriendsCommand = new DeleteGroupCommand("friends");
+
+        // same object -> returns true
+        assertTrue(deleteFriendsCommand.equals(deleteFriendsCommand));
+
+        // same values -> returns true
+        assertTrue(deleteFriendsCommand.equals(new DeleteGroupCommand("friends")));
+
+        // different types -> returns false
+        assertFalse(deleteFriendsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(deleteFriendsCommand.equals(null));
+
+        // different name -> returns false
+        assertFalse(deleteFriendsCommand.equals(new DeleteGroupCommand("buddies")));
+    }
+
+    @Test
+    public void execute_existingGroup_groupDeleted() {
+        model.setSmartGroup("friends", FRIENDS);
+        String expectedMessage = String.format(DeleteGroupCommand.MESSAGE_SUCCESS, "friends");
+        assertCommandSuccess(new DeleteGroupCommand("friends"), model, expectedMessage, expectedModel);
+        assertEquals(List.of(), model.getSmartGroups());
+    }
+
+    @Test
+    public void execute_unknownGroup_throwsCommandException() {
+        assertCommandFailure(new DeleteGroupCommand("friends"), model,
+                String.format(GroupCommand.MESSAGE_NO_SUCH_GROUP, "friends"));
+    }
+
+    @Test
+    public void toStringMethod() {
+        DeleteGroupCommand command = new DeleteGroupCommand("friends");
+        assertEquals(DeleteGroupCommand.class.getCanonicalName() + "{name=friends}", command.toString());
+    }
+}
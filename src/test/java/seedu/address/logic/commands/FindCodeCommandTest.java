@@ -0,0 +1,105 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PhonePrefixPredicate;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindCodeCommand}.
+ */
+public class FindCodeCommandTest {
+    private static final Person SINGAPOREAN = new PersonBuilder().withName("Tan Ah Kow").withPhone("+65 9876 5432")
+            .withEmail("tan@example.com").build();
+    private static final Person CALIFORNIAN = new PersonBuilder().withName("Jane Doe").withPhone("+1 (415) 555-2671")
+            .withEmail("jane@example.com").build();
+    private static final Person NEW_YORKER = new PersonBuilder().withName("John Roe").withPhone("+1 212 555 0123")
+            .withEmail("john@example.com").build();
+
+    private Model model = new ModelManager(getAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getAddressBook(), new UserPrefs());
+
+    private static AddressBook getAddressBook() {
+        return new AddressBookBuilder().withPerson(ALICE).withPerson(SINGAPOREAN).withPerson(CALIFORNIAN)
+                .withPerson(NEW_YORKER).build();
+    }
+
+    @Test
+    public void equals() {
+        PhonePrefixPredicate firstPredicate = new PhonePrefixPredicate("+65");
+        PhonePrefixPredicate secondPredicate = new PhonePrefixPredicate("+1");
+
+        FindCodeCommand findFirstCommand = new FindCodeCommand(firstPredicate);
+        FindCodeCommand findSecondCommand = new FindCodeCommand(secondPredicate);
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        FindCodeCommand findFirstCommandCopy = new FindCodeCommand(firstPredicate);
+        assertTrue(findFirstCommand.equals(findFirstCommandCopy));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different codes -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_unusedCode_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        PhonePrefixPredicate predicate = new PhonePrefixPredicate("+44");
+        FindCodeCommand command = new FindCodeCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_callingCode_personsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        PhonePrefixPredicate predicate = new PhonePrefixPredicate("+1");
+        FindCodeCommand command = new FindCodeCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(CALIFORNIAN, NEW_YORKER), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_longerPrefix_personFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        PhonePrefixPredicate predicate = new PhonePrefixPredicate("1415");
+        FindCodeCommand command = new FindCodeCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(CALIFORNIAN), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        PhonePrefixPredicate predicate = new PhonePrefixPredicate("+65");
+        FindCodeCommand findCodeCommand = new FindCodeCommand(predicate);
+        String expected = FindCodeCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, findCodeCommand.toString());
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.EmailDomainPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindDomainCommand}.
+ */
+public class FindDomainCommandTest {
+    private static final Person STAFF = new PersonBuilder().withName("Staff Member").withPhone("91234567")
+            .withEmail("staff@nus.edu.sg").build();
+    private static final Person STUDENT = new PersonBuilder().withName("Student Member").withPhone("92345678")
+            .withEmail("student@u.nus.edu.sg").build();
+
+    private Model model = new ModelManager(getAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getAddressBook(), new UserPrefs());
+
+    private static AddressBook getAddressBook() {
+        return new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(STAFF).withPerson(STUDENT)
+                .build();
+    }
+
+    @Test
+    public void equals() {
+        EmailDomainPredicate firstPredicate = new EmailDomainPredicate("nus.edu.sg");
+        EmailDomainPredicate secondPredicate = new EmailDomainPredicate("example.com");
+
+        FindDomainCommand findFirstCommand = new FindDomainCommand(firstPredicate);
+        FindDomainCommand findSecondCommand = new FindDomainCommand(secondPredicate);
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        FindDomainCommand findFirstCommandCopy = new FindDomainCommand(firstPredicate);
+        assertTrue(findFirstCommand.equals(findFirstCommandCopy));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different domains -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_unknownDomain_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        EmailDomainPredicate predicate = new EmailDomainPredicate("gmail.com");
+        FindDomainCommand command = new FindDomainCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_domain_personsInDomainAndSubdomainsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        EmailDomainPredicate predicate = new EmailDomainPredicate("NUS.edu.sg");
+        FindDomainCommand command = new FindDomainCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(STAFF, STUDENT), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        EmailDomainPredicate predicate = new EmailDomainPredicate("nus.edu.sg");
+        FindDomainCommand findDomainCommand = new FindDomainCommand(predicate);
+        String expected = FindDomainCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, findDomainCommand.toString());
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.JENNY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.PhoneDigitsPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindPhoneCommand}.
+ */
+public class FindPhoneCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        PhoneDigitsPredicate firstPredicate = new PhoneDigitsPredicate("9482");
+        PhoneDigitsPredicate secondPredicate = new PhoneDigitsPredicate("8765");
+
+        FindPhoneCommand findFirstCommand = new FindPhoneCommand(firstPredicate);
+        FindPhoneCommand findSecondCommand = new FindPhoneCommand(secondPredicate);
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        FindPhoneCommand findFirstCommandCopy = new FindPhoneCommand(firstPredicate);
+        assertTrue(findFirstCommand.equals(findFirstCommandCopy));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different digits -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_unknownDigits_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        PhoneDigitsPredicate predicate = new PhoneDigitsPredicate("0000");
+        FindPhoneCommand command = new FindPhoneCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_partialNumber_multiplePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 4);
+        PhoneDigitsPredicate predicate = new PhoneDigitsPredicate("9482");
+        FindPhoneCommand command = new FindPhoneCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(ELLE, FIONA, GEORGE, JENNY), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_digitsInMiddle_personFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        PhoneDigitsPredicate predicate = new PhoneDigitsPredicate("82427");
+        FindPhoneCommand command = new FindPhoneCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        PhoneDigitsPredicate predicate = new PhoneDigitsPredicate("9482");
+        FindPhoneCommand findPhoneCommand = new FindPhoneCommand(predicate);
+        String expected = FindPhoneCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, findPhoneCommand.toString());
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.FuzzyMatchPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FuzzyFindCommand}.
+ */
+public class FuzzyFindCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FuzzyMatchPredicate firstPredicate = new FuzzyMatchPredicate(Collections.singletonList("first"));
+        FuzzyMatchPredicate secondPredicate = new FuzzyMatchPredicate(Collections.singletonList("second"));
+
+        FuzzyFindCommand firstCommand = new FuzzyFindCommand(firstPredicate);
+        FuzzyFindCommand secondCommand = new FuzzyFindCommand(secondPredicate);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new FuzzyFindCommand(firstPredicate)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different predicate -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    @Test
+    public void execute_noCloseWord_noPersonFound() {
+        FuzzyFindCommand command = new FuzzyFindCommand(new FuzzyMatchPredicate(List.of("Zzyzx")));
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0), result.getFeedbackToUser());
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_typo_personsFoundClosestFirst() {
+        FuzzyFindCommand command = new FuzzyFindCommand(new FuzzyMatchPredicate(List.of("meyer")));
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3), result.getFeedbackToUser());
+        // the exact match first, then the matches one typo away in name order
+        assertEquals(List.of(ELLE, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        FuzzyMatchPredicate predicate = new FuzzyMatchPredicate(List.of("keyword"));
+        FuzzyFindCommand command = new FuzzyFindCommand(predicate);
+        String expected = FuzzyFindCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.search.Query;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code GroupCommand}.
+ */
+public class GroupCommandTest {
+    private static final Query FRIENDS = Query.and(List.of(Query.tag(new Tag("friends")), Query.not(Query.archived())));
+    private static final Query OWES_MONEY = Query.tag(new Tag("owesMoney"));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @BeforeEach
+    public void setUp() {
+        model.setSmartGroup("friends", FRIENDS);
+        model.setSmartGroup("owes-money", OWES_MONEY);
+        expectedModel.setSmartGroup("friends", FRIENDS);
+        expectedModel.setSmartGroup("owes-money", OWES_MONEY);
+    }
+
+    @Test
+    public void equals() {
+        GroupCommand showFriendsCommand = new GroupCommand(Optional.of("friends"));
+
+        // same object -> returns true
+        assertTrue(showFriendsCommand.equals(showFriendsCommand));
+
+        // same values -> returns true
+        assertTrue(showFriendsCommand.equals(new GroupCommand(Optional.of("friends"))));
+
+        // different types -> returns false
+        assertFalse(showFriendsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(showFriendsCommand.equals(null));
+
+        // different name -> returns false
+        assertFalse(showFriendsCommand.equals(new GroupCommand(Optional.of("owes-money"))));
+        assertFalse(showFriendsCommand.equals(new GroupCommand(Optional.empty())));
+    }
+
+    @Test
+    public void execute_groupName_showsMembers() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        expectedModel.updateFilteredPersonList(expectedModel.getSmartGroup("friends").get());
+        assertCommandSuccess(new GroupCommand(Optional.of("friends")), model, expectedMessage, expectedModel);
+        assertEquals(List.of(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+        assertEquals(model.getSmartGroup("friends").get(), model.getCurrentPersonListPredicate());
+    }
+
+    @Test
+    public void execute_unknownGroupName_throwsCommandException() {
+        assertCommandFailure(new GroupCommand(Optional.of("colleagues")), model,
+                String.format(GroupCommand.MESSAGE_NO_SUCH_GROUP, "colleagues"));
+    }
+
+    @Test
+    public void execute_noName_listsGroups() {
+        String expectedMessage = String.format(GroupCommand.MESSAGE_GROUPS_LISTED, 2,
+                String.format(GroupCommand.MESSAGE_GROUP_ENTRY, "friends", 3, FRIENDS) + "\n"
+                + String.format(GroupCommand.MESSAGE_GROUP_ENTRY, "owes-money", 1, OWES_MONEY));
+        assertCommandSuccess(new GroupCommand(Optional.empty()), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noNameNoGroups_reportsNoGroups() {
+        Model emptyModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandSuccess(new GroupCommand(Optional.empty()), emptyModel, GroupCommand.MESSAGE_NO_GROUPS,
+                new ModelManager(getTypicalAddressBook(), new UserPrefs()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        GroupCommand command = new GroupCommand(Optional.of("friends"));
+        String expected = GroupCommand.class.getCanonicalName() + "{name=" + Optional.of("friends") + "}";
+        assertEquals(expected, command.toString());
+    }
+}
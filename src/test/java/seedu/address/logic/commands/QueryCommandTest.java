@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Country;
+import seedu.address.model.search.Query;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code QueryCommand}.
+ */
+public class QueryCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    private final Query singaporeanFriends = Query.and(List.of(Query.country(Country.of("Singapore")),
+            Query.tag(new Tag("friends")), Query.not(Query.tag(new Tag("owesMoney")))));
+
+    @Test
+    public void equals() {
+        Query otherQuery = Query.tag(new Tag("friends"));
+        QueryCommand command = new QueryCommand(singaporeanFriends, false);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new QueryCommand(singaporeanFriends, false)));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different query -> returns false
+        assertFalse(command.equals(new QueryCommand(otherQuery, false)));
+
+        // explain instead of list -> returns false
+        assertFalse(command.equals(new QueryCommand(singaporeanFriends, true)));
+    }
+
+    @Test
+    public void execute_query_personsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        expectedModel.updateFilteredPersonList(singaporeanFriends);
+        assertCommandSuccess(new QueryCommand(singaporeanFriends, false), model, expectedMessage, expectedModel);
+        assertEquals(List.of(ALICE, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_explain_showsPlanWithoutFiltering() {
+        String expectedMessage = String.format(QueryCommand.MESSAGE_PLAN, singaporeanFriends,
+                "filter tag:friends (index ~3), -tag:owesMoney (~3)\n  index country:Singapore (~3)");
+        assertCommandSuccess(new QueryCommand(singaporeanFriends, true), model, expectedMessage, expectedModel);
+        assertEquals(expectedModel.getFilteredPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        QueryCommand command = new QueryCommand(singaporeanFriends, true);
+        String expected = QueryCommand.class.getCanonicalName() + "{query=" + singaporeanFriends
+                + ", isExplain=true}";
+        assertEquals(expected, command.toString());
+    }
+}
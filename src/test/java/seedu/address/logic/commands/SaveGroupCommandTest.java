@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.search.Query;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SaveGroupCommand}.
+ */
+public class SaveGroupCommandTest {
+    private static final Query FRIENDS = Query.and(List.of(Query.tag(new Tag("friends")), Query.not(Query.archived())));
+    private static final Query OWES_MONEY = Query.tag(new Tag("owesMoney"));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SaveGroupCommand saveFriendsCommand = new SaveGroupCommand("friends", FRIENDS);
+
+        // same object -> returns true
+        assertTrue(saveFriendsCommand.equals(saveFriendsCommand));
+
+        // same values -> returns true
+        assertTrue(saveFriendsCommand.equals(new SaveGroupCommand("friends", FRIENDS)));
+
+        // different types -> returns false
+        assertFalse(saveFriendsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(saveFriendsCommand.equals(null));
+
+        // different name -> returns false
+        assertFalse(saveFriendsCommand.equals(new SaveGroupCommand("buddies", FRIENDS)));
+
+        // different definition -> returns false
+        assertFalse(saveFriendsCommand.equals(new SaveGroupCommand("friends", OWES_MONEY)));
+    }
+
+    @Test
+    public void execute_newGroup_groupSaved() {
+        String expectedMessage = String.format(SaveGroupCommand.MESSAGE_SUCCESS, "friends", 3, FRIENDS);
+        expectedModel.setSmartGroup("friends", FRIENDS);
+        assertCommandSuccess(new SaveGroupCommand("friends", FRIENDS), model, expectedMessage, expectedModel);
+        assertEquals(3, model.getSmartGroup("friends").get().size());
+    }
+
+    @Test
+    public void execute_existingName_groupReplaced() {
+        model.setSmartGroup("friends", FRIENDS);
+        String expectedMessage = String.format(SaveGroupCommand.MESSAGE_SUCCESS, "friends", 1, OWES_MONEY);
+        expectedModel.setSmartGroup("friends", OWES_MONEY);
+        assertCommandSuccess(new SaveGroupCommand("friends", OWES_MONEY), model, expectedMessage, expectedModel);
+        assertEquals(1, model.getSmartGroups().size());
+        assertEquals(OWES_MONEY, model.getSmartGroup("friends").get().getDefinition());
+    }
+
+    @Test
+    public void toStringMethod() {
+        SaveGroupCommand command = new SaveGroupCommand("friends", FRIENDS);
+        String expected = SaveGroupCommand.class.getCanonicalName() + "{name=friends, definition=" + FRIENDS + "}";
+        assertEquals(expected, command.toString());
+    }
+}
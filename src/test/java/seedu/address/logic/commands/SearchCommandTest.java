@@ -0,0 +1,108 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.FullTextMatchPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchCommand}.
+ */
+public class SearchCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FullTextMatchPredicate firstPredicate = new FullTextMatchPredicate(Collections.singletonList("first"));
+        FullTextMatchPredicate secondPredicate = new FullTextMatchPredicate(Collections.singletonList("second"));
+
+        SearchCommand firstCommand = new SearchCommand(firstPredicate);
+        SearchCommand secondCommand = new SearchCommand(secondPredicate);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new SearchCommand(firstPredicate)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different predicate -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+
+        // different limit -> returns false
+        assertFalse(firstCommand.equals(new SearchCommand(firstPredicate, 1)));
+        assertTrue(firstCommand.equals(new SearchCommand(firstPredicate, SearchCommand.DEFAULT_LIMIT)));
+    }
+
+    @Test
+    public void execute_noMatchingTerm_noPersonFound() {
+        SearchCommand command = new SearchCommand(new FullTextMatchPredicate(List.of("vegetarian")));
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0), result.getFeedbackToUser());
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_oneTerm_shorterTextsFirst() {
+        SearchCommand command = new SearchCommand(new FullTextMatchPredicate(List.of("ave")));
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3), result.getFeedbackToUser());
+        assertEquals(List.of(ELLE, ALICE, BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_multipleTerms_moreTermsMatchedFirst() {
+        SearchCommand command = new SearchCommand(new FullTextMatchPredicate(List.of("ave", "clementi")));
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3), result.getFeedbackToUser());
+        assertEquals(List.of(BENSON, ELLE, ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_limit_onlyBestMatchesShown() {
+        SearchCommand command = new SearchCommand(new FullTextMatchPredicate(List.of("ave", "clementi")), 2);
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2), result.getFeedbackToUser());
+        assertEquals(List.of(BENSON, ELLE), model.getFilteredPersonList());
+
+        // an edited match stays in the results, ranked by its new text
+        Person movedBenson = new PersonBuilder(BENSON).withId(BENSON.getId()).withAddress("little tokyo")
+                .build();
+        model.setPerson(BENSON, movedBenson);
+        assertEquals(List.of(ELLE, movedBenson), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        FullTextMatchPredicate predicate = new FullTextMatchPredicate(List.of("term"));
+        SearchCommand command = new SearchCommand(predicate);
+        String expected = SearchCommand.class.getCanonicalName() + "{predicate=" + predicate + ", limit="
+                + SearchCommand.DEFAULT_LIMIT + "}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchStatsCommand}.
+ */
+public class SearchStatsCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_searchesMade_summarisedByKind() {
+        model.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Meier")));
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_ARCHIVED);
+
+        String feedback = new SearchStatsCommand().execute(model).getFeedbackToUser();
+        assertTrue(feedback.startsWith("Searches: 2 (0 slow, taking at least 100 ms)"), feedback);
+        assertTrue(feedback.contains("\nAllArchived: 1 searches, mean "), feedback);
+        assertTrue(feedback.contains("\nNameContainsKeywordsPredicate: 1 searches, mean "), feedback);
+        assertTrue(feedback.endsWith("Recent slow searches:\n" + SearchStatsCommand.MESSAGE_NO_VALUES), feedback);
+    }
+
+    @Test
+    public void execute_noSearches_noValues() {
+        String feedback = new SearchStatsCommand().execute(model).getFeedbackToUser();
+        assertTrue(feedback.startsWith("Searches: 0 (0 slow, taking at least 100 ms)\nBy kind:\n"
+                + SearchStatsCommand.MESSAGE_NO_VALUES), feedback);
+    }
+
+    @Test
+    public void execute_zeroThreshold_everySearchSlow() {
+        model.setSlowQueryThreshold(Duration.ZERO);
+        model.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Meier")));
+
+        String feedback = new SearchStatsCommand().execute(model).getFeedbackToUser();
+        assertTrue(feedback.startsWith("Searches: 1 (1 slow, taking at least 0 ms)"), feedback);
+        assertTrue(feedback.contains("Recent slow searches:\nNameContainsKeywordsPredicate by INDEX: 2 candidates, "
+                + "2 results, "), feedback);
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for StatsCommand.
+ */
+public class StatsCommandTest {
+
+    @Test
+    public void execute_emptyAddressBook_showsZeroCounts() {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(new AddressBook(), new UserPrefs());
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS, 0, 0,
+                StatsCommand.MESSAGE_NO_VALUES, StatsCommand.MESSAGE_NO_VALUES,
+                StatsCommand.MESSAGE_NO_VALUES, StatsCommand.MESSAGE_NO_VALUES);
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_nonEmptyAddressBook_showsCounts() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+                .withPerson(new PersonBuilder().withName("Carl Kurz").withCountry("China").withLanguage("malay")
+                        .archived().build())
+                .build();
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        Model expectedModel = new ModelManager(addressBook, new UserPrefs());
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS, 3, 1,
+                "Singapore (2), China (1)", "[friends] (2), [owesMoney] (1)", "NUS (1)", "English (2), Malay (1)");
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_afterMutation_reflectsChange() throws Exception {
+        Model model = new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(), new UserPrefs());
+        model.deletePerson(ALICE);
+        model.addPerson(BENSON);
+        String message = new StatsCommand().execute(model).getFeedbackToUser();
+        assertEquals(String.format(StatsCommand.MESSAGE_SUCCESS, 1, 0, "Singapore (1)",
+                "[friends] (1), [owesMoney] (1)", "NUS (1)", "English (1)"), message);
+    }
+
+    @Test
+    public void formatCounts_tiedCounts_orderedByValue() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        counts.put("b", 1);
+        counts.put("c", 2);
+        counts.put("a", 1);
+        assertEquals("c (2), a (1), b (1)", StatsCommand.formatCounts(counts));
+    }
+}
@@ -8,6 +8,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -17,16 +18,35 @@ import seedu.address.logic.commands.ArchiveCommand;
 import seedu.address.logic.commands.ArchiveListCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DeleteGroupCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindCodeCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindDomainCommand;
+import seedu.address.logic.commands.FindPhoneCommand;
+import seedu.address.logic.commands.FuzzyFindCommand;
+import seedu.address.logic.commands.GroupCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.commands.SaveGroupCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.SearchStatsCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UnarchiveCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.EmailDomainPredicate;
+import seedu.address.model.person.FullTextMatchPredicate;
+import seedu.address.model.person.FuzzyMatchPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PhoneDigitsPredicate;
+import seedu.address.model.person.PhonePrefixPredicate;
+import seedu.address.model.person.PhoneticMatchPredicate;
+import seedu.address.model.search.Query;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -57,6 +77,7 @@ public class AddressBookParserTest {
     public void parseCommand_clear() throws Exception {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD) instanceof ClearCommand);
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD + " 3") instanceof ClearCommand);
+        assertEquals(new ClearCommand(true), parser.parseCommand(ClearCommand.COMMAND_WORD + " archived"));
     }
 
     /**
@@ -101,6 +122,76 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_findSoundsLike() throws Exception {
+        List<String> keywords = Arrays.asList("foo", "bar", "baz");
+        FindCommand command = (FindCommand) parser.parseCommand(FindCommand.COMMAND_WORD + " "
+                + FindCommand.SOUNDS_LIKE_WORD + " " + keywords.stream().collect(Collectors.joining(" ")));
+        assertEquals(new FindCommand(new PhoneticMatchPredicate(keywords)), command);
+    }
+
+    @Test
+    public void parseCommand_fuzzyFind() throws Exception {
+        List<String> keywords = Arrays.asList("foo", "bar", "baz");
+        FuzzyFindCommand command = (FuzzyFindCommand) parser.parseCommand(
+                FuzzyFindCommand.COMMAND_WORD + " " + String.join(" ", keywords));
+        assertEquals(new FuzzyFindCommand(new FuzzyMatchPredicate(keywords)), command);
+    }
+
+    @Test
+    public void parseCommand_findDomain() throws Exception {
+        FindDomainCommand command = (FindDomainCommand) parser.parseCommand(
+                FindDomainCommand.COMMAND_WORD + " @nus.edu.sg");
+        assertEquals(new FindDomainCommand(new EmailDomainPredicate("nus.edu.sg")), command);
+    }
+
+    @Test
+    public void parseCommand_findCode() throws Exception {
+        FindCodeCommand command = (FindCodeCommand) parser.parseCommand(FindCodeCommand.COMMAND_WORD + " +65");
+        assertEquals(new FindCodeCommand(new PhonePrefixPredicate("65")), command);
+    }
+
+    @Test
+    public void parseCommand_findPhone() throws Exception {
+        FindPhoneCommand command = (FindPhoneCommand) parser.parseCommand(FindPhoneCommand.COMMAND_WORD + " 9876 54");
+        assertEquals(new FindPhoneCommand(new PhoneDigitsPredicate("987654")), command);
+    }
+
+    @Test
+    public void parseCommand_saveGroup() throws Exception {
+        SaveGroupCommand command = (SaveGroupCommand) parser.parseCommand(
+                SaveGroupCommand.COMMAND_WORD + " friends tag:friends");
+        assertEquals(new SaveGroupCommand("friends", Query.tag(new Tag("friends"))), command);
+    }
+
+    @Test
+    public void parseCommand_group() throws Exception {
+        assertEquals(new GroupCommand(Optional.empty()), parser.parseCommand(GroupCommand.COMMAND_WORD));
+        assertEquals(new GroupCommand(Optional.of("friends")),
+                parser.parseCommand(GroupCommand.COMMAND_WORD + " friends"));
+    }
+
+    @Test
+    public void parseCommand_deleteGroup() throws Exception {
+        assertEquals(new DeleteGroupCommand("friends"),
+                parser.parseCommand(DeleteGroupCommand.COMMAND_WORD + " friends"));
+    }
+
+    @Test
+    public void parseCommand_query() throws Exception {
+        QueryCommand command = (QueryCommand) parser.parseCommand(QueryCommand.COMMAND_WORD + " tag:friends -archived");
+        assertEquals(new QueryCommand(Query.and(List.of(Query.tag(new Tag("friends")), Query.not(Query.archived()))),
+                false), command);
+    }
+
+    @Test
+    public void parseCommand_search() throws Exception {
+        List<String> terms = Arrays.asList("foo", "bar", "baz");
+        SearchCommand command = (SearchCommand) parser.parseCommand(
+                SearchCommand.COMMAND_WORD + " " + String.join(" ", terms));
+        assertEquals(new SearchCommand(new FullTextMatchPredicate(terms)), command);
+    }
+
     /**
      * Tests parsing of the help command with or without arguments.
      */
@@ -130,6 +221,18 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " 3") instanceof StatsCommand);
+    }
+
+    @Test
+    public void parseCommand_searchStats() throws Exception {
+        assertTrue(parser.parseCommand(SearchStatsCommand.COMMAND_WORD) instanceof SearchStatsCommand);
+        assertTrue(parser.parseCommand(SearchStatsCommand.COMMAND_WORD + " 3") instanceof SearchStatsCommand);
+    }
+
     /**
      * Tests parsing of the archivelist command.
      */
@@ -0,0 +1,26 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ClearCommand;
+
+/**
+ * Contains unit tests for {@link ClearCommandParser}.
+ */
+public class ClearCommandParserTest {
+
+    private ClearCommandParser parser = new ClearCommandParser();
+
+    @Test
+    public void parse_archived_returnsClearArchivedCommand() {
+        assertParseSuccess(parser, " archived ", new ClearCommand(true));
+    }
+
+    @Test
+    public void parse_otherArgs_returnsClearAllCommand() {
+        assertParseSuccess(parser, "", new ClearCommand());
+        assertParseSuccess(parser, " 3", new ClearCommand());
+    }
+}
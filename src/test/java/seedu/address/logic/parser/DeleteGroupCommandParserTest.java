@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.DeleteGroupCommand;
+import seedu.address.model.group.SmartGroup;
+
+/**
+ * Contains unit tests for {@link DeleteGroupCommandParser}.
+ */
+public class DeleteGroupCommandParserTest {
+
+    private DeleteGroupCommandParser parser = new DeleteGroupCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteGroupCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidName_throwsParseException() {
+        assertParseFailure(parser, "best friends", SmartGroup.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validName_returnsDeleteGroupCommand() {
+        assertParseSuccess(parser, " japan-friends ", new DeleteGroupCommand("japan-friends"));
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindCodeCommand;
+import seedu.address.model.person.PhonePrefixPredicate;
+
+/**
+ * Contains unit tests for {@link FindCodeCommandParser}.
+ */
+public class FindCodeCommandParserTest {
+
+    private FindCodeCommandParser parser = new FindCodeCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCodeCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidCode_throwsParseException() {
+        assertParseFailure(parser, "+",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCodeCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "SG",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCodeCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "+65 +60",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCodeCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindCodeCommand() {
+        FindCodeCommand expectedFindCodeCommand = new FindCodeCommand(new PhonePrefixPredicate("+65"));
+
+        assertParseSuccess(parser, "+65", expectedFindCodeCommand);
+        assertParseSuccess(parser, "  +65  ", expectedFindCodeCommand);
+
+        // leading '+' optional
+        assertParseSuccess(parser, "65", expectedFindCodeCommand);
+    }
+}
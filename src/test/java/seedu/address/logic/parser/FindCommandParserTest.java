@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PhoneticMatchPredicate;
 
 public class FindCommandParserTest {
 
@@ -31,4 +32,17 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_soundsLikeArgs_returnsPhoneticFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new PhoneticMatchPredicate(Arrays.asList("Nguyen", "Meyer")));
+        assertParseSuccess(parser, "sounds Nguyen Meyer", expectedFindCommand);
+        assertParseSuccess(parser, " SOUNDS \t Nguyen  Meyer ", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_soundsAlone_returnsNameFindCommand() {
+        assertParseSuccess(parser, "sounds",
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("sounds"))));
+    }
 }
@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindDomainCommand;
+import seedu.address.model.person.EmailDomainPredicate;
+
+/**
+ * Contains unit tests for {@link FindDomainCommandParser}.
+ */
+public class FindDomainCommandParserTest {
+
+    private FindDomainCommandParser parser = new FindDomainCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindDomainCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidDomain_throwsParseException() {
+        assertParseFailure(parser, "nus..edu",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindDomainCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "nus edu",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindDomainCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "alice@nus.edu",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindDomainCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindDomainCommand() {
+        FindDomainCommand expectedFindDomainCommand = new FindDomainCommand(new EmailDomainPredicate("nus.edu.sg"));
+
+        assertParseSuccess(parser, "nus.edu.sg", expectedFindDomainCommand);
+        assertParseSuccess(parser, "  NUS.edu.SG  ", expectedFindDomainCommand);
+
+        // leading '@' ignored
+        assertParseSuccess(parser, "@nus.edu.sg", expectedFindDomainCommand);
+    }
+}
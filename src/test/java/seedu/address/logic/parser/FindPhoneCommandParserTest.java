@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindPhoneCommand;
+import seedu.address.model.person.PhoneDigitsPredicate;
+
+/**
+ * Contains unit tests for {@link FindPhoneCommandParser}.
+ */
+public class FindPhoneCommandParserTest {
+
+    private FindPhoneCommandParser parser = new FindPhoneCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPhoneCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidDigits_throwsParseException() {
+        // too few digits
+        assertParseFailure(parser, "98 7",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPhoneCommand.MESSAGE_USAGE));
+
+        // not a phone number
+        assertParseFailure(parser, "9876abc",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPhoneCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindPhoneCommand() {
+        FindPhoneCommand expectedFindPhoneCommand = new FindPhoneCommand(new PhoneDigitsPredicate("98765"));
+
+        assertParseSuccess(parser, "98765", expectedFindPhoneCommand);
+        assertParseSuccess(parser, "  98765  ", expectedFindPhoneCommand);
+
+        // separators ignored
+        assertParseSuccess(parser, "9876-5", expectedFindPhoneCommand);
+        assertParseSuccess(parser, "(98) 765", expectedFindPhoneCommand);
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FuzzyFindCommand;
+import seedu.address.model.person.FuzzyMatchPredicate;
+
+public class FuzzyFindCommandParserTest {
+
+    private FuzzyFindCommandParser parser = new FuzzyFindCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FuzzyFindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFuzzyFindCommand() {
+        // no leading and trailing whitespaces
+        FuzzyFindCommand expectedCommand =
+                new FuzzyFindCommand(new FuzzyMatchPredicate(Arrays.asList("Mohammed", "Meyer")));
+        assertParseSuccess(parser, "Mohammed Meyer", expectedCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n Mohammed \n \t Meyer  \t", expectedCommand);
+    }
+
+}
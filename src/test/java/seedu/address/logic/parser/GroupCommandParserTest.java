@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.GroupCommand;
+import seedu.address.model.group.SmartGroup;
+
+/**
+ * Contains unit tests for {@link GroupCommandParser}.
+ */
+public class GroupCommandParserTest {
+
+    private GroupCommandParser parser = new GroupCommandParser();
+
+    @Test
+    public void parse_emptyArg_returnsListingGroupCommand() {
+        assertParseSuccess(parser, "   ", new GroupCommand(Optional.empty()));
+    }
+
+    @Test
+    public void parse_invalidName_throwsParseException() {
+        assertParseFailure(parser, "best friends", SmartGroup.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validName_returnsGroupCommand() {
+        assertParseSuccess(parser, " japan-friends ", new GroupCommand(Optional.of("japan-friends")));
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.model.person.Country;
+import seedu.address.model.person.PreferredLanguage;
+import seedu.address.model.search.Query;
+import seedu.address.model.tag.Tag;
+
+public class QueryCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE);
+
+    private QueryCommandParser parser = new QueryCommandParser();
+
+    @Test
+    public void parse_clauses_returnsConjunction() {
+        Query expectedQuery = Query.and(List.of(Query.country(Country.of("Japan")), Query.tag(new Tag("friend")),
+                Query.language(PreferredLanguage.of("japanese")), Query.not(Query.archived())));
+        assertParseSuccess(parser, " country:Japan tag:friend lang:japanese -archived",
+                new QueryCommand(expectedQuery, false));
+
+        // long field names, mixed case field names and extra whitespace
+        assertParseSuccess(parser, " \n COUNTRY:Japan \t tag:friend language:Japanese  - archived ",
+                new QueryCommand(expectedQuery, false));
+    }
+
+    @Test
+    public void parse_explain_returnsExplainCommand() {
+        assertParseSuccess(parser, " explain tag:friend",
+                new QueryCommand(Query.tag(new Tag("friend")), true));
+    }
+
+    @Test
+    public void parse_alternativesAndGroups_returnsTree() {
+        Query friends = Query.tag(new Tag("friends"));
+        Query unitedStates = Query.country(Country.of("United States"));
+        Query acme = Query.organisation("Acme Pte Ltd");
+        Query alice = Query.name("Alice");
+
+        // OR binds more loosely than the implicit and
+        assertParseSuccess(parser, "tag:friends country:\"united states\" OR org:\"Acme Pte Ltd\"",
+                new QueryCommand(Query.or(List.of(Query.and(List.of(friends, unitedStates)), acme)), false));
+
+        // parentheses group, and may be negated
+        assertParseSuccess(parser, "tag:friends (country:\"United States\" OR org:\"Acme Pte Ltd\") -(name:Alice)",
+                new QueryCommand(Query.and(List.of(friends, Query.or(List.of(unitedStates, acme)),
+                        Query.not(alice))), false));
+    }
+
+    @Test
+    public void parse_toStringOfQuery_returnsSameQuery() throws Exception {
+        List<Query> queries = List.of(
+                Query.organisation("Smith & Sons (Asia)"),
+                Query.organisation("-Dash Co"),
+                Query.organisation("The \"Quoted\" Co\\Ltd"),
+                Query.organisation("Tab\tSeparated"),
+                Query.organisation("Acme"),
+                Query.country(Country.of("Côte d'Ivoire")),
+                Query.tag(new Tag("best friends")),
+                Query.and(List.of(Query.not(Query.organisation("(Hidden)")),
+                        Query.or(List.of(Query.name("Alice"), Query.archived())))));
+        for (Query query : queries) {
+            assertEquals(query, QueryCommandParser.parseQuery(query.toString()));
+            assertParseSuccess(parser, query.toString(), new QueryCommand(query, false));
+        }
+    }
+
+    @Test
+    public void parse_escapedQuotes_readsEscapedCharacters() {
+        assertParseSuccess(parser, "org:\"The \\\"Quoted\\\" Co\\\\Ltd\"",
+                new QueryCommand(Query.organisation("The \"Quoted\" Co\\Ltd"), false));
+
+        // a backslash before any other character is kept
+        assertParseSuccess(parser, "org:\"A\\B\"", new QueryCommand(Query.organisation("A\\B"), false));
+    }
+
+    @Test
+    public void parse_invalidSyntax_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "explain", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "friends", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "tag:", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "tag:friends OR", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "(tag:friends", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "tag:friends)", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "tag:friends -", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "country:\"United States", "Unclosed quote in query");
+        assertParseFailure(parser, "org:\"Acme\\\"", "Unclosed quote in query");
+        assertParseFailure(parser, "phone:123", "Unknown query field: phone");
+    }
+
+    @Test
+    public void parse_invalidValue_throwsParseException() {
+        assertParseFailure(parser, "name:\"Alice Pauline\"", "A name clause should be a single word");
+        assertParseFailure(parser, "tag:best_friend", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "country:Atlantis", Country.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "lang:Klingon", PreferredLanguage.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.commands.SaveGroupCommand;
+import seedu.address.model.group.SmartGroup;
+import seedu.address.model.search.Query;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains unit tests for {@link SaveGroupCommandParser}.
+ */
+public class SaveGroupCommandParserTest {
+
+    private SaveGroupCommandParser parser = new SaveGroupCommandParser();
+
+    @Test
+    public void parse_missingQuery_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SaveGroupCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "friends",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SaveGroupCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidName_throwsParseException() {
+        assertParseFailure(parser, "friends! tag:friends", SmartGroup.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertParseFailure(parser, "friends tag:friends OR",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsSaveGroupCommand() {
+        SaveGroupCommand expectedCommand = new SaveGroupCommand("friends",
+                Query.and(List.of(Query.tag(new Tag("friends")), Query.not(Query.archived()))));
+
+        assertParseSuccess(parser, "friends tag:friends -archived", expectedCommand);
+        assertParseSuccess(parser, "  friends   tag:friends  -archived ", expectedCommand);
+    }
+}
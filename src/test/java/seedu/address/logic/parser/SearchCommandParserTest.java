@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.model.person.FullTextMatchPredicate;
+
+public class SearchCommandParserTest {
+
+    private SearchCommandParser parser = new SearchCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+
+        // punctuation only
+        assertParseFailure(parser, " #-, ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsSearchCommand() {
+        // no leading and trailing whitespaces
+        SearchCommand expectedCommand =
+                new SearchCommand(new FullTextMatchPredicate(Arrays.asList("vegetarian", "clementi")));
+        assertParseSuccess(parser, "vegetarian clementi", expectedCommand);
+
+        // multiple whitespaces, punctuation and mixed case between terms
+        assertParseSuccess(parser, " \n Vegetarian, \n \t CLEMENTI!  \t", expectedCommand);
+    }
+
+}
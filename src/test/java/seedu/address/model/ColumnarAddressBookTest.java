@@ -0,0 +1,115 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class ColumnarAddressBookTest {
+
+    @Test
+    public void constructor_empty() {
+        assertEquals(Collections.emptyList(), new ColumnarAddressBook().getPersonList());
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ColumnarAddressBook(null));
+    }
+
+    @Test
+    public void getPersonList_copiedAddressBook_returnsEqualPersonsInOrder() {
+        AddressBook addressBook = getTypicalAddressBook();
+        ColumnarAddressBook columnarAddressBook = new ColumnarAddressBook(addressBook);
+
+        assertEquals(addressBook.getPersonList(), columnarAddressBook.getPersonList());
+        for (int i = 0; i < addressBook.getPersonList().size(); i++) {
+            Person original = addressBook.getPersonList().get(i);
+            Person materialized = columnarAddressBook.getPersonList().get(i);
+            assertEquals(original.getId(), materialized.getId());
+            assertEquals(original.getPreferredChannel(), materialized.getPreferredChannel());
+            assertEquals(original.getPreferredLanguage(), materialized.getPreferredLanguage());
+            assertEquals(original.getAddedOn(), materialized.getAddedOn());
+            assertEquals(original.hashCode(), materialized.hashCode());
+        }
+    }
+
+    @Test
+    public void getPersonList_sameRowReadTwice_returnsSamePerson() {
+        ColumnarAddressBook columnarAddressBook = new ColumnarAddressBook(getTypicalAddressBook());
+        Person first = columnarAddressBook.getPersonList().get(0);
+        assertSame(first, columnarAddressBook.getPersonList().get(0));
+    }
+
+    @Test
+    public void getPersonList_optionalFieldsAbsent_materializedAsAbsent() {
+        Person person = new Person(ALICE.getId(), ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(),
+                ALICE.getAddress(), null, ALICE.getOrganisation(), ALICE.getEvent(), ALICE.getNote(), null,
+                ALICE.getTags(), ALICE.getOffset(), null, ALICE.getAddedOn(), true);
+        Person materialized = new ColumnarAddressBook(new AddressBookBuilder().withPerson(person).build())
+                .getPersonList().get(0);
+
+        assertNull(materialized.getCountry());
+        assertNull(materialized.getPreferredChannel());
+        assertNull(materialized.getPreferredLanguage());
+        assertTrue(materialized.getArchivalStatus());
+        assertEquals(person.getTags(), materialized.getTags());
+    }
+
+    @Test
+    public void getPersonList_unicodeText_preserved() {
+        Person person = new PersonBuilder().withName("Zoë Ñúñez").withAddress("東京都 1-2-3").build();
+        Person materialized = new ColumnarAddressBook(new AddressBookBuilder().withPerson(person).build())
+                .getPersonList().get(0);
+
+        assertEquals(person, materialized);
+    }
+
+    @Test
+    public void getPersonList_modifyList_throwsUnsupportedOperationException() {
+        ColumnarAddressBook columnarAddressBook = new ColumnarAddressBook(getTypicalAddressBook());
+        assertThrows(UnsupportedOperationException.class, () -> columnarAddressBook.getPersonList().remove(0));
+    }
+
+    @Test
+    public void getPersonList_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        ColumnarAddressBook columnarAddressBook = new ColumnarAddressBook(getTypicalAddressBook());
+        int size = columnarAddressBook.getPersonList().size();
+        assertThrows(IndexOutOfBoundsException.class, () -> columnarAddressBook.getPersonList().get(size));
+        assertThrows(IndexOutOfBoundsException.class, () -> columnarAddressBook.getPersonList().get(-1));
+    }
+
+    @Test
+    public void equals() {
+        ColumnarAddressBook columnarAddressBook = new ColumnarAddressBook(getTypicalAddressBook());
+
+        assertTrue(columnarAddressBook.equals(columnarAddressBook));
+        assertTrue(columnarAddressBook.equals(new ColumnarAddressBook(columnarAddressBook)));
+        assertEquals(columnarAddressBook.hashCode(), new ColumnarAddressBook(columnarAddressBook).hashCode());
+
+        assertFalse(columnarAddressBook.equals(null));
+        assertFalse(columnarAddressBook.equals(getTypicalAddressBook()));
+        assertNotEquals(columnarAddressBook, new ColumnarAddressBook());
+    }
+
+    @Test
+    public void toStringMethod() {
+        ColumnarAddressBook columnarAddressBook = new ColumnarAddressBook(getTypicalAddressBook());
+        String expected = ColumnarAddressBook.class.getCanonicalName()
+                + "{persons=" + columnarAddressBook.getPersonList() + "}";
+        assertEquals(expected, columnarAddressBook.toString());
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+
+public class MatchedListViewTest {
+
+    private static final Predicate<Integer> IS_EVEN = i -> i % 2 == 0;
+
+    private final ObservableList<Integer> source = FXCollections.observableArrayList(1, 2, 3, 4, 5, 6);
+
+    @Test
+    public void constructor_positionsInAnyOrder_matchesInSourceOrder() {
+        MatchedListView<Integer> view = new MatchedListView<>(source, IS_EVEN, new int[] {5, 1, 3});
+        assertEquals(List.of(2, 4, 6), view);
+    }
+
+    @Test
+    public void constructor_positions_testsNoElement() {
+        AtomicInteger tests = new AtomicInteger();
+        new MatchedListView<>(source, i -> {
+            tests.incrementAndGet();
+            return IS_EVEN.test(i);
+        }, new int[] {1, 3, 5});
+        assertEquals(0, tests.get());
+    }
+
+    @Test
+    public void filter_sameMatchesAsFilteredList() {
+        assertEquals(new FilteredList<>(source, IS_EVEN), MatchedListView.filter(source, IS_EVEN));
+        assertEquals(List.of(), MatchedListView.filter(FXCollections.observableArrayList(), IS_EVEN));
+    }
+
+    @Test
+    public void sourceChanged_addsRemovesAndReplacements_followed() {
+        MatchedListView<Integer> view = new MatchedListView<>(source, IS_EVEN, new int[] {1, 3, 5});
+
+        source.add(0, 8);
+        source.add(3, 7);
+        source.remove(Integer.valueOf(4));
+        source.set(0, 9);
+        source.set(1, 10);
+        source.add(12);
+        assertEquals(new FilteredList<>(source, IS_EVEN), view);
+        assertEquals(List.of(10, 2, 6, 12), view);
+
+        source.setAll(List.of(3, 4));
+        assertEquals(List.of(4), view);
+        source.clear();
+        assertEquals(List.of(), view);
+    }
+
+    @Test
+    public void sourceChanged_randomChanges_sameAsFilteredList() {
+        Random random = new Random(42);
+        MatchedListView<Integer> view = MatchedListView.filter(source, IS_EVEN);
+        for (int i = 0; i < 500; i++) {
+            int position = source.isEmpty() ? 0 : random.nextInt(source.size());
+            switch (source.isEmpty() ? 0 : random.nextInt(3)) {
+            case 0:
+                source.add(position, random.nextInt(100));
+                break;
+            case 1:
+                source.remove(position);
+                break;
+            default:
+                source.set(position, random.nextInt(100));
+            }
+            assertEquals(new FilteredList<>(source, IS_EVEN), view);
+        }
+    }
+
+    @Test
+    public void sourceChanged_changesReportedToListeners() {
+        MatchedListView<Integer> view = new MatchedListView<>(source, IS_EVEN, new int[] {1, 3, 5});
+        List<Integer> seen = new ArrayList<>(view);
+        view.addListener((ListChangeListener<Integer>) change -> {
+            seen.clear();
+            seen.addAll(view);
+        });
+
+        source.add(2, 14);
+        assertEquals(List.of(2, 14, 4, 6), seen);
+    }
+
+    @Test
+    public void dispose_laterChangesIgnored() {
+        MatchedListView<Integer> view = new MatchedListView<>(source, IS_EVEN, new int[] {1, 3, 5});
+        view.dispose();
+
+        source.add(0, 8);
+        assertEquals(3, view.size());
+    }
+}
@@ -3,23 +3,55 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ARCHIVED;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_UNARCHIVED;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.group.SmartGroup;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.search.Query;
+import seedu.address.model.statistics.SearchLog;
+import seedu.address.model.statistics.SearchRecord;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
+    // Two persons share a country to exercise the name tie-breaker, and one has no country
+    private static final Person ALICE_SG = new PersonBuilder().withName("Alice Pauline").withCountry("Singapore")
+            .withAddedOn("2024-03-01T10:00").build();
+    private static final Person BOB_CN = new PersonBuilder().withName("Bob Builder").withCountry("China")
+            .withAddedOn("2024-01-01T09:00").build();
+    private static final Person ANN_CN = new PersonBuilder().withName("Ann Alpha").withCountry("China")
+            .withAddedOn("2024-02-01T08:00").build();
+    private static final Person CHARLIE_NONE = new PersonBuilder().withName("Charlie Zero").withCountry("")
+            .withAddedOn("2023-05-01T12:00").build();
+
+    private static final Query FRIENDS =
+            Query.and(List.of(Query.tag(new Tag("friends")), Query.not(Query.archived())));
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -93,6 +125,336 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void sortPersonsByName_sortsCaseInsensitiveAscending() {
+        addScrambledPersons();
+        modelManager.sortPersonsByName();
+        assertEquals(List.of(ALICE_SG, ANN_CN, BOB_CN, CHARLIE_NONE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void sortPersonsByDate_sortsByAddedOnAscending() {
+        addScrambledPersons();
+        modelManager.sortPersonsByDate();
+        assertEquals(List.of(CHARLIE_NONE, BOB_CN, ANN_CN, ALICE_SG), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void sortPersonsByCountry_sortsCountryThenName_emptyCountryLast() {
+        addScrambledPersons();
+        modelManager.sortPersonsByCountry();
+        assertEquals(List.of(ANN_CN, BOB_CN, ALICE_SG, CHARLIE_NONE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void sortPersons_addressBookKeepsInsertionOrder() {
+        addScrambledPersons();
+        modelManager.sortPersonsByDate();
+        modelManager.sortPersonsByCountry();
+        assertEquals(List.of(ALICE_SG, CHARLIE_NONE, BOB_CN, ANN_CN), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void addPerson_afterSortByDate_shownInDateOrder() {
+        addScrambledPersons();
+        modelManager.sortPersonsByDate();
+        Person dora = new PersonBuilder().withName("Dora Explorer").withAddedOn("2024-01-15T00:00").build();
+        modelManager.addPerson(dora);
+        assertEquals(List.of(CHARLIE_NONE, BOB_CN, dora, ANN_CN, ALICE_SG), modelManager.getFilteredPersonList());
+
+        Person editedAlice = new PersonBuilder(ALICE_SG).withAddedOn("2023-01-01T00:00").build();
+        modelManager.setPerson(ALICE_SG, editedAlice);
+        assertEquals(List.of(editedAlice, CHARLIE_NONE, BOB_CN, dora, ANN_CN), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setSortMode_keepsFilter() {
+        addScrambledPersons();
+        modelManager.updateFilteredPersonList(person -> !person.isSamePerson(BOB_CN));
+        modelManager.sortPersonsByCountry();
+        assertEquals(List.of(ANN_CN, ALICE_SG, CHARLIE_NONE), modelManager.getFilteredPersonList());
+    }
+
+    /**
+     * Adds persons to {@code modelManager} in an order that differs from every sort order.
+     */
+    private void addScrambledPersons() {
+        modelManager.addPerson(ALICE_SG);
+        modelManager.addPerson(CHARLIE_NONE);
+        modelManager.addPerson(BOB_CN);
+        modelManager.addPerson(ANN_CN);
+    }
+
+    @Test
+    public void applyBatch_mutations_publishedAsOneChange() {
+        modelManager.addPerson(BENSON);
+        List<Integer> changeCount = new ArrayList<>();
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> changeCount.add(1));
+
+        modelManager.applyBatch(model -> {
+            model.addPerson(CARL);
+            model.addPerson(ALICE);
+            model.deletePerson(BENSON);
+
+            // changes are visible to lookups but not yet to the filtered list
+            assertTrue(model.hasPerson(ALICE));
+            assertFalse(model.hasPerson(BENSON));
+            assertEquals(List.of(BENSON), model.getFilteredPersonList());
+        });
+
+        assertEquals(List.of(ALICE, CARL), modelManager.getFilteredPersonList());
+        assertEquals(1, changeCount.size());
+    }
+
+    @Test
+    public void applyBatch_sortAndFilter_appliedOnCommit() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(CARL);
+
+        modelManager.applyBatch(model -> {
+            model.sortPersonsByCountry();
+            model.updateFilteredPersonList(person -> !person.isSamePerson(CARL));
+            assertEquals(List.of(ALICE, CARL), model.getFilteredPersonList());
+        });
+
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void applyBatch_batchThrows_changesDiscarded() {
+        modelManager.addPerson(ALICE);
+
+        assertThrows(DuplicatePersonException.class, () -> modelManager.applyBatch(model -> {
+            model.addPerson(BENSON);
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_ARCHIVED);
+            model.addPerson(ALICE);
+        }));
+
+        assertFalse(modelManager.hasPerson(BENSON));
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+        assertEquals(PREDICATE_SHOW_ALL_UNARCHIVED, modelManager.getCurrentPersonListPredicate());
+    }
+
+    @Test
+    public void applyBatch_hiddenViews_notFollowedOnCommit() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        CountingPredicate meiers = new CountingPredicate("meier");
+        modelManager.updateFilteredPersonList(meiers);
+        modelManager.sortPersonsByCountry();
+        modelManager.sortPersonsByName();
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_UNARCHIVED);
+        int testsBeforeBatch = meiers.tests;
+
+        modelManager.applyBatch(model -> {
+            model.addPerson(CARL);
+            model.addPerson(DANIEL);
+            model.deletePerson(ALICE);
+        });
+
+        // the hidden search was dropped rather than tested on commit, and is built again when shown
+        assertEquals(List.of(BENSON, CARL, DANIEL), modelManager.getFilteredPersonList());
+        assertEquals(testsBeforeBatch, meiers.tests);
+        modelManager.updateFilteredPersonList(meiers);
+        assertEquals(List.of(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        // the country order did not follow the batch either, and sorts the persons when shown again
+        modelManager.sortPersonsByCountry();
+        List<Person> byCountry = new ArrayList<>(List.of(BENSON, DANIEL));
+        byCountry.sort(Model.SortMode.COUNTRY.getComparator());
+        assertEquals(byCountry, modelManager.getFilteredPersonList());
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_UNARCHIVED);
+        byCountry = new ArrayList<>(List.of(ALICE, BENSON, CARL, DANIEL));
+        byCountry.sort(Model.SortMode.COUNTRY.getComparator());
+        assertEquals(byCountry, modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void applyBatch_nestedBatch_joinsOuterBatch() {
+        modelManager.applyBatch(model -> {
+            model.applyBatch(inner -> inner.addPerson(ALICE));
+            assertTrue(model.getFilteredPersonList().isEmpty());
+        });
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_namePredicate_followsEditsAndDeletes() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("meier", "Kurz"));
+        modelManager.updateFilteredPersonList(predicate);
+        assertEquals(List.of(BENSON, CARL), modelManager.getFilteredPersonList());
+        assertEquals(predicate, modelManager.getCurrentPersonListPredicate());
+
+        Person aliceMeier = new PersonBuilder(ALICE).withName("Alice Meier").withId(ALICE.getId()).build();
+        modelManager.setPerson(ALICE, aliceMeier);
+        modelManager.deletePerson(CARL);
+        assertEquals(List.of(aliceMeier, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_ranking_showsRankedUntilFilterOrSortChanges() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        // ranks Carl first, then the rest in name order
+        Comparator<Person> carlFirst = Comparator.comparing(person -> !person.equals(CARL));
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_UNARCHIVED, carlFirst);
+        assertEquals(List.of(CARL, ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        Person aliceKurz = new PersonBuilder(ALICE).withName("Alice Kurz").withId(ALICE.getId()).build();
+        modelManager.setPerson(ALICE, aliceKurz);
+        assertEquals(List.of(CARL, aliceKurz, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.sortPersonsByName();
+        assertEquals(List.of(aliceKurz, BENSON, CARL), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_UNARCHIVED, carlFirst);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_UNARCHIVED);
+        assertEquals(List.of(aliceKurz, BENSON, CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_repeatedPredicate_servedWithoutFiltering() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        CountingPredicate meiers = new CountingPredicate("meier");
+        modelManager.updateFilteredPersonList(meiers);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_ARCHIVED);
+        assertEquals(3, meiers.tests);
+
+        // an equal predicate is answered by the cached list, which follows edits made while it is hidden
+        Person aliceMeier = new PersonBuilder(ALICE).withName("Alice Meier").withId(ALICE.getId()).build();
+        modelManager.setPerson(ALICE, aliceMeier);
+        CountingPredicate sameMeiers = new CountingPredicate("meier");
+        modelManager.updateFilteredPersonList(sameMeiers);
+        assertEquals(List.of(aliceMeier, BENSON), modelManager.getFilteredPersonList());
+        assertEquals(0, sameMeiers.tests);
+    }
+
+    @Test
+    public void updateFilteredPersonList_manyPredicates_leastRecentlyUsedFilteredAgain() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        CountingPredicate meiers = new CountingPredicate("meier");
+        modelManager.updateFilteredPersonList(meiers);
+        for (int i = 0; i < 8; i++) {
+            modelManager.updateFilteredPersonList(new CountingPredicate("word" + i));
+        }
+
+        CountingPredicate sameMeiers = new CountingPredicate("meier");
+        modelManager.updateFilteredPersonList(sameMeiers);
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+        assertEquals(2, sameMeiers.tests);
+    }
+
+    @Test
+    public void setSortMode_cachedPredicate_shownInNewOrder() {
+        addScrambledPersons();
+        CountingPredicate startsWithA = new CountingPredicate("a");
+        modelManager.updateFilteredPersonList(startsWithA);
+        modelManager.sortPersonsByDate();
+        modelManager.sortPersonsByName();
+        assertEquals(List.of(ALICE_SG, ANN_CN), modelManager.getFilteredPersonList());
+        modelManager.sortPersonsByDate();
+        assertEquals(List.of(ANN_CN, ALICE_SG), modelManager.getFilteredPersonList());
+        // one filtering per sort mode
+        assertEquals(8, startsWithA.tests);
+    }
+
+    @Test
+    public void applyBatch_ranking_appliedOnCommit() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+
+        modelManager.applyBatch(model -> model.updateFilteredPersonList(PREDICATE_SHOW_ALL_UNARCHIVED,
+                Comparator.comparing(person -> !person.equals(BENSON))));
+        assertEquals(List.of(BENSON, ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setSmartGroup_membersFollowChangesWhileShown() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(CARL);
+        SmartGroup group = modelManager.setSmartGroup("friends", FRIENDS);
+        modelManager.updateFilteredPersonList(group);
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+        assertEquals(Map.of("friends", FRIENDS.toString()), modelManager.getUserPrefs().getSmartGroups());
+
+        Person archivedAlice = new PersonBuilder(ALICE).archived().withId(ALICE.getId()).build();
+        modelManager.setPerson(ALICE, archivedAlice);
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+
+        // adding a person shows all persons, after which the group is shown again as it now is
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(group);
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+        assertEquals(1, group.size());
+    }
+
+    @Test
+    public void setSmartGroup_shownGroupReplaced_showsNewGroup() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(modelManager.setSmartGroup("friends", FRIENDS));
+        SmartGroup replacement = modelManager.setSmartGroup("friends", Query.tag(new Tag("owesMoney")));
+
+        assertEquals(replacement, modelManager.getCurrentPersonListPredicate());
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+        assertEquals(List.of(replacement), modelManager.getSmartGroups());
+    }
+
+    @Test
+    public void deleteSmartGroup_shownGroup_showsAllUnarchived() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(CARL);
+        SmartGroup group = modelManager.setSmartGroup("friends", FRIENDS);
+        modelManager.updateFilteredPersonList(group);
+        modelManager.deleteSmartGroup(group);
+
+        assertEquals(PREDICATE_SHOW_ALL_UNARCHIVED, modelManager.getCurrentPersonListPredicate());
+        assertEquals(List.of(ALICE, CARL), modelManager.getFilteredPersonList());
+        assertEquals(Optional.empty(), modelManager.getSmartGroup("friends"));
+        assertEquals(Map.of(), modelManager.getUserPrefs().getSmartGroups());
+    }
+
+    @Test
+    public void updateFilteredPersonList_searchesRecordedWithPlan() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        CountingPredicate meiers = new CountingPredicate("meier");
+        modelManager.updateFilteredPersonList(meiers);
+        modelManager.updateFilteredPersonList(new CountingPredicate("meier"));
+
+        // only the searches from here on are slow, so only they are in the recent slow searches
+        modelManager.setSlowQueryThreshold(Duration.ZERO);
+        modelManager.updateFilteredPersonList(meiers);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Kurz")));
+        List<SearchRecord> searches = modelManager.getSearchLog().getRecentSlowSearches();
+
+        // most recent first: the name predicate is answered by the index, from the one person filed under its
+        // keyword, and the repeated search by the cache, without looking at any person
+        assertEquals(2, searches.size());
+        assertEquals(SearchRecord.Plan.INDEX, searches.get(0).getPlan());
+        assertEquals(1, searches.get(0).getCandidates());
+        assertEquals(1, searches.get(0).getResults());
+        assertEquals(SearchRecord.Plan.CACHED, searches.get(1).getPlan());
+        assertEquals(0, searches.get(1).getCandidates());
+        assertEquals(1, searches.get(1).getResults());
+
+        SearchLog.Summary counting = modelManager.getSearchLog().getSummaries().stream()
+                .filter(summary -> summary.getPredicateType().equals("CountingPredicate")).findFirst().get();
+        assertEquals(3, counting.getCount());
+        // the first search scanned the three persons, and the two others were cached
+        assertEquals(1.0, counting.getMeanCandidates());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -129,4 +491,34 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    /**
+     * Matches persons whose lower-cased name starts with a given prefix, and counts how many persons it tests.
+     * Predicates with the same prefix are equal.
+     */
+    private static class CountingPredicate implements Predicate<Person> {
+        private final String prefix;
+        private int tests;
+
+        CountingPredicate(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            tests++;
+            return Arrays.stream(person.getName().fullName.toLowerCase().split(" ")).anyMatch(word ->
+                    word.startsWith(prefix));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof CountingPredicate && prefix.equals(((CountingPredicate) other).prefix);
+        }
+
+        @Override
+        public int hashCode() {
+            return prefix.hashCode();
+        }
+    }
 }
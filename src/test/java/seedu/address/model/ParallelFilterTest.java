@@ -0,0 +1,71 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+
+public class ParallelFilterTest {
+
+    // Spans several chunks, so that the tests are split between fork-join tasks
+    private static final int SIZE = 10_000;
+    private static final Predicate<Integer> IS_MULTIPLE_OF_THREE = i -> i % 3 == 0;
+
+    private static ObservableList<Integer> numbers() {
+        return IntStream.range(0, SIZE).boxed().collect(Collectors.toCollection(FXCollections::observableArrayList));
+    }
+
+    @Test
+    public void filterInParallel_sameMatchesAsSequentialFilter() {
+        ObservableList<Integer> source = numbers();
+        assertEquals(new FilteredList<>(source, IS_MULTIPLE_OF_THREE),
+                ParallelFilter.filterInParallel(source, IS_MULTIPLE_OF_THREE));
+    }
+
+    @Test
+    public void filterInParallel_testsEachElementOnce() {
+        AtomicInteger tests = new AtomicInteger();
+        ParallelFilter.filterInParallel(numbers(), i -> {
+            tests.incrementAndGet();
+            return IS_MULTIPLE_OF_THREE.test(i);
+        });
+        assertEquals(SIZE, tests.get());
+    }
+
+    @Test
+    public void filterInParallel_laterChanges_testedWithPredicate() {
+        ObservableList<Integer> source = numbers();
+        MatchedListView<Integer> view = ParallelFilter.filterInParallel(source, IS_MULTIPLE_OF_THREE);
+
+        source.add(0, -3);
+        source.add(1, -2);
+        source.remove(Integer.valueOf(3));
+        assertEquals(List.of(-3, 0, 6), view.subList(0, 3));
+        assertEquals(new FilteredList<>(source, IS_MULTIPLE_OF_THREE), view);
+    }
+
+    @Test
+    public void filter_emptySource_emptyView() {
+        assertEquals(List.of(), ParallelFilter.filter(FXCollections.observableArrayList(), IS_MULTIPLE_OF_THREE));
+        assertEquals(List.of(),
+                ParallelFilter.filterInParallel(FXCollections.observableArrayList(), IS_MULTIPLE_OF_THREE));
+    }
+
+    @Test
+    public void filter_sameMatchesAsSequentialFilter() {
+        ObservableList<Integer> source = numbers();
+        assertEquals(new FilteredList<>(source, IS_MULTIPLE_OF_THREE),
+                ParallelFilter.filter(source, IS_MULTIPLE_OF_THREE));
+        ObservableList<Integer> small = FXCollections.observableArrayList(1, 3, 4, 6);
+        assertEquals(List.of(3, 6), ParallelFilter.filter(small, IS_MULTIPLE_OF_THREE));
+    }
+}
@@ -0,0 +1,130 @@
+package seedu.address.model.group;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.Query;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class SmartGroupListTest {
+
+    private static final Query FRIENDS = Query.and(List.of(Query.tag(new Tag("friends")), Query.not(Query.archived())));
+
+    private final SmartGroupList groups = new SmartGroupList();
+
+    private AddressBook addressBookWithGroups() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(getTypicalPersons());
+        addressBook.addPersonObserver(groups);
+        return addressBook;
+    }
+
+    @Test
+    public void put_findsMembersAmongPersons() {
+        SmartGroup group = groups.put("friends", FRIENDS, getTypicalPersons());
+        assertEquals(3, group.size());
+        assertTrue(group.test(ALICE));
+        assertTrue(group.test(BENSON));
+        assertTrue(group.test(DANIEL));
+        assertFalse(group.test(CARL));
+        assertEquals(Optional.of(group), groups.get("friends"));
+    }
+
+    @Test
+    public void put_invalidName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> groups.put("best friends", FRIENDS, List.of()));
+    }
+
+    @Test
+    public void put_sameName_replacesGroup() {
+        SmartGroup first = groups.put("friends", FRIENDS, getTypicalPersons());
+        SmartGroup second = groups.put("friends", Query.tag(new Tag("owesMoney")), getTypicalPersons());
+        assertNotSame(first, second);
+        assertEquals(List.of(second), groups.asList());
+        assertEquals(1, second.size());
+    }
+
+    @Test
+    public void addPerson_matchingDefinition_joinsGroup() {
+        AddressBook addressBook = addressBookWithGroups();
+        SmartGroup group = groups.put("friends", FRIENDS, addressBook.getPersonList());
+        Person newFriend = new PersonBuilder().withName("New Friend").withTags("friends").build();
+        addressBook.addPerson(newFriend);
+        assertEquals(4, group.size());
+        assertTrue(group.test(newFriend));
+
+        addressBook.addPerson(new PersonBuilder().withName("Not A Friend").build());
+        assertEquals(4, group.size());
+    }
+
+    @Test
+    public void setPerson_editedOutOfDefinition_leavesGroup() {
+        AddressBook addressBook = addressBookWithGroups();
+        SmartGroup group = groups.put("friends", FRIENDS, addressBook.getPersonList());
+
+        Person archivedAlice = new PersonBuilder(ALICE).archived().build();
+        addressBook.setPerson(ALICE, archivedAlice);
+        assertEquals(2, group.size());
+        assertFalse(group.test(archivedAlice));
+
+        Person carlAsFriend = new PersonBuilder(CARL).withTags("friends").build();
+        addressBook.setPerson(CARL, carlAsFriend);
+        assertEquals(3, group.size());
+        assertTrue(group.test(carlAsFriend));
+    }
+
+    @Test
+    public void removePerson_leavesEveryGroup() {
+        AddressBook addressBook = addressBookWithGroups();
+        SmartGroup friends = groups.put("friends", FRIENDS, addressBook.getPersonList());
+        SmartGroup owesMoney = groups.put("owes-money", Query.tag(new Tag("owesMoney")), addressBook.getPersonList());
+        addressBook.removePerson(BENSON);
+        assertEquals(2, friends.size());
+        assertEquals(0, owesMoney.size());
+    }
+
+    @Test
+    public void setPersons_recomputesMembers() {
+        AddressBook addressBook = addressBookWithGroups();
+        SmartGroup group = groups.put("friends", FRIENDS, addressBook.getPersonList());
+        addressBook.setPersons(List.of(CARL, DANIEL));
+        assertEquals(1, group.size());
+        assertTrue(group.test(DANIEL));
+        assertFalse(group.test(ALICE));
+    }
+
+    @Test
+    public void remove() {
+        SmartGroup group = groups.put("friends", FRIENDS, getTypicalPersons());
+        assertEquals(Optional.of(group), groups.remove("friends"));
+        assertEquals(Optional.empty(), groups.remove("friends"));
+        assertEquals(Optional.empty(), groups.get("friends"));
+        assertEquals(List.of(), groups.asList());
+    }
+
+    @Test
+    public void isValidName() {
+        assertTrue(SmartGroup.isValidName("japan-friends"));
+        assertTrue(SmartGroup.isValidName("Ämter_2024"));
+        assertFalse(SmartGroup.isValidName(""));
+        assertFalse(SmartGroup.isValidName("best friends"));
+        assertFalse(SmartGroup.isValidName("friends!"));
+        assertFalse(SmartGroup.isValidName("a".repeat(31)));
+    }
+}
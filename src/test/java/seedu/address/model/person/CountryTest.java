@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -67,6 +69,28 @@ public class CountryTest {
         assertTrue(Country.isValidCountry("RUssia"));
     }
 
+    /**
+     * Verifies that {@link Country#of(String)} shares one instance among equal countries,
+     * however they are capitalised, and still rejects invalid countries.
+     */
+    @Test
+    public void of() {
+        assertSame(Country.of("Singapore"), Country.of("singapore"));
+        assertEquals(new Country("Singapore"), Country.of("SINGAPORE"));
+        assertThrows(IllegalArgumentException.class, () -> Country.of("Not A Country"));
+    }
+
+    /**
+     * Verifies that countries sort alphabetically, with the empty country last.
+     */
+    @Test
+    public void sortOrder() {
+        assertTrue(Country.SORT_ORDER.compare(new Country("china"), new Country("Singapore")) < 0);
+        assertEquals(0, Country.SORT_ORDER.compare(new Country("SINGAPORE"), new Country("Singapore")));
+        assertTrue(Country.SORT_ORDER.compare(new Country(""), new Country("Zimbabwe")) > 0);
+        assertEquals(0, Country.SORT_ORDER.compare(new Country(""), new Country(" ")));
+    }
+
     /**
      * Verifies the equality logic of {@code Country}.
      */
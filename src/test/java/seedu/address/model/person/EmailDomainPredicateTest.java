@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class EmailDomainPredicateTest {
+
+    @Test
+    public void equals() {
+        EmailDomainPredicate firstPredicate = new EmailDomainPredicate("nus.edu.sg");
+        EmailDomainPredicate secondPredicate = new EmailDomainPredicate("ntu.edu.sg");
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values, ignoring case -> returns true
+        assertTrue(firstPredicate.equals(new EmailDomainPredicate("NUS.edu.sg")));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different domain -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_domainOrSubdomain_returnsTrue() {
+        EmailDomainPredicate predicate = new EmailDomainPredicate("nus.edu.sg");
+        assertTrue(predicate.test(new PersonBuilder().withEmail("alice@nus.edu.sg").build()));
+        assertTrue(predicate.test(new PersonBuilder().withEmail("bob@u.nus.edu.sg").build()));
+        assertTrue(predicate.test(new PersonBuilder().withEmail("carl@NUS.EDU.SG").build()));
+
+        // top-level domain
+        assertTrue(new EmailDomainPredicate("sg").test(new PersonBuilder().withEmail("alice@nus.edu.sg").build()));
+    }
+
+    @Test
+    public void test_otherDomain_returnsFalse() {
+        EmailDomainPredicate predicate = new EmailDomainPredicate("nus.edu.sg");
+
+        // domain only ends with the same letters
+        assertFalse(predicate.test(new PersonBuilder().withEmail("alice@anus.edu.sg").build()));
+
+        // parent domain
+        assertFalse(predicate.test(new PersonBuilder().withEmail("alice@edu.sg").build()));
+
+        // domain in the local part
+        assertFalse(predicate.test(new PersonBuilder().withEmail("nus.edu.sg@example.com").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        EmailDomainPredicate predicate = new EmailDomainPredicate("NUS.edu.sg");
+
+        String expected = EmailDomainPredicate.class.getCanonicalName() + "{domain=nus.edu.sg}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -96,4 +97,23 @@ public class EmailTest {
         String validEmail = "a".repeat(244) + "@gmail.com";
         assertTrue(Email.isValidEmail(validEmail));
     }
+
+    @Test
+    public void getDomain_lowerCasePartAfterAt() {
+        assertEquals("nus.edu.sg", new Email("Alice@NUS.edu.sg").getDomain());
+        assertEquals("u.nus.edu", new Email("a.b+c@u.nus.edu").getDomain());
+    }
+
+    @Test
+    public void isValidDomain() {
+        assertTrue(Email.isValidDomain("nus.edu.sg"));
+        assertTrue(Email.isValidDomain("example-mail.com"));
+        assertTrue(Email.isValidDomain("sg"));
+
+        assertFalse(Email.isValidDomain(""));
+        assertFalse(Email.isValidDomain("nus..sg"));
+        assertFalse(Email.isValidDomain("nus.edu.s"));
+        assertFalse(Email.isValidDomain("@nus.edu.sg"));
+        assertFalse(Email.isValidDomain("nus edu"));
+    }
 }
@@ -0,0 +1,90 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class FullTextMatchPredicateTest {
+
+    @Test
+    public void equals() {
+        FullTextMatchPredicate firstPredicate = new FullTextMatchPredicate(Collections.singletonList("first"));
+        FullTextMatchPredicate secondPredicate = new FullTextMatchPredicate(List.of("first", "second"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new FullTextMatchPredicate(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different terms -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void termsOf_text_splitsAtNonLettersAndIgnoresCaseAndAccents() {
+        assertEquals(List.of("he", "can", "t", "drink", "alcohol"),
+                FullTextMatchPredicate.termsOf("He can't drink ALCOHOL!"));
+        assertEquals(List.of("311", "clementi", "ave", "2", "02", "25"),
+                FullTextMatchPredicate.termsOf("311, Clementi Ave 2, #02-25"));
+        assertEquals(List.of("cafe", "munchen"), FullTextMatchPredicate.termsOf("  Café, München "));
+        assertEquals(List.of(), FullTextMatchPredicate.termsOf(" -- "));
+    }
+
+    @Test
+    public void termsOf_person_noteAddressAndEvent() {
+        Person person = new PersonBuilder().withNote("Likes jazz").withAddress("Clementi Ave 2")
+                .withEvent("Jazz night").build();
+        assertEquals(List.of("likes", "jazz", "clementi", "ave", "2", "jazz", "night"),
+                FullTextMatchPredicate.termsOf(person));
+    }
+
+    @Test
+    public void test_anyTermInText_returnsTrue() {
+        Person person = new PersonBuilder().withNote("Vegetarian").withAddress("Clementi Ave 2")
+                .withEvent("Tech Summit").build();
+
+        assertTrue(new FullTextMatchPredicate(List.of("vegetarian")).test(person));
+        assertTrue(new FullTextMatchPredicate(List.of("nothing", "summit")).test(person));
+        assertTrue(new FullTextMatchPredicate(List.of("clementi")).test(person));
+
+        // accents in the text or the terms are ignored
+        Person accented = new PersonBuilder().withNote("Loves crème brûlée").build();
+        assertTrue(new FullTextMatchPredicate(FullTextMatchPredicate.termsOf("creme brulee")).test(accented));
+        assertTrue(new FullTextMatchPredicate(FullTextMatchPredicate.termsOf("Loves")).test(
+                new PersonBuilder().withNote("LOVES").build()));
+    }
+
+    @Test
+    public void test_noTermInText_returnsFalse() {
+        Person person = new PersonBuilder().withName("Alice Vegan").withNote("Vegetarian").build();
+
+        // zero terms
+        assertFalse(new FullTextMatchPredicate(Collections.emptyList()).test(person));
+
+        // partial words and names do not match
+        assertFalse(new FullTextMatchPredicate(List.of("veget", "vegan")).test(person));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> terms = List.of("term1", "term2");
+        FullTextMatchPredicate predicate = new FullTextMatchPredicate(terms);
+
+        String expected = FullTextMatchPredicate.class.getCanonicalName() + "{terms=" + terms + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class FuzzyMatchPredicateTest {
+
+    @Test
+    public void equals() {
+        FuzzyMatchPredicate firstPredicate = new FuzzyMatchPredicate(Collections.singletonList("first"));
+        FuzzyMatchPredicate secondPredicate = new FuzzyMatchPredicate(List.of("first", "second"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new FuzzyMatchPredicate(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void maxDistance() {
+        assertEquals(0, FuzzyMatchPredicate.maxDistance("Tan"));
+        assertEquals(1, FuzzyMatchPredicate.maxDistance("Alex"));
+        assertEquals(1, FuzzyMatchPredicate.maxDistance("Meier"));
+        assertEquals(2, FuzzyMatchPredicate.maxDistance("Mohammed"));
+        assertEquals(3, FuzzyMatchPredicate.maxDistance("Wolfeschlegelsteinhausen"));
+    }
+
+    @Test
+    public void wordsOf_nameOrganisationAndEmail() {
+        Person person = new PersonBuilder().withName("Alice Pauline").withOrganisation("National University")
+                .withEmail("alice.tan-lee@example.com").build();
+        assertEquals(Set.of("alice", "pauline", "national", "university", "tan", "lee"),
+                FuzzyMatchPredicate.wordsOf(person));
+    }
+
+    @Test
+    public void test_wordWithinTypos_returnsTrue() {
+        // transliteration of the same name
+        FuzzyMatchPredicate predicate = new FuzzyMatchPredicate(List.of("Mohammed"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Muhammad Ali").build()));
+
+        // matches organisation and email
+        predicate = new FuzzyMatchPredicate(List.of("univrsity"));
+        assertTrue(predicate.test(new PersonBuilder().withOrganisation("National University").build()));
+        predicate = new FuzzyMatchPredicate(List.of("Cornelai"));
+        assertTrue(predicate.test(new PersonBuilder().withEmail("cornelia@example.com").build()));
+
+        // one of the keywords matches, ignoring case
+        predicate = new FuzzyMatchPredicate(List.of("zzzz", "BEANSON"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Benson Meier").build()));
+    }
+
+    @Test
+    public void test_tooManyTypos_returnsFalse() {
+        // short keywords must match exactly
+        FuzzyMatchPredicate predicate = new FuzzyMatchPredicate(List.of("Tam"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Jenny Tan").build()));
+
+        predicate = new FuzzyMatchPredicate(List.of("Mayor"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Elle Meyer").build()));
+
+        // the domain of the email is not matched
+        predicate = new FuzzyMatchPredicate(List.of("example"));
+        assertFalse(predicate.test(new PersonBuilder().withEmail("alice@example.com").build()));
+    }
+
+    @Test
+    public void distanceTo_returnsFewestTypos() {
+        Person person = new PersonBuilder().withName("Elle Meyer").build();
+        assertEquals(0, new FuzzyMatchPredicate(List.of("Meier", "meyer")).distanceTo(person));
+        assertEquals(1, new FuzzyMatchPredicate(List.of("Meier")).distanceTo(person));
+        assertEquals(FuzzyMatchPredicate.NO_MATCH, new FuzzyMatchPredicate(List.of("Kunz")).distanceTo(person));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        FuzzyMatchPredicate predicate = new FuzzyMatchPredicate(keywords);
+
+        String expected = FuzzyMatchPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class MatchedPersonsPredicateTest {
+
+    @Test
+    public void equals() {
+        MatchedPersonsPredicate firstPredicate = new MatchedPersonsPredicate(List.of(ALICE, BENSON));
+        MatchedPersonsPredicate secondPredicate = new MatchedPersonsPredicate(List.of(CARL));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same persons, in another order -> returns true
+        assertTrue(firstPredicate.equals(new MatchedPersonsPredicate(List.of(BENSON, ALICE))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different persons -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_matchedPersons_returnsTrue() {
+        MatchedPersonsPredicate predicate = new MatchedPersonsPredicate(List.of(ALICE, BENSON));
+        assertTrue(predicate.test(ALICE));
+
+        // edited person, same id
+        assertTrue(predicate.test(new PersonBuilder(BENSON).withId(BENSON.getId()).withNote("Moved to Tokyo").build()));
+    }
+
+    @Test
+    public void test_otherPersons_returnsFalse() {
+        assertFalse(new MatchedPersonsPredicate(List.of()).test(ALICE));
+        assertFalse(new MatchedPersonsPredicate(List.of(ALICE, BENSON)).test(CARL));
+    }
+}
@@ -56,6 +56,12 @@ public class NameContainsKeywordsPredicateTest {
         // Mixed-case keywords
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("aLIce", "bOB"));
         assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Accents in the name or the keywords
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("Jose"));
+        assertTrue(predicate.test(new PersonBuilder().withName("José Alvarez").build()));
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("álvarez"));
+        assertTrue(predicate.test(new PersonBuilder().withName("José Alvarez").build()));
     }
 
     @Test
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -20,6 +22,14 @@ public class NameTest {
         assertThrows(IllegalArgumentException.class, () -> new Name(invalidName));
     }
 
+    @Test
+    public void ofValid_validName_equalToConstructed() {
+        Name name = Name.ofValid("Zoë Ñúñez");
+        assertEquals(new Name("Zoë Ñúñez"), name);
+        assertEquals(new Name("Zoë Ñúñez").getSearchKey(), name.getSearchKey());
+        assertEquals(new Name("Zoë Ñúñez").getPhoneticCodes(), name.getPhoneticCodes());
+    }
+
     @Test
     public void isValidName() {
         // null name
@@ -72,6 +82,21 @@ public class NameTest {
         assertTrue(name1.hashCode() == name2.hashCode());
     }
 
+    @Test
+    public void hashCode_sameForDifferentCase() {
+        Name name1 = new Name("Charlie Brown");
+        Name name2 = new Name("charlie BROWN");
+        assertEquals(name1, name2);
+        assertEquals(name1.hashCode(), name2.hashCode());
+    }
+
+    @Test
+    public void sortOrder_alphabeticalIgnoringCase() {
+        assertEquals(0, Name.SORT_ORDER.compare(new Name("Charlie Brown"), new Name("charlie BROWN")));
+        assertTrue(Name.SORT_ORDER.compare(new Name("alice"), new Name("Bob")) < 0);
+        assertTrue(Name.SORT_ORDER.compare(new Name("Zed"), new Name("bob")) > 0);
+    }
+
     @Test
     public void hashCode_differentForDifferentNames() {
         Name name1 = new Name("Charlie");
@@ -176,4 +201,17 @@ public class NameTest {
         String validName = "a".repeat(70);
         assertTrue(Name.isValidName(validName));
     }
+
+    @Test
+    public void getSearchKey_withoutAccentsAndCaseFolded() {
+        assertEquals("jose alvarez", new Name("José ÁLVAREZ").getSearchKey());
+        assertEquals("alice", new Name("Alice").getSearchKey());
+    }
+
+    @Test
+    public void getPhoneticCodes_codesOfEachWord() {
+        assertEquals(List.of("PTR", "XKFSK"), new Name("Pyotr Tchaikovsky").getPhoneticCodes());
+        assertEquals(List.of("NKN", "FN", "AN"), new Name("Nguyễn Văn An").getPhoneticCodes());
+        assertEquals(List.of(), new Name("12345").getPhoneticCodes());
+    }
 }
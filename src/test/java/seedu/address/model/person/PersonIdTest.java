@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonIdTest {
+
+    private static final String VALID_ID = "123e4567-e89b-42d3-a456-556642440000";
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonId(null));
+    }
+
+    @Test
+    public void constructor_invalidId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonId("not-an-id"));
+    }
+
+    @Test
+    public void isValidPersonId() {
+        // null id
+        assertThrows(NullPointerException.class, () -> PersonId.isValidPersonId(null));
+
+        // invalid ids
+        assertFalse(PersonId.isValidPersonId("")); // empty string
+        assertFalse(PersonId.isValidPersonId("123e4567e89b42d3a456556642440000")); // missing dashes
+        assertFalse(PersonId.isValidPersonId("123e4567-e89b-42d3-a456-55664244000g")); // non-hex digit
+
+        // valid ids
+        assertTrue(PersonId.isValidPersonId(VALID_ID));
+        assertTrue(PersonId.isValidPersonId(VALID_ID.toUpperCase())); // upper case hex digits
+    }
+
+    @Test
+    public void generate_returnsDistinctValidIds() {
+        PersonId first = PersonId.generate();
+        PersonId second = PersonId.generate();
+        assertTrue(PersonId.isValidPersonId(first.value));
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    public void equals() {
+        PersonId id = new PersonId(VALID_ID);
+
+        // same values -> returns true, regardless of case
+        assertTrue(id.equals(new PersonId(VALID_ID)));
+        assertTrue(id.equals(new PersonId(VALID_ID.toUpperCase())));
+        assertEquals(id.hashCode(), new PersonId(VALID_ID.toUpperCase()).hashCode());
+
+        // same object -> returns true
+        assertTrue(id.equals(id));
+
+        // null -> returns false
+        assertFalse(id.equals(null));
+
+        // different types -> returns false
+        assertFalse(id.equals(5.0f));
+
+        // different values -> returns false
+        assertFalse(id.equals(PersonId.generate()));
+    }
+}
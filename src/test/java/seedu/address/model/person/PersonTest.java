@@ -90,6 +90,43 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void hashCodeMethod() {
+        // equal persons -> same hash, even where they differ in fields that equals does not compare
+        Person aliceCopy = new PersonBuilder(ALICE).withChannel("TELEGRAM").withLanguage("malay")
+                .withAddedOn("2024-01-01T00:00:00").build();
+        assertTrue(ALICE.equals(aliceCopy));
+        assertEquals(ALICE.hashCode(), aliceCopy.hashCode());
+
+        // same hash is stable across calls
+        assertEquals(ALICE.hashCode(), ALICE.hashCode());
+
+        // different archival status -> returns false
+        assertFalse(ALICE.equals(new PersonBuilder(ALICE).archived().build()));
+    }
+
+    @Test
+    public void equals_copiedWithCallingCodeTag_returnsTrue() {
+        // the calling code tag added for the phone is part of the copied tags
+        Person person = new PersonBuilder().withPhone("+6598765432").withTags("friends").build();
+        Person copy = new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getCountry(), person.getOrganisation(), person.getEvent(), person.getNote(),
+                person.getTags(), person.getOffset(), person.getPreferredLanguage(), person.getAddedOn(), false);
+        assertTrue(person.equals(copy));
+        assertEquals(person.hashCode(), copy.hashCode());
+    }
+
+    @Test
+    public void equals_absentOptionalFields() {
+        Person alice = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(), null,
+                null, null, ALICE.getNote(), ALICE.getTags(), ALICE.getOffset(), null, ALICE.getAddedOn(), false);
+        Person aliceCopy = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(), null,
+                null, null, ALICE.getNote(), ALICE.getTags(), ALICE.getOffset(), null, ALICE.getAddedOn(), false);
+        assertTrue(alice.equals(aliceCopy));
+        assertFalse(alice.equals(ALICE));
+        assertFalse(ALICE.equals(alice));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName()
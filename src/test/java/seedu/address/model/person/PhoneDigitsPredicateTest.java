@@ -0,0 +1,68 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PhoneDigitsPredicateTest {
+
+    @Test
+    public void constructor_invalidDigits_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PhoneDigitsPredicate("987"));
+        assertThrows(IllegalArgumentException.class, () -> new PhoneDigitsPredicate("9876 5432"));
+        assertThrows(IllegalArgumentException.class, () -> new PhoneDigitsPredicate("+6598"));
+    }
+
+    @Test
+    public void equals() {
+        PhoneDigitsPredicate firstPredicate = new PhoneDigitsPredicate("9876");
+        PhoneDigitsPredicate secondPredicate = new PhoneDigitsPredicate("98765");
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new PhoneDigitsPredicate("9876")));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different digits -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_phoneContainsDigits_returnsTrue() {
+        PhoneDigitsPredicate predicate = new PhoneDigitsPredicate("87654");
+
+        // separators ignored
+        assertTrue(predicate.test(new PersonBuilder().withPhone("+65 9876-5432").build()));
+        assertTrue(predicate.test(new PersonBuilder().withPhone("(8765) 4321").build()));
+
+        // calling code included
+        assertTrue(new PhoneDigitsPredicate("6598").test(new PersonBuilder().withPhone("+65 9876 5432").build()));
+    }
+
+    @Test
+    public void test_phoneDoesNotContainDigits_returnsFalse() {
+        PhoneDigitsPredicate predicate = new PhoneDigitsPredicate("12341");
+        assertFalse(predicate.test(new PersonBuilder().withPhone("2341 1234").build()));
+        assertFalse(predicate.test(new PersonBuilder().withPhone("1234").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        PhoneDigitsPredicate predicate = new PhoneDigitsPredicate("9876");
+
+        String expected = PhoneDigitsPredicate.class.getCanonicalName() + "{digits=9876}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PhonePrefixPredicateTest {
+
+    @Test
+    public void constructor_invalidPrefix_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PhonePrefixPredicate(""));
+        assertThrows(IllegalArgumentException.class, () -> new PhonePrefixPredicate("+"));
+        assertThrows(IllegalArgumentException.class, () -> new PhonePrefixPredicate("+6 5"));
+        assertThrows(IllegalArgumentException.class, () -> new PhonePrefixPredicate("1234567890123456"));
+    }
+
+    @Test
+    public void equals() {
+        PhonePrefixPredicate firstPredicate = new PhonePrefixPredicate("+65");
+        PhonePrefixPredicate secondPredicate = new PhonePrefixPredicate("+60");
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same prefix, without plus -> returns true
+        assertTrue(firstPredicate.equals(new PhonePrefixPredicate("65")));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different prefix -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_numberStartsWithPrefix_returnsTrue() {
+        assertTrue(new PhonePrefixPredicate("+65").test(new PersonBuilder().withPhone("+65 9876 5432").build()));
+        assertTrue(new PhonePrefixPredicate("1415").test(new PersonBuilder().withPhone("+1 (415) 555-2671").build()));
+        assertTrue(new PhonePrefixPredicate("+3").test(new PersonBuilder().withPhone("+358 40 123 4567").build()));
+    }
+
+    @Test
+    public void test_numberDoesNotStartWithPrefix_returnsFalse() {
+        assertFalse(new PhonePrefixPredicate("+6").test(new PersonBuilder().withPhone("+1 (415) 555-2671").build()));
+
+        // no country calling code
+        assertFalse(new PhonePrefixPredicate("+9").test(new PersonBuilder().withPhone("98765432").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        PhonePrefixPredicate predicate = new PhonePrefixPredicate("65");
+
+        String expected = PhonePrefixPredicate.class.getCanonicalName() + "{prefix=+65}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -47,6 +48,23 @@ public class PhoneTest {
         assertEquals("91", new Phone("+919876543210").getCountryCode());
     }
 
+    @Test
+    public void getDigits_separatorsAndPlusRemoved() {
+        assertEquals("6598765432", new Phone("+65 (9876)-5432").getDigits());
+        assertEquals("911", new Phone("911").getDigits());
+    }
+
+    @Test
+    public void getE164_separatorsRemoved() {
+        assertEquals("+6598765432", new Phone("+65 9876-5432").getE164());
+        assertEquals("+14155552671", new Phone("+1 (415) 555-2671").getE164());
+        assertEquals("+447911123456", new Phone("+44 7911 123456").getE164());
+
+        // no country calling code
+        assertNull(new Phone("98765432").getE164());
+        assertEquals("Invalid", new Phone("98765432").getCountryCode());
+    }
+
     @Test
     public void toString_formatsCorrectly() {
         assertEquals("+6598765432 (65)", new Phone("+6598765432").toString());
@@ -0,0 +1,82 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PhoneticMatchPredicateTest {
+
+    @Test
+    public void equals() {
+        PhoneticMatchPredicate firstPredicate = new PhoneticMatchPredicate(Collections.singletonList("first"));
+        PhoneticMatchPredicate secondPredicate = new PhoneticMatchPredicate(List.of("first", "second"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new PhoneticMatchPredicate(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void getCodes_distinctCodesOfAllKeywords() {
+        assertEquals(List.of("MR", "XKFSK"),
+                new PhoneticMatchPredicate(List.of("Meier", "Meyer", "Tchaikovsky")).getCodes());
+        assertEquals(List.of(), new PhoneticMatchPredicate(List.of("123")).getCodes());
+    }
+
+    @Test
+    public void test_nameSoundsLikeKeyword_returnsTrue() {
+        // romanizations of the same name
+        PhoneticMatchPredicate predicate = new PhoneticMatchPredicate(List.of("Chaikovsky"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Pyotr Tchaikovsky").build()));
+
+        // diacritics
+        predicate = new PhoneticMatchPredicate(List.of("Nguyen"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Nguyễn Văn An").build()));
+
+        // one of several keywords, mixed case
+        predicate = new PhoneticMatchPredicate(List.of("zzz", "MEYER"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Benson Meier").build()));
+    }
+
+    @Test
+    public void test_nameDoesNotSoundLikeKeyword_returnsFalse() {
+        // zero keywords
+        PhoneticMatchPredicate predicate = new PhoneticMatchPredicate(Collections.emptyList());
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice").build()));
+
+        // different sound
+        predicate = new PhoneticMatchPredicate(List.of("Carol"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // keyword without Latin letters
+        predicate = new PhoneticMatchPredicate(List.of("12345"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice 12345").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        PhoneticMatchPredicate predicate = new PhoneticMatchPredicate(keywords);
+
+        String expected = PhoneticMatchPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
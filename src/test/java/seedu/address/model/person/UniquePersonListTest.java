@@ -10,6 +10,7 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -17,6 +18,7 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -30,7 +32,7 @@ public class UniquePersonListTest {
     // Test persons:
     // - Two with the same country ("China") to exercise name tie-breaker.
     // - One with another country ("Singapore").
-    // - One with empty country to ensure it is pushed to the end in sortByCountry.
+    // - One with empty country to ensure it is pushed to the end when sorted by country.
     private Person alice; // Singapore, 2024-03-01T10:00
     private Person bob; // China, 2024-01-01T09:00
     private Person ann; // China, 2024-02-01T08:00
@@ -175,6 +177,120 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void contains_personWithDifferentCaseName_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person shoutedAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(shoutedAlice));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(shoutedAlice));
+    }
+
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_indexFollowsRename() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertIndexInSync(uniquePersonList);
+
+        // the old identity is free to be reused
+        uniquePersonList.add(ALICE);
+        assertIndexInSync(uniquePersonList);
+    }
+
+    @Test
+    public void setPerson_duplicateIdentity_indexUnchanged() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertIndexInSync(uniquePersonList);
+    }
+
+    @Test
+    public void remove_existingPerson_removedFromIndex() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertIndexInSync(uniquePersonList);
+    }
+
+    @Test
+    public void remove_personNotInList_indexUnchanged() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(BOB));
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertIndexInSync(uniquePersonList);
+    }
+
+    @Test
+    public void setPersons_list_indexReplaced() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertIndexInSync(uniquePersonList);
+    }
+
+    @Test
+    public void setPersons_uniquePersonList_indexReplaced() {
+        uniquePersonList.add(ALICE);
+        UniquePersonList replacement = new UniquePersonList();
+        replacement.add(BOB);
+        uniquePersonList.setPersons(replacement);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertIndexInSync(uniquePersonList);
+
+        // the replacement keeps its own index
+        replacement.remove(BOB);
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void setPersons_listWithDifferentCaseDuplicates_throwsDuplicatePersonException() {
+        Person shoutedAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        uniquePersonList.add(BOB);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(
+                Arrays.asList(ALICE, shoutedAlice)));
+
+        // a rejected replacement leaves the existing list and index untouched
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertIndexInSync(uniquePersonList);
+    }
+
+    @Test
+    public void mixedOperations_indexNeverDivergesFromList() {
+        list.remove(bob);
+        list.setPerson(alice, new PersonBuilder(alice).withName("Alicia Keys").build());
+        list.add(bob);
+        list.remove(charlie);
+        assertIndexInSync(list);
+        assertFalse(list.contains(alice));
+        assertTrue(list.contains(new PersonBuilder().withName("alicia keys").build()));
+    }
+
+    /**
+     * Asserts that {@code persons} reports every listed person (under any letter case) as present,
+     * and that no identity outside the list is reported as present.
+     */
+    private static void assertIndexInSync(UniquePersonList persons) {
+        List<Person> listed = persons.asUnmodifiableObservableList();
+        for (Person person : listed) {
+            assertTrue(persons.contains(person));
+            assertTrue(persons.contains(new PersonBuilder(person)
+                    .withName(person.getName().fullName.toLowerCase()).build()));
+        }
+        for (Person candidate : List.of(ALICE, BOB)) {
+            boolean isListed = listed.stream().anyMatch(candidate::isSamePerson);
+            assertEquals(isListed, persons.contains(candidate));
+        }
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -208,15 +324,14 @@ public class UniquePersonListTest {
                 .withAddedOn(String.valueOf(LocalDateTime.of(2024, 2, 1, 8, 0)))
                 .build();
 
-        // Empty country string is considered "no country" in Country#isValidCountry,
-        // which your sortByCountry() pushes to the end via countryKey().
+        // Empty country string is considered "no country" in Country#isValidCountry.
         charlie = new PersonBuilder()
                 .withName("Charlie Zero")
                 .withCountry("") // empty
                 .withAddedOn(String.valueOf(LocalDateTime.of(2023, 5, 1, 12, 0)))
                 .build();
 
-        // Add in a scrambled order so that sorts have an effect.
+        // Add in a scrambled order so that insertion order differs from every sort order.
         list.add(alice);
         list.add(charlie);
         list.add(bob);
@@ -231,33 +346,232 @@ public class UniquePersonListTest {
     }
 
     @Test
-    public void sortByName_sortsCaseInsensitiveAscending() {
-        list.sortByName();
-        List<Person> ordered = list.asUnmodifiableObservableList();
+    public void add_appendsInInsertionOrder() {
+        Person amy = new PersonBuilder().withName("Amy Bee").build();
+        list.add(amy);
+        assertEquals(List.of(alice, charlie, bob, ann, amy), list.asUnmodifiableObservableList());
+    }
 
-        // Alphabetical by name: Alice Pauline, Ann Alpha, Bob Builder, Charlie Zero
-        assertEquals(List.of(alice, ann, bob, charlie), ordered);
+    @Test
+    public void add_firesSingleAddition() {
+        List<Integer> addedSizes = new ArrayList<>();
+        ObservableList<Person> exposed = list.asUnmodifiableObservableList();
+        exposed.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                assertFalse(change.wasPermutated());
+                addedSizes.add(change.getAddedSize());
+            }
+        });
+
+        list.add(new PersonBuilder().withName("Amy Bee").build());
+        assertEquals(List.of(1), addedSizes);
+    }
+
+    @Test
+    public void setPerson_editedPerson_keepsPosition() {
+        Person renamedAlice = new PersonBuilder(alice).withName("Zed Alice").build();
+        list.setPerson(alice, renamedAlice);
+        assertEquals(List.of(renamedAlice, charlie, bob, ann), list.asUnmodifiableObservableList());
     }
 
     @Test
-    public void sortByDate_sortsByAddedOnAscending() {
-        list.sortByDate();
-        List<Person> ordered = list.asUnmodifiableObservableList();
+    public void remove_laterPersonsStillLocatable() {
+        list.remove(charlie);
+        assertEquals(List.of(alice, bob, ann), list.asUnmodifiableObservableList());
+
+        // persons after the removed one have shifted, and must still be found at their new positions
+        Person editedAnn = new PersonBuilder(ann).withNote("Moved").withId(ann.getId()).build();
+        list.setPerson(ann, editedAnn);
+        list.remove(bob);
+        assertEquals(List.of(alice, editedAnn), list.asUnmodifiableObservableList());
+        assertIndexInSync(list);
+    }
 
-        // Ascending by addedOn: 2023-05-01 (Charlie), 2024-01-01 (Bob),
-        // 2024-02-01 (Ann), 2024-03-01 (Alice)
-        assertEquals(List.of(charlie, bob, ann, alice), ordered);
+    @Test
+    public void remove_manyPersons_remainingPersonsStillLocatable() {
+        UniquePersonList persons = new UniquePersonList();
+        List<Person> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).build();
+            persons.add(person);
+            // removing every other person from the front tombstones enough slots to renumber the list
+            if (i < 90 && i % 2 == 0) {
+                persons.remove(person);
+            } else {
+                expected.add(person);
+            }
+        }
+        assertEquals(expected, persons.asUnmodifiableObservableList());
+
+        Person last = expected.get(expected.size() - 1);
+        Person editedLast = new PersonBuilder(last).withNote("Moved").withId(last.getId()).build();
+        persons.setPerson(last, editedLast);
+        expected.set(expected.size() - 1, editedLast);
+        for (Person person : List.copyOf(expected)) {
+            persons.remove(person);
+            expected.remove(person);
+            assertEquals(expected, persons.asUnmodifiableObservableList());
+        }
+    }
+
+    @Test
+    public void setPersons_keepsGivenOrder() {
+        UniquePersonList replacement = new UniquePersonList();
+        replacement.setPersons(List.of(bob, alice));
+        replacement.add(ann);
+        list.setPersons(replacement);
+        assertEquals(List.of(bob, alice, ann), list.asUnmodifiableObservableList());
+
+        // the copied indexes locate persons at their positions in the replacement
+        list.remove(alice);
+        assertEquals(List.of(bob, ann), list.asUnmodifiableObservableList());
+        assertIndexInSync(list);
+    }
+
+    @Test
+    public void add_duplicateId_throwsDuplicatePersonException() {
+        Person sameId = new PersonBuilder().withName("Amy Bee").withId(alice.getId()).build();
+        assertThrows(DuplicatePersonException.class, () -> list.add(sameId));
+    }
+
+    @Test
+    public void setPerson_editedPersonKeepsId_success() {
+        Person editedAlice = new PersonBuilder(alice).withName("Zed Alice").withId(alice.getId()).build();
+        list.setPerson(alice, editedAlice);
+        assertEquals(List.of(editedAlice, charlie, bob, ann), list.asUnmodifiableObservableList());
+
+        // the stored person can be located again by its id after the edit
+        list.remove(editedAlice);
+        assertEquals(List.of(charlie, bob, ann), list.asUnmodifiableObservableList());
+        assertIndexInSync(list);
+    }
+
+    @Test
+    public void setPerson_editedPersonTakesAnotherId_throwsDuplicatePersonException() {
+        Person editedAlice = new PersonBuilder(alice).withNote("Likes tea").withId(bob.getId()).build();
+        assertThrows(DuplicatePersonException.class, () -> list.setPerson(alice, editedAlice));
     }
 
     @Test
-    public void sortByCountry_sortsCountryThenName_emptyCountryLast() {
-        list.sortByCountry();
-        List<Person> ordered = list.asUnmodifiableObservableList();
+    public void remove_equalPersonWithDifferentId_removesStoredPerson() {
+        Person copyOfBob = new PersonBuilder(bob).build();
+        list.remove(copyOfBob);
+        assertEquals(List.of(alice, charlie, ann), list.asUnmodifiableObservableList());
+        assertIndexInSync(list);
+    }
+
+    @Test
+    public void setPersons_listWithDuplicateIds_throwsDuplicatePersonException() {
+        Person sameId = new PersonBuilder().withName("Amy Bee").withId(alice.getId()).build();
+        assertThrows(DuplicatePersonException.class, () -> list.setPersons(List.of(alice, sameId)));
+    }
+
+    @Test
+    public void commitBatch_mutations_publishedAsOneChange() {
+        List<Integer> changeCount = new ArrayList<>();
+        list.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> changeCount.add(1));
+        Person amy = new PersonBuilder().withName("Amy Bee").build();
+        Person renamedAlice = new PersonBuilder(alice).withName("Zed Alice").withId(alice.getId()).build();
+
+        list.beginBatch();
+        list.add(amy);
+        list.remove(bob);
+        list.setPerson(alice, renamedAlice);
+
+        // indexes already reflect the batch while the list does not
+        assertTrue(list.contains(amy));
+        assertFalse(list.contains(bob));
+        assertEquals(List.of(alice, charlie, bob, ann), list.asUnmodifiableObservableList());
+        assertTrue(changeCount.isEmpty());
+
+        list.commitBatch();
+        assertEquals(List.of(renamedAlice, charlie, ann, amy), list.asUnmodifiableObservableList());
+        assertEquals(1, changeCount.size());
+        assertIndexInSync(list);
+    }
+
+    @Test
+    public void abortBatch_restoresPreBatchState() {
+        Person amy = new PersonBuilder().withName("Amy Bee").build();
+        list.beginBatch();
+        list.add(amy);
+        list.remove(charlie);
+        list.abortBatch();
+
+        assertFalse(list.contains(amy));
+        assertTrue(list.contains(charlie));
+        assertEquals(List.of(alice, charlie, bob, ann), list.asUnmodifiableObservableList());
+        assertIndexInSync(list);
+
+        // the restored indexes locate persons at their pre-batch positions
+        list.remove(bob);
+        assertEquals(List.of(alice, charlie, ann), list.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void batch_invalidState_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> list.commitBatch());
+        assertThrows(IllegalStateException.class, () -> list.abortBatch());
+        list.beginBatch();
+        assertThrows(IllegalStateException.class, () -> list.beginBatch());
+    }
+
+    @Test
+    public void addObserver_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> list.addObserver(null));
+    }
+
+    @Test
+    public void addObserver_mutations_reportedInOrder() {
+        RecordingObserver observer = new RecordingObserver();
+        list.addObserver(observer);
+        assertEquals(List.of("reset " + List.of(alice, charlie, bob, ann)), observer.events);
+        observer.events.clear();
+
+        Person amy = new PersonBuilder().withName("Amy Bee").build();
+        Person editedAlice = new PersonBuilder(alice).withAddress(VALID_ADDRESS_BOB).withId(alice.getId()).build();
+        list.add(amy);
+        list.setPerson(alice, editedAlice);
+        list.remove(bob);
+        list.setPersons(List.of(charlie));
+
+        assertEquals(List.of("added " + amy, "removed " + alice, "added " + editedAlice, "removed " + bob,
+                "reset " + List.of(charlie)), observer.events);
+    }
+
+    @Test
+    public void addObserver_abortBatch_resetsToPreBatchContents() {
+        RecordingObserver observer = new RecordingObserver();
+        list.addObserver(observer);
+        observer.events.clear();
+
+        Person amy = new PersonBuilder().withName("Amy Bee").build();
+        list.beginBatch();
+        list.add(amy);
+        list.abortBatch();
+
+        assertEquals(List.of("added " + amy, "reset " + List.of(alice, charlie, bob, ann)), observer.events);
+    }
 
-        // Order:
-        //   China (name tie-breaker): Ann Alpha, Bob Builder
-        //   Singapore: Alice Pauline
-        //   "" (empty country) goes LAST: Charlie Zero
-        assertEquals(List.of(ann, bob, alice, charlie), ordered);
+    /**
+     * A {@code PersonObserver} that records the changes it is told of.
+     */
+    private static class RecordingObserver implements PersonObserver {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void personAdded(Person person) {
+            events.add("added " + person);
+        }
+
+        @Override
+        public void personRemoved(Person person) {
+            events.add("removed " + person);
+        }
+
+        @Override
+        public void personsReset(List<Person> persons) {
+            events.add("reset " + persons);
+        }
     }
 }
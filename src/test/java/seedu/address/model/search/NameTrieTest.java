@@ -0,0 +1,82 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTrieTest {
+
+    private final NameTrie trie = new NameTrie();
+
+    private static Person named(String name) {
+        return new PersonBuilder().withName(name).build();
+    }
+
+    @Test
+    public void complete_prefix_returnsWordsInOrderIgnoringCase() {
+        trie.add(named("Alice Pauline"));
+        trie.add(named("Alex Yeoh"));
+        trie.add(named("Al Tan"));
+        trie.add(named("Bernice Yu"));
+
+        assertEquals(List.of("Al", "Alex", "Alice"), trie.complete("al", 10));
+        assertEquals(List.of("Alex"), trie.complete("ALE", 10));
+        assertEquals(List.of("Alice"), trie.complete("alic", 10));
+        assertEquals(List.of("Yeoh", "Yu"), trie.complete("y", 10));
+        assertEquals(List.of(), trie.complete("alicia", 10));
+        assertEquals(List.of(), trie.complete("z", 10));
+    }
+
+    @Test
+    public void complete_prefix_ignoresAccents() {
+        trie.add(named("José Alvarez"));
+        trie.add(named("Joseph Tan"));
+
+        assertEquals(List.of("José", "Joseph"), trie.complete("jos", 10));
+        assertEquals(List.of("José", "Joseph"), trie.complete("JOSÉ", 10));
+        assertEquals(List.of("Alvarez"), trie.complete("Álv", 10));
+    }
+
+    @Test
+    public void complete_limit_returnsFirstWords() {
+        trie.add(named("Alice Pauline"));
+        trie.add(named("Alex Yeoh"));
+        trie.add(named("Al Tan"));
+
+        assertEquals(List.of("Al", "Alex"), trie.complete("a", 2));
+    }
+
+    @Test
+    public void remove_lastPersonWithWord_dropsWordOnly() {
+        Person alice = named("Alice Pauline");
+        Person alicia = named("Alicia Tan");
+        Person alex = named("Alex Tan");
+        trie.add(alice);
+        trie.add(alicia);
+        trie.add(alex);
+
+        trie.remove(alicia);
+        assertEquals(List.of("Alex", "Alice"), trie.complete("al", 10));
+        assertEquals(List.of("Tan"), trie.complete("t", 10));
+
+        trie.remove(alex);
+        assertEquals(List.of("Alice"), trie.complete("al", 10));
+        assertEquals(List.of(), trie.complete("t", 10));
+
+        trie.remove(alex);
+        trie.add(named("Alicia Ng"));
+        assertEquals(List.of("Alice", "Alicia"), trie.complete("ALI", 10));
+    }
+
+    @Test
+    public void clear_removesAllWords() {
+        trie.add(named("Alice Pauline"));
+        trie.clear();
+        assertEquals(List.of(), trie.complete("a", 10));
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PhoneDigitIndexTest {
+
+    private static final int SIZE = 100_000;
+
+    @Test
+    public void add_100kPersons_keepsAboutOneSlotPerRun() {
+        PhoneDigitIndex index = new PhoneDigitIndex();
+        Random random = new Random(42);
+        Person template = new PersonBuilder().build();
+        BitSet slots = new BitSet();
+        long runs = 0;
+        Person last = null;
+        for (int slot = 0; slot < SIZE; slot++) {
+            last = new PersonBuilder(template).withPhone("+65" + (80_000_000 + random.nextInt(10_000_000))).build();
+            index.add(last, slot);
+            slots.set(slot);
+            runs += last.getPhone().getDigits().length() - PhoneDigitIndex.GRAM_LENGTH + 1;
+        }
+
+        // sparse posting lists keep a few bytes per run, where a bitmap per run kept ~176 MB at this size
+        long footprint = 4 * index.capacity();
+        assertTrue(footprint <= 4 * 2 * runs, "Posting lists keep " + footprint + " bytes");
+        assertTrue(footprint < 8_000_000, "Posting lists keep " + footprint + " bytes");
+
+        BitSet found = index.withAllRunsOf(last.getPhone().getDigits(), slots);
+        assertTrue(found.get(SIZE - 1));
+
+        index.remove(last, SIZE - 1);
+        assertFalse(index.withAllRunsOf(last.getPhone().getDigits(), slots).get(SIZE - 1));
+    }
+}
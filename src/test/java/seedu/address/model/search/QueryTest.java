@@ -0,0 +1,106 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Country;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PreferredLanguage;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class QueryTest {
+
+    private final Person person = new PersonBuilder().withName("Alice Pauline").withTags("friends")
+            .withCountry("Japan").withOrganisation("NUS").withLanguage("japanese").build();
+
+    @Test
+    public void clauses_matchingField_returnTrue() {
+        assertTrue(Query.name("PAULINE").test(person));
+        assertTrue(Query.name("Paulíne").test(person));
+        assertTrue(Query.tag(new Tag("friends")).test(person));
+        assertTrue(Query.country(Country.of("Japan")).test(person));
+        assertTrue(Query.organisation("NUS").test(person));
+        assertTrue(Query.language(PreferredLanguage.of("Japanese")).test(person));
+        assertTrue(Query.archived().test(new PersonBuilder().archived().build()));
+    }
+
+    @Test
+    public void clauses_otherField_returnFalse() {
+        assertFalse(Query.name("Paul").test(person));
+        assertFalse(Query.tag(new Tag("colleagues")).test(person));
+        assertFalse(Query.country(Country.of("Singapore")).test(person));
+        assertFalse(Query.organisation("nus").test(person));
+        assertFalse(Query.language(PreferredLanguage.of("english")).test(person));
+        assertFalse(Query.archived().test(person));
+    }
+
+    @Test
+    public void name_notSingleWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Query.name(""));
+        assertThrows(IllegalArgumentException.class, () -> Query.name("Alice Pauline"));
+    }
+
+    @Test
+    public void combinators_combineOperands() {
+        Query japan = Query.country(Country.of("Japan"));
+        Query singapore = Query.country(Country.of("Singapore"));
+
+        assertTrue(Query.and(List.of(japan, Query.name("alice"))).test(person));
+        assertFalse(Query.and(List.of(japan, singapore)).test(person));
+        assertTrue(Query.or(List.of(singapore, japan)).test(person));
+        assertFalse(Query.or(List.of(singapore, Query.archived())).test(person));
+        assertTrue(Query.not(Query.archived()).test(person));
+        assertFalse(Query.not(japan).test(person));
+
+        // a single operand is not wrapped
+        assertEquals(japan, Query.and(List.of(japan)));
+        assertEquals(japan, Query.or(List.of(japan)));
+    }
+
+    @Test
+    public void equals() {
+        Query query = Query.and(List.of(Query.tag(new Tag("friends")), Query.not(Query.archived())));
+
+        // same values -> returns true
+        assertTrue(query.equals(Query.and(List.of(Query.tag(new Tag("friends")), Query.not(Query.archived())))));
+
+        // name words are compared ignoring case
+        assertTrue(Query.name("alice").equals(Query.name("ALICE")));
+
+        // different types -> returns false
+        assertFalse(query.equals(1));
+
+        // null -> returns false
+        assertFalse(query.equals(null));
+
+        // different operands -> returns false
+        assertFalse(query.equals(Query.and(List.of(Query.tag(new Tag("friends")), Query.archived()))));
+
+        // different combinator -> returns false
+        assertFalse(query.equals(Query.or(List.of(Query.tag(new Tag("friends")), Query.not(Query.archived())))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Query query = Query.and(List.of(Query.country(Country.of("United States")),
+                Query.or(List.of(Query.tag(new Tag("friends")), Query.organisation("NUS"))),
+                Query.not(Query.archived()),
+                Query.not(Query.and(List.of(Query.name("Alice"), Query.language(PreferredLanguage.of("english")))))));
+
+        assertEquals("country:\"United States\" (tag:friends OR org:NUS) -archived -(name:Alice lang:english)",
+                query.toString());
+
+        // values the query command would split are quoted, with quotes and backslashes in them escaped
+        assertEquals("org:\"Smith (Asia)\"", Query.organisation("Smith (Asia)").toString());
+        assertEquals("org:\"-Dash\"", Query.organisation("-Dash").toString());
+        assertEquals("org:\"Say \\\"hi\\\" \\\\o/\"", Query.organisation("Say \"hi\" \\o/").toString());
+        assertEquals("org:Mid-Dash", Query.organisation("Mid-Dash").toString());
+    }
+}
@@ -0,0 +1,506 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Country;
+import seedu.address.model.person.CountryContainsKeywordPredicate;
+import seedu.address.model.person.EmailDomainPredicate;
+import seedu.address.model.person.FullTextMatchPredicate;
+import seedu.address.model.person.FuzzyMatchPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.OrganisationContainsKeywordPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsTagsPredicate;
+import seedu.address.model.person.PhoneDigitsPredicate;
+import seedu.address.model.person.PhonePrefixPredicate;
+import seedu.address.model.person.PhoneticMatchPredicate;
+import seedu.address.model.person.PreferredLanguage;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class SearchIndexTest {
+
+    private final Person alice = new PersonBuilder().withName("Alice Pauline").withTags("friends")
+            .withCountry("Singapore").withOrganisation("NUS").build();
+    private final Person benson = new PersonBuilder().withName("Benson Meier").withTags("friends", "owesMoney")
+            .withCountry("Japan").withOrganisation("nus").build();
+    private final Person daniel = new PersonBuilder().withName("Daniel Meier").withTags("colleagues")
+            .withCountry("Singapore").withOrganisation("NTU").build();
+
+    private final SearchIndex index = new SearchIndex();
+
+    @Test
+    public void findByName_anyKeyword_returnsUnionIgnoringCase() {
+        index.personsReset(List.of(alice, benson, daniel));
+
+        assertEquals(Set.of(benson, daniel), index.findByName(List.of("meier")));
+        assertEquals(Set.of(alice, benson, daniel), index.findByName(List.of("PAULINE", "Meier")));
+        assertEquals(Set.of(), index.findByName(List.of("Pau")));
+    }
+
+    @Test
+    public void findByName_accents_ignored() {
+        Person jose = new PersonBuilder().withName("José Alvarez").build();
+        index.personsReset(List.of(alice, jose));
+
+        assertEquals(Set.of(jose), index.findByName(List.of("jose")));
+        assertEquals(Set.of(jose), index.findByName(List.of("ÁLVAREZ")));
+        assertEquals(Set.of(alice), index.findByName(List.of("Paulíne")));
+    }
+
+    @Test
+    public void findByName_invalidKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.findByName(List.of(" ")));
+        assertThrows(IllegalArgumentException.class, () -> index.findByName(List.of("Alice Pauline")));
+    }
+
+    @Test
+    public void findByName_afterMutations_reflectsChanges() {
+        index.personsReset(List.of(alice, benson));
+        Person renamedBenson = new PersonBuilder(benson).withName("Benson Tan").build();
+
+        index.personReplaced(benson, renamedBenson);
+        index.personAdded(daniel);
+        index.personRemoved(alice);
+
+        assertEquals(Set.of(daniel), index.findByName(List.of("Meier")));
+        assertEquals(Set.of(renamedBenson), index.findByName(List.of("Tan", "Alice")));
+    }
+
+    @Test
+    public void find_namePredicate_matchesPredicate() {
+        List<Person> persons = List.of(alice, benson, daniel);
+        index.personsReset(persons);
+
+        assertFindsSameAs(new NameContainsKeywordsPredicate(List.of("aLiCe", "Daniel")), persons);
+    }
+
+    @Test
+    public void find_laterChanges_followed() {
+        index.personsReset(List.of(alice));
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("Meier"));
+        assertEquals(Set.of(), index.find(predicate).orElseThrow());
+
+        index.personAdded(benson);
+        assertEquals(Set.of(benson), index.find(predicate).orElseThrow());
+    }
+
+    @Test
+    public void findByTags_allTags_returnsIntersection() {
+        index.personsReset(List.of(alice, benson, daniel));
+
+        assertEquals(Set.of(alice, benson), index.findByTags(List.of(new Tag("friends"))));
+        assertEquals(Set.of(benson), index.findByTags(List.of(new Tag("friends"), new Tag("owesMoney"))));
+        assertEquals(Set.of(), index.findByTags(List.of(new Tag("friends"), new Tag("colleagues"))));
+        assertEquals(Set.of(), index.findByTags(List.of(new Tag("unknown"))));
+        assertEquals(Set.of(alice, benson, daniel), index.findByTags(List.of()));
+    }
+
+    @Test
+    public void findByTags_afterMutations_reflectsChanges() {
+        index.personsReset(List.of(alice, benson));
+        Person editedAlice = new PersonBuilder(alice).withTags("colleagues").build();
+
+        index.personRemoved(benson);
+        index.personReplaced(alice, editedAlice);
+        // takes the slot freed by benson
+        index.personAdded(daniel);
+
+        assertEquals(Set.of(), index.findByTags(List.of(new Tag("friends"))));
+        assertEquals(Set.of(editedAlice, daniel), index.findByTags(List.of(new Tag("colleagues"))));
+    }
+
+    @Test
+    public void find_tagsPredicate_matchesPredicateAndFollowsChanges() {
+        List<Person> persons = List.of(alice, benson, daniel);
+        index.personsReset(persons);
+        PersonContainsTagsPredicate predicate = new PersonContainsTagsPredicate(List.of(new Tag("friends")));
+        assertFindsSameAs(predicate, persons);
+
+        Person editedDaniel = new PersonBuilder(daniel).withTags("friends").build();
+        index.personReplaced(daniel, editedDaniel);
+        index.personRemoved(alice);
+        assertFindsSameAs(predicate, List.of(benson, editedDaniel));
+    }
+
+    @Test
+    public void findByCountry_exactCountry_returnsMatches() {
+        index.personsReset(List.of(alice, benson, daniel));
+
+        assertEquals(Set.of(alice, daniel), index.findByCountry(new Country("singapore")));
+        assertEquals(Set.of(), index.findByCountry(new Country("China")));
+
+        Person movedDaniel = new PersonBuilder(daniel).withCountry("Japan").build();
+        index.personReplaced(daniel, movedDaniel);
+        index.personRemoved(benson);
+        assertEquals(Set.of(alice), index.findByCountry(new Country("Singapore")));
+        assertEquals(Set.of(movedDaniel), index.findByCountry(new Country("Japan")));
+    }
+
+    @Test
+    public void findByOrganisation_exactOrganisation_matchesCase() {
+        index.personsReset(List.of(alice, benson, daniel));
+
+        assertEquals(Set.of(alice), index.findByOrganisation("NUS"));
+        assertEquals(Set.of(benson), index.findByOrganisation("nus"));
+        assertEquals(Set.of(), index.findByOrganisation("NU"));
+
+        index.personRemoved(alice);
+        assertEquals(Set.of(), index.findByOrganisation("NUS"));
+    }
+
+    @Test
+    public void completeNameWord_afterMutations_reflectsChanges() {
+        index.personsReset(List.of(alice, benson));
+        assertEquals(List.of("Meier"), index.completeNameWord("me", 10));
+
+        index.personReplaced(benson, new PersonBuilder(benson).withName("Benson Mendez").build());
+        index.personAdded(daniel);
+        assertEquals(List.of("Meier", "Mendez"), index.completeNameWord("ME", 10));
+
+        index.personRemoved(daniel);
+        assertEquals(List.of("Mendez"), index.completeNameWord("me", 10));
+    }
+
+    @Test
+    public void findBySound_spellingVariants_returnsUnion() {
+        Person nguyen = new PersonBuilder().withName("Nguyễn Văn An").build();
+        index.personsReset(List.of(alice, benson, daniel, nguyen));
+
+        assertEquals(Set.of(benson, daniel), index.findBySound(List.of("Mayer")));
+        assertEquals(Set.of(alice, nguyen), index.findBySound(List.of("Paulina", "nguyen")));
+        assertEquals(Set.of(), index.findBySound(List.of("Zhang", "123")));
+
+        index.personRemoved(benson);
+        assertEquals(Set.of(daniel), index.findBySound(List.of("Meyer")));
+    }
+
+    @Test
+    public void find_phoneticMatchPredicate_matchesSamePersons() {
+        Person meyer = new PersonBuilder().withName("Elle Meyer").build();
+        index.personsReset(List.of(alice, benson, daniel));
+        PhoneticMatchPredicate predicate = new PhoneticMatchPredicate(List.of("Meyer"));
+
+        index.personAdded(meyer);
+        assertFindsSameAs(predicate, List.of(alice, benson, daniel, meyer));
+        assertTrue(index.find(predicate).orElseThrow().contains(meyer));
+    }
+
+    @Test
+    public void findByDomain_domainAndSubdomains_returnsMatches() {
+        Person staff = new PersonBuilder(alice).withEmail("alice@nus.edu.sg").build();
+        Person student = new PersonBuilder(benson).withEmail("benson@u.NUS.edu.sg").build();
+        Person other = new PersonBuilder(daniel).withEmail("daniel@anus.edu.sg").build();
+        index.personsReset(List.of(staff, student, other));
+
+        assertEquals(Set.of(staff, student), index.findByDomain("nus.edu.sg"));
+        assertEquals(Set.of(student), index.findByDomain("U.nus.edu.sg"));
+        assertEquals(Set.of(staff, student, other), index.findByDomain("sg"));
+        assertEquals(Set.of(), index.findByDomain("edu"));
+
+        index.personRemoved(student);
+        assertEquals(Set.of(staff), index.findByDomain("nus.edu.sg"));
+    }
+
+    @Test
+    public void find_emailDomainPredicate_matchesPredicateAndFollowsChanges() {
+        Person staff = new PersonBuilder(alice).withEmail("alice@nus.edu.sg").build();
+        index.personsReset(List.of(staff, benson));
+        EmailDomainPredicate predicate = new EmailDomainPredicate("nus.edu.sg");
+
+        Person student = new PersonBuilder(daniel).withEmail("daniel@u.nus.edu.sg").build();
+        index.personAdded(student);
+        assertFindsSameAs(predicate, List.of(staff, benson, student));
+        assertTrue(index.find(predicate).orElseThrow().contains(student));
+    }
+
+    @Test
+    public void findByPhonePrefix_callingCodeOrLongerPrefix_returnsMatches() {
+        Person singaporean = new PersonBuilder(alice).withPhone("+65 9876 5432").build();
+        Person californian = new PersonBuilder(benson).withPhone("+1 (415) 555-2671").build();
+        Person newYorker = new PersonBuilder(daniel).withPhone("+1 212 555 0123").build();
+        Person local = new PersonBuilder().withName("Local").withPhone("91234567").build();
+        index.personsReset(List.of(singaporean, californian, newYorker, local));
+
+        assertEquals(Set.of(californian, newYorker), index.findByPhonePrefix("+1"));
+        assertEquals(Set.of(californian), index.findByPhonePrefix("1415"));
+        assertEquals(Set.of(singaporean), index.findByPhonePrefix("+6598765432"));
+        assertEquals(Set.of(), index.findByPhonePrefix("+9"));
+
+        index.personReplaced(newYorker, new PersonBuilder(newYorker).withPhone("+44 20 7946 0958").build());
+        assertEquals(Set.of(californian), index.findByPhonePrefix("+1"));
+    }
+
+    @Test
+    public void find_phonePrefixPredicate_matchesPredicateAndFollowsChanges() {
+        Person singaporean = new PersonBuilder(alice).withPhone("+65 9876 5432").build();
+        index.personsReset(List.of(singaporean, benson));
+        PhonePrefixPredicate predicate = new PhonePrefixPredicate("+65");
+        assertFindsSameAs(predicate, List.of(singaporean, benson));
+
+        Person movedBenson = new PersonBuilder(benson).withPhone("+65 8123 4567").build();
+        index.personReplaced(benson, movedBenson);
+        index.personRemoved(singaporean);
+        assertEquals(Set.of(movedBenson), index.find(predicate).orElseThrow());
+    }
+
+    @Test
+    public void findByPhoneDigits_digitsAnywhere_returnsMatches() {
+        Person singaporean = new PersonBuilder(alice).withPhone("+65 9876-5432").build();
+        Person local = new PersonBuilder(benson).withPhone("8765 4321").build();
+        // has the runs 1234 and 2341 of "12341", but not "12341" itself
+        Person shuffled = new PersonBuilder(daniel).withPhone("2341 1234").build();
+        index.personsReset(List.of(singaporean, local, shuffled));
+
+        assertEquals(Set.of(singaporean, local), index.findByPhoneDigits("87654"));
+        assertEquals(Set.of(singaporean), index.findByPhoneDigits("6598765432"));
+        assertEquals(Set.of(local), index.findByPhoneDigits("4321"));
+        assertEquals(Set.of(), index.findByPhoneDigits("12341"));
+        assertEquals(Set.of(), index.findByPhoneDigits("0000"));
+        assertThrows(IllegalArgumentException.class, () -> index.findByPhoneDigits("876"));
+
+        Person renumbered = new PersonBuilder(local).withPhone("12341").build();
+        index.personReplaced(local, renumbered);
+        assertEquals(Set.of(), index.findByPhoneDigits("4321"));
+        assertEquals(Set.of(renumbered), index.findByPhoneDigits("12341"));
+        assertEquals(Set.of(renumbered, shuffled), index.findByPhoneDigits("1234"));
+    }
+
+    @Test
+    public void find_phoneDigitsPredicate_matchesPredicateAndFollowsChanges() {
+        Person singaporean = new PersonBuilder(alice).withPhone("+65 9876-5432").build();
+        index.personsReset(List.of(singaporean, benson));
+        PhoneDigitsPredicate predicate = new PhoneDigitsPredicate("765432");
+        assertFindsSameAs(predicate, List.of(singaporean, benson));
+
+        Person renumberedBenson = new PersonBuilder(benson).withPhone("+60 1 8765 4321 0").build();
+        index.personReplaced(benson, renumberedBenson);
+        index.personRemoved(singaporean);
+        assertFindsSameAs(predicate, List.of(renumberedBenson));
+    }
+
+    @Test
+    public void findFuzzy_typos_returnsFewestTyposPerPerson() {
+        Person muhammad = new PersonBuilder().withName("Muhammad Meyer").build();
+        index.personsReset(List.of(alice, benson, daniel, muhammad));
+
+        assertEquals(Map.of(benson, 0, daniel, 0, muhammad, 1), index.findFuzzy(List.of("meier")));
+        assertEquals(Map.of(muhammad, 2), index.findFuzzy(List.of("Mohamad")));
+        assertEquals(Map.of(muhammad, 0, benson, 1, daniel, 1), index.findFuzzy(List.of("Mohamad", "Meyer")));
+        assertEquals(Map.of(benson, 1, daniel, 1), index.findFuzzy(List.of("Meiers", "Zzzzzz")));
+    }
+
+    @Test
+    public void fuzzyRanking_closestFirstAndFollowsChanges() {
+        Person muhammad = new PersonBuilder().withName("Muhammad Meyer").build();
+        index.personsReset(List.of(alice, benson, muhammad));
+        List<Person> ranked = new ArrayList<>(List.of(alice, muhammad, benson));
+        ranked.sort(index.fuzzyRanking(List.of("Meier")));
+        assertEquals(List.of(benson, muhammad, alice), ranked);
+
+        Person meierMuhammad = new PersonBuilder(muhammad).withName("Muhammad Meier").build();
+        Person meyerBenson = new PersonBuilder(benson).withName("Benson Meyers").build();
+        index.personReplaced(muhammad, meierMuhammad);
+        index.personReplaced(benson, meyerBenson);
+        ranked = new ArrayList<>(List.of(meyerBenson, meierMuhammad));
+        ranked.sort(index.fuzzyRanking(List.of("Meier")));
+        assertEquals(List.of(meierMuhammad, meyerBenson), ranked);
+    }
+
+    @Test
+    public void findFuzzy_accents_notCountedAsTypos() {
+        Person francois = new PersonBuilder().withName("François Müller").build();
+        index.personsReset(List.of(alice, francois));
+
+        assertEquals(Map.of(francois, 0), index.findFuzzy(List.of("Francois")));
+        assertEquals(Map.of(francois, 1), index.findFuzzy(List.of("Muler")));
+    }
+
+    @Test
+    public void find_fuzzyPredicate_matchesPredicateAndFollowsChanges() {
+        List<Person> persons = List.of(alice, benson, daniel);
+        index.personsReset(persons);
+        FuzzyMatchPredicate predicate = new FuzzyMatchPredicate(List.of("Paulina", "Beanson"));
+        assertFindsSameAs(predicate, persons);
+
+        Person renamedDaniel = new PersonBuilder(daniel).withName("Daniel Pauline").build();
+        index.personReplaced(daniel, renamedDaniel);
+        index.personRemoved(alice);
+        assertEquals(Set.of(benson, renamedDaniel), index.find(predicate).orElseThrow());
+    }
+
+    @Test
+    public void searchText_terms_returnsBestScoresFirst() {
+        Person vegetarian = new PersonBuilder(alice).withNote("Vegetarian").withAddress("Clementi").build();
+        Person wordy = new PersonBuilder(benson).withNote("Vegetarian, but eats fish at the office on Fridays")
+                .withAddress("Clementi").build();
+        Person twice = new PersonBuilder(daniel).withNote("Vegetarian, strictly vegetarian").withAddress("Jurong")
+                .build();
+        index.personsReset(List.of(vegetarian, wordy, twice));
+
+        assertEquals(List.of(twice, vegetarian, wordy), index.searchText(List.of("vegetarian"), 10));
+        assertEquals(List.of(vegetarian, wordy), index.searchText(List.of("vegetarian", "clementi"), 2));
+        assertEquals(List.of(), index.searchText(List.of("vegan"), 10));
+        assertEquals(List.of(), index.searchText(List.of("vegetarian"), 0));
+        assertThrows(IllegalArgumentException.class, () -> index.searchText(List.of("vegetarian"), -1));
+    }
+
+    @Test
+    public void textRanking_afterMutations_reflectsChanges() {
+        Person vegetarian = new PersonBuilder(alice).withNote("Vegetarian").withAddress("Clementi").build();
+        Person wordy = new PersonBuilder(benson).withNote("Vegetarian, but eats fish on Fridays")
+                .withAddress("Clementi").build();
+        index.personsReset(List.of(vegetarian, wordy));
+        List<Person> ranked = new ArrayList<>(List.of(wordy, vegetarian));
+        ranked.sort(index.textRanking(List.of("vegetarian")));
+        assertEquals(List.of(vegetarian, wordy), ranked);
+
+        Person meatEater = new PersonBuilder(vegetarian).withNote("Steak").build();
+        index.personReplaced(vegetarian, meatEater);
+        ranked = new ArrayList<>(List.of(meatEater, wordy));
+        ranked.sort(index.textRanking(List.of("vegetarian")));
+        assertEquals(List.of(wordy, meatEater), ranked);
+
+        index.personRemoved(wordy);
+        assertEquals(List.of(), index.searchText(List.of("vegetarian"), 10));
+    }
+
+    @Test
+    public void find_fullTextPredicate_matchesPredicateAndFollowsChanges() {
+        Person vegetarian = new PersonBuilder(alice).withNote("Vegetarian").build();
+        List<Person> persons = List.of(vegetarian, benson, daniel);
+        index.personsReset(persons);
+        FullTextMatchPredicate predicate = new FullTextMatchPredicate(List.of("vegetarian", "clementi"));
+        assertFindsSameAs(predicate, persons);
+
+        Person vegetarianDaniel = new PersonBuilder(daniel).withEvent("Vegetarian dinner").build();
+        index.personReplaced(daniel, vegetarianDaniel);
+        index.personRemoved(vegetarian);
+        assertFindsSameAs(predicate, List.of(benson, vegetarianDaniel));
+        assertTrue(index.find(predicate).orElseThrow().contains(vegetarianDaniel));
+    }
+
+    @Test
+    public void plan_conjunction_startsFromMostSelectiveIndex() {
+        index.personsReset(List.of(alice, benson, daniel));
+        Query query = Query.and(List.of(Query.country(Country.of("Singapore")), Query.tag(new Tag("friends")),
+                Query.tag(new Tag("owesMoney")), Query.not(Query.archived())));
+
+        QueryPlan plan = index.plan(query);
+        assertTrue(plan.usesIndex());
+        assertEquals(1, plan.getEstimate());
+        assertEquals("filter country:Singapore (index ~2), tag:friends (index ~2), -archived (~1)\n"
+                + "  index tag:owesMoney (~1)", plan.explain());
+    }
+
+    @Test
+    public void plan_disjunction_unitesIndexesOrScans() {
+        index.personsReset(List.of(alice, benson, daniel));
+        Query owesMoney = Query.tag(new Tag("owesMoney"));
+
+        QueryPlan plan = index.plan(Query.or(List.of(owesMoney, Query.country(Country.of("Singapore")))));
+        assertTrue(plan.usesIndex());
+        assertEquals(3, plan.getEstimate());
+        assertEquals("union (~3)\n  index tag:owesMoney (~1)\n  index country:Singapore (~2)", plan.explain());
+
+        // an alternative without an index needs every person tested
+        plan = index.plan(Query.or(List.of(owesMoney, Query.archived())));
+        assertFalse(plan.usesIndex());
+        assertEquals("scan all, test tag:owesMoney OR archived (~3)", plan.explain());
+    }
+
+    @Test
+    public void plan_negationsOnly_scansAll() {
+        index.personsReset(List.of(alice, benson, daniel));
+        QueryPlan plan = index.plan(Query.and(List.of(Query.not(Query.tag(new Tag("friends"))),
+                Query.not(Query.archived()))));
+
+        assertFalse(plan.usesIndex());
+        assertEquals(3, plan.getEstimate());
+        assertTrue(index.find(Query.not(Query.archived())).isEmpty());
+    }
+
+    @Test
+    public void find_query_matchesQueryAndFollowsChanges() {
+        Person japaneseAlice = new PersonBuilder(alice).withLanguage("japanese").build();
+        List<Person> persons = List.of(japaneseAlice, benson, daniel);
+        index.personsReset(persons);
+        Query query = Query.or(List.of(
+                Query.and(List.of(Query.country(Country.of("Singapore")), Query.not(Query.tag(new Tag("colleagues"))))),
+                Query.and(List.of(Query.name("benson"), Query.organisation("nus")))));
+
+        assertFindsSameAs(query, persons);
+
+        Person friendlyDaniel = new PersonBuilder(daniel).withTags("friends").build();
+        index.personReplaced(daniel, friendlyDaniel);
+        index.personRemoved(japaneseAlice);
+        assertFindsSameAs(query, List.of(benson, friendlyDaniel));
+        assertTrue(index.find(query).orElseThrow().contains(friendlyDaniel));
+
+        Query speaksJapanese = Query.language(PreferredLanguage.of("japanese"));
+        assertEquals(Set.of(), index.find(speaksJapanese).orElseThrow());
+        index.personAdded(japaneseAlice);
+        assertEquals(Set.of(japaneseAlice), index.find(speaksJapanese).orElseThrow());
+    }
+
+    @Test
+    public void lookUp_countsPersonsFoundBeforeTesting() {
+        index.personsReset(List.of(alice, benson, daniel));
+        Query singaporeOutsideNus = Query.and(List.of(Query.country(Country.of("Singapore")),
+                Query.not(Query.organisation("NUS"))));
+
+        IndexLookup lookup = index.lookUp(singaporeOutsideNus).orElseThrow();
+        assertEquals(Set.of(daniel), lookup.getMatches());
+        assertEquals(2, lookup.getCandidates());
+
+        IndexLookup exact = index.lookUp(new CountryContainsKeywordPredicate(new Country("Singapore"))).orElseThrow();
+        assertEquals(Set.of(alice, daniel), exact.getMatches());
+        assertEquals(2, exact.getCandidates());
+        assertTrue(index.lookUp(Query.not(Query.archived())).isEmpty());
+    }
+
+    @Test
+    public void find_unsupportedPredicate_returnsEmpty() {
+        assertTrue(index.find(person -> true).isEmpty());
+        assertTrue(index.find(new NameContainsKeywordsPredicate(List.of(""))).isEmpty());
+    }
+
+    @Test
+    public void find_countryAndOrganisation_matchesPredicates() {
+        List<Person> persons = List.of(alice, benson, daniel);
+        index.personsReset(persons);
+
+        assertFindsSameAs(new CountryContainsKeywordPredicate(new Country("singapore")), persons);
+        assertFindsSameAs(new CountryContainsKeywordPredicate(new Country("China")), persons);
+        assertFindsSameAs(new OrganisationContainsKeywordPredicate("NUS"), persons);
+        assertFindsSameAs(new OrganisationContainsKeywordPredicate("nus"), persons);
+
+        Person movedDaniel = new PersonBuilder(daniel).withCountry("Japan").withOrganisation("NUS").build();
+        index.personReplaced(daniel, movedDaniel);
+        List<Person> movedPersons = List.of(alice, benson, movedDaniel);
+        assertFindsSameAs(new CountryContainsKeywordPredicate(new Country("Japan")), movedPersons);
+        assertFindsSameAs(new OrganisationContainsKeywordPredicate("NUS"), movedPersons);
+    }
+
+    /**
+     * Asserts that the index finds exactly the persons among {@code persons}, which must be the indexed persons,
+     * that {@code predicate} accepts.
+     */
+    private void assertFindsSameAs(Predicate<Person> predicate, List<Person> persons) {
+        Set<Person> expected = new HashSet<>(persons);
+        expected.removeIf(predicate.negate());
+        assertEquals(expected, index.find(predicate).orElseThrow());
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.model.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Country;
+import seedu.address.model.person.Organisation;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PreferredLanguage;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonStatisticsTest {
+
+    private final Person alice = new PersonBuilder().withName("Alice").withCountry("Singapore")
+            .withOrganisation("NUS").withLanguage("english").withTags("friends").build();
+    private final Person bob = new PersonBuilder().withName("Bob").withCountry("Singapore")
+            .withLanguage("malay").withTags("friends", "colleagues").archived().build();
+
+    private final PersonStatistics statistics = new PersonStatistics();
+
+    @Test
+    public void constructor_empty() {
+        assertEquals(0, statistics.getPersonCount());
+        assertEquals(0, statistics.getArchivedCount());
+        assertTrue(statistics.getCountryCounts().isEmpty());
+        assertTrue(statistics.getTagCounts().isEmpty());
+        assertTrue(statistics.getOrganisationCounts().isEmpty());
+        assertTrue(statistics.getLanguageCounts().isEmpty());
+    }
+
+    @Test
+    public void personAdded_countsEveryField() {
+        statistics.personAdded(alice);
+        statistics.personAdded(bob);
+
+        assertEquals(2, statistics.getPersonCount());
+        assertEquals(1, statistics.getArchivedCount());
+        assertEquals(Map.of(new Country("Singapore"), 2), statistics.getCountryCounts());
+        assertEquals(Map.of(new Tag("friends"), 2, new Tag("colleagues"), 1), statistics.getTagCounts());
+        assertEquals(Map.of(new Organisation("NUS"), 1), statistics.getOrganisationCounts());
+        assertEquals(Map.of(new PreferredLanguage("english"), 1, new PreferredLanguage("malay"), 1),
+                statistics.getLanguageCounts());
+    }
+
+    @Test
+    public void personAdded_absentFields_notCounted() {
+        Person person = new Person(alice.getName(), alice.getPhone(), alice.getEmail(), alice.getAddress(), null,
+                new Organisation(""), alice.getEvent(), alice.getNote(), null, alice.getTags(), alice.getOffset(),
+                null, alice.getAddedOn(), false);
+        statistics.personAdded(person);
+
+        assertEquals(1, statistics.getPersonCount());
+        assertTrue(statistics.getCountryCounts().isEmpty());
+        assertTrue(statistics.getOrganisationCounts().isEmpty());
+        assertTrue(statistics.getLanguageCounts().isEmpty());
+    }
+
+    @Test
+    public void personRemoved_lastOccurrence_valueDropped() {
+        statistics.personAdded(alice);
+        statistics.personAdded(bob);
+        statistics.personRemoved(bob);
+
+        assertEquals(1, statistics.getPersonCount());
+        assertEquals(0, statistics.getArchivedCount());
+        assertEquals(Map.of(new Tag("friends"), 1), statistics.getTagCounts());
+        assertEquals(Map.of(new PreferredLanguage("english"), 1), statistics.getLanguageCounts());
+    }
+
+    @Test
+    public void personReplaced_countsMoveToEditedPerson() {
+        statistics.personAdded(alice);
+        Person editedAlice = new PersonBuilder(alice).withCountry("China").withOrganisation("").build();
+        statistics.personReplaced(alice, editedAlice);
+
+        assertEquals(1, statistics.getPersonCount());
+        assertEquals(Map.of(new Country("China"), 1), statistics.getCountryCounts());
+        assertTrue(statistics.getOrganisationCounts().isEmpty());
+    }
+
+    @Test
+    public void personsReset_replacesCounts() {
+        statistics.personAdded(alice);
+        statistics.personsReset(List.of(bob));
+
+        assertEquals(1, statistics.getPersonCount());
+        assertEquals(1, statistics.getArchivedCount());
+        assertEquals(Map.of(new Tag("friends"), 1, new Tag("colleagues"), 1), statistics.getTagCounts());
+        assertTrue(statistics.getOrganisationCounts().isEmpty());
+    }
+
+    @Test
+    public void getCountryCounts_isLiveView() {
+        Map<Country, Integer> countryCounts = statistics.getCountryCounts();
+        statistics.personAdded(alice);
+        assertEquals(Map.of(new Country("Singapore"), 1), countryCounts);
+    }
+
+    @Test
+    public void getTagCounts_modify_throwsUnsupportedOperationException() {
+        statistics.personAdded(alice);
+        assertThrows(UnsupportedOperationException.class, () -> statistics.getTagCounts().clear());
+    }
+}
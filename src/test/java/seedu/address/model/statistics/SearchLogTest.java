@@ -0,0 +1,106 @@
+package seedu.address.model.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Config;
+import seedu.address.model.statistics.SearchRecord.Plan;
+
+public class SearchLogTest {
+
+    private static final long MILLISECOND = 1_000_000;
+
+    private final List<String> loggedMessages = new ArrayList<>();
+    private final SearchLog searchLog = new SearchLog(this::capturingLogger);
+
+    private Logger capturingLogger() {
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.addHandler(new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                loggedMessages.add(record.getMessage());
+            }
+
+            @Override
+            public void flush() {}
+
+            @Override
+            public void close() {}
+        });
+        return logger;
+    }
+
+    @Test
+    public void constructor_empty() {
+        assertEquals(0, searchLog.getSearchCount());
+        assertEquals(0, searchLog.getSlowSearchCount());
+        assertEquals(Duration.ofMillis(Config.DEFAULT_SLOW_QUERY_THRESHOLD_MILLIS), searchLog.getSlowThreshold());
+        assertEquals(List.of(), searchLog.getSummaries());
+        assertEquals(List.of(), searchLog.getRecentSlowSearches());
+    }
+
+    @Test
+    public void record_summarisedByPredicateType() {
+        searchLog.record(new SearchRecord("FuzzyMatchPredicate", Plan.SCAN, 1000, 10, 2 * MILLISECOND));
+        searchLog.record(new SearchRecord("FuzzyMatchPredicate", Plan.CACHED, 0, 20, 4 * MILLISECOND));
+        searchLog.record(new SearchRecord("AllUnarchived", Plan.CACHED, 0, 500, MILLISECOND));
+
+        assertEquals(3, searchLog.getSearchCount());
+        List<SearchLog.Summary> summaries = searchLog.getSummaries();
+        assertEquals(2, summaries.size());
+
+        // ordered by name
+        assertEquals("AllUnarchived", summaries.get(0).getPredicateType());
+        SearchLog.Summary fuzzy = summaries.get(1);
+        assertEquals("FuzzyMatchPredicate", fuzzy.getPredicateType());
+        assertEquals(2, fuzzy.getCount());
+        assertEquals(3.0, fuzzy.getMeanMillis());
+        assertEquals(4.0, fuzzy.getMaxMillis());
+        assertEquals(500.0, fuzzy.getMeanCandidates());
+        assertEquals(15.0, fuzzy.getMeanResults());
+    }
+
+    @Test
+    public void record_atLeastThreshold_loggedAsSlow() {
+        searchLog.setSlowThreshold(Duration.ofMillis(50));
+        SearchRecord fast = new SearchRecord("Lambda", Plan.SCAN, 100, 1, 49 * MILLISECOND);
+        SearchRecord slow = new SearchRecord("FullTextMatchPredicate", Plan.SCAN, 100000, 3, 50 * MILLISECOND);
+        searchLog.record(fast);
+        searchLog.record(slow);
+
+        assertEquals(1, searchLog.getSlowSearchCount());
+        assertEquals(List.of(slow), searchLog.getRecentSlowSearches());
+        assertEquals(List.of("FullTextMatchPredicate by SCAN: 100000 candidates, 3 results, 50.0 ms"),
+                loggedMessages);
+    }
+
+    @Test
+    public void record_manySlowSearches_mostRecentKept() {
+        searchLog.setSlowThreshold(Duration.ZERO);
+        List<SearchRecord> records = new ArrayList<>();
+        for (int i = 0; i < SearchLog.MAX_RECENT_SLOW_SEARCHES + 2; i++) {
+            SearchRecord record = new SearchRecord("Lambda", Plan.SCAN, i, 0, MILLISECOND);
+            records.add(0, record);
+            searchLog.record(record);
+        }
+
+        assertEquals(SearchLog.MAX_RECENT_SLOW_SEARCHES + 2, searchLog.getSlowSearchCount());
+        assertEquals(records.subList(0, SearchLog.MAX_RECENT_SLOW_SEARCHES), searchLog.getRecentSlowSearches());
+        assertEquals(SearchLog.MAX_RECENT_SLOW_SEARCHES + 2, loggedMessages.size());
+    }
+
+    @Test
+    public void setSlowThreshold_negative_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> searchLog.setSlowThreshold(Duration.ofMillis(-1)));
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.BENSON;
@@ -15,6 +16,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Phone;
 
 public class JsonAdaptedPersonTest {
@@ -23,6 +25,7 @@ public class JsonAdaptedPersonTest {
     private static final String INVALID_ADDRESS = " ";
     private static final String INVALID_EMAIL = "example.com";
     private static final String INVALID_TAG = "#friend";
+    private static final String INVALID_ID = "not-a-uuid";
 
     private static final String VALID_NAME = BENSON.getName().toString();
     private static final String VALID_PHONE = "+6598758642";
@@ -47,6 +50,28 @@ public class JsonAdaptedPersonTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_validPersonDetails_preservesId() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(BENSON);
+        assertEquals(BENSON.getId(), person.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_nullId_generatesId() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(null, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+            VALID_COUNTRY, VALID_ORGANISATION, VALID_EVENT, VALID_NOTE, VALID_OFFSET, VALID_TAGS, VALID_LANGUAGE,
+            VALID_CHANNEL, VALID_ADDEDON, ARCHIVAL_STATUS);
+        assertTrue(PersonId.isValidPersonId(person.toModelType().getId().value));
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(INVALID_ID, VALID_NAME, VALID_PHONE, VALID_EMAIL,
+            VALID_ADDRESS, VALID_COUNTRY, VALID_ORGANISATION, VALID_EVENT, VALID_NOTE, VALID_OFFSET, VALID_TAGS,
+            VALID_LANGUAGE, VALID_CHANNEL, VALID_ADDEDON, ARCHIVAL_STATUS);
+        assertThrows(IllegalValueException.class, PersonId.MESSAGE_CONSTRAINTS, person::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
@@ -14,6 +14,7 @@ import seedu.address.model.person.Note;
 import seedu.address.model.person.Offset;
 import seedu.address.model.person.Organisation;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.PreferredLanguage;
 import seedu.address.model.tag.Tag;
@@ -36,6 +37,7 @@ public class PersonBuilder {
     public static final String DEFAULT_LANGUAGE = "english";
     private static final String DEFAULT_CHANNEL = "EMAIL";
 
+    private PersonId id;
     private Name name;
     private Phone phone;
     private Email email;
@@ -196,6 +198,15 @@ public class PersonBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code PersonId} of the {@code Person} that we are building.
+     * A fresh id is generated on every {@link #build()} if none is set.
+     */
+    public PersonBuilder withId(PersonId id) {
+        this.id = id;
+        return this;
+    }
+
     /**
      * Sets the {@code Person} that we are building as archived.
      */
@@ -216,8 +227,8 @@ public class PersonBuilder {
      * Builds the {@code Person}.
      */
     public Person build() {
-        return new Person(name, phone, email, address, country, organisation, event, note, channel, tags, offset,
-            preferredLanguage, addedOn, isArchived);
+        return new Person(id == null ? PersonId.generate() : id, name, phone, email, address, country, organisation,
+                event, note, channel, tags, offset, preferredLanguage, addedOn, isArchived);
     }
 
 }